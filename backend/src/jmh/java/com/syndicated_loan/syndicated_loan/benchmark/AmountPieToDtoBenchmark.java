@@ -0,0 +1,58 @@
+package com.syndicated_loan.syndicated_loan.benchmark;
+
+import com.syndicated_loan.syndicated_loan.common.dto.AmountPieDto;
+import com.syndicated_loan.syndicated_loan.common.dto.InvestorDto;
+import com.syndicated_loan.syndicated_loan.common.service.AmountPieService;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link AmountPieService#toDto}のベンチマーク。
+ * 読み込みと投資家名の解決を含め、トランザクションごとにAmountPieをDTOへ変換する時間を計測します。
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AmountPieToDtoBenchmark extends ServiceBenchmarkSupport {
+
+    @Param({ "2", "20", "200" })
+    private int investorCount;
+
+    private AmountPieService amountPieService;
+    private Long amountPieId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        startContext();
+        amountPieService = context.getBean(AmountPieService.class);
+
+        testDataBuilder.cleanupAll();
+        List<InvestorDto> investors = testDataBuilder.createInvestors(investorCount);
+        AmountPieDto amountPie = new AmountPieDto();
+        amountPie.setAmounts(testDataBuilder.allocateEvenly(new BigDecimal("1000000"), investors));
+        amountPieId = amountPieService.create(amountPie).getId();
+    }
+
+    @Benchmark
+    public AmountPieDto findByIdToDto() {
+        return amountPieService.findById(amountPieId).orElseThrow();
+    }
+}
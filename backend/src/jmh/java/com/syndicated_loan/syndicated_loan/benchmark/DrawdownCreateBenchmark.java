@@ -0,0 +1,64 @@
+package com.syndicated_loan.syndicated_loan.benchmark;
+
+import com.syndicated_loan.syndicated_loan.common.dto.DrawdownDto;
+import com.syndicated_loan.syndicated_loan.common.dto.FacilityDto;
+import com.syndicated_loan.syndicated_loan.common.dto.InvestorDto;
+import com.syndicated_loan.syndicated_loan.common.service.DrawdownService;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link DrawdownService#create}のベンチマーク。
+ * AmountPie・ローンの作成と返済スケジュールの生成を含む、ドローダウン作成の全体を計測します。
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DrawdownCreateBenchmark extends ServiceBenchmarkSupport {
+
+    @Param({ "2", "20", "200" })
+    private int investorCount;
+
+    @Param({ "60" })
+    private int termMonths;
+
+    private DrawdownService drawdownService;
+    private FacilityDto facility;
+    private List<InvestorDto> investors;
+
+    @Setup(Level.Trial)
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        startContext();
+        drawdownService = context.getBean(DrawdownService.class);
+
+        Map<String, Object> testData = testDataBuilder.getTestDataForScaledDrawdown(investorCount, termMonths);
+        facility = (FacilityDto) testData.get("facility");
+        investors = (List<InvestorDto>) testData.get("investors");
+    }
+
+    @Benchmark
+    public DrawdownDto create() {
+        DrawdownDto drawdown = testDataBuilder.buildDrawdown(facility, investors, new BigDecimal("1000000"));
+        return inRollbackTransaction(() -> drawdownService.create(drawdown));
+    }
+}
@@ -0,0 +1,51 @@
+package com.syndicated_loan.syndicated_loan.benchmark;
+
+import com.syndicated_loan.syndicated_loan.common.service.InterestAccrualBatchService;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link InterestAccrualBatchService#run}のベンチマーク。
+ * 10年ローン10,000件について1日分の経過利息を計上し、読み込み・計算・JDBCバッチでのINSERTまでを計測します。
+ * 計上はロールバックするため、反復ごとに同じ計上日を未処理の状態から計上します。
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 10)
+@Measurement(iterations = 10)
+@Fork(1)
+@State(Scope.Benchmark)
+public class InterestAccrualBenchmark extends ServiceBenchmarkSupport {
+
+    private static final int LOAN_COUNT = 10_000;
+
+    // すべてのローンが期間中となる日
+    private static final LocalDate ACCRUAL_DATE = LocalDate.of(2026, 6, 30);
+
+    private InterestAccrualBatchService interestAccrualBatchService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        startContext();
+        interestAccrualBatchService = context.getBean(InterestAccrualBatchService.class);
+        createLoans(LOAN_COUNT, 120);
+    }
+
+    @Benchmark
+    public long accrueOneDay() {
+        return inRollbackTransaction(() -> interestAccrualBatchService.run(ACCRUAL_DATE).getRowsWritten());
+    }
+}
@@ -0,0 +1,83 @@
+package com.syndicated_loan.syndicated_loan.benchmark;
+
+import com.syndicated_loan.syndicated_loan.common.dto.DrawdownDto;
+import com.syndicated_loan.syndicated_loan.common.dto.FacilityDto;
+import com.syndicated_loan.syndicated_loan.common.dto.InterestPaymentDto;
+import com.syndicated_loan.syndicated_loan.common.dto.InvestorDto;
+import com.syndicated_loan.syndicated_loan.common.entity.RepaymentSchedule;
+import com.syndicated_loan.syndicated_loan.common.repository.LoanRepository;
+import com.syndicated_loan.syndicated_loan.common.repository.RepaymentScheduleRepository;
+import com.syndicated_loan.syndicated_loan.common.service.DrawdownService;
+import com.syndicated_loan.syndicated_loan.common.service.InterestPaymentService;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link InterestPaymentService}の利息配分のベンチマーク。
+ * 返済スケジュールの検索、ドローダウンの配分額に比例した配分計算、配分結果のAmountPie作成までを計測します。
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class InterestDistributionBenchmark extends ServiceBenchmarkSupport {
+
+    @Param({ "2", "20", "200" })
+    private int investorCount;
+
+    private InterestPaymentService interestPaymentService;
+    private Long loanId;
+    private LocalDate interestDate;
+
+    @Setup(Level.Trial)
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        startContext();
+        interestPaymentService = context.getBean(InterestPaymentService.class);
+
+        Map<String, Object> testData = testDataBuilder.getTestDataForScaledDrawdown(investorCount, 60);
+        DrawdownDto drawdown = context.getBean(DrawdownService.class).create(testDataBuilder.buildDrawdown(
+                (FacilityDto) testData.get("facility"),
+                (List<InvestorDto>) testData.get("investors"),
+                new BigDecimal("1000000")));
+        loanId = drawdown.getRelatedPositionId();
+
+        // 最初の利払い日を計測対象とする
+        List<RepaymentSchedule> schedules = context.getBean(RepaymentScheduleRepository.class)
+                .findByLoan(context.getBean(LoanRepository.class).findById(loanId).orElseThrow());
+        interestDate = schedules.stream()
+                .filter(schedule -> schedule.getPaymentType() == RepaymentSchedule.PaymentType.INTEREST)
+                .map(RepaymentSchedule::getScheduledDate)
+                .min(Comparator.naturalOrder())
+                .orElseThrow();
+    }
+
+    @Benchmark
+    public InterestPaymentDto create() {
+        InterestPaymentDto interestPayment = new InterestPaymentDto();
+        interestPayment.setLoanId(loanId);
+        interestPayment.setRelatedPositionId(loanId);
+        interestPayment.setDate(interestDate.atStartOfDay());
+        return inRollbackTransaction(() -> interestPaymentService.create(interestPayment));
+    }
+}
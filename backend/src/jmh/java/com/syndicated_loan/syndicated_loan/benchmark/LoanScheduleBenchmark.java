@@ -0,0 +1,73 @@
+package com.syndicated_loan.syndicated_loan.benchmark;
+
+import com.syndicated_loan.syndicated_loan.common.dto.DrawdownDto;
+import com.syndicated_loan.syndicated_loan.common.dto.FacilityDto;
+import com.syndicated_loan.syndicated_loan.common.dto.InvestorDto;
+import com.syndicated_loan.syndicated_loan.common.entity.Loan;
+import com.syndicated_loan.syndicated_loan.common.repository.LoanRepository;
+import com.syndicated_loan.syndicated_loan.common.service.DrawdownService;
+import com.syndicated_loan.syndicated_loan.common.service.LoanService;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link LoanService#generateRepaymentSchedules}のベンチマーク。
+ * 既存のスケジュールを破棄して再生成し、INSERT/DELETEの発行までを計測します。
+ * スケジュール件数はローン期間（3ヶ月ごとの利払い）に比例します。
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LoanScheduleBenchmark extends ServiceBenchmarkSupport {
+
+    @Param({ "12", "60", "360" })
+    private int termMonths;
+
+    private LoanService loanService;
+    private LoanRepository loanRepository;
+    private Long loanId;
+
+    @Setup(Level.Trial)
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        startContext();
+        loanService = context.getBean(LoanService.class);
+        loanRepository = context.getBean(LoanRepository.class);
+
+        Map<String, Object> testData = testDataBuilder.getTestDataForScaledDrawdown(2, termMonths);
+        DrawdownDto drawdown = context.getBean(DrawdownService.class).create(testDataBuilder.buildDrawdown(
+                (FacilityDto) testData.get("facility"),
+                (List<InvestorDto>) testData.get("investors"),
+                new BigDecimal("1000000")));
+        loanId = drawdown.getRelatedPositionId();
+    }
+
+    @Benchmark
+    public int generateRepaymentSchedules() {
+        return inRollbackTransaction(() -> {
+            Loan loan = loanRepository.findById(loanId).orElseThrow();
+            loan.getRepaymentSchedules().clear();
+            loanService.generateRepaymentSchedules(loan);
+            return loan.getRepaymentSchedules().size();
+        });
+    }
+}
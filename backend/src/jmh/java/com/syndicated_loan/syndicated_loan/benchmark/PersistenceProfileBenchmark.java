@@ -0,0 +1,90 @@
+package com.syndicated_loan.syndicated_loan.benchmark;
+
+import com.syndicated_loan.syndicated_loan.common.dto.DrawdownDto;
+import com.syndicated_loan.syndicated_loan.common.dto.FacilityDto;
+import com.syndicated_loan.syndicated_loan.common.dto.InvestorDto;
+import com.syndicated_loan.syndicated_loan.common.service.DrawdownService;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * プロファイルごとの{@link DrawdownService#create}のスループットを比較するベンチマーク。
+ *
+ * <p>
+ * 他のベンチマークと異なりSQLログを抑止せず、各プロファイルの設定のまま起動します。
+ * {@code default}はインメモリH2・SQLログ出力あり、{@code local}はファイルに保存するH2・SQLログ出力あり、
+ * {@code prod}はファイルに保存するH2・SQLログ出力なし・INSERT/UPDATEの並べ替えありです。
+ * ファイルは試行ごとに一時ディレクトリに作成し、終了時に削除します。
+ * SQLログは標準出力に大量に出力されるため、実行結果はファイルにリダイレクトして確認してください。
+ * </p>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PersistenceProfileBenchmark extends ServiceBenchmarkSupport {
+
+    @Param({ "default", "local", "prod" })
+    private String profile;
+
+    @Param({ "20" })
+    private int investorCount;
+
+    private DrawdownService drawdownService;
+    private FacilityDto facility;
+    private List<InvestorDto> investors;
+    private Path dataDirectory;
+
+    @Setup(Level.Trial)
+    @SuppressWarnings("unchecked")
+    public void setUp() throws IOException {
+        dataDirectory = Files.createTempDirectory("syndicated-loan-benchmark");
+        String fileUrl = "jdbc:h2:file:" + dataDirectory.resolve("db").toAbsolutePath();
+        switch (profile) {
+            case "default" -> startContext("--spring.profiles.active=default");
+            case "local" -> startContext("--spring.profiles.active=local", "--spring.datasource.url=" + fileUrl);
+            case "prod" -> startContext("--spring.profiles.active=prod", "--SYNDICATED_LOAN_DB_URL=" + fileUrl);
+            default -> throw new IllegalArgumentException("Unknown profile: " + profile);
+        }
+        drawdownService = context.getBean(DrawdownService.class);
+
+        Map<String, Object> testData = testDataBuilder.getTestDataForScaledDrawdown(investorCount, 60);
+        facility = (FacilityDto) testData.get("facility");
+        investors = (List<InvestorDto>) testData.get("investors");
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteDataDirectory() throws IOException {
+        closeContext();
+        FileSystemUtils.deleteRecursively(dataDirectory);
+    }
+
+    @Benchmark
+    public DrawdownDto create() {
+        DrawdownDto drawdown = testDataBuilder.buildDrawdown(facility, investors, new BigDecimal("1000000"));
+        return inRollbackTransaction(() -> drawdownService.create(drawdown));
+    }
+}
@@ -0,0 +1,84 @@
+package com.syndicated_loan.syndicated_loan.benchmark;
+
+import com.syndicated_loan.syndicated_loan.common.calculation.ProRataAllocator;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 按分計算のベンチマーク。
+ * 従来のBigDecimalによる投資家ごとの除算と、{@link ProRataAllocator}の配列版・マップ版を比較します。
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProRataAllocatorBenchmark {
+
+    @Param({ "5", "50", "500" })
+    private int investorCount;
+
+    private BigDecimal total;
+    private Map<Long, BigDecimal> weights;
+
+    private long scaledTotal;
+    private long[] scaledWeights;
+    private long[] parts;
+    private long[] scratch;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        total = new BigDecimal("1234567.8912");
+        weights = new HashMap<>();
+        for (long investorId = 1; investorId <= investorCount; investorId++) {
+            weights.put(investorId, BigDecimal.valueOf(1_000_000 + random.nextInt(9_000_000), 4));
+        }
+
+        scaledTotal = ProRataAllocator.toScaled(total);
+        scaledWeights = weights.values().stream().mapToLong(ProRataAllocator::toScaled).toArray();
+        parts = new long[investorCount];
+        scratch = new long[investorCount * 2];
+    }
+
+    // 移行前の計算方式（InterestPaymentService.calculateInterestDistribution）
+    @Benchmark
+    public Map<Long, BigDecimal> bigDecimalRatio() {
+        Map<Long, BigDecimal> distribution = new HashMap<>();
+        BigDecimal totalWeight = weights.values().stream().reduce(BigDecimal.ZERO, BigDecimal::add);
+        weights.forEach((investorId, weight) -> {
+            BigDecimal ratio = weight.divide(totalWeight, 10, RoundingMode.HALF_UP);
+            distribution.put(investorId, total.multiply(ratio).setScale(4, RoundingMode.HALF_UP));
+        });
+        return distribution;
+    }
+
+    @Benchmark
+    public long[] scaledLongArrays() {
+        ProRataAllocator.allocate(scaledTotal, scaledWeights, investorCount, parts, scratch);
+        return parts;
+    }
+
+    @Benchmark
+    public Map<Long, BigDecimal> scaledLongMap() {
+        return ProRataAllocator.allocate(total, weights);
+    }
+}
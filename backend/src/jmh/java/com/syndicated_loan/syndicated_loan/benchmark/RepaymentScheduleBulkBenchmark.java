@@ -0,0 +1,86 @@
+package com.syndicated_loan.syndicated_loan.benchmark;
+
+import com.syndicated_loan.syndicated_loan.common.calculation.RepaymentScheduleGenerator;
+import com.syndicated_loan.syndicated_loan.common.entity.Loan;
+import com.syndicated_loan.syndicated_loan.common.repository.LoanRepository;
+import com.syndicated_loan.syndicated_loan.common.service.LoanService;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 返済スケジュールの一括生成のベンチマーク。
+ * 10年（120ヶ月）のローン10,000件（1件あたり元本1件・利払い40件）を対象に、
+ * スケジュール計算のみ（逐次・並列）と、保存までの処理（ローン単位・一括）を1回ずつ計測します。
+ * 保存を伴う計測はロールバックするため、反復ごとに同じ条件で計測します。
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RepaymentScheduleBulkBenchmark extends ServiceBenchmarkSupport {
+
+    private static final int LOAN_COUNT = 10_000;
+
+    private static final int TERM_MONTHS = 120;
+
+    private LoanService loanService;
+    private LoanRepository loanRepository;
+    private List<Long> loanIds;
+    private List<Loan> loans;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        startContext();
+        loanService = context.getBean(LoanService.class);
+        loanRepository = context.getBean(LoanRepository.class);
+
+        loans = createLoans(LOAN_COUNT, TERM_MONTHS);
+        loanIds = loans.stream().map(Loan::getId).toList();
+    }
+
+    @Benchmark
+    public long computeSequential() {
+        return loans.stream()
+                .mapToLong(loan -> RepaymentScheduleGenerator.generate(loan).size())
+                .sum();
+    }
+
+    @Benchmark
+    public long computeParallel() {
+        return loans.parallelStream()
+                .mapToLong(loan -> RepaymentScheduleGenerator.generate(loan).size())
+                .sum();
+    }
+
+    @Benchmark
+    public int generatePerLoan() {
+        return inRollbackTransaction(() -> {
+            int rows = 0;
+            for (Loan loan : loanRepository.findAllById(loanIds)) {
+                loanService.generateRepaymentSchedules(loan);
+                rows += loan.getRepaymentSchedules().size();
+            }
+            return rows;
+        });
+    }
+
+    @Benchmark
+    public int generateBulk() {
+        return inRollbackTransaction(() -> loanService.generateRepaymentSchedules(loanIds));
+    }
+}
@@ -0,0 +1,87 @@
+package com.syndicated_loan.syndicated_loan.benchmark;
+
+import com.syndicated_loan.syndicated_loan.common.calculation.AmortizationProfile;
+import com.syndicated_loan.syndicated_loan.common.calculation.DayCountConvention;
+import com.syndicated_loan.syndicated_loan.common.calculation.PeriodTableCache;
+import com.syndicated_loan.syndicated_loan.common.calculation.RepaymentScheduleGenerator;
+import com.syndicated_loan.syndicated_loan.common.entity.Loan;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link RepaymentScheduleGenerator}のベンチマーク（DBなし）。
+ * 開始日が1年間に分散した10年ローン10,000件のスケジュールを、
+ * 利払期間の表を共有する場合（ポートフォリオ全体の再計算）と、ローンごとに作成する場合とで比較します。
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RepaymentScheduleGeneratorBenchmark {
+
+    private static final int LOAN_COUNT = 10_000;
+
+    @Param({ "BULLET", "LINEAR", "ANNUITY" })
+    private AmortizationProfile profile;
+
+    @Param({ "ACTUAL_365", "THIRTY_360" })
+    private DayCountConvention convention;
+
+    private List<Loan> loans;
+    private PeriodTableCache sharedTables;
+    private PeriodTableCache noTables;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        loans = new ArrayList<>(LOAN_COUNT);
+        for (int i = 0; i < LOAN_COUNT; i++) {
+            Loan loan = new Loan();
+            loan.setTotalAmount(BigDecimal.valueOf(1_000_000L + i));
+            loan.setInterestRate(new BigDecimal("2.5"));
+            loan.setStartDate(LocalDate.of(2025, 1, 1).plusDays(i % 365));
+            loan.setEndDate(loan.getStartDate().plusMonths(120));
+            loan.setDayCountConvention(convention);
+            loan.setAmortizationProfile(profile);
+            loans.add(loan);
+        }
+        sharedTables = new PeriodTableCache(PeriodTableCache.DEFAULT_MAX_ENTRIES);
+        noTables = new PeriodTableCache(0);
+    }
+
+    @Benchmark
+    public long sharedPeriodTables() {
+        long rows = 0;
+        for (Loan loan : loans) {
+            rows += RepaymentScheduleGenerator.generate(loan, sharedTables).size();
+        }
+        return rows;
+    }
+
+    @Benchmark
+    public long perLoanPeriodTables() {
+        long rows = 0;
+        for (Loan loan : loans) {
+            rows += RepaymentScheduleGenerator.generate(loan, noTables).size();
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,144 @@
+package com.syndicated_loan.syndicated_loan.benchmark;
+
+import com.syndicated_loan.syndicated_loan.SyndicatedLoanApplication;
+import com.syndicated_loan.syndicated_loan.common.dto.BorrowerDto;
+import com.syndicated_loan.syndicated_loan.common.entity.Borrower;
+import com.syndicated_loan.syndicated_loan.common.entity.Loan;
+import com.syndicated_loan.syndicated_loan.common.repository.BorrowerRepository;
+import com.syndicated_loan.syndicated_loan.common.repository.LoanRepository;
+import com.syndicated_loan.syndicated_loan.common.testutil.TestDataBuilder;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * サービス層ベンチマークの共通基盤。
+ *
+ * <p>
+ * インメモリH2上でアプリケーションのSpringコンテキスト（Webサーバーなし）を起動し、
+ * {@link TestDataBuilder}で計測用のデータを作成します。SQLログは計測結果に影響するため抑止します。
+ * 計測対象の更新処理は{@link #inRollbackTransaction(Supplier)}で実行し、
+ * SQLの発行までを計測しつつ、反復ごとにデータ件数が増えて計測条件が変わらないようにします。
+ * </p>
+ */
+public abstract class ServiceBenchmarkSupport {
+
+    /**
+     * Springコンテキスト
+     */
+    protected ConfigurableApplicationContext context;
+
+    /**
+     * テストデータビルダー
+     */
+    protected TestDataBuilder testDataBuilder;
+
+    /**
+     * 計測ごとにロールバックするトランザクションテンプレート
+     */
+    private TransactionTemplate transactionTemplate;
+
+    /**
+     * エンティティマネージャー（ロールバック前のフラッシュに使用）
+     */
+    private EntityManager entityManager;
+
+    /**
+     * Springコンテキストを起動します（各ベンチマークの{@code @Setup}から最初に呼び出す）
+     */
+    protected void startContext() {
+        // application.propertiesより優先させるため、コマンドライン引数として指定する
+        startContext("--spring.jpa.show-sql=false",
+                "--logging.level.root=WARN",
+                "--logging.level.org.hibernate.SQL=WARN",
+                "--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+                "--logging.level.com.syndicated_loan=WARN");
+    }
+
+    /**
+     * 指定した引数でSpringコンテキストを起動します（SQLログを抑止しない場合やプロファイルを指定する場合に使用）
+     *
+     * @param args コマンドライン引数（{@code --spring.profiles.active=prod}など）
+     */
+    protected void startContext(String... args) {
+        String[] allArgs = new String[args.length + 1];
+        allArgs[0] = "--spring.main.banner-mode=off";
+        System.arraycopy(args, 0, allArgs, 1, args.length);
+        context = new SpringApplicationBuilder(SyndicatedLoanApplication.class)
+                .web(WebApplicationType.NONE)
+                .run(allArgs);
+        testDataBuilder = context.getBean(TestDataBuilder.class);
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        entityManager = SharedEntityManagerCreator.createSharedEntityManager(
+                context.getBean(EntityManagerFactory.class));
+    }
+
+    /**
+     * Springコンテキストを終了します
+     */
+    @TearDown(Level.Trial)
+    public void closeContext() {
+        if (context != null) {
+            context.close();
+        }
+    }
+
+    /**
+     * 処理をトランザクション内で実行し、未反映の変更をフラッシュしてからロールバックします
+     *
+     * @param <T>    結果の型
+     * @param action 実行する処理
+     * @return 処理の結果
+     */
+    protected <T> T inRollbackTransaction(Supplier<T> action) {
+        return transactionTemplate.execute(status -> {
+            status.setRollbackOnly();
+            T result = action.get();
+            entityManager.flush();
+            return result;
+        });
+    }
+
+    /**
+     * 計測用のローンをまとめて登録します（1つの借入人に紐づく元本1,000,000・年利2.5%のローン）。
+     * 開始日は2025年1月1日から1年間に分散させ、期間日数の組み合わせを偏らせません。
+     *
+     * @param count      件数
+     * @param termMonths 期間（月）
+     * @return 登録したローン
+     */
+    protected List<Loan> createLoans(int count, int termMonths) {
+        BorrowerDto borrowerDto = (BorrowerDto) testDataBuilder.getTestDataForBorrower().get("borrower1");
+        Borrower borrower = context.getBean(BorrowerRepository.class).findById(borrowerDto.getId()).orElseThrow();
+        return new TransactionTemplate(context.getBean(PlatformTransactionManager.class)).execute(status -> {
+            List<Loan> loans = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                Loan loan = new Loan();
+                loan.setBorrower(borrower);
+                loan.setAmount(new BigDecimal("1000000"));
+                loan.setTotalAmount(new BigDecimal("1000000"));
+                loan.setAvailableAmount(new BigDecimal("1000000"));
+                loan.setInterestRate(new BigDecimal("2.5"));
+                loan.setStartDate(LocalDate.of(2025, 1, 1).plusDays(i % 365));
+                loan.setTerm(termMonths);
+                loans.add(loan);
+            }
+            return context.getBean(LoanRepository.class).saveAll(loans);
+        });
+    }
+}
@@ -0,0 +1,65 @@
+package com.syndicated_loan.syndicated_loan.benchmark;
+
+import com.syndicated_loan.syndicated_loan.common.dto.InvestorDto;
+import com.syndicated_loan.syndicated_loan.common.dto.SharePieDto;
+import com.syndicated_loan.syndicated_loan.common.entity.SharePie;
+import com.syndicated_loan.syndicated_loan.common.service.SharePieService;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link SharePieService}のシェア配分バリデーションのベンチマーク。
+ * バリデーションを含むエンティティ変換と、永続化までを含む作成の2通りを計測します。
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SharePieValidationBenchmark extends ServiceBenchmarkSupport {
+
+    @Param({ "2", "20", "200" })
+    private int investorCount;
+
+    private SharePieService sharePieService;
+    private SharePieDto sharePie;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        startContext();
+        sharePieService = context.getBean(SharePieService.class);
+
+        testDataBuilder.cleanupAll();
+        List<InvestorDto> investors = testDataBuilder.createInvestors(investorCount);
+        sharePie = SharePieDto.builder()
+                .shares(testDataBuilder.allocateEvenly(new BigDecimal("100"), investors))
+                .version(1L)
+                .build();
+    }
+
+    @Benchmark
+    public SharePie validate() {
+        return sharePieService.toEntity(sharePie);
+    }
+
+    @Benchmark
+    public SharePieDto create() {
+        return inRollbackTransaction(() -> sharePieService.create(sharePie));
+    }
+}
@@ -5,6 +5,7 @@ import java.time.format.DateTimeFormatter;
 import java.util.HashMap;
 import java.util.Map;
 
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -34,6 +35,18 @@ public class GlobalExceptionAdvisor {
         return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
     }
 
+    // 再実行しても楽観ロックの競合が解消しなかった場合は、クライアントが再試行できるよう409を返す
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticLockingFailure(OptimisticLockingFailureException ex) {
+        log.warn("Optimistic locking failure: {}", ex.getMessage());
+        ErrorResponse response = new ErrorResponse(
+            "CONCURRENT_UPDATE",
+            "The resource was updated concurrently, please retry",
+            LocalDateTime.now().format(FORMATTER)
+        );
+        return new ResponseEntity<>(response, HttpStatus.CONFLICT);
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ErrorResponse> handleValidationExceptions(MethodArgumentNotValidException ex) {
         Map<String, String> errors = new HashMap<>();
@@ -0,0 +1,34 @@
+package com.syndicated_loan.syndicated_loan.common.aop;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/**
+ * サービス・コントローラの計測（{@link LoggingAspect}）の設定。
+ * プレフィックスは{@code syndicated-loan.instrumentation}です。
+ */
+@Data
+@ConfigurationProperties(prefix = "syndicated-loan.instrumentation")
+public class InstrumentationProperties {
+
+    /**
+     * 処理時間を計測するかどうか
+     */
+    private boolean enabled = true;
+
+    /**
+     * 計測する呼び出しの割合（0.0〜1.0）。1未満の場合、計測件数は抽出した呼び出しのみとなります
+     */
+    private double sampleRate = 1.0;
+
+    /**
+     * パーセンタイル算出用のヒストグラムを公開するかどうか
+     */
+    private boolean histogram = false;
+
+    /**
+     * 呼び出しごとの開始・終了をDEBUGログに出力するかどうか
+     */
+    private boolean logCalls = false;
+}
@@ -1,17 +1,58 @@
 package com.syndicated_loan.syndicated_loan.common.aop;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.stereotype.Component;
 
 import lombok.extern.slf4j.Slf4j;
 
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * コントローラ・サービスの公開メソッドの処理時間を計測するアスペクト。
+ *
+ * <p>
+ * 処理時間はMicrometerのタイマー{@value #TIMER_NAME}（タグ: layer, class, method, outcome）に記録し、
+ * {@code /actuator/prometheus}で公開します。タイマーはメソッドごとに一度だけ登録して再利用するため、
+ * 呼び出しごとの文字列の組み立ては行いません。呼び出しごとのログは
+ * {@code syndicated-loan.instrumentation.log-calls=true}の場合のみDEBUGで出力します。
+ * </p>
+ */
 @Aspect
 @Component
 @Slf4j
+@EnableConfigurationProperties(InstrumentationProperties.class)
 public class LoggingAspect {
 
+    /**
+     * 処理時間のタイマー名
+     */
+    public static final String TIMER_NAME = "syndicated_loan.method";
+
+    private final MeterRegistry meterRegistry;
+    private final InstrumentationProperties properties;
+
+    /**
+     * 対象クラス・メソッドごとのタイマー
+     */
+    private final Map<Class<?>, Map<Method, MethodTimers>> timers = new ConcurrentHashMap<>();
+
+    public LoggingAspect(MeterRegistry meterRegistry, InstrumentationProperties properties) {
+        this.meterRegistry = meterRegistry;
+        this.properties = properties;
+    }
+
     @Around("execution(public * com.syndicated_loan.syndicated_loan..*Controller.*(..))")
     public Object logControllerMethod(ProceedingJoinPoint joinPoint) throws Throwable {
         return logMethod(joinPoint, "Controller");
@@ -23,22 +64,76 @@ public class LoggingAspect {
     }
 
     private Object logMethod(ProceedingJoinPoint joinPoint, String layer) throws Throwable {
-        String className = joinPoint.getTarget().getClass().getSimpleName();
-        String methodName = joinPoint.getSignature().getName();
-        String fullMethodName = String.format("%s.%s", className, methodName);
+        boolean logCalls = properties.isLogCalls() && log.isDebugEnabled();
+        if (!logCalls && !isSampled()) {
+            return joinPoint.proceed();
+        }
 
-        log.info("[{}] {} - Start", layer, fullMethodName);
-        long startTime = System.currentTimeMillis();
+        MethodTimers methodTimers = timersFor(joinPoint, layer);
+        if (logCalls) {
+            log.debug("[{}] {} - Start", layer, methodTimers.fullMethodName);
+        }
+        long startTime = System.nanoTime();
 
         try {
             Object result = joinPoint.proceed();
-            long endTime = System.currentTimeMillis();
-            log.info("[{}] {} - End ({}ms)", layer, fullMethodName, endTime - startTime);
+            long elapsed = System.nanoTime() - startTime;
+            methodTimers.success.record(elapsed, TimeUnit.NANOSECONDS);
+            if (logCalls) {
+                log.debug("[{}] {} - End ({}ms)", layer, methodTimers.fullMethodName,
+                        TimeUnit.NANOSECONDS.toMillis(elapsed));
+            }
             return result;
         } catch (Throwable e) {
-            long endTime = System.currentTimeMillis();
-            log.info("[{}] {} - Error ({}ms): {}", layer, fullMethodName, endTime - startTime, e.getMessage());
+            long elapsed = System.nanoTime() - startTime;
+            methodTimers.error.record(elapsed, TimeUnit.NANOSECONDS);
+            if (logCalls) {
+                log.debug("[{}] {} - Error ({}ms): {}", layer, methodTimers.fullMethodName,
+                        TimeUnit.NANOSECONDS.toMillis(elapsed), e.getMessage());
+            }
             throw e;
         }
     }
+
+    // 計測の対象とする呼び出しかどうか（sampleRateの割合で抽出）
+    private boolean isSampled() {
+        if (!properties.isEnabled()) {
+            return false;
+        }
+        double sampleRate = properties.getSampleRate();
+        return sampleRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < sampleRate;
+    }
+
+    private MethodTimers timersFor(ProceedingJoinPoint joinPoint, String layer) {
+        Class<?> targetClass = AopUtils.getTargetClass(joinPoint.getTarget());
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        return timers.computeIfAbsent(targetClass, key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(method, key -> new MethodTimers(layer, targetClass.getSimpleName(), method.getName()));
+    }
+
+    /**
+     * 1メソッド分の成功時・例外時のタイマー
+     */
+    private final class MethodTimers {
+        private final String fullMethodName;
+        private final Timer success;
+        private final Timer error;
+
+        MethodTimers(String layer, String className, String methodName) {
+            this.fullMethodName = className + "." + methodName;
+            this.success = timer(layer, className, methodName, "success");
+            this.error = timer(layer, className, methodName, "error");
+        }
+
+        private Timer timer(String layer, String className, String methodName, String outcome) {
+            return Timer.builder(TIMER_NAME)
+                    .description("Execution time of public controller and service methods")
+                    .tag("layer", layer)
+                    .tag("class", className)
+                    .tag("method", methodName)
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram(properties.isHistogram())
+                    .register(meterRegistry);
+        }
+    }
 }
@@ -0,0 +1,176 @@
+package com.syndicated_loan.syndicated_loan.common.aop;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.orm.jpa.EntityManagerFactoryUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * {@link RetryOnConflict}を付けたメソッドを、楽観ロックの競合時に再実行するアスペクト。
+ *
+ * <p>
+ * トランザクションの開始より外側（{@link #ORDER}）で動作するため、コミット時のバージョン検査による失敗も捕捉し、
+ * 再実行は新しいトランザクション・永続化コンテキストで最新のエンティティを読み直して行います。
+ * 再実行までの待機時間は、上限を指数的に増やしつつ0から上限までの乱数とし（フルジッター）、
+ * 競合したスレッドが同時に再実行して再び競合することを避けます。
+ * </p>
+ *
+ * <p>
+ * 競合の件数はMicrometerのカウンター{@value #CONFLICT_COUNTER_NAME}
+ * （タグ: class, method, outcome=retried|exhausted）に、再実行で成功した件数は
+ * {@value #RECOVERY_COUNTER_NAME}に記録します。
+ * </p>
+ */
+@Aspect
+@Component
+@Slf4j
+@Order(OptimisticLockRetryAspect.ORDER)
+@EnableConfigurationProperties(RetryProperties.class)
+public class OptimisticLockRetryAspect {
+
+    /**
+     * アスペクトの順序（トランザクションのインターセプターより外側）
+     */
+    public static final int ORDER = Ordered.LOWEST_PRECEDENCE - 1;
+
+    /**
+     * 楽観ロックの競合の件数のカウンター名
+     */
+    public static final String CONFLICT_COUNTER_NAME = "syndicated_loan.optimistic_lock.conflicts";
+
+    /**
+     * 再実行で成功した件数のカウンター名
+     */
+    public static final String RECOVERY_COUNTER_NAME = "syndicated_loan.optimistic_lock.recoveries";
+
+    private final MeterRegistry meterRegistry;
+    private final RetryProperties properties;
+
+    /**
+     * 対象メソッドごとのカウンター
+     */
+    private final Map<Method, RetryCounters> counters = new ConcurrentHashMap<>();
+
+    public OptimisticLockRetryAspect(MeterRegistry meterRegistry, RetryProperties properties) {
+        this.meterRegistry = meterRegistry;
+        this.properties = properties;
+    }
+
+    @Around("@annotation(retryOnConflict)")
+    public Object retryOnConflict(ProceedingJoinPoint joinPoint, RetryOnConflict retryOnConflict) throws Throwable {
+        // 呼び出し元のトランザクションはロールバック済みとなるため、その中では再実行しない
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return joinPoint.proceed();
+        }
+
+        int maxAttempts = retryOnConflict.maxAttempts() > 0 ? retryOnConflict.maxAttempts() : properties.getMaxAttempts();
+        RetryCounters retryCounters = countersFor(joinPoint);
+        for (int attempt = 1;; attempt++) {
+            try {
+                Object result = joinPoint.proceed();
+                if (attempt > 1) {
+                    retryCounters.recovered.increment();
+                }
+                return result;
+            } catch (RuntimeException e) {
+                OptimisticLockingFailureException conflict = asConflict(e);
+                if (conflict == null) {
+                    throw e;
+                }
+                if (attempt >= maxAttempts) {
+                    retryCounters.exhausted.increment();
+                    log.warn("{} failed after {} attempts due to concurrent updates: {}",
+                            retryCounters.fullMethodName, attempt, conflict.getMessage());
+                    throw conflict;
+                }
+                retryCounters.retried.increment();
+                long backoff = backoffMillis(attempt);
+                log.debug("{} conflicted on attempt {}, retrying in {}ms",
+                        retryCounters.fullMethodName, attempt, backoff);
+                Thread.sleep(backoff);
+            }
+        }
+    }
+
+    /**
+     * 楽観ロックの競合による例外を取り出します。
+     * コミット前の同期処理（{@code beforeCommit}）でのフラッシュによる競合はJPAの例外のまま伝わるため、Springの例外に変換します
+     *
+     * @param e 実行時の例外
+     * @return 楽観ロックの競合（競合以外の場合はnull）
+     */
+    private static OptimisticLockingFailureException asConflict(RuntimeException e) {
+        if (e instanceof OptimisticLockingFailureException conflict) {
+            return conflict;
+        }
+        DataAccessException translated = EntityManagerFactoryUtils.convertJpaAccessExceptionIfPossible(e);
+        return translated instanceof OptimisticLockingFailureException conflict ? conflict : null;
+    }
+
+    /**
+     * 再実行までの待機時間（0から上限までの乱数。上限は再実行ごとに倍率で増やし、最大値で打ち切る）
+     *
+     * @param attempt 失敗した実行の回数（1から）
+     * @return 待機時間（ミリ秒）
+     */
+    long backoffMillis(int attempt) {
+        double ceiling = properties.getInitialBackoffMillis() * Math.pow(properties.getMultiplier(), attempt - 1);
+        long bound = (long) Math.min(ceiling, properties.getMaxBackoffMillis());
+        return bound > 0 ? ThreadLocalRandom.current().nextLong(bound + 1) : 0;
+    }
+
+    private RetryCounters countersFor(ProceedingJoinPoint joinPoint) {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        return counters.computeIfAbsent(method, key -> new RetryCounters(
+                AopUtils.getTargetClass(joinPoint.getTarget()).getSimpleName(), method.getName()));
+    }
+
+    /**
+     * 1メソッド分のカウンター
+     */
+    private final class RetryCounters {
+        private final String fullMethodName;
+        private final Counter retried;
+        private final Counter exhausted;
+        private final Counter recovered;
+
+        RetryCounters(String className, String methodName) {
+            this.fullMethodName = className + "." + methodName;
+            this.retried = conflictCounter(className, methodName, "retried");
+            this.exhausted = conflictCounter(className, methodName, "exhausted");
+            this.recovered = Counter.builder(RECOVERY_COUNTER_NAME)
+                    .description("Calls that succeeded after retrying optimistic lock conflicts")
+                    .tag("class", className)
+                    .tag("method", methodName)
+                    .register(meterRegistry);
+        }
+
+        private Counter conflictCounter(String className, String methodName, String outcome) {
+            return Counter.builder(CONFLICT_COUNTER_NAME)
+                    .description("Optimistic lock conflicts on methods annotated with @RetryOnConflict")
+                    .tag("class", className)
+                    .tag("method", methodName)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.syndicated_loan.syndicated_loan.common.aop;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 楽観ロックの競合（{@link org.springframework.dao.OptimisticLockingFailureException}）で失敗した場合に、
+ * 新しいトランザクションでメソッドを再実行することを示すアノテーション。
+ *
+ * <p>
+ * 再実行は{@link OptimisticLockRetryAspect}がトランザクションの外側で行います。
+ * メソッドは再実行のたびにエンティティを読み直すため、対象のメソッドは
+ * 「実行済み」の確認などにより、同じ処理が二重に反映されないようにしてください。
+ * 呼び出し元のトランザクションに参加する場合は再実行しません。
+ * </p>
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface RetryOnConflict {
+
+    /**
+     * 最大の実行回数（初回を含む）。0以下の場合は設定（{@code syndicated-loan.retry.max-attempts}）に従います
+     */
+    int maxAttempts() default 0;
+}
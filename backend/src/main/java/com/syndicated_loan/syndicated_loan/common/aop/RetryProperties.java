@@ -0,0 +1,34 @@
+package com.syndicated_loan.syndicated_loan.common.aop;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/**
+ * 楽観ロックの競合時の再実行（{@link OptimisticLockRetryAspect}）の設定。
+ * プレフィックスは{@code syndicated-loan.retry}です。
+ */
+@Data
+@ConfigurationProperties(prefix = "syndicated-loan.retry")
+public class RetryProperties {
+
+    /**
+     * 最大の実行回数（初回を含む）
+     */
+    private int maxAttempts = 5;
+
+    /**
+     * 1回目の再実行までの待機時間の上限（ミリ秒）
+     */
+    private long initialBackoffMillis = 10;
+
+    /**
+     * 再実行ごとの待機時間の上限の倍率
+     */
+    private double multiplier = 2.0;
+
+    /**
+     * 待機時間の上限の最大値（ミリ秒）
+     */
+    private long maxBackoffMillis = 200;
+}
@@ -0,0 +1,43 @@
+package com.syndicated_loan.syndicated_loan.common.calculation;
+
+/**
+ * 元本の返済方式。
+ *
+ * <p>
+ * いずれの方式も利息は利払日ごとに支払います。満期一括以外の方式では、
+ * 利息は各期間の期首の元本残高に対して計算し、元本は利払日ごとに返済します。
+ * </p>
+ */
+public enum AmortizationProfile {
+
+    /**
+     * 満期一括返済（ローンに未設定の場合の既定）。利息は常に借入総額に対して計算します
+     */
+    BULLET,
+
+    /**
+     * 元金均等返済。各回の元本返済額を等しくします（端数は最終回で調整）
+     */
+    LINEAR,
+
+    /**
+     * 元利均等返済。利払い間隔の名目利率で元本と利息の合計が一定となる額を求め、
+     * 各回の利息を差し引いた残りを元本返済に充てます（最終回で残高を完済）
+     */
+    ANNUITY;
+
+    /**
+     * ローンに未設定の場合の既定の方式
+     */
+    public static final AmortizationProfile DEFAULT = BULLET;
+
+    /**
+     * 方式が未設定（null）の場合に既定の方式を返します
+     *
+     * @param profile 設定された方式
+     * @return 有効な方式
+     */
+    public static AmortizationProfile orDefault(AmortizationProfile profile) {
+        return profile != null ? profile : DEFAULT;
+    }
+}
@@ -0,0 +1,121 @@
+package com.syndicated_loan.syndicated_loan.common.calculation;
+
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+
+/**
+ * 利息計算の日数計算方式（デイカウント・コンベンション）。
+ *
+ * <p>
+ * 期間の利息は{@code 年利息 × 期間日数 / 年日数}（小数点以下4桁、四捨五入）で求めます。
+ * 期間日数の数え方と年日数の組み合わせが方式ごとに異なります。
+ * </p>
+ */
+public enum DayCountConvention {
+
+    /**
+     * 実日数 / 360日
+     */
+    ACTUAL_360("ACTUAL/360", 360),
+
+    /**
+     * 実日数 / 365日（ローンに未設定の場合の既定）
+     */
+    ACTUAL_365("ACTUAL/365", 365),
+
+    /**
+     * 1ヶ月を30日とみなす日数 / 360日（30/360 US方式）
+     */
+    THIRTY_360("30/360", 360) {
+        @Override
+        public int dayCount(LocalDate startDate, LocalDate endDate) {
+            int startDay = startDate.getDayOfMonth();
+            int endDay = endDate.getDayOfMonth();
+            if (startDay == 31) {
+                startDay = 30;
+            }
+            if (endDay == 31 && startDay == 30) {
+                endDay = 30;
+            }
+            return 360 * (endDate.getYear() - startDate.getYear())
+                    + 30 * (endDate.getMonthValue() - startDate.getMonthValue())
+                    + (endDay - startDay);
+        }
+    };
+
+    /**
+     * ローンに未設定の場合の既定の方式
+     */
+    public static final DayCountConvention DEFAULT = ACTUAL_365;
+
+    /**
+     * 表示用の名称（例: ACTUAL/360）
+     */
+    @Getter
+    private final String label;
+
+    /**
+     * 年日数（日割り計算の分母）
+     */
+    @Getter
+    private final int daysInYear;
+
+    private final BigDecimal daysInYearDecimal;
+
+    private static final BigDecimal HUNDRED = BigDecimal.valueOf(100);
+
+    DayCountConvention(String label, int daysInYear) {
+        this.label = label;
+        this.daysInYear = daysInYear;
+        this.daysInYearDecimal = BigDecimal.valueOf(daysInYear);
+    }
+
+    /**
+     * 方式が未設定（null）の場合に既定の方式を返します
+     *
+     * @param convention 設定された方式
+     * @return 有効な方式
+     */
+    public static DayCountConvention orDefault(DayCountConvention convention) {
+        return convention != null ? convention : DEFAULT;
+    }
+
+    /**
+     * 期間の日数を数えます
+     *
+     * @param startDate 期間開始日
+     * @param endDate   期間終了日
+     * @return 期間日数
+     */
+    public int dayCount(LocalDate startDate, LocalDate endDate) {
+        return (int) (endDate.toEpochDay() - startDate.toEpochDay());
+    }
+
+    /**
+     * 年利息を日割り計算して期間の利息を求めます
+     *
+     * @param yearlyInterest 年利息
+     * @param dayCount       期間日数（{@link #dayCount(LocalDate, LocalDate)}の結果）
+     * @return 期間の利息（小数点以下4桁）
+     */
+    public BigDecimal periodInterest(BigDecimal yearlyInterest, int dayCount) {
+        return yearlyInterest
+                .multiply(BigDecimal.valueOf(dayCount))
+                .divide(daysInYearDecimal, 4, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * 元本と年利（%）から期間の利息を求めます（年利息は小数点以下10桁で計算）
+     *
+     * @param principal    元本
+     * @param interestRate 年利（%）
+     * @param dayCount     期間日数（{@link #dayCount(LocalDate, LocalDate)}の結果）
+     * @return 期間の利息（小数点以下4桁）
+     */
+    public BigDecimal accruedInterest(BigDecimal principal, BigDecimal interestRate, int dayCount) {
+        return periodInterest(principal.multiply(interestRate).divide(HUNDRED, 10, RoundingMode.HALF_UP), dayCount);
+    }
+}
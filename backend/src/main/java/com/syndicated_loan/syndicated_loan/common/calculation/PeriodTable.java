@@ -0,0 +1,116 @@
+package com.syndicated_loan.syndicated_loan.common.calculation;
+
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+
+/**
+ * 開始日・利払い間隔・日数計算方式ごとの利払期間の表。
+ *
+ * <p>
+ * 開始日から利払い間隔ごとに（前回の期日に月数を加算して）求めた期日と、各期間の日数を保持します。
+ * 同じ開始日・間隔・方式のローンは満期日が異なっても同じ表を共有でき、
+ * 満期日までの期間数は二分探索で求めます。生成後は変更しないため、複数スレッドから参照できます。
+ * </p>
+ */
+public final class PeriodTable {
+
+    @Getter
+    private final LocalDate startDate;
+    @Getter
+    private final int frequencyMonths;
+    @Getter
+    private final DayCountConvention convention;
+
+    /**
+     * 各期間の期日（エポック日）
+     */
+    private final long[] endEpochDays;
+
+    /**
+     * 各期間の日数
+     */
+    private final int[] dayCounts;
+
+    private PeriodTable(LocalDate startDate, int frequencyMonths, DayCountConvention convention,
+            long[] endEpochDays, int[] dayCounts) {
+        this.startDate = startDate;
+        this.frequencyMonths = frequencyMonths;
+        this.convention = convention;
+        this.endEpochDays = endEpochDays;
+        this.dayCounts = dayCounts;
+    }
+
+    /**
+     * 指定した期間数の表を作成します
+     *
+     * @param startDate       開始日
+     * @param frequencyMonths 利払い間隔（月）
+     * @param convention      日数計算方式
+     * @param periods         期間数
+     * @return 利払期間の表
+     */
+    public static PeriodTable build(LocalDate startDate, int frequencyMonths, DayCountConvention convention,
+            int periods) {
+        long[] endEpochDays = new long[periods];
+        int[] dayCounts = new int[periods];
+        LocalDate currentDate = startDate;
+        for (int i = 0; i < periods; i++) {
+            LocalDate nextDate = currentDate.plusMonths(frequencyMonths);
+            endEpochDays[i] = nextDate.toEpochDay();
+            dayCounts[i] = convention.dayCount(currentDate, nextDate);
+            currentDate = nextDate;
+        }
+        return new PeriodTable(startDate, frequencyMonths, convention, endEpochDays, dayCounts);
+    }
+
+    /**
+     * 表の期間数
+     */
+    public int size() {
+        return endEpochDays.length;
+    }
+
+    /**
+     * 表が指定した日付までの期間を含むかどうか
+     *
+     * @param date 日付
+     * @return 最後の期日が指定日以降であればtrue
+     */
+    public boolean covers(LocalDate date) {
+        return endEpochDays.length > 0 && endEpochDays[endEpochDays.length - 1] >= date.toEpochDay();
+    }
+
+    /**
+     * 期日が指定日より前の期間数を返します
+     *
+     * @param date 日付
+     * @return 期日が指定日より前の期間数
+     */
+    public int countPeriodsBefore(LocalDate date) {
+        int index = Arrays.binarySearch(endEpochDays, date.toEpochDay());
+        return index >= 0 ? index : -index - 1;
+    }
+
+    /**
+     * i番目の期間の開始日（最初の期間は表の開始日）
+     */
+    public LocalDate periodStartDate(int i) {
+        return i == 0 ? startDate : LocalDate.ofEpochDay(endEpochDays[i - 1]);
+    }
+
+    /**
+     * i番目の期間の期日
+     */
+    public LocalDate periodEndDate(int i) {
+        return LocalDate.ofEpochDay(endEpochDays[i]);
+    }
+
+    /**
+     * i番目の期間の日数
+     */
+    public int dayCount(int i) {
+        return dayCounts[i];
+    }
+}
@@ -0,0 +1,98 @@
+package com.syndicated_loan.syndicated_loan.common.calculation;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * {@link PeriodTable}のキャッシュ。
+ *
+ * <p>
+ * 開始日・利払い間隔・日数計算方式ごとに、一定の期間（{@link #HORIZON_MONTHS}）を覆う表を1つだけ作成し、
+ * 同じ条件のローンで共有します。ポートフォリオ全体のスケジュールを再計算する際も、
+ * 暦の計算は開始日の種類数だけで済みます。保持する表の数には上限があり、
+ * 上限を超えると最も長く参照されていない表から破棄します。
+ * </p>
+ */
+public final class PeriodTableCache {
+
+    /**
+     * 保持する表の既定の上限
+     */
+    public static final int DEFAULT_MAX_ENTRIES = 4096;
+
+    /**
+     * 1つの表が覆う期間（月）。これより長いローンはキャッシュせずに表を作成する
+     */
+    public static final int HORIZON_MONTHS = 600;
+
+    private final int maxEntries;
+
+    private final Map<Key, PeriodTable> tables;
+
+    /**
+     * @param maxEntries 保持する表の上限（0の場合はキャッシュしない）
+     */
+    public PeriodTableCache(int maxEntries) {
+        this.maxEntries = maxEntries;
+        this.tables = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, PeriodTable> eldest) {
+                return size() > PeriodTableCache.this.maxEntries;
+            }
+        };
+    }
+
+    /**
+     * 指定日までの期間を覆う表を返します
+     *
+     * @param startDate       開始日
+     * @param frequencyMonths 利払い間隔（月）
+     * @param convention      日数計算方式
+     * @param endDate         表が覆う必要のある日付（満期日）
+     * @return 利払期間の表
+     */
+    public PeriodTable get(LocalDate startDate, int frequencyMonths, DayCountConvention convention,
+            LocalDate endDate) {
+        if (maxEntries > 0) {
+            PeriodTable table = getOrBuild(new Key(startDate, frequencyMonths, convention));
+            if (table.covers(endDate)) {
+                return table;
+            }
+        }
+        return PeriodTable.build(startDate, frequencyMonths, convention,
+                periodsToCover(startDate, frequencyMonths, endDate));
+    }
+
+    private PeriodTable getOrBuild(Key key) {
+        synchronized (tables) {
+            PeriodTable table = tables.get(key);
+            if (table == null) {
+                table = PeriodTable.build(key.startDate(), key.frequencyMonths(), key.convention(),
+                        HORIZON_MONTHS / key.frequencyMonths());
+                tables.put(key, table);
+            }
+            return table;
+        }
+    }
+
+    /**
+     * 保持している表の数
+     */
+    public int size() {
+        synchronized (tables) {
+            return tables.size();
+        }
+    }
+
+    /**
+     * 満期日を含む期間までの期間数（月末による期日のずれを見込んで1期間余分に含める）
+     */
+    private static int periodsToCover(LocalDate startDate, int frequencyMonths, LocalDate endDate) {
+        long months = Math.max(0, startDate.until(endDate).toTotalMonths());
+        return (int) (months / frequencyMonths) + 2;
+    }
+
+    private record Key(LocalDate startDate, int frequencyMonths, DayCountConvention convention) {
+    }
+}
@@ -0,0 +1,263 @@
+package com.syndicated_loan.syndicated_loan.common.calculation;
+
+import com.syndicated_loan.syndicated_loan.common.exception.BusinessException;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 金額を重みに比例して配分する計算エンジン。
+ *
+ * <p>
+ * 金額はDBの{@code precision = 19, scale = 4}に合わせ、小数点以下4桁でスケーリングした
+ * {@code long}（例: 1.2345 → 12345）として扱います。各配分は
+ * {@code total * weight / totalWeight}の切り捨てで求め、切り捨てで生じた端数は
+ * 剰余の大きい順に最小単位（0.0001）ずつ割り当てる最大剰余方式で配分します。
+ * これにより、配分の合計は常に元の金額と一致します。
+ * </p>
+ *
+ * <p>
+ * {@code total * weight}は64bitを超え得るため、128bitの積と128bit÷64bitの除算で
+ * 正確に計算します。配列版の{@link #allocate(long, long[], int, long[], long[])}は
+ * 呼び出し側が作業領域を渡すことで、計算中にオブジェクトを生成しません。
+ * </p>
+ */
+public final class ProRataAllocator {
+
+    /**
+     * 金額のスケール（小数点以下の桁数）
+     */
+    public static final int SCALE = 4;
+
+    /**
+     * 32bitの基数（128bit÷64bitの除算で使用）
+     */
+    private static final long BASE = 1L << 32;
+
+    /**
+     * 下位32bitのマスク
+     */
+    private static final long LOW_MASK = 0xFFFFFFFFL;
+
+    private ProRataAllocator() {
+    }
+
+    /**
+     * スケーリング済みの金額を重みに比例して配分します。
+     * 配分の合計は常に{@code total}と一致します。
+     *
+     * @param total      配分する金額（スケーリング済み）
+     * @param weights    配分の重み（0以上、スケーリングは任意）
+     * @param length     配分対象の件数（配列の先頭から）
+     * @param parts      配分結果の格納先
+     * @param scratch    作業領域（{@code length * 2}以上の長さ）
+     * @throws BusinessException 重みが負、または重みの合計が0の場合
+     */
+    public static void allocate(long total, long[] weights, int length, long[] parts, long[] scratch) {
+        long totalWeight = 0;
+        for (int i = 0; i < length; i++) {
+            if (weights[i] < 0) {
+                throw new BusinessException("Distribution weight cannot be negative", "INVALID_DISTRIBUTION_WEIGHT");
+            }
+            totalWeight = Math.addExact(totalWeight, weights[i]);
+        }
+        if (totalWeight == 0) {
+            throw new BusinessException("Total distribution weight must be positive", "INVALID_DISTRIBUTION_WEIGHT");
+        }
+
+        // 負の金額は絶対値で配分して符号を戻す
+        long magnitude = Math.absExact(total);
+        long allocated = 0;
+        for (int i = 0; i < length; i++) {
+            long high = Math.multiplyHigh(magnitude, weights[i]);
+            long low = magnitude * weights[i];
+            if (high == 0 && low >= 0) {
+                parts[i] = low / totalWeight;
+                scratch[i] = low % totalWeight;
+            } else {
+                parts[i] = divideUnsigned128(high, low, totalWeight, scratch, i);
+            }
+            allocated += parts[i];
+        }
+
+        // 端数（件数未満）を剰余の大きい順に最小単位ずつ割り当てる（同率の場合は先頭を優先）
+        int leftover = (int) (magnitude - allocated);
+        if (leftover > 0) {
+            System.arraycopy(scratch, 0, scratch, length, length);
+            long threshold = selectKthLargest(scratch, length, length, leftover);
+            int aboveThreshold = 0;
+            for (int i = 0; i < length; i++) {
+                if (scratch[i] > threshold) {
+                    aboveThreshold++;
+                }
+            }
+            int atThreshold = leftover - aboveThreshold;
+            for (int i = 0; i < length; i++) {
+                if (scratch[i] > threshold) {
+                    parts[i]++;
+                } else if (scratch[i] == threshold && atThreshold > 0) {
+                    parts[i]++;
+                    atThreshold--;
+                }
+            }
+        }
+
+        if (total < 0) {
+            for (int i = 0; i < length; i++) {
+                parts[i] = -parts[i];
+            }
+        }
+    }
+
+    /**
+     * 金額を重みに比例して投資家ごとに配分します。
+     * 端数の割り当て順を一定にするため、投資家IDの昇順で計算します。
+     *
+     * @param total   配分する金額
+     * @param weights 投資家IDをキー、重み（金額やシェア）を値とするマップ
+     * @return 投資家IDをキー、小数点以下4桁の配分額を値とするマップ（投資家IDの昇順）
+     * @throws BusinessException 重みが負、または重みの合計が0の場合
+     */
+    public static Map<Long, BigDecimal> allocate(BigDecimal total, Map<Long, BigDecimal> weights) {
+        int length = weights.size();
+        long[] investorIds = new long[length];
+        int index = 0;
+        for (Long investorId : weights.keySet()) {
+            investorIds[index++] = investorId;
+        }
+        Arrays.sort(investorIds);
+
+        long[] scaledWeights = new long[length];
+        for (int i = 0; i < length; i++) {
+            scaledWeights[i] = toScaled(weights.get(investorIds[i]));
+        }
+
+        long[] parts = new long[length];
+        allocate(toScaled(total), scaledWeights, length, parts, new long[length * 2]);
+
+        Map<Long, BigDecimal> distribution = new LinkedHashMap<>();
+        for (int i = 0; i < length; i++) {
+            distribution.put(investorIds[i], fromScaled(parts[i]));
+        }
+        return distribution;
+    }
+
+    /**
+     * 金額を小数点以下4桁でスケーリングした値に変換します
+     *
+     * @param amount 金額
+     * @return スケーリング済みの金額（4桁を超える端数は四捨五入）
+     * @throws ArithmeticException {@code long}の範囲を超える場合
+     */
+    public static long toScaled(BigDecimal amount) {
+        return amount.setScale(SCALE, RoundingMode.HALF_UP).movePointRight(SCALE).longValueExact();
+    }
+
+    /**
+     * スケーリング済みの値を金額に変換します
+     *
+     * @param scaled スケーリング済みの金額
+     * @return 小数点以下4桁の金額
+     */
+    public static BigDecimal fromScaled(long scaled) {
+        return BigDecimal.valueOf(scaled, SCALE);
+    }
+
+    /**
+     * 配列の指定範囲からk番目に大きい値を求めます（クイックセレクト、範囲内の順序は破壊されます）
+     *
+     * @param values 値の配列
+     * @param from   範囲の開始位置
+     * @param length 範囲の長さ
+     * @param k      求める順位（1以上{@code length}以下）
+     * @return k番目に大きい値
+     */
+    private static long selectKthLargest(long[] values, int from, int length, int k) {
+        int left = from;
+        int right = from + length - 1;
+        int target = from + k - 1;
+        while (left < right) {
+            long pivot = values[(left + right) >>> 1];
+            int i = left;
+            int j = right;
+            while (i <= j) {
+                while (values[i] > pivot) {
+                    i++;
+                }
+                while (values[j] < pivot) {
+                    j--;
+                }
+                if (i <= j) {
+                    long swap = values[i];
+                    values[i] = values[j];
+                    values[j] = swap;
+                    i++;
+                    j--;
+                }
+            }
+            if (target <= j) {
+                right = j;
+            } else if (target >= i) {
+                left = i;
+            } else {
+                break;
+            }
+        }
+        return values[target];
+    }
+
+    /**
+     * 128bitの符号なし整数（high:low）を64bitの符号なし整数で除算します。
+     * Hacker's Delightのdivluに基づく実装で、{@code high < divisor}（符号なし）を前提とします。
+     *
+     * @param high       被除数の上位64bit
+     * @param low        被除数の下位64bit
+     * @param divisor    除数
+     * @param remainders 剰余の格納先
+     * @param index      剰余を格納する位置
+     * @return 商
+     */
+    private static long divideUnsigned128(long high, long low, long divisor, long[] remainders, int index) {
+        // 除数の最上位bitが立つよう正規化する
+        int shift = Long.numberOfLeadingZeros(divisor);
+        long normalizedDivisor = divisor << shift;
+        long divisorHigh = normalizedDivisor >>> 32;
+        long divisorLow = normalizedDivisor & LOW_MASK;
+
+        long numerator32 = shift == 0 ? high : (high << shift) | (low >>> (64 - shift));
+        long numerator10 = low << shift;
+        long numerator1 = numerator10 >>> 32;
+        long numerator0 = numerator10 & LOW_MASK;
+
+        // 商の上位32bit
+        long quotient1 = Long.divideUnsigned(numerator32, divisorHigh);
+        long remainderHat = Long.remainderUnsigned(numerator32, divisorHigh);
+        while (Long.compareUnsigned(quotient1, BASE) >= 0
+                || Long.compareUnsigned(quotient1 * divisorLow, BASE * remainderHat + numerator1) > 0) {
+            quotient1--;
+            remainderHat += divisorHigh;
+            if (Long.compareUnsigned(remainderHat, BASE) >= 0) {
+                break;
+            }
+        }
+
+        // 商の下位32bit
+        long numerator21 = numerator32 * BASE + numerator1 - quotient1 * normalizedDivisor;
+        long quotient0 = Long.divideUnsigned(numerator21, divisorHigh);
+        remainderHat = Long.remainderUnsigned(numerator21, divisorHigh);
+        while (Long.compareUnsigned(quotient0, BASE) >= 0
+                || Long.compareUnsigned(quotient0 * divisorLow, BASE * remainderHat + numerator0) > 0) {
+            quotient0--;
+            remainderHat += divisorHigh;
+            if (Long.compareUnsigned(remainderHat, BASE) >= 0) {
+                break;
+            }
+        }
+
+        remainders[index] = (numerator21 * BASE + numerator0 - quotient0 * normalizedDivisor) >>> shift;
+        return quotient1 * BASE + quotient0;
+    }
+}
@@ -0,0 +1,221 @@
+package com.syndicated_loan.syndicated_loan.common.calculation;
+
+import com.syndicated_loan.syndicated_loan.common.entity.Loan;
+import com.syndicated_loan.syndicated_loan.common.entity.RepaymentSchedule;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ローンの返済スケジュールを計算するエンジン。
+ *
+ * <p>
+ * 開始日から3ヶ月ごと（最終回は満期日まで）の利払いと、ローンの返済方式（{@link AmortizationProfile}）に
+ * 応じた元本返済を1回の走査で求めます。各回の利息は{@code 年利息 × 期間日数 / 年日数}
+ * （小数点以下4桁、四捨五入）で、期間日数と年日数はローンの日数計算方式（{@link DayCountConvention}）に従います。
+ * 返済方式・日数計算方式が未設定のローンは、満期一括返済・ACTUAL/365として扱います。
+ * </p>
+ *
+ * <p>
+ * 利払期日と期間日数は{@link PeriodTableCache}で開始日・間隔・方式ごとに共有するため、
+ * 暦の計算はローンごとには行いません。満期一括返済では年利息をローンごとに1回だけ計算し、
+ * 期間利息は日数ごとに一度計算した値を再利用します。
+ * </p>
+ *
+ * <p>
+ * ローンのフィールドを読むだけで状態を持たないため、複数のローンを並列に計算できます。
+ * 生成したスケジュールは{@link RepaymentSchedule#getLoan()}のみを設定し、
+ * ローン側のコレクションには追加しません。永続化の方法は呼び出し側が決めます。
+ * </p>
+ */
+public final class RepaymentScheduleGenerator {
+
+    /**
+     * 利払いの間隔（月）
+     */
+    public static final int INTEREST_INTERVAL_MONTHS = 3;
+
+    /**
+     * 期間利息を日数ごとに保持する配列の長さ（利払い間隔の最大日数 + 1）
+     */
+    private static final int MAX_PERIOD_DAYS = INTEREST_INTERVAL_MONTHS * 31 + 1;
+
+    private static final BigDecimal HUNDRED = BigDecimal.valueOf(100);
+
+    /**
+     * アプリケーション全体で共有する利払期間の表
+     */
+    private static final PeriodTableCache SHARED_TABLES =
+            new PeriodTableCache(PeriodTableCache.DEFAULT_MAX_ENTRIES);
+
+    private RepaymentScheduleGenerator() {
+    }
+
+    /**
+     * ローンの返済スケジュールを生成します（共有の利払期間の表を使用）
+     *
+     * @param loan 対象のローン（開始日・満期日・総額・金利が設定済み）
+     * @return 生成した返済スケジュール
+     */
+    public static List<RepaymentSchedule> generate(Loan loan) {
+        return generate(loan, SHARED_TABLES);
+    }
+
+    /**
+     * ローンの返済スケジュールを生成します。
+     * 満期一括返済では先頭が満期日の元本返済、以降が日付順の利払いとなります。
+     * それ以外の方式では利払日ごとに利払い・元本返済の順に並びます。
+     *
+     * @param loan   対象のローン（開始日・満期日・総額・金利が設定済み）
+     * @param tables 利払期間の表のキャッシュ
+     * @return 生成した返済スケジュール
+     */
+    public static List<RepaymentSchedule> generate(Loan loan, PeriodTableCache tables) {
+        LocalDate startDate = loan.getStartDate();
+        LocalDate endDate = loan.getEndDate();
+        DayCountConvention convention = DayCountConvention.orDefault(loan.getDayCountConvention());
+        AmortizationProfile profile = AmortizationProfile.orDefault(loan.getAmortizationProfile());
+
+        PeriodTable table = tables.get(startDate, INTEREST_INTERVAL_MONTHS, convention, endDate);
+        int periods = startDate.isBefore(endDate) ? table.countPeriodsBefore(endDate) + 1 : 0;
+        Periods schedulePeriods = new Periods(table, periods, endDate);
+
+        List<RepaymentSchedule> schedules = new ArrayList<>(
+                periods * (profile == AmortizationProfile.BULLET ? 1 : 2) + 1);
+        if (profile == AmortizationProfile.BULLET || periods == 0) {
+            generateBullet(loan, schedulePeriods, schedules);
+        } else {
+            generateAmortizing(loan, profile, schedulePeriods, schedules);
+        }
+        return schedules;
+    }
+
+    /**
+     * 満期一括返済（利息は借入総額に対して計算）
+     */
+    private static void generateBullet(Loan loan, Periods periods, List<RepaymentSchedule> schedules) {
+        schedules.add(newSchedule(loan, periods.endDate, RepaymentSchedule.PaymentType.PRINCIPAL,
+                loan.getTotalAmount(), null));
+
+        // 年利息はローンごとに1回だけ計算する
+        BigDecimal yearlyInterest = yearlyInterest(loan.getTotalAmount(), loan.getInterestRate());
+        BigDecimal[] interestByDays = new BigDecimal[MAX_PERIOD_DAYS];
+        DayCountConvention convention = periods.table.getConvention();
+        for (int i = 0; i < periods.count; i++) {
+            int dayCount = periods.dayCount(i);
+            BigDecimal interest = dayCount < interestByDays.length ? interestByDays[dayCount] : null;
+            if (interest == null) {
+                interest = convention.periodInterest(yearlyInterest, dayCount);
+                if (dayCount < interestByDays.length) {
+                    interestByDays[dayCount] = interest;
+                }
+            }
+            schedules.add(newSchedule(loan, periods.endDate(i), RepaymentSchedule.PaymentType.INTEREST,
+                    null, interest));
+        }
+    }
+
+    /**
+     * 元金均等・元利均等返済（利息は期首の元本残高に対して計算）
+     */
+    private static void generateAmortizing(Loan loan, AmortizationProfile profile, Periods periods,
+            List<RepaymentSchedule> schedules) {
+        DayCountConvention convention = periods.table.getConvention();
+        BigDecimal outstanding = loan.getTotalAmount();
+        BigDecimal levelPrincipal = outstanding.divide(BigDecimal.valueOf(periods.count), 4, RoundingMode.DOWN);
+        BigDecimal levelPayment = profile == AmortizationProfile.ANNUITY
+                ? annuityPayment(outstanding, loan.getInterestRate(), periods.count)
+                : null;
+
+        for (int i = 0; i < periods.count; i++) {
+            LocalDate paymentDate = periods.endDate(i);
+            BigDecimal interest = convention.periodInterest(
+                    yearlyInterest(outstanding, loan.getInterestRate()), periods.dayCount(i));
+            schedules.add(newSchedule(loan, paymentDate, RepaymentSchedule.PaymentType.INTEREST, null, interest));
+
+            BigDecimal principal;
+            if (i == periods.count - 1) {
+                principal = outstanding;
+            } else if (levelPayment != null) {
+                principal = levelPayment.subtract(interest).max(BigDecimal.ZERO).min(outstanding);
+            } else {
+                principal = levelPrincipal;
+            }
+            if (principal.signum() > 0) {
+                schedules.add(newSchedule(loan, paymentDate, RepaymentSchedule.PaymentType.PRINCIPAL,
+                        principal, null));
+                outstanding = outstanding.subtract(principal);
+            }
+        }
+    }
+
+    /**
+     * 元本に対する年利息（小数点以下10桁）
+     */
+    private static BigDecimal yearlyInterest(BigDecimal principal, BigDecimal interestRate) {
+        return principal.multiply(interestRate).divide(HUNDRED, 10, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * 利払い間隔の名目利率による元利均等返済の毎回の返済額（金利0の場合は元金均等と同じ）
+     */
+    private static BigDecimal annuityPayment(BigDecimal principal, BigDecimal interestRate, int periods) {
+        BigDecimal rate = interestRate
+                .multiply(BigDecimal.valueOf(INTEREST_INTERVAL_MONTHS))
+                .divide(BigDecimal.valueOf(1200), MathContext.DECIMAL128);
+        if (rate.signum() == 0) {
+            return principal.divide(BigDecimal.valueOf(periods), 4, RoundingMode.DOWN);
+        }
+        BigDecimal growth = BigDecimal.ONE.add(rate).pow(periods, MathContext.DECIMAL128);
+        // P * r * (1 + r)^n / ((1 + r)^n - 1)
+        return principal.multiply(rate).multiply(growth)
+                .divide(growth.subtract(BigDecimal.ONE), 4, RoundingMode.HALF_UP);
+    }
+
+    private static RepaymentSchedule newSchedule(Loan loan, LocalDate scheduledDate,
+            RepaymentSchedule.PaymentType paymentType, BigDecimal principalAmount, BigDecimal interestAmount) {
+        RepaymentSchedule schedule = new RepaymentSchedule();
+        schedule.setLoan(loan);
+        schedule.setScheduledDate(scheduledDate);
+        schedule.setPrincipalAmount(principalAmount);
+        schedule.setInterestAmount(interestAmount);
+        schedule.setPaymentType(paymentType);
+        return schedule;
+    }
+
+    /**
+     * ローンの利払期間（表の期間のうち満期日より前に終わるもの + 満期日で終わる最終期間）
+     */
+    private static final class Periods {
+        private final PeriodTable table;
+        private final int count;
+        private final LocalDate endDate;
+        private final int lastDayCount;
+
+        Periods(PeriodTable table, int count, LocalDate endDate) {
+            this.table = table;
+            this.count = count;
+            this.endDate = endDate;
+            if (count == 0) {
+                this.lastDayCount = 0;
+            } else if (table.periodEndDate(count - 1).equals(endDate)) {
+                this.lastDayCount = table.dayCount(count - 1);
+            } else {
+                // 満期日が利払期日と一致しない場合の端数期間
+                this.lastDayCount = table.getConvention().dayCount(table.periodStartDate(count - 1), endDate);
+            }
+        }
+
+        LocalDate endDate(int i) {
+            return i == count - 1 ? endDate : table.periodEndDate(i);
+        }
+
+        int dayCount(int i) {
+            return i == count - 1 ? lastDayCount : table.dayCount(i);
+        }
+    }
+}
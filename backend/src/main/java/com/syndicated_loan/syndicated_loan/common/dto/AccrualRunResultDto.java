@@ -0,0 +1,29 @@
+package com.syndicated_loan.syndicated_loan.common.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 利息発生バッチの実行結果
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AccrualRunResultDto {
+    private LocalDate accrualDate;
+    private String status;
+    // 再開した場合、前回までに処理済みの最大ローンID（新規実行の場合は0）
+    private Long resumedAfterLoanId;
+    // 今回の実行で処理したチャンク数・書き込んだ件数
+    private int chunks;
+    private long rowsWritten;
+    // 計上日の累計件数（前回までの実行分を含む）
+    private long totalRowsWritten;
+    private long elapsedMillis;
+    private double rowsPerSecond;
+}
@@ -0,0 +1,28 @@
+package com.syndicated_loan.syndicated_loan.common.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 指定時点の口座の残高
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BalanceAsOfDto {
+    // FACILITY（利用可能額）・LOAN（元本残高）・INVESTOR（現在の投資額）
+    private String accountType;
+    private Long accountId;
+    private LocalDateTime asOf;
+    private BigDecimal balance;
+    // 基準日時以前で最後に残高が変わった取引日（変更が無い場合はnull）
+    private LocalDateTime lastChangedAt;
+    // 変更履歴の件数（取引日ごとに1件）
+    private int changes;
+}
@@ -0,0 +1,24 @@
+package com.syndicated_loan.syndicated_loan.common.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 二次キャッシュのリージョンごとの集計（アプリケーション起動後の累計）
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CacheRegionStatisticsDto {
+    private String region;
+    private long hitCount;
+    private long missCount;
+    private long putCount;
+    // ヒット数 / (ヒット数 + ミス数)。参照がない場合は0
+    private double hitRatio;
+    // キャッシュ内の件数（取得できない場合は-1）
+    private long elementCountInMemory;
+}
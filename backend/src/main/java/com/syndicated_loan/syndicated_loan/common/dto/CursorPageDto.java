@@ -0,0 +1,25 @@
+package com.syndicated_loan.syndicated_loan.common.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * キーセット（カーソル）方式のページング結果
+ *
+ * @param <D>  DTOの型
+ * @param <ID> IDの型
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CursorPageDto<D, ID> {
+    private List<D> content;
+    // 次ページ取得時に指定するカーソル（このページの最後のID）
+    private ID nextCursor;
+    private boolean hasNext;
+}
@@ -0,0 +1,24 @@
+package com.syndicated_loan.syndicated_loan.common.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * ドローダウン一括実行における1件ごとの結果
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DrawdownExecutionResultDto {
+    private Long drawdownId;
+    private Long facilityId;
+    private boolean executed;
+    // 失敗時のみ設定
+    private String errorCode;
+    private String errorMessage;
+    // 成功時のみ設定（実行後のドローダウン）
+    private DrawdownDto drawdown;
+}
@@ -0,0 +1,33 @@
+package com.syndicated_loan.syndicated_loan.common.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * ファシリティの利用状況
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FacilitySummaryDto {
+    private Long facilityId;
+    private BigDecimal totalAmount;
+    private BigDecimal availableAmount;
+    private BigDecimal drawnAmount;
+    private BigDecimal repaidAmount;
+    // ローンの元本残高の合計
+    private BigDecimal outstandingAmount;
+    private long executedDrawdowns;
+    // 利用率（%）
+    private BigDecimal utilizationRate;
+    private LocalDateTime updatedAt;
+    // 投資家ごとのエクスポージャー（一覧では含めない）
+    private List<InvestorExposureSummaryDto> exposures;
+}
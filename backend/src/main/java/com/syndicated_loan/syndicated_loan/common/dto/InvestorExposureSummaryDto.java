@@ -0,0 +1,23 @@
+package com.syndicated_loan.syndicated_loan.common.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 投資家のファシリティごとのエクスポージャー
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class InvestorExposureSummaryDto {
+    private Long investorId;
+    private Long facilityId;
+    private BigDecimal exposure;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,22 @@
+package com.syndicated_loan.syndicated_loan.common.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * 仕訳から再構築した口座の残高
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class JournalBalanceDto {
+    // FACILITY（利用可能額）・LOAN（元本残高）・INVESTOR（現在の投資額）
+    private String accountType;
+    private Long accountId;
+    private BigDecimal balance;
+}
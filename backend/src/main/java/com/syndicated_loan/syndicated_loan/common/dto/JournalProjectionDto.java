@@ -0,0 +1,25 @@
+package com.syndicated_loan.syndicated_loan.common.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * スナップショットと仕訳の再生による残高の再構築結果
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class JournalProjectionDto {
+    // 起点としたスナップショットの通番（スナップショットを使わなかった場合は0）
+    private long snapshotSequence;
+    // 再構築した時点の通番（この通番までの仕訳を反映する）
+    private long upToSequence;
+    // スナップショット以降に再生した仕訳の件数
+    private long replayedEntries;
+    private List<JournalBalanceDto> balances;
+}
@@ -0,0 +1,27 @@
+package com.syndicated_loan.syndicated_loan.common.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 仕訳から再構築した残高による復元結果
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class JournalRestoreResultDto {
+    // 復元に使用したスナップショットの通番と、反映した最後の仕訳の通番
+    private long snapshotSequence;
+    private long upToSequence;
+    private long replayedEntries;
+    // 残高を書き戻した口座の件数（削除済みの口座は含まない）
+    private int facilities;
+    private int loans;
+    private int investors;
+    // 書き戻さなかった口座の件数（削除済み、または開設時の仕訳が無い口座）
+    private int skipped;
+    private long elapsedMillis;
+}
@@ -0,0 +1,24 @@
+package com.syndicated_loan.syndicated_loan.common.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 仕訳のスナップショット作成結果
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class JournalSnapshotResultDto {
+    // スナップショットに含まれる最後の仕訳の通番
+    private long lastSequence;
+    // 起点とした前回のスナップショットの通番（無い場合は0）
+    private long previousSequence;
+    // 作成した口座残高の件数（作成済みの場合は0）
+    private int accounts;
+    private boolean created;
+    private long elapsedMillis;
+}
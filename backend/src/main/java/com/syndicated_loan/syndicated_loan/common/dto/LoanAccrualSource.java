@@ -0,0 +1,22 @@
+package com.syndicated_loan.syndicated_loan.common.dto;
+
+import com.syndicated_loan.syndicated_loan.common.calculation.DayCountConvention;
+
+import lombok.AllArgsConstructor;
+import lombok.Value;
+
+import java.math.BigDecimal;
+
+/**
+ * 利息発生バッチの計算対象（ローンから必要な列のみを読み込んだもの）
+ */
+@Value
+@AllArgsConstructor
+public class LoanAccrualSource {
+    Long loanId;
+    // 元本残高
+    BigDecimal amount;
+    BigDecimal interestRate;
+    // 未設定の場合はnull
+    DayCountConvention dayCountConvention;
+}
@@ -1,5 +1,8 @@
 package com.syndicated_loan.syndicated_loan.common.dto;
 
+import com.syndicated_loan.syndicated_loan.common.calculation.AmortizationProfile;
+import com.syndicated_loan.syndicated_loan.common.calculation.DayCountConvention;
+
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
@@ -25,6 +28,8 @@ public class LoanDto {
     private Long sharePieId;
     private Long version;
     private Integer term; // 追加！期間（月数）
+    private DayCountConvention dayCountConvention; // 利息の日数計算方式（未設定の場合はACTUAL/365）
+    private AmortizationProfile amortizationProfile; // 元本の返済方式（未設定の場合は満期一括返済）
 
     // レスポンス用の追加フィールド
     private BorrowerDto borrower;
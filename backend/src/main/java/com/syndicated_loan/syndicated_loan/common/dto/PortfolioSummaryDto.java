@@ -0,0 +1,26 @@
+package com.syndicated_loan.syndicated_loan.common.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * ポートフォリオ全体の利用状況
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PortfolioSummaryDto {
+    private long facilities;
+    private BigDecimal totalAmount;
+    private BigDecimal availableAmount;
+    // ローンの元本残高の合計
+    private BigDecimal outstandingAmount;
+    private long executedDrawdowns;
+    // 利用率（%）
+    private BigDecimal utilizationRate;
+}
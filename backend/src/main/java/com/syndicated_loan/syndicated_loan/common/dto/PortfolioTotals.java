@@ -0,0 +1,19 @@
+package com.syndicated_loan.syndicated_loan.common.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Value;
+
+import java.math.BigDecimal;
+
+/**
+ * ファシリティの集計テーブルの合計（集計行が無い場合、件数以外はnull）
+ */
+@Value
+@AllArgsConstructor
+public class PortfolioTotals {
+    Long facilities;
+    BigDecimal totalAmount;
+    BigDecimal availableAmount;
+    BigDecimal outstandingAmount;
+    Long executedDrawdowns;
+}
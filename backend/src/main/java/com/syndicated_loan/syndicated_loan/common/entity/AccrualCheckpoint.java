@@ -0,0 +1,41 @@
+package com.syndicated_loan.syndicated_loan.common.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// 利息発生バッチの進捗（計上日ごと）。チャンクの書き込みと同じトランザクションで更新する
+@Entity
+@Table(name = "accrual_checkpoint")
+@Getter
+@Setter
+public class AccrualCheckpoint {
+    @Id
+    @Column(name = "accrual_date")
+    private LocalDate accrualDate;
+
+    // 処理済みの最大ローンID（再開時はこれより大きいIDから処理する）
+    @Column(name = "last_loan_id", nullable = false)
+    private Long lastLoanId = 0L;
+
+    @Column(name = "rows_written", nullable = false)
+    private Long rowsWritten = 0L;
+
+    @Column(nullable = false)
+    @Enumerated(EnumType.STRING)
+    private Status status = Status.RUNNING;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Version
+    private Long version;
+
+    public enum Status {
+        RUNNING,
+        COMPLETED
+    }
+}
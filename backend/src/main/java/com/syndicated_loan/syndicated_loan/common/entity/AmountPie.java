@@ -1,10 +1,15 @@
 package com.syndicated_loan.syndicated_loan.common.entity;
 
 import jakarta.persistence.*;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 
+import org.hibernate.annotations.Mutability;
+import org.hibernate.type.descriptor.java.Immutability;
+
 import java.math.BigDecimal;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -12,20 +17,45 @@ import java.util.Map;
 @Getter
 @Setter
 public class AmountPie {
+    // INSERTをJDBCバッチで送れるよう、シーケンスからIDをまとめて採番する
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "amount_pie_seq")
+    @SequenceGenerator(name = "amount_pie_seq", sequenceName = "amount_pie_seq", allocationSize = 50)
     private Long id;
 
+    // 投資家ごとの金額（1行で読み込めるよう1カラムに圧縮して保持する。読み込みはこちらを使用）
+    @Convert(converter = PieAllocationConverter.class)
+    @Mutability(Immutability.class)
+    @Column(name = "allocation", length = 65536)
+    @Setter(AccessLevel.NONE)
+    private PieAllocation allocation;
+
+    // 投資家ID・金額による検索用の明細（allocationと差分同期する。allocation導入前のデータの移行元）
     @ElementCollection
     @CollectionTable(name = "amount_pie_entries",
-            joinColumns = @JoinColumn(name = "amount_pie_id"))
+            joinColumns = @JoinColumn(name = "amount_pie_id"), indexes = {
+                    // 投資家・金額による金額ピースの検索用
+                    @Index(name = "idx_amount_pie_entries_investor_amount", columnList = "investor_id, amount"),
+                    @Index(name = "idx_amount_pie_entries_amount", columnList = "amount")
+            })
     @MapKeyColumn(name = "investor_id")
     @Column(name = "amount", nullable = false, precision = 19, scale = 4)
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
     private Map<Long, BigDecimal> amounts = new HashMap<>();
 
     @Version
     private Long version;
 
-    @OneToOne(mappedBy = "amountPie")
-    private Transaction transaction;
+    public Map<Long, BigDecimal> getAmounts() {
+        if (allocation == null) {
+            return Collections.unmodifiableMap(amounts);
+        }
+        return allocation.toMap();
+    }
+
+    public void setAmounts(Map<Long, BigDecimal> amounts) {
+        allocation = PieAllocation.of(amounts);
+        allocation.syncTo(this.amounts);
+    }
 }
@@ -1,10 +1,22 @@
 package com.syndicated_loan.syndicated_loan.common.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import lombok.Getter;
 import lombok.Setter;
 
+// 参照が多く更新の少ないマスタデータのため二次キャッシュに保持する（@Versionで古いエントリの書き戻しを防ぐ）
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "master-borrower")
+@Table(name = "borrower", indexes = {
+        // 名前・業種・格付・企業形態による借入人の検索用
+        @Index(name = "idx_borrower_name", columnList = "name"),
+        @Index(name = "idx_borrower_industry_rating", columnList = "industry, credit_rating"),
+        @Index(name = "idx_borrower_credit_rating", columnList = "credit_rating"),
+        @Index(name = "idx_borrower_company_type", columnList = "company_type")
+})
 @Getter
 @Setter
 public class Borrower {
@@ -7,6 +7,20 @@ import lombok.Setter;
 import java.math.BigDecimal;
 
 @Entity
+@NamedEntityGraph(name = "Drawdown.forDto", attributeNodes = {
+        @NamedAttributeNode("relatedPosition"),
+        @NamedAttributeNode("amountPie"),
+        @NamedAttributeNode(value = "relatedFacility", subgraph = "facility")
+}, subgraphs = @NamedSubgraph(name = "facility", attributeNodes = {
+        @NamedAttributeNode("syndicate"),
+        @NamedAttributeNode("sharePie"),
+        @NamedAttributeNode("borrower")
+}))
+@Table(name = "drawdown", indexes = {
+        // ファシリティ単位・金額によるドローダウンの検索用
+        @Index(name = "idx_drawdown_facility_amount", columnList = "facility_id, drawdown_amount"),
+        @Index(name = "idx_drawdown_amount", columnList = "drawdown_amount")
+})
 @Getter
 @Setter
 public class Drawdown extends Transaction {
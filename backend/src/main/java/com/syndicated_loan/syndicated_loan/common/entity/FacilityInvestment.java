@@ -7,6 +7,16 @@ import lombok.Setter;
 import java.math.BigDecimal;
 
 @Entity
+@NamedEntityGraph(name = "FacilityInvestment.forDto", attributeNodes = {
+        @NamedAttributeNode("relatedPosition"),
+        @NamedAttributeNode("amountPie"),
+        @NamedAttributeNode("investor")
+})
+@Table(name = "facility_investment", indexes = {
+        // 投資家・金額による出資の検索用
+        @Index(name = "idx_facility_investment_investor", columnList = "investor_id"),
+        @Index(name = "idx_facility_investment_amount", columnList = "investment_amount")
+})
 @Getter
 @Setter
 public class FacilityInvestment extends Transaction {
@@ -0,0 +1,48 @@
+package com.syndicated_loan.syndicated_loan.common.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+// ファシリティごとの利用状況の集計（ダッシュボード用）。取引の実行時に差分で更新する
+@Entity
+@Table(name = "facility_summary", indexes = {
+        // 利用率の高い順の一覧用
+        @Index(name = "idx_facility_summary_utilization", columnList = "utilization_rate")
+})
+@Getter
+@Setter
+public class FacilitySummary {
+    @Id
+    @Column(name = "facility_id")
+    private Long facilityId;
+
+    @Column(name = "total_amount", nullable = false, precision = 19, scale = 4)
+    private BigDecimal totalAmount;
+
+    @Column(name = "available_amount", nullable = false, precision = 19, scale = 4)
+    private BigDecimal availableAmount;
+
+    // 実行済みドローダウンの累計額・実行済み元本返済の累計額と、その差額（ローンの元本残高の合計）
+    @Column(name = "drawn_amount", nullable = false, precision = 19, scale = 4)
+    private BigDecimal drawnAmount;
+
+    @Column(name = "repaid_amount", nullable = false, precision = 19, scale = 4)
+    private BigDecimal repaidAmount;
+
+    @Column(name = "outstanding_amount", nullable = false, precision = 19, scale = 4)
+    private BigDecimal outstandingAmount;
+
+    @Column(name = "executed_drawdowns", nullable = false)
+    private Long executedDrawdowns;
+
+    // 利用率（%）。(総額 - 利用可能額) / 総額 × 100
+    @Column(name = "utilization_rate", nullable = false, precision = 9, scale = 4)
+    private BigDecimal utilizationRate;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -7,6 +7,18 @@ import lombok.Setter;
 import java.math.BigDecimal;
 
 @Entity
+@NamedEntityGraph(name = "FacilityTrade.forDto", attributeNodes = {
+        @NamedAttributeNode("relatedPosition"),
+        @NamedAttributeNode("amountPie"),
+        @NamedAttributeNode("seller"),
+        @NamedAttributeNode("buyer")
+})
+@Table(name = "facility_trade", indexes = {
+        // 売り手・買い手・金額による売買の検索用
+        @Index(name = "idx_facility_trade_seller", columnList = "seller_id"),
+        @Index(name = "idx_facility_trade_buyer", columnList = "buyer_id"),
+        @Index(name = "idx_facility_trade_amount", columnList = "trade_amount")
+})
 @Getter
 @Setter
 public class FacilityTrade extends Transaction {
@@ -7,6 +7,21 @@ import lombok.Setter;
 import java.math.BigDecimal;
 
 @Entity
+@NamedEntityGraph(name = "FeePayment.forDto", attributeNodes = {
+        @NamedAttributeNode("relatedPosition"),
+        @NamedAttributeNode("amountPie"),
+        @NamedAttributeNode(value = "facility", subgraph = "facility")
+}, subgraphs = @NamedSubgraph(name = "facility", attributeNodes = {
+        @NamedAttributeNode("syndicate"),
+        @NamedAttributeNode("sharePie"),
+        @NamedAttributeNode("borrower")
+}))
+@Table(name = "fee_payment", indexes = {
+        // ファシリティ単位・手数料種別・金額による手数料支払の検索用
+        @Index(name = "idx_fee_payment_facility_type", columnList = "facility_id, fee_type"),
+        @Index(name = "idx_fee_payment_fee_type", columnList = "fee_type"),
+        @Index(name = "idx_fee_payment_amount", columnList = "payment_amount")
+})
 @Getter
 @Setter
 public class FeePayment extends Transaction {
@@ -0,0 +1,39 @@
+package com.syndicated_loan.syndicated_loan.common.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+// Idempotency-Keyごとのリクエストの指紋と、完了したリクエストのレスポンス（DBを使うIdempotencyStore用）
+@Entity
+@Table(name = "idempotent_request", indexes = {
+        // 期限切れの行の削除用
+        @Index(name = "idx_idempotent_request_expires_at", columnList = "expires_at")
+})
+@Getter
+@Setter
+public class IdempotentRequest {
+    @Id
+    @Column(name = "idempotency_key", length = 255)
+    private String idempotencyKey;
+
+    // メソッド・パス・本文のSHA-256
+    @Column(nullable = false, length = 64)
+    private String fingerprint;
+
+    // 処理中の場合はnull
+    @Column(name = "status_code")
+    private Integer statusCode;
+
+    @Column(name = "content_type")
+    private String contentType;
+
+    @Lob
+    @Column(name = "response_body")
+    private byte[] responseBody;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+}
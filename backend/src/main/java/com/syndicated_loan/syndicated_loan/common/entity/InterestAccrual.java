@@ -0,0 +1,48 @@
+package com.syndicated_loan.syndicated_loan.common.entity;
+
+import com.syndicated_loan.syndicated_loan.common.calculation.DayCountConvention;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Entity
+@Table(name = "interest_accrual", uniqueConstraints = {
+        // 1ローン・1日につき1件（バッチの再実行で重複させない）
+        @UniqueConstraint(name = "uk_interest_accrual_loan_date", columnNames = { "loan_id", "accrual_date" })
+}, indexes = {
+        @Index(name = "idx_interest_accrual_date", columnList = "accrual_date")
+})
+@Getter
+@Setter
+public class InterestAccrual {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 必須の関連として宣言し、派生クエリのloan.idをLEFT JOINではなくloan_id列で比較させる
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "loan_id", nullable = false)
+    private Loan loan;
+
+    @Column(name = "accrual_date", nullable = false)
+    private LocalDate accrualDate;
+
+    // 発生計算の基準とした元本残高
+    @Column(name = "principal_amount", nullable = false, precision = 19, scale = 4)
+    private BigDecimal principalAmount;
+
+    @Column(name = "interest_rate", nullable = false, precision = 10, scale = 4)
+    private BigDecimal interestRate;
+
+    @Column(name = "day_count_convention", nullable = false)
+    @Enumerated(EnumType.STRING)
+    private DayCountConvention dayCountConvention;
+
+    // 1日分の経過利息
+    @Column(name = "accrued_amount", nullable = false, precision = 19, scale = 4)
+    private BigDecimal accruedAmount;
+}
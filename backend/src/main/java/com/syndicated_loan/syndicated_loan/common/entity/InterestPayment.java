@@ -8,6 +8,23 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 
 @Entity
+@NamedEntityGraph(name = "InterestPayment.forDto", attributeNodes = {
+        @NamedAttributeNode("relatedPosition"),
+        @NamedAttributeNode("amountPie"),
+        @NamedAttributeNode(value = "loan", subgraph = "loan")
+}, subgraphs = @NamedSubgraph(name = "loan", attributeNodes = {
+        @NamedAttributeNode("facility"),
+        @NamedAttributeNode("sharePie"),
+        @NamedAttributeNode("borrower")
+}))
+@Table(name = "interest_payment", indexes = {
+        // ローン単位の利息期間による検索用
+        @Index(name = "idx_interest_payment_loan_start_date", columnList = "loan_id, interest_start_date"),
+        // ローンを横断した利息期間・利率・金額による検索用
+        @Index(name = "idx_interest_payment_start_date", columnList = "interest_start_date"),
+        @Index(name = "idx_interest_payment_rate", columnList = "interest_rate"),
+        @Index(name = "idx_interest_payment_amount", columnList = "payment_amount")
+})
 @Getter
 @Setter
 public class InterestPayment extends Transaction {
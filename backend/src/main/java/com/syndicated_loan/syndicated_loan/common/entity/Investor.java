@@ -1,12 +1,24 @@
 package com.syndicated_loan.syndicated_loan.common.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import lombok.Getter;
 import lombok.Setter;
 
 import java.math.BigDecimal;
 
+// 参照が多く更新の少ないマスタデータのため二次キャッシュに保持する（@Versionで古いエントリの書き戻しを防ぐ）
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "master-investor")
+@Table(name = "investor", indexes = {
+        // 名前・種別・投資余力による投資家の検索用
+        @Index(name = "idx_investor_name", columnList = "name"),
+        @Index(name = "idx_investor_type_capacity", columnList = "investor_type, investment_capacity"),
+        @Index(name = "idx_investor_capacity", columnList = "investment_capacity"),
+        @Index(name = "idx_investor_current_investments", columnList = "current_investments")
+})
 @Getter
 @Setter
 public class Investor {
@@ -0,0 +1,36 @@
+package com.syndicated_loan.syndicated_loan.common.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+// 投資家・ファシリティごとのエクスポージャーの集計（ダッシュボード用）。取引の実行時に差分で更新する
+@Entity
+@Table(name = "investor_exposure_summary", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_investor_exposure_summary", columnNames = { "investor_id", "facility_id" })
+}, indexes = {
+        @Index(name = "idx_investor_exposure_summary_facility", columnList = "facility_id, exposure")
+})
+@Getter
+@Setter
+public class InvestorExposureSummary {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "investor_id", nullable = false)
+    private Long investorId;
+
+    @Column(name = "facility_id", nullable = false)
+    private Long facilityId;
+
+    // ドローダウン・元本返済・ファシリティ売買による投資額の合計
+    @Column(nullable = false, precision = 19, scale = 4)
+    private BigDecimal exposure;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,60 @@
+package com.syndicated_loan.syndicated_loan.common.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+// 残高の増減の仕訳（追記のみ）。IDが仕訳の通番となり、スナップショットと再構築はこの順序で行う
+@Entity
+@Table(name = "journal_entry", indexes = {
+        // 口座単位の仕訳を取引日順に読み、時点の残高の推移を作成するための索引
+        @Index(name = "idx_journal_entry_account_date", columnList = "account_type, account_id, event_date"),
+        @Index(name = "idx_journal_entry_transaction", columnList = "transaction_id"),
+        // 時点指定の再構築で、時刻から通番を求めるための索引
+        @Index(name = "idx_journal_entry_recorded_at", columnList = "recorded_at")
+})
+@Getter
+@Setter
+public class JournalEntry {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "account_type", nullable = false)
+    @Enumerated(EnumType.STRING)
+    private AccountType accountType;
+
+    @Column(name = "account_id", nullable = false)
+    private Long accountId;
+
+    // 残高の増減額（減少の場合は負）
+    @Column(nullable = false, precision = 19, scale = 4)
+    private BigDecimal delta;
+
+    // 取引の種類（DRAWDOWNなど）、口座開設時はOPENING、直接変更時はADJUSTMENT
+    @Column(name = "entry_type", nullable = false)
+    private String entryType;
+
+    // 取引による仕訳の場合の取引ID
+    @Column(name = "transaction_id")
+    private Long transactionId;
+
+    // 取引日（取引以外の仕訳は記録日時）
+    @Column(name = "event_date", nullable = false)
+    private LocalDateTime eventDate;
+
+    @Column(name = "recorded_at", nullable = false)
+    private LocalDateTime recordedAt;
+
+    public enum AccountType {
+        // ファシリティの利用可能額
+        FACILITY,
+        // ローンの元本残高
+        LOAN,
+        // 投資家の現在の投資額
+        INVESTOR
+    }
+}
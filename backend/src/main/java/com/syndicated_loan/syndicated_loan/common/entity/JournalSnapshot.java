@@ -0,0 +1,39 @@
+package com.syndicated_loan.syndicated_loan.common.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+// 仕訳の通番（last_sequence）時点の口座残高。同じ通番の行で1つのスナップショットを構成する
+@Entity
+@Table(name = "journal_snapshot", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_journal_snapshot_account",
+                columnNames = { "last_sequence", "account_type", "account_id" })
+})
+@Getter
+@Setter
+public class JournalSnapshot {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // スナップショットに含まれる最後の仕訳の通番
+    @Column(name = "last_sequence", nullable = false)
+    private Long lastSequence;
+
+    @Column(name = "account_type", nullable = false)
+    @Enumerated(EnumType.STRING)
+    private JournalEntry.AccountType accountType;
+
+    @Column(name = "account_id", nullable = false)
+    private Long accountId;
+
+    @Column(nullable = false, precision = 19, scale = 4)
+    private BigDecimal balance;
+
+    @Column(name = "taken_at", nullable = false)
+    private LocalDateTime takenAt;
+}
@@ -1,5 +1,8 @@
 package com.syndicated_loan.syndicated_loan.common.entity;
 
+import com.syndicated_loan.syndicated_loan.common.calculation.AmortizationProfile;
+import com.syndicated_loan.syndicated_loan.common.calculation.DayCountConvention;
+
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
@@ -35,6 +38,16 @@ public class Loan extends Position {
     @Column(name = "interest_rate", nullable = false, precision = 10, scale = 4)
     private BigDecimal interestRate;
 
+    // 利息の日数計算方式（未設定の場合はACTUAL/365）
+    @Column(name = "day_count_convention")
+    @Enumerated(EnumType.STRING)
+    private DayCountConvention dayCountConvention;
+
+    // 元本の返済方式（未設定の場合は満期一括返済）
+    @Column(name = "amortization_profile")
+    @Enumerated(EnumType.STRING)
+    private AmortizationProfile amortizationProfile;
+
     @ManyToOne
     @JoinColumn(name = "facility_id")
     private Facility facility;
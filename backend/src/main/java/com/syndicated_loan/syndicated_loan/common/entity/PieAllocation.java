@@ -0,0 +1,253 @@
+package com.syndicated_loan.syndicated_loan.common.entity;
+
+import com.syndicated_loan.syndicated_loan.common.calculation.ProRataAllocator;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 投資家ごとの金額・シェアを保持する不変の値型。
+ *
+ * <p>
+ * 投資家IDを昇順に並べた{@code long[]}と、小数点以下4桁でスケーリングした金額の{@code long[]}で保持し、
+ * {@code Map<Long, BigDecimal>}のようなエントリごとのオブジェクトを持ちません。
+ * 永続化時は{@link #encode()}で可変長整数のバイト列（投資家IDは直前との差分）に変換し、
+ * 1カラムに格納します。50投資家のピースでも数百バイトに収まります。
+ * </p>
+ */
+public final class PieAllocation {
+
+    /**
+     * エンコード形式のバージョン
+     */
+    private static final byte FORMAT_VERSION = 1;
+
+    /**
+     * 空の配分
+     */
+    public static final PieAllocation EMPTY = new PieAllocation(new long[0], new long[0]);
+
+    /**
+     * 投資家ID（昇順）
+     */
+    private final long[] investorIds;
+
+    /**
+     * スケーリング済みの金額（{@link #investorIds}と同じ順序）
+     */
+    private final long[] scaledAmounts;
+
+    private PieAllocation(long[] investorIds, long[] scaledAmounts) {
+        this.investorIds = investorIds;
+        this.scaledAmounts = scaledAmounts;
+    }
+
+    /**
+     * マップから配分を作成します。金額は小数点以下4桁に丸めます。
+     *
+     * @param amounts 投資家IDをキー、金額を値とするマップ
+     * @return 配分
+     * @throws ArithmeticException 金額がスケーリング後に{@code long}の範囲を超える場合
+     */
+    public static PieAllocation of(Map<Long, BigDecimal> amounts) {
+        int size = amounts.size();
+        long[] investorIds = new long[size];
+        int index = 0;
+        for (Long investorId : amounts.keySet()) {
+            investorIds[index++] = investorId;
+        }
+        Arrays.sort(investorIds);
+
+        long[] scaledAmounts = new long[size];
+        for (int i = 0; i < size; i++) {
+            scaledAmounts[i] = ProRataAllocator.toScaled(amounts.get(investorIds[i]));
+        }
+        return new PieAllocation(investorIds, scaledAmounts);
+    }
+
+    /**
+     * 配分の件数を返します
+     *
+     * @return 投資家の数
+     */
+    public int size() {
+        return investorIds.length;
+    }
+
+    /**
+     * 指定位置の投資家IDを返します
+     *
+     * @param index 位置（投資家IDの昇順）
+     * @return 投資家ID
+     */
+    public long investorIdAt(int index) {
+        return investorIds[index];
+    }
+
+    /**
+     * 指定位置のスケーリング済み金額を返します
+     *
+     * @param index 位置（投資家IDの昇順）
+     * @return スケーリング済みの金額
+     */
+    public long scaledAmountAt(int index) {
+        return scaledAmounts[index];
+    }
+
+    /**
+     * 投資家の金額を返します
+     *
+     * @param investorId 投資家ID
+     * @return 金額（配分に含まれない場合はnull）
+     */
+    public BigDecimal get(long investorId) {
+        int index = Arrays.binarySearch(investorIds, investorId);
+        return index < 0 ? null : ProRataAllocator.fromScaled(scaledAmounts[index]);
+    }
+
+    /**
+     * 変更不可のマップに変換します
+     *
+     * @return 投資家IDをキー、金額を値とするマップ（投資家IDの昇順）
+     */
+    public Map<Long, BigDecimal> toMap() {
+        Map<Long, BigDecimal> map = new LinkedHashMap<>();
+        for (int i = 0; i < investorIds.length; i++) {
+            map.put(investorIds[i], ProRataAllocator.fromScaled(scaledAmounts[i]));
+        }
+        return Collections.unmodifiableMap(map);
+    }
+
+    /**
+     * マップの内容を配分と一致させます。
+     * 差分のあるエントリのみを追加・更新・削除するため、
+     * 永続化されたコレクションに対して全件削除・再登録が発生しません。
+     *
+     * @param entries 更新対象のマップ
+     */
+    public void syncTo(Map<Long, BigDecimal> entries) {
+        entries.keySet().removeIf(investorId -> Arrays.binarySearch(investorIds, investorId) < 0);
+        for (int i = 0; i < investorIds.length; i++) {
+            BigDecimal amount = ProRataAllocator.fromScaled(scaledAmounts[i]);
+            BigDecimal current = entries.get(investorIds[i]);
+            if (current == null || current.compareTo(amount) != 0) {
+                entries.put(investorIds[i], amount);
+            }
+        }
+    }
+
+    /**
+     * バイト列にエンコードします。
+     * 形式: バージョン(1byte)、件数、投資家IDの差分（符号なし）、金額（ZigZag）をそれぞれ可変長整数で並べたもの
+     *
+     * @return エンコードされたバイト列
+     */
+    public byte[] encode() {
+        int length = 1 + varLongSize(investorIds.length);
+        long previousId = 0;
+        for (int i = 0; i < investorIds.length; i++) {
+            length += varLongSize(investorIds[i] - previousId) + varLongSize(zigZag(scaledAmounts[i]));
+            previousId = investorIds[i];
+        }
+
+        byte[] bytes = new byte[length];
+        bytes[0] = FORMAT_VERSION;
+        int position = writeVarLong(bytes, 1, investorIds.length);
+        previousId = 0;
+        for (int i = 0; i < investorIds.length; i++) {
+            position = writeVarLong(bytes, position, investorIds[i] - previousId);
+            position = writeVarLong(bytes, position, zigZag(scaledAmounts[i]));
+            previousId = investorIds[i];
+        }
+        return bytes;
+    }
+
+    /**
+     * バイト列からデコードします
+     *
+     * @param bytes {@link #encode()}で作成したバイト列
+     * @return 配分
+     * @throws IllegalArgumentException 形式が不正な場合
+     */
+    public static PieAllocation decode(byte[] bytes) {
+        if (bytes.length == 0 || bytes[0] != FORMAT_VERSION) {
+            throw new IllegalArgumentException("Unsupported pie allocation format");
+        }
+        int[] position = { 1 };
+        int size = Math.toIntExact(readVarLong(bytes, position));
+        long[] investorIds = new long[size];
+        long[] scaledAmounts = new long[size];
+        long previousId = 0;
+        for (int i = 0; i < size; i++) {
+            previousId += readVarLong(bytes, position);
+            investorIds[i] = previousId;
+            scaledAmounts[i] = unZigZag(readVarLong(bytes, position));
+        }
+        if (position[0] != bytes.length) {
+            throw new IllegalArgumentException("Trailing bytes in pie allocation");
+        }
+        return new PieAllocation(investorIds, scaledAmounts);
+    }
+
+    private static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static int varLongSize(long value) {
+        // 7bitごとに1バイト（0は1バイト）
+        return Math.max(1, (64 - Long.numberOfLeadingZeros(value) + 6) / 7);
+    }
+
+    private static int writeVarLong(byte[] bytes, int position, long value) {
+        while ((value & ~0x7FL) != 0) {
+            bytes[position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        bytes[position++] = (byte) value;
+        return position;
+    }
+
+    private static long readVarLong(byte[] bytes, int[] position) {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            if (position[0] >= bytes.length) {
+                throw new IllegalArgumentException("Truncated pie allocation");
+            }
+            byte b = bytes[position[0]++];
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Malformed varint in pie allocation");
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof PieAllocation allocation)) {
+            return false;
+        }
+        return Arrays.equals(investorIds, allocation.investorIds)
+                && Arrays.equals(scaledAmounts, allocation.scaledAmounts);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(investorIds) + Arrays.hashCode(scaledAmounts);
+    }
+
+    @Override
+    public String toString() {
+        return "PieAllocation" + toMap();
+    }
+}
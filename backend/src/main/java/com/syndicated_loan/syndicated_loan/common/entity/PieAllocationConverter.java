@@ -0,0 +1,21 @@
+package com.syndicated_loan.syndicated_loan.common.entity;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * {@link PieAllocation}をバイト列のカラムに変換するコンバーター
+ */
+@Converter
+public class PieAllocationConverter implements AttributeConverter<PieAllocation, byte[]> {
+
+    @Override
+    public byte[] convertToDatabaseColumn(PieAllocation attribute) {
+        return attribute == null ? null : attribute.encode();
+    }
+
+    @Override
+    public PieAllocation convertToEntityAttribute(byte[] dbData) {
+        return dbData == null ? null : PieAllocation.decode(dbData);
+    }
+}
@@ -7,13 +7,26 @@ import lombok.Setter;
 import java.math.BigDecimal;
 
 @Entity
+@Table(name = "position", indexes = {
+        // FacilityとLoanで1つのテーブルを共有するため、金額・期間の範囲検索は種別（識別子）を先頭にする
+        @Index(name = "idx_position_type_total_amount", columnList = "type, total_amount"),
+        @Index(name = "idx_position_type_available_amount", columnList = "type, available_amount"),
+        @Index(name = "idx_position_type_start_date", columnList = "type, start_date"),
+        @Index(name = "idx_position_type_end_date", columnList = "type, end_date"),
+        // 借入人・シンジケート・ファシリティによる検索用
+        @Index(name = "idx_position_borrower_end_date", columnList = "borrower_id, end_date"),
+        @Index(name = "idx_position_syndicate", columnList = "syndicate_id"),
+        @Index(name = "idx_position_facility", columnList = "facility_id")
+})
 @Inheritance(strategy = InheritanceType.SINGLE_TABLE)
 @DiscriminatorColumn(name = "type")
 @Getter
 @Setter
 public abstract class Position {
+    // INSERTをJDBCバッチで送れるよう、シーケンスからIDをまとめて採番する
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "position_seq")
+    @SequenceGenerator(name = "position_seq", sequenceName = "position_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "type", insertable = false, updatable = false)
@@ -29,6 +42,7 @@ public abstract class Position {
     /**
      * ポジションの金額。
      * Facilityの場合、この値はtotalAmountと同じ値となる。
+     * Loanの場合、この値は元本残高であり、元本返済の実行ごとに減少する。
      */
     @Column(nullable = false, precision = 19, scale = 4)
     private BigDecimal amount;
@@ -7,6 +7,20 @@ import lombok.Setter;
 import java.math.BigDecimal;
 
 @Entity
+@NamedEntityGraph(name = "PrincipalPayment.forDto", attributeNodes = {
+        @NamedAttributeNode("relatedPosition"),
+        @NamedAttributeNode("amountPie"),
+        @NamedAttributeNode(value = "loan", subgraph = "loan")
+}, subgraphs = @NamedSubgraph(name = "loan", attributeNodes = {
+        @NamedAttributeNode("facility"),
+        @NamedAttributeNode("sharePie"),
+        @NamedAttributeNode("borrower")
+}))
+@Table(name = "principal_payment", indexes = {
+        // ローン単位・金額による元本返済の検索用（期間の条件は取引テーブルの索引を使う）
+        @Index(name = "idx_principal_payment_loan", columnList = "loan_id"),
+        @Index(name = "idx_principal_payment_amount", columnList = "payment_amount")
+})
 @Getter
 @Setter
 public class PrincipalPayment extends Transaction {
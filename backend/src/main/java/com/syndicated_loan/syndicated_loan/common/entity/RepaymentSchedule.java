@@ -8,14 +8,24 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 
 @Entity
+@Table(name = "repayment_schedule", indexes = {
+        // ローン・予定日・種別・ステータスによる返済スケジュールの特定用
+        @Index(name = "idx_repayment_schedule_lookup",
+                columnList = "loan_id, scheduled_date, payment_type, status"),
+        // ローンを横断した予定日・ステータスによる検索用
+        @Index(name = "idx_repayment_schedule_due", columnList = "scheduled_date, status")
+})
 @Getter
 @Setter
 public class RepaymentSchedule {
+    // 一括生成時にINSERTをJDBCバッチで送れるよう、シーケンスからIDをまとめて採番する
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "repayment_schedule_seq")
+    @SequenceGenerator(name = "repayment_schedule_seq", sequenceName = "repayment_schedule_seq", allocationSize = 50)
     private Long id;
 
-    @ManyToOne
+    // 必須の関連として宣言し、派生クエリのloan.idをLEFT JOINではなくloan_id列で比較させる
+    @ManyToOne(optional = false)
     @JoinColumn(name = "loan_id", nullable = false)
     private Loan loan;
 
@@ -1,10 +1,15 @@
 package com.syndicated_loan.syndicated_loan.common.entity;
 
 import jakarta.persistence.*;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 
+import org.hibernate.annotations.Mutability;
+import org.hibernate.type.descriptor.java.Immutability;
+
 import java.math.BigDecimal;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -12,15 +17,31 @@ import java.util.Map;
 @Getter
 @Setter
 public class SharePie {
+    // INSERTをJDBCバッチで送れるよう、シーケンスからIDをまとめて採番する
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "share_pie_seq")
+    @SequenceGenerator(name = "share_pie_seq", sequenceName = "share_pie_seq", allocationSize = 50)
     private Long id;
 
+    // 投資家ごとのシェア（1行で読み込めるよう1カラムに圧縮して保持する。読み込みはこちらを使用）
+    @Convert(converter = PieAllocationConverter.class)
+    @Mutability(Immutability.class)
+    @Column(name = "allocation", length = 65536)
+    @Setter(AccessLevel.NONE)
+    private PieAllocation allocation;
+
+    // 投資家ID・シェアによる検索用の明細（allocationと差分同期する。allocation導入前のデータの移行元）
     @ElementCollection
     @CollectionTable(name = "share_pie_entries",
-            joinColumns = @JoinColumn(name = "share_pie_id"))
+            joinColumns = @JoinColumn(name = "share_pie_id"), indexes = {
+                    // 投資家・持分比率によるシェアピースの検索用
+                    @Index(name = "idx_share_pie_entries_investor_share", columnList = "investor_id, share_percentage"),
+                    @Index(name = "idx_share_pie_entries_share", columnList = "share_percentage")
+            })
     @MapKeyColumn(name = "investor_id")
     @Column(name = "share_percentage", nullable = false, precision = 19, scale = 4)
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
     private Map<Long, BigDecimal> shares = new HashMap<>();
 
     @Version
@@ -28,4 +49,16 @@ public class SharePie {
 
     @OneToOne(mappedBy = "sharePie")
     private Position position;
+
+    public Map<Long, BigDecimal> getShares() {
+        if (allocation == null) {
+            return Collections.unmodifiableMap(shares);
+        }
+        return allocation.toMap();
+    }
+
+    public void setShares(Map<Long, BigDecimal> shares) {
+        allocation = PieAllocation.of(shares);
+        allocation.syncTo(this.shares);
+    }
 }
@@ -1,6 +1,8 @@
 package com.syndicated_loan.syndicated_loan.common.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -8,7 +10,15 @@ import java.math.BigDecimal;
 import java.util.HashSet;
 import java.util.Set;
 
+// 参照が多く更新の少ないマスタデータのため二次キャッシュに保持する（@Versionで古いエントリの書き戻しを防ぐ）
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "master-syndicate")
+@Table(name = "syndicate", indexes = {
+        // リード銀行・コミットメント総額によるシンジケートの検索用
+        @Index(name = "idx_syndicate_lead_bank", columnList = "lead_bank_id"),
+        @Index(name = "idx_syndicate_total_commitment", columnList = "total_commitment")
+})
 @Getter
 @Setter
 public class Syndicate {
@@ -21,10 +31,13 @@ public class Syndicate {
     private Investor leadBank;
 
     @ManyToMany
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "master-syndicate-members")
     @JoinTable(
         name = "syndicate_members",
         joinColumns = @JoinColumn(name = "syndicate_id"),
-        inverseJoinColumns = @JoinColumn(name = "investor_id")
+        inverseJoinColumns = @JoinColumn(name = "investor_id"),
+        // メンバーの投資家からシンジケートを引く検索用
+        indexes = @Index(name = "idx_syndicate_members_investor", columnList = "investor_id")
     )
     private Set<Investor> members = new HashSet<>();
 
@@ -8,12 +8,22 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
+@Table(name = "transaction", indexes = {
+        // ポジション単位の期間・種別による取引の検索用
+        @Index(name = "idx_transaction_position_date", columnList = "position_id, date"),
+        @Index(name = "idx_transaction_position_type", columnList = "position_id, type"),
+        // ポジションを横断した種別・期間による検索用（種別を先頭にし、取引の種類ごとの期間検索にも使う）
+        @Index(name = "idx_transaction_type_date", columnList = "type, date"),
+        @Index(name = "idx_transaction_date", columnList = "date")
+})
 @Inheritance(strategy = InheritanceType.JOINED)
 @Getter
 @Setter
 public abstract class Transaction {
+    // INSERTをJDBCバッチで送れるよう、シーケンスからIDをまとめて採番する
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "transaction_seq")
+    @SequenceGenerator(name = "transaction_seq", sequenceName = "transaction_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -0,0 +1,12 @@
+package com.syndicated_loan.syndicated_loan.common.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.syndicated_loan.syndicated_loan.common.entity.AccrualCheckpoint;
+
+import java.time.LocalDate;
+
+@Repository
+public interface AccrualCheckpointRepository extends JpaRepository<AccrualCheckpoint, LocalDate> {
+}
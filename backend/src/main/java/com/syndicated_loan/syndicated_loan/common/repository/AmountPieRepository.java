@@ -1,11 +1,14 @@
 package com.syndicated_loan.syndicated_loan.common.repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.syndicated_loan.syndicated_loan.common.entity.AmountPie;
+import com.syndicated_loan.syndicated_loan.common.entity.PieAllocation;
 import com.syndicated_loan.syndicated_loan.common.entity.Transaction;
 
 import java.math.BigDecimal;
@@ -14,7 +17,8 @@ import java.util.Optional;
 
 @Repository
 public interface AmountPieRepository extends JpaRepository<AmountPie, Long> {
-    Optional<AmountPie> findByTransaction(Transaction transaction);
+    @Query("SELECT t.amountPie FROM Transaction t WHERE t = :transaction")
+    Optional<AmountPie> findByTransaction(@Param("transaction") Transaction transaction);
 
     @Query("SELECT ap FROM AmountPie ap JOIN ap.amounts amounts WHERE KEY(amounts) = :investorId")
     List<AmountPie> findByInvestorId(@Param("investorId") Long investorId);
@@ -32,4 +36,13 @@ public interface AmountPieRepository extends JpaRepository<AmountPie, Long> {
     @Query("SELECT SUM(VALUE(amounts)) FROM AmountPie ap JOIN ap.amounts amounts " +
            "WHERE KEY(amounts) = :investorId")
     BigDecimal sumAmountsByInvestorId(@Param("investorId") Long investorId);
+
+    // allocation導入前に作成され、明細テーブルのみを持つピース（移行対象）
+    @Query("SELECT ap FROM AmountPie ap WHERE ap.allocation IS NULL ORDER BY ap.id")
+    List<AmountPie> findWithoutAllocation(Pageable pageable);
+
+    // 移行時のallocation設定（内容は明細と同一のため、バージョンは進めない）
+    @Modifying
+    @Query("UPDATE AmountPie ap SET ap.allocation = :allocation WHERE ap.id = :id AND ap.allocation IS NULL")
+    int updateAllocation(@Param("id") Long id, @Param("allocation") PieAllocation allocation);
 }
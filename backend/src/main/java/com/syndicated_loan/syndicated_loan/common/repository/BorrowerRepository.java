@@ -1,6 +1,7 @@
 package com.syndicated_loan.syndicated_loan.common.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.stereotype.Repository;
 
 import com.syndicated_loan.syndicated_loan.common.entity.Borrower;
@@ -9,7 +10,7 @@ import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface BorrowerRepository extends JpaRepository<Borrower, Long> {
+public interface BorrowerRepository extends JpaRepository<Borrower, Long>, JpaSpecificationExecutor<Borrower> {
     Optional<Borrower> findByName(String name);
     List<Borrower> findByNameContaining(String namePattern);
     List<Borrower> findByIndustry(String industry);
@@ -1,5 +1,11 @@
 package com.syndicated_loan.syndicated_loan.common.repository;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.EntityGraph.EntityGraphType;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.syndicated_loan.syndicated_loan.common.entity.Drawdown;
@@ -7,12 +13,32 @@ import com.syndicated_loan.syndicated_loan.common.entity.Facility;
 import com.syndicated_loan.syndicated_loan.common.entity.Position;
 
 import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface DrawdownRepository extends TransactionRepository<Drawdown> {
+    @Override
+    @EntityGraph(value = "Drawdown.forDto", type = EntityGraphType.LOAD)
+    List<Drawdown> findAll();
+
+    @Override
+    @EntityGraph(value = "Drawdown.forDto", type = EntityGraphType.LOAD)
+    Page<Drawdown> findAll(Pageable pageable);
+
+    @EntityGraph(value = "Drawdown.forDto", type = EntityGraphType.LOAD)
     List<Drawdown> findByRelatedFacility(Facility facility);
+
+    @EntityGraph(value = "Drawdown.forDto", type = EntityGraphType.LOAD)
     List<Drawdown> findByDrawdownAmountGreaterThan(BigDecimal amount);
+
+    @EntityGraph(value = "Drawdown.forDto", type = EntityGraphType.LOAD)
     List<Drawdown> findByRelatedFacilityAndDrawdownAmountGreaterThan(Facility facility, BigDecimal amount);
+
+    /**
+     * 指定したドローダウンのうち実行済みのもののIDを、永続化コンテキストを介さずにデータベースから取得します
+     */
+    @Query("SELECT d.id FROM Drawdown d WHERE d.id IN :ids AND d.status = 'EXECUTED'")
+    List<Long> findExecutedIds(@Param("ids") Collection<Long> ids);
 }
@@ -1,5 +1,9 @@
 package com.syndicated_loan.syndicated_loan.common.repository;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.EntityGraph.EntityGraphType;
 import org.springframework.stereotype.Repository;
 
 import com.syndicated_loan.syndicated_loan.common.entity.FacilityInvestment;
@@ -10,6 +14,17 @@ import java.util.List;
 
 @Repository
 public interface FacilityInvestmentRepository extends TransactionRepository<FacilityInvestment> {
+    @Override
+    @EntityGraph(value = "FacilityInvestment.forDto", type = EntityGraphType.LOAD)
+    List<FacilityInvestment> findAll();
+
+    @Override
+    @EntityGraph(value = "FacilityInvestment.forDto", type = EntityGraphType.LOAD)
+    Page<FacilityInvestment> findAll(Pageable pageable);
+
+    @EntityGraph(value = "FacilityInvestment.forDto", type = EntityGraphType.LOAD)
     List<FacilityInvestment> findByInvestor(Investor investor);
+
+    @EntityGraph(value = "FacilityInvestment.forDto", type = EntityGraphType.LOAD)
     List<FacilityInvestment> findByInvestmentAmountGreaterThan(BigDecimal amount);
 }
@@ -0,0 +1,17 @@
+package com.syndicated_loan.syndicated_loan.common.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import com.syndicated_loan.syndicated_loan.common.dto.PortfolioTotals;
+import com.syndicated_loan.syndicated_loan.common.entity.FacilitySummary;
+
+@Repository
+public interface FacilitySummaryRepository extends JpaRepository<FacilitySummary, Long> {
+    // ポートフォリオ全体の合計（ファシリティごとに1行の集計テーブルを合計する。集計行が無い場合は合計がnull）
+    @Query("SELECT new com.syndicated_loan.syndicated_loan.common.dto.PortfolioTotals(" +
+           "COUNT(s), SUM(s.totalAmount), SUM(s.availableAmount), SUM(s.outstandingAmount), " +
+           "SUM(s.executedDrawdowns)) FROM FacilitySummary s")
+    PortfolioTotals sumPortfolio();
+}
@@ -1,5 +1,11 @@
 package com.syndicated_loan.syndicated_loan.common.repository;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.EntityGraph.EntityGraphType;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.syndicated_loan.syndicated_loan.common.entity.FacilityTrade;
@@ -10,8 +16,27 @@ import java.util.List;
 
 @Repository
 public interface FacilityTradeRepository extends TransactionRepository<FacilityTrade> {
+    @Override
+    @EntityGraph(value = "FacilityTrade.forDto", type = EntityGraphType.LOAD)
+    List<FacilityTrade> findAll();
+
+    @Override
+    @EntityGraph(value = "FacilityTrade.forDto", type = EntityGraphType.LOAD)
+    Page<FacilityTrade> findAll(Pageable pageable);
+
+    @EntityGraph(value = "FacilityTrade.forDto", type = EntityGraphType.LOAD)
     List<FacilityTrade> findBySeller(Investor seller);
+
+    @EntityGraph(value = "FacilityTrade.forDto", type = EntityGraphType.LOAD)
     List<FacilityTrade> findByBuyer(Investor buyer);
+
+    @EntityGraph(value = "FacilityTrade.forDto", type = EntityGraphType.LOAD)
     List<FacilityTrade> findByTradeAmountGreaterThan(BigDecimal amount);
-    List<FacilityTrade> findBySellerOrBuyer(Investor seller, Investor buyer);
+
+    // ORの条件では売り手・買い手の索引を使えないため、それぞれの索引で引いたIDの和集合で絞り込む
+    @EntityGraph(value = "FacilityTrade.forDto", type = EntityGraphType.LOAD)
+    @Query("SELECT t FROM FacilityTrade t WHERE t.id IN (" +
+           "SELECT s.id FROM FacilityTrade s WHERE s.seller = :seller " +
+           "UNION SELECT b.id FROM FacilityTrade b WHERE b.buyer = :buyer)")
+    List<FacilityTrade> findBySellerOrBuyer(@Param("seller") Investor seller, @Param("buyer") Investor buyer);
 }
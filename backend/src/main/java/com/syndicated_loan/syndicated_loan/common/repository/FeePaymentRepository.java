@@ -1,5 +1,9 @@
 package com.syndicated_loan.syndicated_loan.common.repository;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.EntityGraph.EntityGraphType;
 import org.springframework.stereotype.Repository;
 
 import com.syndicated_loan.syndicated_loan.common.entity.FeePayment;
@@ -10,8 +14,23 @@ import java.util.List;
 
 @Repository
 public interface FeePaymentRepository extends TransactionRepository<FeePayment> {
+    @Override
+    @EntityGraph(value = "FeePayment.forDto", type = EntityGraphType.LOAD)
+    List<FeePayment> findAll();
+
+    @Override
+    @EntityGraph(value = "FeePayment.forDto", type = EntityGraphType.LOAD)
+    Page<FeePayment> findAll(Pageable pageable);
+
+    @EntityGraph(value = "FeePayment.forDto", type = EntityGraphType.LOAD)
     List<FeePayment> findByFacility(Facility facility);
+
+    @EntityGraph(value = "FeePayment.forDto", type = EntityGraphType.LOAD)
     List<FeePayment> findByFeeType(String feeType);
+
+    @EntityGraph(value = "FeePayment.forDto", type = EntityGraphType.LOAD)
     List<FeePayment> findByPaymentAmountGreaterThan(BigDecimal amount);
+
+    @EntityGraph(value = "FeePayment.forDto", type = EntityGraphType.LOAD)
     List<FeePayment> findByFacilityAndFeeType(Facility facility, String feeType);
 }
@@ -0,0 +1,15 @@
+package com.syndicated_loan.syndicated_loan.common.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.syndicated_loan.syndicated_loan.common.entity.InterestAccrual;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface InterestAccrualRepository extends JpaRepository<InterestAccrual, Long> {
+    List<InterestAccrual> findByLoan_IdOrderByAccrualDate(Long loanId);
+    long countByAccrualDate(LocalDate accrualDate);
+}
@@ -1,5 +1,11 @@
 package com.syndicated_loan.syndicated_loan.common.repository;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.EntityGraph.EntityGraphType;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.syndicated_loan.syndicated_loan.common.entity.InterestPayment;
@@ -7,13 +13,38 @@ import com.syndicated_loan.syndicated_loan.common.entity.Loan;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 
 @Repository
 public interface InterestPaymentRepository extends TransactionRepository<InterestPayment> {
+    @Override
+    @EntityGraph(value = "InterestPayment.forDto", type = EntityGraphType.LOAD)
+    List<InterestPayment> findAll();
+
+    @Override
+    @EntityGraph(value = "InterestPayment.forDto", type = EntityGraphType.LOAD)
+    Page<InterestPayment> findAll(Pageable pageable);
+
+    @EntityGraph(value = "InterestPayment.forDto", type = EntityGraphType.LOAD)
     List<InterestPayment> findByLoan(Loan loan);
+
+    @EntityGraph(value = "InterestPayment.forDto", type = EntityGraphType.LOAD)
     List<InterestPayment> findByInterestRateGreaterThan(BigDecimal rate);
+
+    @EntityGraph(value = "InterestPayment.forDto", type = EntityGraphType.LOAD)
     List<InterestPayment> findByPaymentAmountGreaterThan(BigDecimal amount);
+
+    @EntityGraph(value = "InterestPayment.forDto", type = EntityGraphType.LOAD)
     List<InterestPayment> findByInterestStartDateBetween(LocalDate startDate, LocalDate endDate);
+
+    @EntityGraph(value = "InterestPayment.forDto", type = EntityGraphType.LOAD)
     List<InterestPayment> findByLoanAndInterestStartDateBetween(Loan loan, LocalDate startDate, LocalDate endDate);
+
+    // 指定ローンのうち、指定日を利息計算期間の終了日とする利息支払いが作成済みのもの
+    @Query("SELECT DISTINCT ip.loan.id FROM InterestPayment ip"
+            + " WHERE ip.loan.id IN :loanIds AND ip.interestEndDate = :interestEndDate")
+    Set<Long> findLoanIdsWithInterestPayment(@Param("loanIds") Collection<Long> loanIds,
+            @Param("interestEndDate") LocalDate interestEndDate);
 }
@@ -0,0 +1,14 @@
+package com.syndicated_loan.syndicated_loan.common.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.syndicated_loan.syndicated_loan.common.entity.InvestorExposureSummary;
+
+import java.util.List;
+
+@Repository
+public interface InvestorExposureSummaryRepository extends JpaRepository<InvestorExposureSummary, Long> {
+    List<InvestorExposureSummary> findByFacilityIdOrderByExposureDesc(Long facilityId);
+    List<InvestorExposureSummary> findByInvestorIdOrderByFacilityId(Long investorId);
+}
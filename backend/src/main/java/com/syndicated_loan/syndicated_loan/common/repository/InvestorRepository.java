@@ -1,6 +1,7 @@
 package com.syndicated_loan.syndicated_loan.common.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.stereotype.Repository;
 
 import com.syndicated_loan.syndicated_loan.common.entity.Investor;
@@ -10,7 +11,7 @@ import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface InvestorRepository extends JpaRepository<Investor, Long> {
+public interface InvestorRepository extends JpaRepository<Investor, Long>, JpaSpecificationExecutor<Investor> {
     Optional<Investor> findByName(String name);
     List<Investor> findByNameContaining(String namePattern);
     List<Investor> findByType(String type);
@@ -0,0 +1,24 @@
+package com.syndicated_loan.syndicated_loan.common.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.syndicated_loan.syndicated_loan.common.entity.JournalEntry;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface JournalEntryRepository extends JpaRepository<JournalEntry, Long> {
+    List<JournalEntry> findByTransactionIdOrderById(Long transactionId);
+
+    // 最後の仕訳の通番（仕訳が無い場合はnull）
+    @Query("SELECT MAX(e.id) FROM JournalEntry e")
+    Long findLastSequence();
+
+    // 指定日時までに記録された最後の仕訳の通番（仕訳が無い場合はnull）
+    @Query("SELECT MAX(e.id) FROM JournalEntry e WHERE e.recordedAt <= :recordedAt")
+    Long findLastSequenceRecordedAtOrBefore(@Param("recordedAt") LocalDateTime recordedAt);
+}
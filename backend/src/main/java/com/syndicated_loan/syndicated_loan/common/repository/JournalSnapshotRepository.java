@@ -0,0 +1,17 @@
+package com.syndicated_loan.syndicated_loan.common.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.syndicated_loan.syndicated_loan.common.entity.JournalSnapshot;
+
+@Repository
+public interface JournalSnapshotRepository extends JpaRepository<JournalSnapshot, Long> {
+    // 指定した通番以前で最新のスナップショットの通番（スナップショットが無い場合はnull）
+    @Query("SELECT MAX(s.lastSequence) FROM JournalSnapshot s WHERE s.lastSequence <= :sequence")
+    Long findLatestSequenceAtOrBefore(@Param("sequence") Long sequence);
+
+    boolean existsByLastSequence(Long lastSequence);
+}
@@ -1,8 +1,13 @@
 package com.syndicated_loan.syndicated_loan.common.repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.syndicated_loan.syndicated_loan.common.dto.LoanAccrualSource;
 import com.syndicated_loan.syndicated_loan.common.entity.Loan;
 import com.syndicated_loan.syndicated_loan.common.entity.Borrower;
 import com.syndicated_loan.syndicated_loan.common.entity.Facility;
@@ -19,4 +24,18 @@ public interface LoanRepository extends JpaRepository<Loan, Long> {
     List<Loan> findByStartDateBetween(LocalDate startDate, LocalDate endDate);
     List<Loan> findByEndDateAfter(LocalDate date);
     List<Loan> findByBorrowerAndEndDateAfter(Borrower borrower, LocalDate date);
+
+    // 元本残高（amount）が返済額以上の場合のみ減算する。条件判定と減算を1文で行うため、並行実行でも残高が負にならない
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Loan l SET l.amount = l.amount - :paymentAmount, l.version = l.version + 1 " +
+           "WHERE l.id = :loanId AND l.amount >= :paymentAmount")
+    int decreaseOutstandingAmount(@Param("loanId") Long loanId, @Param("paymentAmount") BigDecimal paymentAmount);
+
+    // 利息発生バッチの対象（計上日に期間中で元本残高のあるローン）をIDの範囲で読み込む
+    @Query("SELECT new com.syndicated_loan.syndicated_loan.common.dto.LoanAccrualSource(" +
+           "l.id, l.amount, l.interestRate, l.dayCountConvention) FROM Loan l " +
+           "WHERE l.id > :afterId AND l.amount > 0 AND l.startDate <= :accrualDate AND l.endDate > :accrualDate " +
+           "ORDER BY l.id")
+    List<LoanAccrualSource> findAccrualSources(@Param("afterId") Long afterId,
+            @Param("accrualDate") LocalDate accrualDate, Pageable pageable);
 }
@@ -1,5 +1,11 @@
 package com.syndicated_loan.syndicated_loan.common.repository;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.EntityGraph.EntityGraphType;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.syndicated_loan.syndicated_loan.common.entity.PrincipalPayment;
@@ -7,13 +13,45 @@ import com.syndicated_loan.syndicated_loan.common.entity.Loan;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface PrincipalPaymentRepository extends TransactionRepository<PrincipalPayment> {
+    @Override
+    @EntityGraph(value = "PrincipalPayment.forDto", type = EntityGraphType.LOAD)
+    List<PrincipalPayment> findAll();
+
+    @Override
+    @EntityGraph(value = "PrincipalPayment.forDto", type = EntityGraphType.LOAD)
+    Page<PrincipalPayment> findAll(Pageable pageable);
+
+    @EntityGraph(value = "PrincipalPayment.forDto", type = EntityGraphType.LOAD)
     List<PrincipalPayment> findByLoan(Loan loan);
+
+    @EntityGraph(value = "PrincipalPayment.forDto", type = EntityGraphType.LOAD)
     List<PrincipalPayment> findByPaymentAmountGreaterThan(BigDecimal amount);
-    List<PrincipalPayment> findByDateBetween(LocalDateTime startDate, LocalDateTime endDate);
+
+    // 取引テーブルの種別・日時の索引で絞り込めるよう、種別の条件を明示する
+    @EntityGraph(value = "PrincipalPayment.forDto", type = EntityGraphType.LOAD)
+    @Query("SELECT p FROM PrincipalPayment p WHERE p.id IN (SELECT t.id FROM Transaction t " +
+           "WHERE t.type = 'PRINCIPAL_PAYMENT' AND t.date BETWEEN :startDate AND :endDate)")
+    List<PrincipalPayment> findByDateBetween(@Param("startDate") LocalDateTime startDate,
+            @Param("endDate") LocalDateTime endDate);
+
+    @EntityGraph(value = "PrincipalPayment.forDto", type = EntityGraphType.LOAD)
     List<PrincipalPayment> findByLoanAndDateBetween(Loan loan, LocalDateTime startDate, LocalDateTime endDate);
+
+    @EntityGraph(value = "PrincipalPayment.forDto", type = EntityGraphType.LOAD)
     List<PrincipalPayment> findByLoanOrderByDateAsc(Loan loan);
+
+    // 指定日時以前（同日時を含む）の返済額の累計
+    @Query("SELECT COALESCE(SUM(p.paymentAmount), 0) FROM PrincipalPayment p " +
+           "WHERE p.loan = :loan AND p.date <= :date")
+    BigDecimal sumPaymentAmountByLoanUpTo(@Param("loan") Loan loan, @Param("date") LocalDateTime date);
+
+    // 返済ごとの累計返済額（同日時の返済を含む）をウィンドウ関数で一括計算する [返済ID, 累計返済額]
+    @Query("SELECT p.id, SUM(p.paymentAmount) OVER (PARTITION BY p.loan.id ORDER BY p.date) " +
+           "FROM PrincipalPayment p WHERE p.loan.id IN :loanIds")
+    List<Object[]> findCumulativePaymentAmounts(@Param("loanIds") Collection<Long> loanIds);
 }
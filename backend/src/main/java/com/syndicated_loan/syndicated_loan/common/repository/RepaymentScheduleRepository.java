@@ -1,17 +1,43 @@
 package com.syndicated_loan.syndicated_loan.common.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.syndicated_loan.syndicated_loan.common.entity.RepaymentSchedule;
 import com.syndicated_loan.syndicated_loan.common.entity.Loan;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 @Repository
 public interface RepaymentScheduleRepository extends JpaRepository<RepaymentSchedule, Long> {
     List<RepaymentSchedule> findByLoan(Loan loan);
     List<RepaymentSchedule> findByLoanAndScheduledDateBetween(Loan loan, LocalDate startDate, LocalDate endDate);
     List<RepaymentSchedule> findByScheduledDateAndStatus(LocalDate date, RepaymentSchedule.PaymentStatus status);
-}
\ No newline at end of file
+
+    // idx_repayment_schedule_lookupによるローン単位の特定
+    Optional<RepaymentSchedule> findFirstByLoan_IdAndScheduledDateAndPaymentTypeAndStatus(
+            Long loanId, LocalDate scheduledDate,
+            RepaymentSchedule.PaymentType paymentType, RepaymentSchedule.PaymentStatus status);
+
+    // 複数ローン分を1回のクエリで特定
+    List<RepaymentSchedule> findByLoan_IdInAndScheduledDateAndPaymentTypeAndStatus(
+            Collection<Long> loanIds, LocalDate scheduledDate,
+            RepaymentSchedule.PaymentType paymentType, RepaymentSchedule.PaymentStatus status);
+
+    // 指定日より前の最後の予定日（利息期間の開始日の特定用）を複数ローン分まとめて取得する [ローンID, 予定日]
+    @Query("SELECT rs.loan.id, MAX(rs.scheduledDate) FROM RepaymentSchedule rs " +
+           "WHERE rs.loan.id IN :loanIds AND rs.paymentType = :paymentType AND rs.scheduledDate < :date " +
+           "GROUP BY rs.loan.id")
+    List<Object[]> findPreviousScheduledDates(@Param("loanIds") Collection<Long> loanIds,
+            @Param("paymentType") RepaymentSchedule.PaymentType paymentType, @Param("date") LocalDate date);
+
+    // 指定ローンのうち返済スケジュールが生成済みのもの
+    @Query("SELECT DISTINCT rs.loan.id FROM RepaymentSchedule rs WHERE rs.loan.id IN :loanIds")
+    Set<Long> findLoanIdsWithSchedules(@Param("loanIds") Collection<Long> loanIds);
+}
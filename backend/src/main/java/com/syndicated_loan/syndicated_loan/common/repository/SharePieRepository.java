@@ -1,11 +1,14 @@
 package com.syndicated_loan.syndicated_loan.common.repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.syndicated_loan.syndicated_loan.common.entity.SharePie;
+import com.syndicated_loan.syndicated_loan.common.entity.PieAllocation;
 import com.syndicated_loan.syndicated_loan.common.entity.Position;
 
 import java.math.BigDecimal;
@@ -14,7 +17,9 @@ import java.util.Optional;
 
 @Repository
 public interface SharePieRepository extends JpaRepository<SharePie, Long> {
-    Optional<SharePie> findByPosition(Position position);
+    // ポジション側の外部キーから主キーで引く（派生クエリではシェアピース全件と外部結合になる）
+    @Query("SELECT p.sharePie FROM Position p WHERE p = :position")
+    Optional<SharePie> findByPosition(@Param("position") Position position);
 
     @Query("SELECT sp FROM SharePie sp JOIN sp.shares shares WHERE KEY(shares) = :investorId")
     List<SharePie> findByInvestorId(@Param("investorId") Long investorId);
@@ -28,4 +33,13 @@ public interface SharePieRepository extends JpaRepository<SharePie, Long> {
         @Param("investorId") Long investorId,
         @Param("minShare") BigDecimal minShare
     );
+
+    // allocation導入前に作成され、明細テーブルのみを持つピース（移行対象）
+    @Query("SELECT sp FROM SharePie sp WHERE sp.allocation IS NULL ORDER BY sp.id")
+    List<SharePie> findWithoutAllocation(Pageable pageable);
+
+    // 移行時のallocation設定（内容は明細と同一のため、バージョンは進めない）
+    @Modifying
+    @Query("UPDATE SharePie sp SET sp.allocation = :allocation WHERE sp.id = :id AND sp.allocation IS NULL")
+    int updateAllocation(@Param("id") Long id, @Param("allocation") PieAllocation allocation);
 }
@@ -0,0 +1,132 @@
+package com.syndicated_loan.syndicated_loan.common.repository;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 検索条件から{@link Specification}を組み立てるビルダー。
+ * 値がnullまたは空文字の条件は指定なしとして無視し、指定された条件はすべてANDで結合します。
+ * 条件はSQLのWHERE句として発行されるため、検索のたびにテーブル全件を読み込むことはありません。
+ *
+ * <pre>{@code
+ * Specification<Investor> spec = SpecificationBuilder.<Investor>create()
+ *         .contains("name", name)
+ *         .equalTo("type", type)
+ *         .greaterThanOrEqualTo("investmentCapacity", minCapacity)
+ *         .build();
+ * }</pre>
+ *
+ * @param <T> 検索対象のエンティティの型
+ */
+public final class SpecificationBuilder<T> {
+
+    /**
+     * LIKEのエスケープ文字
+     */
+    private static final char LIKE_ESCAPE = '\\';
+
+    private final List<Specification<T>> specifications = new ArrayList<>();
+
+    private SpecificationBuilder() {
+    }
+
+    /**
+     * ビルダーを作成します
+     *
+     * @param <T> 検索対象のエンティティの型
+     * @return 条件を持たないビルダー
+     */
+    public static <T> SpecificationBuilder<T> create() {
+        return new SpecificationBuilder<>();
+    }
+
+    /**
+     * 属性が値を含む（部分一致）条件を追加します。
+     * 値に含まれる{@code %}・{@code _}はワイルドカードではなく文字として扱います。
+     *
+     * @param attribute 属性名
+     * @param value     含まれる文字列（nullまたは空文字の場合は条件なし）
+     * @return このビルダー
+     */
+    public SpecificationBuilder<T> contains(String attribute, String value) {
+        if (!isSpecified(value)) {
+            return this;
+        }
+        String pattern = "%" + escapeLike(value) + "%";
+        specifications.add((root, query, cb) -> cb.like(root.get(attribute), pattern, LIKE_ESCAPE));
+        return this;
+    }
+
+    /**
+     * 属性が値と等しい条件を追加します
+     *
+     * @param attribute 属性名
+     * @param value     値（nullまたは空文字の場合は条件なし）
+     * @return このビルダー
+     */
+    public SpecificationBuilder<T> equalTo(String attribute, Object value) {
+        if (!isSpecified(value)) {
+            return this;
+        }
+        specifications.add((root, query, cb) -> cb.equal(root.get(attribute), value));
+        return this;
+    }
+
+    /**
+     * 属性が値以上である条件を追加します
+     *
+     * @param <Y>       属性の型
+     * @param attribute 属性名
+     * @param value     下限値（nullの場合は条件なし）
+     * @return このビルダー
+     */
+    public <Y extends Comparable<? super Y>> SpecificationBuilder<T> greaterThanOrEqualTo(String attribute, Y value) {
+        if (value == null) {
+            return this;
+        }
+        specifications.add((root, query, cb) -> cb.greaterThanOrEqualTo(root.<Y>get(attribute), value));
+        return this;
+    }
+
+    /**
+     * 属性が値以下である条件を追加します
+     *
+     * @param <Y>       属性の型
+     * @param attribute 属性名
+     * @param value     上限値（nullの場合は条件なし）
+     * @return このビルダー
+     */
+    public <Y extends Comparable<? super Y>> SpecificationBuilder<T> lessThanOrEqualTo(String attribute, Y value) {
+        if (value == null) {
+            return this;
+        }
+        specifications.add((root, query, cb) -> cb.lessThanOrEqualTo(root.<Y>get(attribute), value));
+        return this;
+    }
+
+    /**
+     * 追加した条件をANDで結合したSpecificationを作成します
+     *
+     * @return 検索条件（条件がない場合は全件が対象）
+     */
+    public Specification<T> build() {
+        return Specification.allOf(specifications);
+    }
+
+    private static boolean isSpecified(Object value) {
+        return value != null && !(value instanceof String string && string.isEmpty());
+    }
+
+    private static String escapeLike(String value) {
+        StringBuilder escaped = new StringBuilder(value.length());
+        for (char c : value.toCharArray()) {
+            if (c == '%' || c == '_' || c == LIKE_ESCAPE) {
+                escaped.append(LIKE_ESCAPE);
+            }
+            escaped.append(c);
+        }
+        return escaped.toString();
+    }
+}
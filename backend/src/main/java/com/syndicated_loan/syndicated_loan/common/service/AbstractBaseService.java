@@ -1,13 +1,34 @@
 package com.syndicated_loan.syndicated_loan.common.service;
 
+import jakarta.persistence.EntityGraph;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.metamodel.EntityType;
+
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.jpa.SpecHints;
+import org.springframework.core.GenericTypeResolver;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.syndicated_loan.syndicated_loan.common.dto.CursorPageDto;
 import com.syndicated_loan.syndicated_loan.common.exception.BusinessException;
 
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * BaseServiceインターフェースの抽象実装クラス。
@@ -26,13 +47,36 @@ public abstract class AbstractBaseService<T, ID, D, R extends JpaRepository<T, I
      */
     protected final R repository;
 
+    /**
+     * キーセットページング・ストリーミングで1回に読み込む最大件数
+     */
+    public static final int MAX_CHUNK_SIZE = 1000;
+
+    /**
+     * 一覧取得用のエンティティグラフ名の接尾辞（例: {@code Drawdown.forDto}）
+     */
+    private static final String DTO_GRAPH_SUFFIX = ".forDto";
+
+    /**
+     * エンティティマネージャー（キーセットページング・ストリーミングで使用）
+     */
+    @PersistenceContext
+    protected EntityManager entityManager;
+
+    /**
+     * 管理対象のエンティティクラス
+     */
+    private final Class<T> entityClass;
+
     /**
      * コンストラクタ
      * 
      * @param repository 使用するリポジトリ
      */
+    @SuppressWarnings("unchecked")
     protected AbstractBaseService(R repository) {
         this.repository = repository;
+        this.entityClass = (Class<T>) GenericTypeResolver.resolveTypeArguments(getClass(), AbstractBaseService.class)[0];
     }
 
     /**
@@ -70,6 +114,30 @@ public abstract class AbstractBaseService<T, ID, D, R extends JpaRepository<T, I
         return repository.findById(id).map(this::toDto);
     }
 
+    /**
+     * IDによりエンティティを検索します。
+     * 他のサービスのtoEntityで関連を解決するためのもので、DTOへの変換とエンティティの再構築を行わず、
+     * 呼び出し元のトランザクション内では管理状態のエンティティ（永続化コンテキストまたは2次キャッシュにあればそれ）を返します。
+     *
+     * @param id 検索するエンティティのID
+     * @return エンティティ（オプショナル）
+     */
+    public Optional<T> findEntityById(ID id) {
+        return repository.findById(id);
+    }
+
+    /**
+     * IDによりエンティティの参照を取得します。
+     * 存在確認を行わず、永続化コンテキストにない場合は未初期化のプロキシを返すため、
+     * 直前に作成・取得したなど、存在が確かなIDの関連付けに使用します。
+     *
+     * @param id 参照するエンティティのID
+     * @return エンティティの参照
+     */
+    public T getReference(ID id) {
+        return repository.getReferenceById(id);
+    }
+
     /**
      * すべてのエンティティを取得します
      * 
@@ -78,9 +146,79 @@ public abstract class AbstractBaseService<T, ID, D, R extends JpaRepository<T, I
     @Override
     @Transactional(readOnly = true)
     public List<D> findAll() {
-        return repository.findAll().stream()
-                .map(this::toDto)
-                .collect(Collectors.toList());
+        return toDtoList(repository.findAll());
+    }
+
+    /**
+     * エンティティをページ単位で取得します
+     * 
+     * @param pageable ページ番号・件数・ソート条件
+     * @return エンティティのDTOのページ
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Page<D> findAll(Pageable pageable) {
+        Page<T> page = repository.findAll(pageable);
+        return new PageImpl<>(toDtoList(page.getContent()), pageable, page.getTotalElements());
+    }
+
+    /**
+     * 指定されたカーソルより後ろのエンティティをID順に取得します。
+     * OFFSETを使わないため、後方のページでも取得コストは一定です。
+     * 
+     * @param cursor 前ページの最後のID（nullの場合は先頭から）
+     * @param size   取得件数
+     * @return エンティティのDTOと次ページのカーソル
+     * @throws BusinessException 取得件数が範囲外の場合
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageDto<D, ID> findAllAfter(ID cursor, int size) {
+        validateChunkSize(size);
+
+        // 1件余分に取得して次ページの有無を判定
+        List<T> entities = createIdOrderedQuery(cursor)
+                .setMaxResults(size + 1)
+                .getResultList();
+        boolean hasNext = entities.size() > size;
+        List<T> content = hasNext ? entities.subList(0, size) : entities;
+
+        return CursorPageDto.<D, ID>builder()
+                .content(toDtoList(content))
+                .nextCursor(content.isEmpty() ? cursor : getEntityIdentifier(content.get(content.size() - 1)))
+                .hasNext(hasNext)
+                .build();
+    }
+
+    /**
+     * すべてのエンティティをID順にチャンク単位で読み込み、DTOへ変換して渡します。
+     * チャンクを渡すたびに永続化コンテキストをクリアするため、
+     * 件数に関わらず保持するエンティティは1チャンク分のみです。
+     * 
+     * @param chunkSize     1チャンクあたりの件数
+     * @param chunkConsumer 変換済みのDTOのチャンクを受け取る処理
+     * @throws BusinessException チャンクサイズが範囲外の場合
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAll(int chunkSize, Consumer<List<D>> chunkConsumer) {
+        validateChunkSize(chunkSize);
+
+        try (Stream<T> stream = createIdOrderedQuery(null)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, chunkSize)
+                .getResultStream()) {
+            List<T> chunk = new ArrayList<>(chunkSize);
+            Iterator<T> iterator = stream.iterator();
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next());
+                if (chunk.size() == chunkSize) {
+                    emitChunk(chunk, chunkConsumer);
+                }
+            }
+            if (!chunk.isEmpty()) {
+                emitChunk(chunk, chunkConsumer);
+            }
+        }
     }
 
     /**
@@ -118,6 +256,86 @@ public abstract class AbstractBaseService<T, ID, D, R extends JpaRepository<T, I
         repository.deleteById(id);
     }
 
+    /**
+     * エンティティのリストをDTOのリストへ変換します。
+     * 一覧系の検索メソッドはこのメソッドを経由して変換することで、
+     * サブクラスが変換前に関連データを一括で先読みできるようにします。
+     * 
+     * @param entities 変換するエンティティのリスト
+     * @return 変換されたDTOのリスト
+     */
+    protected List<D> toDtoList(List<T> entities) {
+        return entities.stream()
+                .map(this::toDto)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * チャンクをDTOへ変換して渡し、永続化コンテキストをクリアします
+     * 
+     * @param chunk         変換するエンティティのチャンク（処理後に空になります）
+     * @param chunkConsumer 変換済みのDTOのチャンクを受け取る処理
+     */
+    private void emitChunk(List<T> chunk, Consumer<List<D>> chunkConsumer) {
+        chunkConsumer.accept(toDtoList(chunk));
+        chunk.clear();
+        entityManager.clear();
+    }
+
+    /**
+     * ID昇順でエンティティを取得するクエリを作成します。
+     * エンティティに{@code <エンティティ名>.forDto}のエンティティグラフが定義されている場合は
+     * ロードグラフとして適用します。
+     * 
+     * @param cursor このIDより大きいエンティティのみを対象とする（nullの場合は全件）
+     * @return 作成したクエリ
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private TypedQuery<T> createIdOrderedQuery(ID cursor) {
+        EntityType<T> entityType = entityManager.getMetamodel().entity(entityClass);
+        String idAttribute = entityType.getId(entityType.getIdType().getJavaType()).getName();
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<T> query = cb.createQuery(entityClass);
+        Root<T> root = query.from(entityClass);
+        Path<Comparable> id = root.get(idAttribute);
+        if (cursor != null) {
+            query.where(cb.greaterThan(id, (Comparable) cursor));
+        }
+        query.orderBy(cb.asc(id));
+
+        TypedQuery<T> typedQuery = entityManager.createQuery(query);
+        String graphName = entityClass.getSimpleName() + DTO_GRAPH_SUFFIX;
+        entityManager.getEntityGraphs(entityClass).stream()
+                .filter(graph -> graphName.equals(graph.getName()))
+                .findFirst()
+                .ifPresent((EntityGraph<? super T> graph) -> typedQuery.setHint(SpecHints.HINT_SPEC_LOAD_GRAPH, graph));
+        return typedQuery;
+    }
+
+    /**
+     * エンティティのIDを取得します
+     * 
+     * @param entity 対象のエンティティ
+     * @return エンティティのID
+     */
+    @SuppressWarnings("unchecked")
+    private ID getEntityIdentifier(T entity) {
+        return (ID) entityManager.getEntityManagerFactory().getPersistenceUnitUtil().getIdentifier(entity);
+    }
+
+    /**
+     * 1回に読み込む件数が許容範囲内かを検証します
+     * 
+     * @param size 読み込む件数
+     * @throws BusinessException 1未満または上限を超える場合
+     */
+    public static void validateChunkSize(int size) {
+        if (size < 1 || size > MAX_CHUNK_SIZE) {
+            throw new BusinessException("Size must be between 1 and " + MAX_CHUNK_SIZE, "INVALID_PAGE_SIZE");
+        }
+    }
+
     /**
      * エンティティにIDを設定します
      * 
@@ -12,9 +12,12 @@ import lombok.extern.slf4j.Slf4j;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
 
 /**
  * AmountPie（金額配分）に関する操作を提供するサービスクラス。
@@ -35,11 +38,11 @@ import java.util.Map;
 @Transactional(readOnly = true)
 public class AmountPieService extends AbstractBaseService<AmountPie, Long, AmountPieDto, AmountPieRepository> {
 
-    private final InvestorService investorService;
+    private final InvestorNameResolver investorNameResolver;
 
-    public AmountPieService(AmountPieRepository repository, InvestorService investorService) {
+    public AmountPieService(AmountPieRepository repository, InvestorNameResolver investorNameResolver) {
         super(repository);
-        this.investorService = investorService;
+        this.investorNameResolver = investorNameResolver;
     }
 
     @Override
@@ -66,9 +69,13 @@ public class AmountPieService extends AbstractBaseService<AmountPie, Long, Amoun
                 .build();
 
         // レスポンス用の追加情報
+        Map<Long, String> investorNames = investorNameResolver.resolve(entity.getAmounts().keySet());
         Map<String, BigDecimal> investorAmounts = new HashMap<>();
         entity.getAmounts().forEach((investorId, amount) -> {
-            investorService.findById(investorId).ifPresent(investor -> investorAmounts.put(investor.getName(), amount));
+            String investorName = investorNames.get(investorId);
+            if (investorName != null) {
+                investorAmounts.put(investorName, amount);
+            }
         });
         dto.setInvestorAmounts(investorAmounts);
 
@@ -81,6 +88,21 @@ public class AmountPieService extends AbstractBaseService<AmountPie, Long, Amoun
         return dto;
     }
 
+    // 一覧変換の前に全AmountPieの投資家名をまとめて解決
+    @Override
+    protected List<AmountPieDto> toDtoList(List<AmountPie> entities) {
+        prefetchInvestorNames(entities);
+        return super.toDtoList(entities);
+    }
+
+    // 複数のAmountPieに含まれる投資家名を一括で先読み
+    public void prefetchInvestorNames(Collection<AmountPie> amountPies) {
+        investorNameResolver.prefetch(amountPies.stream()
+                .filter(Objects::nonNull)
+                .flatMap(amountPie -> amountPie.getAmounts().keySet().stream())
+                .collect(Collectors.toSet()));
+    }
+
     // 金額の検証
     private void validateAmounts(Map<Long, BigDecimal> amounts) {
         if (amounts == null || amounts.isEmpty()) {
@@ -116,16 +138,12 @@ public class AmountPieService extends AbstractBaseService<AmountPie, Long, Amoun
 
     // 最小金額以上の投資家を検索
     public List<AmountPieDto> findByMinimumAmount(BigDecimal minAmount) {
-        return repository.findByMinimumAmount(minAmount).stream()
-                .map(this::toDto)
-                .toList();
+        return toDtoList(repository.findByMinimumAmount(minAmount));
     }
 
     // 特定の投資家が参加しているAmountPieを検索
     public List<AmountPieDto> findByInvestorId(Long investorId) {
-        return repository.findByInvestorId(investorId).stream()
-                .map(this::toDto)
-                .toList();
+        return toDtoList(repository.findByInvestorId(investorId));
     }
 
     // 投資家の総額を計算
@@ -0,0 +1,26 @@
+package com.syndicated_loan.syndicated_loan.common.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+import java.time.Duration;
+
+/**
+ * 口座ごとの残高の推移（{@link PositionBalanceHistory}）のキャッシュの設定。
+ * プレフィックスは{@code syndicated-loan.balance-history}です。
+ */
+@Data
+@ConfigurationProperties(prefix = "syndicated-loan.balance-history")
+public class BalanceHistoryProperties {
+
+    /**
+     * 変更履歴を保持する口座の最大件数
+     */
+    private long maxAccounts = 10000;
+
+    /**
+     * 最後の参照から変更履歴を破棄するまでの時間
+     */
+    private Duration expireAfterAccess = Duration.ofMinutes(30);
+}
@@ -1,7 +1,13 @@
 package com.syndicated_loan.syndicated_loan.common.service;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import com.syndicated_loan.syndicated_loan.common.dto.CursorPageDto;
+
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * 基本的なCRUD操作を定義するジェネリックなサービスインターフェース。
@@ -35,6 +41,32 @@ public interface BaseService<T, ID, D> {
      */
     List<D> findAll();
 
+    /**
+     * エンティティをページ単位で取得します
+     * 
+     * @param pageable ページ番号・件数・ソート条件
+     * @return エンティティのDTOのページ
+     */
+    Page<D> findAll(Pageable pageable);
+
+    /**
+     * 指定されたカーソルより後ろのエンティティをID順に取得します（キーセットページング）
+     * 
+     * @param cursor 前ページの最後のID（nullの場合は先頭から）
+     * @param size   取得件数
+     * @return エンティティのDTOと次ページのカーソル
+     */
+    CursorPageDto<D, ID> findAllAfter(ID cursor, int size);
+
+    /**
+     * すべてのエンティティをID順にチャンク単位で読み込み、DTOへ変換して渡します。
+     * チャンクごとに永続化コンテキストをクリアするため、件数に関わらずメモリ使用量は一定です。
+     * 
+     * @param chunkSize     1チャンクあたりの件数
+     * @param chunkConsumer 変換済みのDTOのチャンクを受け取る処理
+     */
+    void streamAll(int chunkSize, Consumer<List<D>> chunkConsumer);
+
     /**
      * エンティティを更新します
      * 
@@ -1,14 +1,18 @@
 package com.syndicated_loan.syndicated_loan.common.service;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.syndicated_loan.syndicated_loan.common.dto.BorrowerDto;
 import com.syndicated_loan.syndicated_loan.common.entity.Borrower;
 import com.syndicated_loan.syndicated_loan.common.repository.BorrowerRepository;
+import com.syndicated_loan.syndicated_loan.common.repository.SpecificationBuilder;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * 借入人に関する操作を提供するサービスクラス。
@@ -101,9 +105,8 @@ public class BorrowerService extends AbstractBaseService<Borrower, Long, Borrowe
         // DTO→エンティティ変換
         Borrower entity = toEntity(dto);
 
-        // 必須項目の設定 - IDと作成日時は維持
+        // 必須項目の設定 - IDは維持
         entity.setId(id);
-        entity.setCreatedAt(existingEntity.getCreatedAt());
 
         // バージョン情報の引き継ぎ（DTOからversionが来ていない場合用）
         if (entity.getVersion() == null) {
@@ -118,29 +121,45 @@ public class BorrowerService extends AbstractBaseService<Borrower, Long, Borrowe
     }
 
     /**
-     * 条件に基づいて借入人を検索します
+     * 条件に基づいて借入人を検索します。
+     * 指定された条件（nullまたは空文字の条件は無視）をすべて満たす借入人を、SQLで絞り込んで取得します。
      *
      * @param name         名前（部分一致）
      * @param creditRating 信用格付け
      * @param industry     業種
+     * @param companyType  企業形態
      * @return 検索結果の借入人DTOリスト
      */
     @Transactional(readOnly = true)
-    public List<BorrowerDto> search(String name, String creditRating, String industry) {
-        List<Borrower> results;
-
-        if (name != null && !name.isEmpty()) {
-            results = repository.findByNameContaining(name);
-        } else if (creditRating != null && !creditRating.isEmpty()) {
-            results = repository.findByCreditRating(creditRating);
-        } else if (industry != null && !industry.isEmpty()) {
-            results = repository.findByIndustry(industry);
-        } else {
-            results = repository.findAll();
-        }
+    public List<BorrowerDto> search(String name, String creditRating, String industry, String companyType) {
+        return toDtoList(repository.findAll(searchSpecification(name, creditRating, industry, companyType)));
+    }
+
+    /**
+     * 条件に基づいて借入人をページ単位で検索します
+     *
+     * @param name         名前（部分一致）
+     * @param creditRating 信用格付け
+     * @param industry     業種
+     * @param companyType  企業形態
+     * @param pageable     ページ番号・件数・ソート条件
+     * @return 検索結果の借入人DTOのページ
+     */
+    @Transactional(readOnly = true)
+    public Page<BorrowerDto> search(String name, String creditRating, String industry, String companyType,
+            Pageable pageable) {
+        Page<Borrower> page = repository.findAll(
+                searchSpecification(name, creditRating, industry, companyType), pageable);
+        return new PageImpl<>(toDtoList(page.getContent()), pageable, page.getTotalElements());
+    }
 
-        return results.stream()
-                .map(this::toDto)
-                .collect(Collectors.toList());
+    private Specification<Borrower> searchSpecification(String name, String creditRating, String industry,
+            String companyType) {
+        return SpecificationBuilder.<Borrower>create()
+                .contains("name", name)
+                .equalTo("creditRating", creditRating)
+                .equalTo("industry", industry)
+                .equalTo("companyType", companyType)
+                .build();
     }
 }
@@ -3,21 +3,33 @@ package com.syndicated_loan.syndicated_loan.common.service;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.syndicated_loan.syndicated_loan.common.aop.RetryOnConflict;
 import com.syndicated_loan.syndicated_loan.common.dto.DrawdownDto;
+import com.syndicated_loan.syndicated_loan.common.dto.DrawdownExecutionResultDto;
 import com.syndicated_loan.syndicated_loan.common.dto.LoanDto;
 import com.syndicated_loan.syndicated_loan.common.dto.AmountPieDto;
 import com.syndicated_loan.syndicated_loan.common.entity.AmountPie;
 import com.syndicated_loan.syndicated_loan.common.entity.Drawdown;
 import com.syndicated_loan.syndicated_loan.common.entity.Facility;
+import com.syndicated_loan.syndicated_loan.common.entity.JournalEntry.AccountType;
 import com.syndicated_loan.syndicated_loan.common.entity.Loan;
 import com.syndicated_loan.syndicated_loan.common.repository.DrawdownRepository;
 import com.syndicated_loan.syndicated_loan.common.exception.BusinessException;
+import com.syndicated_loan.syndicated_loan.common.service.TransactionJournal.Posting;
 
+import jakarta.persistence.LockModeType;
 import lombok.extern.slf4j.Slf4j;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
 import java.math.RoundingMode;
 import java.time.temporal.ChronoUnit;
 
@@ -44,6 +56,8 @@ public class DrawdownService
 
     private final FacilityService facilityService;
     private final LoanService loanService; // 追加！
+    private final TransactionJournal transactionJournal;
+    private final PortfolioSummaryService portfolioSummaryService;
 
     public DrawdownService(
             DrawdownRepository repository,
@@ -51,10 +65,14 @@ public class DrawdownService
             PositionService positionService,
             FacilityService facilityService,
             LoanService loanService, // 追加！
-            InvestorService investorService) {
+            InvestorService investorService,
+            TransactionJournal transactionJournal,
+            PortfolioSummaryService portfolioSummaryService) {
         super(repository, amountPieService, positionService, investorService);
         this.facilityService = facilityService;
         this.loanService = loanService; // 追加！
+        this.transactionJournal = transactionJournal;
+        this.portfolioSummaryService = portfolioSummaryService;
 
     }
 
@@ -67,8 +85,7 @@ public class DrawdownService
         entity.setAmount(dto.getDrawdownAmount());
 
         // Facilityの設定
-        Facility facility = facilityService.findById(dto.getRelatedFacilityId())
-                .map(facilityService::toEntity)
+        Facility facility = facilityService.findEntityById(dto.getRelatedFacilityId())
                 .orElseThrow(() -> new BusinessException("Facility not found", "FACILITY_NOT_FOUND"));
         entity.setRelatedFacility(facility);
 
@@ -86,12 +103,11 @@ public class DrawdownService
 
         // Loanを永続化して関連付け
         LoanDto savedLoan = loanService.create(loanDto);
-        entity.setRelatedPosition(loanService.toEntity(savedLoan));
+        entity.setRelatedPosition(loanService.getReference(savedLoan.getId()));
 
         // AmountPieの設定
         if (dto.getAmountPieId() != null) {
-            AmountPie amountPie = amountPieService.findById(dto.getAmountPieId())
-                    .map(amountPieService::toEntity)
+            AmountPie amountPie = amountPieService.findEntityById(dto.getAmountPieId())
                     .orElseThrow(() -> new BusinessException("AmountPie not found", "AMOUNT_PIE_NOT_FOUND"));
             entity.setAmountPie(amountPie);
         }
@@ -139,6 +155,25 @@ public class DrawdownService
         return dto;
     }
 
+    /**
+     * ドローダウンの一覧をまとめて変換する、兵站の一括手配なり！
+     * 
+     * <p>
+     * AmountPieに加え、関連ファシリティのSharePieの投資家名も先に一括で解決し、
+     * ドローダウンごとの投資家検索を防ぐ。
+     * </p>
+     *
+     * @param entities 変換すべきドローダウンのリスト
+     * @return 変換されたドローダウンDTOのリスト
+     */
+    @Override
+    protected List<DrawdownDto> toDtoList(List<Drawdown> entities) {
+        facilityService.prefetchInvestorNames(entities.stream()
+                .map(Drawdown::getRelatedFacility)
+                .toList());
+        return super.toDtoList(entities);
+    }
+
     /**
      * 配下のファシリティに関連するドローダウンを探し出す術なり！
      * 
@@ -152,12 +187,9 @@ public class DrawdownService
      * @throws BusinessException ファシリティが見つからぬ場合に発せられる
      */
     public List<DrawdownDto> findByRelatedFacility(Long facilityId) {
-        Facility facility = facilityService.findById(facilityId)
-                .map(facilityService::toEntity)
+        Facility facility = facilityService.findEntityById(facilityId)
                 .orElseThrow(() -> new BusinessException("Facility not found", "FACILITY_NOT_FOUND"));
-        return repository.findByRelatedFacility(facility).stream()
-                .map(this::toDto)
-                .toList();
+        return toDtoList(repository.findByRelatedFacility(facility));
     }
 
     /**
@@ -172,9 +204,7 @@ public class DrawdownService
      * @return 指定された金額を上回るドローダウンのリスト
      */
     public List<DrawdownDto> findByDrawdownAmountGreaterThan(BigDecimal amount) {
-        return repository.findByDrawdownAmountGreaterThan(amount).stream()
-                .map(this::toDto)
-                .toList();
+        return toDtoList(repository.findByDrawdownAmountGreaterThan(amount));
     }
 
     /**
@@ -191,12 +221,9 @@ public class DrawdownService
      * @throws BusinessException ファシリティが見つからぬ場合に発せられる
      */
     public List<DrawdownDto> findByRelatedFacilityAndDrawdownAmountGreaterThan(Long facilityId, BigDecimal amount) {
-        Facility facility = facilityService.findById(facilityId)
-                .map(facilityService::toEntity)
+        Facility facility = facilityService.findEntityById(facilityId)
                 .orElseThrow(() -> new BusinessException("Facility not found", "FACILITY_NOT_FOUND"));
-        return repository.findByRelatedFacilityAndDrawdownAmountGreaterThan(facility, amount).stream()
-                .map(this::toDto)
-                .toList();
+        return toDtoList(repository.findByRelatedFacilityAndDrawdownAmountGreaterThan(facility, amount));
     }
 
     /**
@@ -206,17 +233,24 @@ public class DrawdownService
      * 戦を決するが如く、ドローダウンを実行し、ファシリティの利用可能額を減少させる。
      * また、投資家の現在の投資額を増加させ、ドローダウンの状態を「実行済み」と記す。
      * 利用可能額が足りぬ場合は撤退のごとく例外を投げる！
+     * 同じファシリティへの同時の出陣で楽観ロックが競合した場合は、最新の利用可能額を読み直して再び挑む。
      * </p>
      *
      * @param drawdownId 実行すべきドローダウンのID
      * @return 実行後のドローダウン情報
-     * @throws BusinessException ドローダウンが見つからぬ場合や、利用可能額が不足する場合に発せられる
+     * @throws BusinessException ドローダウンが見つからぬ場合や、実行済みの場合、利用可能額が不足する場合に発せられる
      */
+    @RetryOnConflict
     @Transactional
     public DrawdownDto executeDrawdown(Long drawdownId) {
         Drawdown drawdown = repository.findById(drawdownId)
                 .orElseThrow(() -> new BusinessException("Drawdown not found", "DRAWDOWN_NOT_FOUND"));
 
+        // 再実行で読み直した際に、他の実行で実行済みとなっていれば二重に反映しない
+        if ("EXECUTED".equals(drawdown.getStatus())) {
+            throw new BusinessException("Drawdown already executed", "DRAWDOWN_ALREADY_EXECUTED");
+        }
+
         Facility facility = drawdown.getRelatedFacility();
         BigDecimal newAvailableAmount = facility.getAvailableAmount().subtract(drawdown.getDrawdownAmount());
 
@@ -224,13 +258,19 @@ public class DrawdownService
             throw new BusinessException("Insufficient available amount", "INSUFFICIENT_AVAILABLE_AMOUNT");
         }
 
-        // ファシリティの利用可能額を更新
-        facilityService.updateAvailableAmount(facility.getId(), newAvailableAmount);
+        // ファシリティの利用可能額を更新（直接変更ではなくドローダウンの仕訳として記録するため、エンティティを更新する）
+        facility.setAvailableAmount(newAvailableAmount);
 
         // 投資家の現在の投資額を更新（増額）
-        // AmountPieエンティティをDTOに変換してから渡す
-        AmountPieDto amountPieDto = amountPieService.toDto(drawdown.getAmountPie());
-        updateInvestorCurrentInvestments(amountPieDto, BigDecimal.ONE);
+        // AmountPieエンティティをDTOに変換してから渡す（配分の無いドローダウンは投資額を変更しない）
+        AmountPie amountPie = drawdown.getAmountPie();
+        if (amountPie != null) {
+            AmountPieDto amountPieDto = amountPieService.toDto(amountPie);
+            updateInvestorCurrentInvestments(amountPieDto, BigDecimal.ONE);
+        }
+        recordExecution(drawdown);
+        portfolioSummaryService.recordDrawdown(facility, drawdown.getDrawdownAmount(), 1,
+                amountPie != null ? amountPie.getAmounts() : null);
 
         // ドローダウンのステータスを更新
         drawdown.setStatus("EXECUTED");
@@ -239,6 +279,138 @@ public class DrawdownService
         return toDto(repository.save(drawdown));
     }
 
+    /**
+     * 複数のドローダウンを一斉に実行する、総攻撃の号令なり！
+     * 
+     * <p>
+     * ドローダウンをファシリティごとに束ね、ファシリティIDの順に1度だけ悲観ロックを取得する。
+     * 束ねた合計額が利用可能額を超える場合は、そのファシリティのドローダウンをすべて差し戻す。
+     * 他のファシリティの成否には影響せず、1件ごとの結果を要求された順に返す。
+     * 投資家の投資額の増減は台帳に集約され、コミット時にまとめて反映される。
+     * </p>
+     *
+     * @param drawdownIds 実行すべきドローダウンのIDリスト
+     * @return ドローダウンごとの実行結果
+     * @throws BusinessException IDリストが空の場合に発せられる
+     */
+    @Transactional
+    public List<DrawdownExecutionResultDto> executeDrawdowns(List<Long> drawdownIds) {
+        if (drawdownIds == null || drawdownIds.isEmpty()) {
+            throw new BusinessException("Drawdown ids cannot be empty", "EMPTY_DRAWDOWN_IDS");
+        }
+
+        Map<Long, DrawdownExecutionResultDto> results = new LinkedHashMap<>();
+        drawdownIds.forEach(id -> results.putIfAbsent(id, failedResult(id, null,
+                "DRAWDOWN_NOT_FOUND", "Drawdown not found")));
+
+        // 未実行のドローダウンをファシリティごとに束ねる（ロック順序を固定するためID順）
+        Map<Long, List<Drawdown>> drawdownsByFacility = new TreeMap<>();
+        for (Drawdown drawdown : repository.findAllById(results.keySet())) {
+            Long facilityId = drawdown.getRelatedFacility().getId();
+            if ("EXECUTED".equals(drawdown.getStatus())) {
+                results.put(drawdown.getId(), failedResult(drawdown.getId(), facilityId,
+                        "DRAWDOWN_ALREADY_EXECUTED", "Drawdown already executed"));
+                continue;
+            }
+            drawdownsByFacility.computeIfAbsent(facilityId, id -> new ArrayList<>()).add(drawdown);
+        }
+
+        List<Drawdown> executed = new ArrayList<>();
+        drawdownsByFacility.forEach((facilityId, candidates) -> {
+            Facility facility = candidates.get(0).getRelatedFacility();
+            // ロック取得と同時に最新の利用可能額を読み直す
+            entityManager.refresh(facility, LockModeType.PESSIMISTIC_WRITE);
+
+            // ロック待ちの間に同じドローダウンを含む他の一括実行が実行済みとしていれば、その1件のみ差し戻す
+            Set<Long> executedIds = new HashSet<>(repository.findExecutedIds(
+                    candidates.stream().map(Drawdown::getId).toList()));
+            List<Drawdown> drawdowns = new ArrayList<>();
+            for (Drawdown drawdown : candidates) {
+                if (executedIds.contains(drawdown.getId())) {
+                    results.put(drawdown.getId(), failedResult(drawdown.getId(), facilityId,
+                            "DRAWDOWN_ALREADY_EXECUTED", "Drawdown already executed"));
+                } else {
+                    drawdowns.add(drawdown);
+                }
+            }
+            if (drawdowns.isEmpty()) {
+                return;
+            }
+
+            BigDecimal totalAmount = drawdowns.stream()
+                    .map(Drawdown::getDrawdownAmount)
+                    .reduce(BigDecimal.ZERO, BigDecimal::add);
+            BigDecimal newAvailableAmount = facility.getAvailableAmount().subtract(totalAmount);
+            if (newAvailableAmount.compareTo(BigDecimal.ZERO) < 0) {
+                drawdowns.forEach(drawdown -> results.put(drawdown.getId(), failedResult(drawdown.getId(), facilityId,
+                        "INSUFFICIENT_AVAILABLE_AMOUNT", "Insufficient available amount")));
+                return;
+            }
+
+            facility.setAvailableAmount(newAvailableAmount);
+            LocalDateTime processedDate = LocalDateTime.now();
+            Map<Long, BigDecimal> investorAmounts = new TreeMap<>();
+            for (Drawdown drawdown : drawdowns) {
+                if (drawdown.getAmountPie() != null) {
+                    investorService.adjustCurrentInvestments(drawdown.getAmountPie().getAmounts(), BigDecimal.ONE);
+                    drawdown.getAmountPie().getAmounts().forEach(
+                            (investorId, amount) -> investorAmounts.merge(investorId, amount, BigDecimal::add));
+                }
+                drawdown.setStatus("EXECUTED");
+                drawdown.setProcessedDate(processedDate);
+                recordExecution(drawdown);
+                executed.add(drawdown);
+            }
+            // ファシリティの集計行は束ねたドローダウンの合計で1度だけ更新する
+            portfolioSummaryService.recordDrawdown(facility, totalAmount, drawdowns.size(), investorAmounts);
+        });
+
+        List<DrawdownDto> executedDtos = toDtoList(repository.saveAll(executed));
+        executedDtos.forEach(dto -> results.put(dto.getId(), DrawdownExecutionResultDto.builder()
+                .drawdownId(dto.getId())
+                .facilityId(dto.getRelatedFacilityId())
+                .executed(true)
+                .drawdown(dto)
+                .build()));
+
+        return new ArrayList<>(results.values());
+    }
+
+    /**
+     * ドローダウンの実行による残高の増減（ファシリティの利用可能額の減少と投資家の投資額の増加）を仕訳に記録する
+     *
+     * @param drawdown 実行したドローダウン
+     */
+    private void recordExecution(Drawdown drawdown) {
+        List<Posting> postings = new ArrayList<>();
+        postings.add(new Posting(AccountType.FACILITY, drawdown.getRelatedFacility().getId(),
+                drawdown.getDrawdownAmount().negate()));
+        if (drawdown.getAmountPie() != null) {
+            postings.addAll(Posting.investors(drawdown.getAmountPie().getAmounts(), BigDecimal.ONE));
+        }
+        transactionJournal.recordTransaction(drawdown, postings);
+    }
+
+    /**
+     * 失敗したドローダウンの実行結果を作成する
+     *
+     * @param drawdownId   ドローダウンID
+     * @param facilityId   ファシリティID（不明の場合はnull）
+     * @param errorCode    エラーコード
+     * @param errorMessage エラーメッセージ
+     * @return 失敗を表す実行結果
+     */
+    private DrawdownExecutionResultDto failedResult(Long drawdownId, Long facilityId, String errorCode,
+            String errorMessage) {
+        return DrawdownExecutionResultDto.builder()
+                .drawdownId(drawdownId)
+                .facilityId(facilityId)
+                .executed(false)
+                .errorCode(errorCode)
+                .errorMessage(errorMessage)
+                .build();
+    }
+
     /**
      * ドローダウン金額を変更する、戦略の練り直しのごとし！
      * 
@@ -0,0 +1,26 @@
+package com.syndicated_loan.syndicated_loan.common.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+import java.time.Duration;
+
+/**
+ * 投資家の投資額の台帳（{@link InvestorExposureLedger}）のキャッシュの設定。
+ * プレフィックスは{@code syndicated-loan.exposure-ledger}です。
+ */
+@Data
+@ConfigurationProperties(prefix = "syndicated-loan.exposure-ledger")
+public class ExposureLedgerProperties {
+
+    /**
+     * コミット済みの投資額を保持する投資家の最大件数
+     */
+    private long maxInvestors = 10000;
+
+    /**
+     * 最後の参照からコミット済みの投資額を破棄するまでの時間
+     */
+    private Duration expireAfterAccess = Duration.ofMinutes(30);
+}
@@ -55,8 +55,7 @@ public class FacilityInvestmentService
         // entity.setInvestmentAmount(dto.getAmount());
 
         // 投資家の設定
-        Investor investor = investorService.findById(dto.getInvestorId())
-                .map(investorService::toEntity)
+        Investor investor = investorService.findEntityById(dto.getInvestorId())
                 .orElseThrow(() -> new BusinessException("Investor not found", "INVESTOR_NOT_FOUND"));
         entity.setInvestor(investor);
 
@@ -120,18 +119,13 @@ public class FacilityInvestmentService
 
     // 追加の検索メソッド
     public List<FacilityInvestmentDto> findByInvestor(Long investorId) {
-        Investor investor = investorService.findById(investorId)
-                .map(investorService::toEntity)
+        Investor investor = investorService.findEntityById(investorId)
                 .orElseThrow(() -> new BusinessException("Investor not found", "INVESTOR_NOT_FOUND"));
-        return repository.findByInvestor(investor).stream()
-                .map(this::toDto)
-                .toList();
+        return toDtoList(repository.findByInvestor(investor));
     }
 
     public List<FacilityInvestmentDto> findByInvestmentAmountGreaterThan(BigDecimal amount) {
-        return repository.findByInvestmentAmountGreaterThan(amount).stream()
-                .map(this::toDto)
-                .toList();
+        return toDtoList(repository.findByInvestmentAmountGreaterThan(amount));
     }
 
     // 投資額の更新
@@ -9,6 +9,7 @@ import com.syndicated_loan.syndicated_loan.common.entity.Facility;
 import com.syndicated_loan.syndicated_loan.common.entity.SharePie;
 import com.syndicated_loan.syndicated_loan.common.entity.Syndicate;
 import com.syndicated_loan.syndicated_loan.common.entity.Borrower;
+import com.syndicated_loan.syndicated_loan.common.entity.JournalEntry.AccountType;
 import com.syndicated_loan.syndicated_loan.common.repository.FacilityRepository;
 import com.syndicated_loan.syndicated_loan.common.exception.BusinessException;
 
@@ -16,7 +17,9 @@ import lombok.extern.slf4j.Slf4j;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Objects;
 
 /**
  * ファシリティ（融資枠）操作を提供するサービスクラス。
@@ -41,16 +44,52 @@ public class FacilityService extends AbstractBaseService<Facility, Long, Facilit
     private final SyndicateService syndicateService;
     private final SharePieService sharePieService;
     private final BorrowerService borrowerService;
+    private final TransactionJournal transactionJournal;
+    private final PortfolioSummaryService portfolioSummaryService;
 
     public FacilityService(
             FacilityRepository repository,
             SyndicateService syndicateService,
             SharePieService sharePieService,
-            BorrowerService borrowerService) {
+            BorrowerService borrowerService,
+            TransactionJournal transactionJournal,
+            PortfolioSummaryService portfolioSummaryService) {
         super(repository);
         this.syndicateService = syndicateService;
         this.sharePieService = sharePieService;
         this.borrowerService = borrowerService;
+        this.transactionJournal = transactionJournal;
+        this.portfolioSummaryService = portfolioSummaryService;
+    }
+
+    // 作成時の利用可能額を仕訳に記録し、集計行を作成する
+    @Override
+    @Transactional
+    public FacilityDto create(FacilityDto dto) {
+        FacilityDto created = super.create(dto);
+        transactionJournal.recordOpening(AccountType.FACILITY, created.getId(), created.getAvailableAmount(),
+                created.getStartDate().atStartOfDay());
+        repository.findById(created.getId()).ifPresent(portfolioSummaryService::refreshFacility);
+        return created;
+    }
+
+    // 更新で利用可能額が変わった場合は差額を仕訳に記録し、集計行の総額・利用可能額を置き換える
+    @Override
+    @Transactional
+    public FacilityDto update(Long id, FacilityDto dto) {
+        BigDecimal before = repository.findById(id).map(Facility::getAvailableAmount).orElse(null);
+        FacilityDto updated = super.update(id, dto);
+        transactionJournal.recordAdjustment(AccountType.FACILITY, id, before, updated.getAvailableAmount());
+        repository.findById(id).ifPresent(portfolioSummaryService::refreshFacility);
+        return updated;
+    }
+
+    // 集計行も削除する
+    @Override
+    @Transactional
+    public void delete(Long id) {
+        super.delete(id);
+        portfolioSummaryService.removeFacility(id);
     }
 
     @Override
@@ -96,8 +135,7 @@ public class FacilityService extends AbstractBaseService<Facility, Long, Facilit
         entity.setInterestRate(dto.getInterestRate());
 
         // シンジケート団の設定
-        Syndicate syndicate = syndicateService.findById(dto.getSyndicateId())
-                .map(syndicateService::toEntity)
+        Syndicate syndicate = syndicateService.findEntityById(dto.getSyndicateId())
                 .orElseThrow(() -> new BusinessException("Syndicate not found", "SYNDICATE_NOT_FOUND"));
         entity.setSyndicate(syndicate);
 
@@ -118,8 +156,7 @@ public class FacilityService extends AbstractBaseService<Facility, Long, Facilit
         if (dto.getBorrowerId() == null) {
             throw new BusinessException("Borrower ID cannot be null", "BORROWER_REQUIRED");
         }
-        Borrower borrower = borrowerService.findById(dto.getBorrowerId())
-                .map(borrowerService::toEntity)
+        Borrower borrower = borrowerService.findEntityById(dto.getBorrowerId())
                 .orElseThrow(() -> new BusinessException("Borrower not found", "BORROWER_NOT_FOUND"));
         entity.setBorrower(borrower);
 
@@ -159,32 +196,38 @@ public class FacilityService extends AbstractBaseService<Facility, Long, Facilit
         return dto;
     }
 
+    // 一覧変換の前に全ファシリティのSharePieの投資家名をまとめて解決
+    @Override
+    protected List<FacilityDto> toDtoList(List<Facility> entities) {
+        prefetchInvestorNames(entities);
+        return super.toDtoList(entities);
+    }
+
+    // 複数のファシリティのSharePieに含まれる投資家名を一括で先読み
+    public void prefetchInvestorNames(Collection<Facility> facilities) {
+        sharePieService.prefetchInvestorNames(facilities.stream()
+                .map(Facility::getSharePie)
+                .filter(Objects::nonNull)
+                .toList());
+    }
+
     // 追加の検索メソッド
     public List<FacilityDto> findBySyndicate(Long syndicateId) {
-        Syndicate syndicate = syndicateService.findById(syndicateId)
-                .map(syndicateService::toEntity)
+        Syndicate syndicate = syndicateService.findEntityById(syndicateId)
                 .orElseThrow(() -> new BusinessException("Syndicate not found", "SYNDICATE_NOT_FOUND"));
-        return repository.findBySyndicate(syndicate).stream()
-                .map(this::toDto)
-                .toList();
+        return toDtoList(repository.findBySyndicate(syndicate));
     }
 
     public List<FacilityDto> findByTotalAmountGreaterThan(BigDecimal amount) {
-        return repository.findByTotalAmountGreaterThan(amount).stream()
-                .map(this::toDto)
-                .toList();
+        return toDtoList(repository.findByTotalAmountGreaterThan(amount));
     }
 
     public List<FacilityDto> findByEndDateAfter(LocalDate date) {
-        return repository.findByEndDateAfter(date).stream()
-                .map(this::toDto)
-                .toList();
+        return toDtoList(repository.findByEndDateAfter(date));
     }
 
     public List<FacilityDto> findByAvailableAmountGreaterThan(BigDecimal amount) {
-        return repository.findByAvailableAmountGreaterThan(amount).stream()
-                .map(this::toDto)
-                .toList();
+        return toDtoList(repository.findByAvailableAmountGreaterThan(amount));
     }
 
     // ファシリティの利用可能額を更新
@@ -201,7 +244,10 @@ public class FacilityService extends AbstractBaseService<Facility, Long, Facilit
             throw new BusinessException("Available amount cannot exceed total amount", "INVALID_AVAILABLE_AMOUNT");
         }
 
+        transactionJournal.recordAdjustment(AccountType.FACILITY, facilityId, facility.getAvailableAmount(),
+                newAvailableAmount);
         facility.setAvailableAmount(newAvailableAmount);
+        portfolioSummaryService.refreshFacility(facility);
         return toDto(repository.save(facility));
     }
 
@@ -1,18 +1,27 @@
 package com.syndicated_loan.syndicated_loan.common.service;
 
+import org.hibernate.Hibernate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.syndicated_loan.syndicated_loan.common.dto.FacilityTradeDto;
+import com.syndicated_loan.syndicated_loan.common.entity.Facility;
 import com.syndicated_loan.syndicated_loan.common.entity.FacilityTrade;
 import com.syndicated_loan.syndicated_loan.common.entity.Investor;
+import com.syndicated_loan.syndicated_loan.common.entity.Loan;
+import com.syndicated_loan.syndicated_loan.common.entity.Position;
+import com.syndicated_loan.syndicated_loan.common.entity.JournalEntry.AccountType;
 import com.syndicated_loan.syndicated_loan.common.repository.FacilityTradeRepository;
 import com.syndicated_loan.syndicated_loan.common.exception.BusinessException;
+import com.syndicated_loan.syndicated_loan.common.service.TransactionJournal.Posting;
 
 import lombok.extern.slf4j.Slf4j;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 
 @Slf4j
 @Service
@@ -22,16 +31,22 @@ public class FacilityTradeService
 
     private final InvestorService investorService;
     private final FacilityService facilityService;
+    private final TransactionJournal transactionJournal;
+    private final PortfolioSummaryService portfolioSummaryService;
 
     public FacilityTradeService(
             FacilityTradeRepository repository,
             AmountPieService amountPieService,
             PositionService positionService,
             InvestorService investorService,
-            FacilityService facilityService) {
+            FacilityService facilityService,
+            TransactionJournal transactionJournal,
+            PortfolioSummaryService portfolioSummaryService) {
         super(repository, amountPieService, positionService, investorService);
         this.investorService = investorService;
         this.facilityService = facilityService;
+        this.transactionJournal = transactionJournal;
+        this.portfolioSummaryService = portfolioSummaryService;
     }
 
     @Override
@@ -43,14 +58,12 @@ public class FacilityTradeService
         entity.setAmount(dto.getAmount());
 
         // 売り手の設定
-        Investor seller = investorService.findById(dto.getSellerId())
-                .map(investorService::toEntity)
+        Investor seller = investorService.findEntityById(dto.getSellerId())
                 .orElseThrow(() -> new BusinessException("Seller not found", "SELLER_NOT_FOUND"));
         entity.setSeller(seller);
 
         // 買い手の設定
-        Investor buyer = investorService.findById(dto.getBuyerId())
-                .map(investorService::toEntity)
+        Investor buyer = investorService.findEntityById(dto.getBuyerId())
                 .orElseThrow(() -> new BusinessException("Buyer not found", "BUYER_NOT_FOUND"));
         entity.setBuyer(buyer);
 
@@ -96,36 +109,25 @@ public class FacilityTradeService
 
     // 追加の検索メソッド
     public List<FacilityTradeDto> findBySeller(Long sellerId) {
-        Investor seller = investorService.findById(sellerId)
-                .map(investorService::toEntity)
+        Investor seller = investorService.findEntityById(sellerId)
                 .orElseThrow(() -> new BusinessException("Seller not found", "SELLER_NOT_FOUND"));
-        return repository.findBySeller(seller).stream()
-                .map(this::toDto)
-                .toList();
+        return toDtoList(repository.findBySeller(seller));
     }
 
     public List<FacilityTradeDto> findByBuyer(Long buyerId) {
-        Investor buyer = investorService.findById(buyerId)
-                .map(investorService::toEntity)
+        Investor buyer = investorService.findEntityById(buyerId)
                 .orElseThrow(() -> new BusinessException("Buyer not found", "BUYER_NOT_FOUND"));
-        return repository.findByBuyer(buyer).stream()
-                .map(this::toDto)
-                .toList();
+        return toDtoList(repository.findByBuyer(buyer));
     }
 
     public List<FacilityTradeDto> findByTradeAmountGreaterThan(BigDecimal amount) {
-        return repository.findByTradeAmountGreaterThan(amount).stream()
-                .map(this::toDto)
-                .toList();
+        return toDtoList(repository.findByTradeAmountGreaterThan(amount));
     }
 
     public List<FacilityTradeDto> findBySellerOrBuyer(Long investorId) {
-        Investor investor = investorService.findById(investorId)
-                .map(investorService::toEntity)
+        Investor investor = investorService.findEntityById(investorId)
                 .orElseThrow(() -> new BusinessException("Investor not found", "INVESTOR_NOT_FOUND"));
-        return repository.findBySellerOrBuyer(investor, investor).stream()
-                .map(this::toDto)
-                .toList();
+        return toDtoList(repository.findBySellerOrBuyer(investor, investor));
     }
 
     // 取引金額の更新
@@ -143,4 +145,36 @@ public class FacilityTradeService
 
         return toDto(repository.save(trade));
     }
+
+    // ファシリティ売買の実行（売り手から買い手へ投資額を移す）
+    @Transactional
+    public FacilityTradeDto executeFacilityTrade(Long tradeId) {
+        FacilityTrade trade = repository.findById(tradeId)
+                .orElseThrow(() -> new BusinessException("Trade not found", "TRADE_NOT_FOUND"));
+
+        if ("EXECUTED".equals(trade.getStatus())) {
+            throw new BusinessException("Facility trade already executed", "FACILITY_TRADE_ALREADY_EXECUTED");
+        }
+
+        // 売買対象のファシリティ（ローンの売買の場合はローンのファシリティ）
+        Position position = (Position) Hibernate.unproxy(trade.getRelatedPosition());
+        Facility facility = position instanceof Loan loan ? loan.getFacility() : (Facility) position;
+        if (facility == null) {
+            throw new BusinessException("Facility not found", "FACILITY_NOT_FOUND");
+        }
+
+        // 売り手の投資額を減らし、買い手の投資額を増やす（台帳に集約され、コミット時に反映される）
+        Map<Long, BigDecimal> amounts = new TreeMap<>();
+        amounts.merge(trade.getSeller().getId(), trade.getTradeAmount().negate(), BigDecimal::add);
+        amounts.merge(trade.getBuyer().getId(), trade.getTradeAmount(), BigDecimal::add);
+        investorService.adjustCurrentInvestments(amounts, BigDecimal.ONE);
+        transactionJournal.recordTransaction(trade, Posting.investors(amounts, BigDecimal.ONE));
+        portfolioSummaryService.recordTrade(facility.getId(), trade.getSeller().getId(), trade.getBuyer().getId(),
+                trade.getTradeAmount());
+
+        trade.setStatus("EXECUTED");
+        trade.setProcessedDate(LocalDateTime.now());
+
+        return toDto(repository.save(trade));
+    }
 }
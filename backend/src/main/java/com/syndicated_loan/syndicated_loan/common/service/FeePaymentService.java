@@ -3,6 +3,8 @@ package com.syndicated_loan.syndicated_loan.common.service;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.syndicated_loan.syndicated_loan.common.aop.RetryOnConflict;
+import com.syndicated_loan.syndicated_loan.common.calculation.ProRataAllocator;
 import com.syndicated_loan.syndicated_loan.common.dto.FeePaymentDto;
 import com.syndicated_loan.syndicated_loan.common.dto.AmountPieDto;
 import com.syndicated_loan.syndicated_loan.common.entity.FeePayment;
@@ -16,8 +18,6 @@ import lombok.extern.slf4j.Slf4j;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.util.List;
-import java.util.Map;
-import java.util.HashMap;
 
 /**
  * 手数料支払い操作を提供するサービスクラス。
@@ -64,8 +64,7 @@ public class FeePaymentService
         entity.setAmount(dto.getPaymentAmount()); // ここ追加！
 
         // 関連するファシリティの設定
-        Facility facility = facilityService.findById(dto.getFacilityId())
-                .map(facilityService::toEntity)
+        Facility facility = facilityService.findEntityById(dto.getFacilityId())
                 .orElseThrow(() -> new BusinessException("Facility not found", "FACILITY_NOT_FOUND"));
         entity.setFacility(facility);
 
@@ -108,38 +107,38 @@ public class FeePaymentService
         return dto;
     }
 
+    // 一覧変換の前に関連ファシリティのSharePieの投資家名もまとめて解決
+    @Override
+    protected List<FeePaymentDto> toDtoList(List<FeePayment> entities) {
+        facilityService.prefetchInvestorNames(entities.stream()
+                .map(FeePayment::getFacility)
+                .toList());
+        return super.toDtoList(entities);
+    }
+
     // 追加の検索メソッド
     public List<FeePaymentDto> findByFacility(Long facilityId) {
-        Facility facility = facilityService.findById(facilityId)
-                .map(facilityService::toEntity)
+        Facility facility = facilityService.findEntityById(facilityId)
                 .orElseThrow(() -> new BusinessException("Facility not found", "FACILITY_NOT_FOUND"));
-        return repository.findByFacility(facility).stream()
-                .map(this::toDto)
-                .toList();
+        return toDtoList(repository.findByFacility(facility));
     }
 
     public List<FeePaymentDto> findByFeeType(String feeType) {
-        return repository.findByFeeType(feeType).stream()
-                .map(this::toDto)
-                .toList();
+        return toDtoList(repository.findByFeeType(feeType));
     }
 
     public List<FeePaymentDto> findByPaymentAmountGreaterThan(BigDecimal amount) {
-        return repository.findByPaymentAmountGreaterThan(amount).stream()
-                .map(this::toDto)
-                .toList();
+        return toDtoList(repository.findByPaymentAmountGreaterThan(amount));
     }
 
     public List<FeePaymentDto> findByFacilityAndFeeType(Long facilityId, String feeType) {
-        Facility facility = facilityService.findById(facilityId)
-                .map(facilityService::toEntity)
+        Facility facility = facilityService.findEntityById(facilityId)
                 .orElseThrow(() -> new BusinessException("Facility not found", "FACILITY_NOT_FOUND"));
-        return repository.findByFacilityAndFeeType(facility, feeType).stream()
-                .map(this::toDto)
-                .toList();
+        return toDtoList(repository.findByFacilityAndFeeType(facility, feeType));
     }
 
-    // 手数料支払いの実行
+    // 手数料支払いの実行（競合時は読み直して再実行する）
+    @RetryOnConflict
     @Transactional
     public FeePaymentDto executeFeePayment(Long feePaymentId) {
         FeePayment feePayment = repository.findById(feePaymentId)
@@ -164,7 +163,7 @@ public class FeePaymentService
 
         // AmountPie を保存して FeePayment に設定
         AmountPieDto savedAmountPie = amountPieService.create(amountPieDto);
-        feePayment.setAmountPie(amountPieService.toEntity(savedAmountPie));
+        feePayment.setAmountPie(amountPieService.getReference(savedAmountPie.getId()));
 
         // ステータスを更新
         feePayment.setStatus("EXECUTED");
@@ -173,19 +172,10 @@ public class FeePaymentService
         return toDto(repository.save(feePayment));
     }
 
-    // SharePie から AmountPie を生成するヘルパーメソッド
+    // SharePie から AmountPie を生成するヘルパーメソッド（端数は最大剰余方式で合計と一致させる）
     private AmountPieDto createAmountPieFromSharePie(SharePie sharePie, BigDecimal totalAmount) {
-        Map<Long, BigDecimal> amounts = new HashMap<>();
-
-        sharePie.getShares().forEach((investorId, sharePercentage) -> {
-            BigDecimal amount = totalAmount
-                    .multiply(sharePercentage)
-                    .divide(new BigDecimal("100"), 4, RoundingMode.HALF_UP);
-            amounts.put(investorId, amount);
-        });
-
         return AmountPieDto.builder()
-                .amounts(amounts)
+                .amounts(ProRataAllocator.allocate(totalAmount, sharePie.getShares()))
                 .build();
     }
 
@@ -0,0 +1,186 @@
+package com.syndicated_loan.syndicated_loan.common.service;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.syndicated_loan.syndicated_loan.common.calculation.DayCountConvention;
+import com.syndicated_loan.syndicated_loan.common.dto.AccrualRunResultDto;
+import com.syndicated_loan.syndicated_loan.common.dto.LoanAccrualSource;
+import com.syndicated_loan.syndicated_loan.common.entity.AccrualCheckpoint;
+import com.syndicated_loan.syndicated_loan.common.exception.BusinessException;
+import com.syndicated_loan.syndicated_loan.common.repository.AccrualCheckpointRepository;
+import com.syndicated_loan.syndicated_loan.common.repository.LoanRepository;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * 全ローンの日次の経過利息を計上するバッチ処理。
+ *
+ * <p>
+ * 計上日に期間中で元本残高（{@code amount}）のあるローンを、IDの昇順に一定件数ずつ
+ * （前回のチャンクの最大IDより大きい範囲で）読み込みます。各ローンの1日分の利息
+ * （{@code 元本残高 × 年利 × 日数 / 年日数}、日数計算方式はローンの設定に従う）は専用の
+ * ForkJoinプールで並列に計算し、{@code interest_accrual}へJDBCバッチでまとめてINSERTします。
+ * </p>
+ *
+ * <p>
+ * チャンクの書き込みと{@link AccrualCheckpoint}（処理済みの最大ローンID）の更新は同じトランザクションで行うため、
+ * 途中で失敗しても同じ計上日で再実行すれば、未処理のローンから続きを計上します。
+ * 完了済みの計上日を再実行した場合は何も計上しません。実行結果には処理件数と毎秒の書き込み件数を含めます。
+ * </p>
+ */
+@Slf4j
+@Service
+public class InterestAccrualBatchService {
+
+    /**
+     * 1トランザクションで処理するローン件数
+     */
+    private static final int CHUNK_SIZE = 1000;
+
+    /**
+     * 経過利息を登録するSQL
+     */
+    private static final String INSERT_ACCRUAL_SQL = "INSERT INTO interest_accrual"
+            + " (loan_id, accrual_date, principal_amount, interest_rate, day_count_convention, accrued_amount)"
+            + " VALUES (?, ?, ?, ?, ?, ?)";
+
+    private final LoanRepository loanRepository;
+    private final AccrualCheckpointRepository checkpointRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 経過利息の計算に使用するプール（共通プールを占有しないよう専用とする）
+     */
+    private final ForkJoinPool accrualPool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+
+    /**
+     * コンストラクタ
+     *
+     * @param loanRepository       ローンリポジトリ
+     * @param checkpointRepository チェックポイントリポジトリ
+     * @param jdbcTemplate         JDBCテンプレート
+     * @param transactionManager   トランザクションマネージャー
+     */
+    public InterestAccrualBatchService(LoanRepository loanRepository,
+            AccrualCheckpointRepository checkpointRepository,
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager) {
+        this.loanRepository = loanRepository;
+        this.checkpointRepository = checkpointRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        accrualPool.shutdown();
+    }
+
+    /**
+     * 指定日の経過利息を計上します（中断した計上日はチェックポイントから再開します）
+     *
+     * @param accrualDate 計上日
+     * @return 実行結果
+     * @throws BusinessException 計上日が指定されていない場合
+     */
+    public AccrualRunResultDto run(LocalDate accrualDate) {
+        if (accrualDate == null) {
+            throw new BusinessException("Accrual date is required", "ACCRUAL_DATE_REQUIRED");
+        }
+        long startNanos = System.nanoTime();
+        AccrualCheckpoint checkpoint = transactionTemplate.execute(status -> checkpointRepository
+                .findById(accrualDate)
+                .orElseGet(() -> {
+                    AccrualCheckpoint newCheckpoint = new AccrualCheckpoint();
+                    newCheckpoint.setAccrualDate(accrualDate);
+                    newCheckpoint.setUpdatedAt(LocalDateTime.now());
+                    return checkpointRepository.save(newCheckpoint);
+                }));
+        long resumedAfterLoanId = checkpoint.getLastLoanId();
+
+        int chunks = 0;
+        long rowsWritten = 0;
+        AccrualCheckpoint current = checkpoint;
+        while (current.getStatus() != AccrualCheckpoint.Status.COMPLETED) {
+            long afterId = current.getLastLoanId();
+            long rowsBefore = current.getRowsWritten();
+            current = transactionTemplate.execute(status -> processChunk(accrualDate, afterId));
+            rowsWritten += current.getRowsWritten() - rowsBefore;
+            chunks++;
+        }
+
+        long elapsedNanos = System.nanoTime() - startNanos;
+        double rowsPerSecond = elapsedNanos > 0 ? rowsWritten * 1_000_000_000d / elapsedNanos : 0;
+        log.info("Interest accrual for {}: {} rows in {} chunks, {} ms ({} rows/s), resumed after loan {}",
+                accrualDate, rowsWritten, chunks, elapsedNanos / 1_000_000, Math.round(rowsPerSecond),
+                resumedAfterLoanId);
+
+        return AccrualRunResultDto.builder()
+                .accrualDate(accrualDate)
+                .status(current.getStatus().name())
+                .resumedAfterLoanId(resumedAfterLoanId)
+                .chunks(chunks)
+                .rowsWritten(rowsWritten)
+                .totalRowsWritten(current.getRowsWritten())
+                .elapsedMillis(elapsedNanos / 1_000_000)
+                .rowsPerSecond(rowsPerSecond)
+                .build();
+    }
+
+    /**
+     * 指定IDより後のローンを1チャンク分計上し、チェックポイントを進めます
+     *
+     * @param accrualDate 計上日
+     * @param afterId     処理済みの最大ローンID
+     * @return 更新後のチェックポイント
+     */
+    private AccrualCheckpoint processChunk(LocalDate accrualDate, long afterId) {
+        List<LoanAccrualSource> sources = loanRepository.findAccrualSources(
+                afterId, accrualDate, PageRequest.of(0, CHUNK_SIZE));
+
+        // 利息の計算は専用プールで並列に行い、書き込みは1回のJDBCバッチで行う
+        List<Object[]> batchArgs = accrualPool.submit(() -> sources.parallelStream()
+                .map(source -> toBatchArgs(source, accrualDate))
+                .toList())
+                .join();
+        if (!batchArgs.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_ACCRUAL_SQL, batchArgs);
+        }
+
+        AccrualCheckpoint checkpoint = checkpointRepository.findById(accrualDate)
+                .orElseThrow(() -> new BusinessException("Accrual checkpoint not found",
+                        "ACCRUAL_CHECKPOINT_NOT_FOUND"));
+        if (!sources.isEmpty()) {
+            checkpoint.setLastLoanId(sources.get(sources.size() - 1).getLoanId());
+        }
+        checkpoint.setRowsWritten(checkpoint.getRowsWritten() + batchArgs.size());
+        if (sources.size() < CHUNK_SIZE) {
+            checkpoint.setStatus(AccrualCheckpoint.Status.COMPLETED);
+        }
+        checkpoint.setUpdatedAt(LocalDateTime.now());
+        return checkpointRepository.save(checkpoint);
+    }
+
+    /**
+     * ローン1件の1日分の経過利息をINSERTのパラメータに変換します
+     */
+    private static Object[] toBatchArgs(LoanAccrualSource source, LocalDate accrualDate) {
+        DayCountConvention convention = DayCountConvention.orDefault(source.getDayCountConvention());
+        BigDecimal accruedAmount = convention.accruedInterest(source.getAmount(), source.getInterestRate(),
+                convention.dayCount(accrualDate, accrualDate.plusDays(1)));
+        return new Object[] { source.getLoanId(), accrualDate, source.getAmount(), source.getInterestRate(),
+                convention.name(), accruedAmount };
+    }
+}
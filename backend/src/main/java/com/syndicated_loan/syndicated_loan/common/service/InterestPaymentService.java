@@ -3,6 +3,9 @@ package com.syndicated_loan.syndicated_loan.common.service;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.syndicated_loan.syndicated_loan.common.aop.RetryOnConflict;
+import com.syndicated_loan.syndicated_loan.common.calculation.ProRataAllocator;
+import com.syndicated_loan.syndicated_loan.common.calculation.DayCountConvention;
 import com.syndicated_loan.syndicated_loan.common.dto.InterestPaymentDto;
 import com.syndicated_loan.syndicated_loan.common.dto.AmountPieDto;
 import com.syndicated_loan.syndicated_loan.common.entity.InterestPayment;
@@ -18,12 +21,13 @@ import com.syndicated_loan.syndicated_loan.common.exception.BusinessException;
 import lombok.extern.slf4j.Slf4j;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.time.LocalDate;
-import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.HashMap;
+import java.util.Set;
 
 /**
  * 利息支払い操作を提供するサービスクラス。
@@ -35,8 +39,8 @@ import java.util.HashMap;
  * </p>
  * 
  * <p>
- * 利息計算はACTUAL/360方式を採用しており、利息期間の日数を基に正確な
- * 計算を行います。また、支払い後のステータス管理や履歴の保持も行います。
+ * 利息計算はローンに設定された日数計算方式（{@link DayCountConvention}、未設定の場合はACTUAL/365）に
+ * 従い、利息期間の日数を基に正確な計算を行います。また、支払い後のステータス管理や履歴の保持も行います。
  * </p>
  */
 @Slf4j
@@ -67,14 +71,28 @@ public class InterestPaymentService
 
     // 返済スケジュールから利息支払い情報を取得
     private RepaymentSchedule findInterestSchedule(Long loanId, LocalDate date) {
-        return repaymentScheduleRepository.findByScheduledDateAndStatus(date, RepaymentSchedule.PaymentStatus.SCHEDULED)
-                .stream()
-                .filter(schedule -> schedule.getLoan().getId().equals(loanId))
-                .filter(schedule -> schedule.getPaymentType() == RepaymentSchedule.PaymentType.INTEREST)
-                .findFirst()
+        return repaymentScheduleRepository.findFirstByLoan_IdAndScheduledDateAndPaymentTypeAndStatus(
+                loanId, date, RepaymentSchedule.PaymentType.INTEREST, RepaymentSchedule.PaymentStatus.SCHEDULED)
                 .orElseThrow(() -> new BusinessException("Interest schedule not found", "INTEREST_SCHEDULE_NOT_FOUND"));
     }
 
+    // 複数ローンの返済スケジュールを1回のクエリで取得（ローンIDをキーとする）
+    private Map<Long, RepaymentSchedule> findInterestSchedules(List<Long> loanIds, LocalDate date) {
+        Map<Long, RepaymentSchedule> schedules = new HashMap<>();
+        repaymentScheduleRepository.findByLoan_IdInAndScheduledDateAndPaymentTypeAndStatus(
+                loanIds, date, RepaymentSchedule.PaymentType.INTEREST, RepaymentSchedule.PaymentStatus.SCHEDULED)
+                .forEach(schedule -> schedules.putIfAbsent(schedule.getLoan().getId(), schedule));
+        return schedules;
+    }
+
+    // 利息期間の開始日とする前回の利払日をローンIDごとに取得（初回の利払いのローンは含まれない）
+    private Map<Long, LocalDate> findPreviousInterestDates(Collection<Long> loanIds, LocalDate date) {
+        Map<Long, LocalDate> previousDates = new HashMap<>();
+        repaymentScheduleRepository.findPreviousScheduledDates(loanIds, RepaymentSchedule.PaymentType.INTEREST, date)
+                .forEach(row -> previousDates.put((Long) row[0], (LocalDate) row[1]));
+        return previousDates;
+    }
+
     // ドローダウンのAmountPieを取得
     private AmountPie getDrawdownAmountPie(Loan loan) {
         List<Drawdown> drawdowns = drawdownRepository.findByRelatedPosition(loan);
@@ -84,49 +102,41 @@ public class InterestPaymentService
         return drawdowns.get(0).getAmountPie();
     }
 
-    // 利息の配分計算
+    // 利息の配分計算（ドローダウンの配分額に比例、端数は最大剰余方式で合計と一致させる）
     private Map<Long, BigDecimal> calculateInterestDistribution(
             BigDecimal totalInterest,
             AmountPie drawdownAmountPie) {
-        Map<Long, BigDecimal> distribution = new HashMap<>();
-        BigDecimal totalAmount = drawdownAmountPie.getAmounts().values().stream()
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        drawdownAmountPie.getAmounts().forEach((investorId, amount) -> {
-            // 各投資家の配分比率に基づいて利息を計算
-            BigDecimal ratio = amount.divide(totalAmount, 10, RoundingMode.HALF_UP);
-            BigDecimal interestShare = totalInterest.multiply(ratio)
-                    .setScale(4, RoundingMode.HALF_UP);
-            distribution.put(investorId, interestShare);
-        });
-
-        return distribution;
+        return ProRataAllocator.allocate(totalInterest, drawdownAmountPie.getAmounts());
     }
 
     @Override
     public InterestPayment toEntity(InterestPaymentDto dto) {
+        LocalDate paymentDate = dto.getDate().toLocalDate();
+        return toEntity(dto, findInterestSchedule(dto.getLoanId(), paymentDate),
+                findPreviousInterestDates(List.of(dto.getLoanId()), paymentDate).get(dto.getLoanId()));
+    }
+
+    // 返済スケジュールと前回の利払日（初回はnull）を指定してエンティティへ変換
+    private InterestPayment toEntity(InterestPaymentDto dto, RepaymentSchedule schedule,
+            LocalDate previousInterestDate) {
         InterestPayment entity = new InterestPayment();
         entity.setId(dto.getId());
         entity.setType("INTEREST_PAYMENT");
         entity.setDate(dto.getDate());
 
         // ローンの設定（関連する Position としても設定）
-        Loan loan = loanService.findById(dto.getLoanId())
-                .map(loanService::toEntity)
+        Loan loan = loanService.findEntityById(dto.getLoanId())
                 .orElseThrow(() -> new BusinessException("Loan not found", "LOAN_NOT_FOUND"));
         entity.setLoan(loan);
         entity.setRelatedPosition(loan); // ここを追加
 
-        // 返済スケジュールから利息情報を取得
-        RepaymentSchedule schedule = findInterestSchedule(dto.getLoanId(),
-                dto.getDate().toLocalDate());
-
         // スケジュールの金額を設定
         entity.setAmount(schedule.getInterestAmount());
         entity.setPaymentAmount(schedule.getInterestAmount());
 
-        // 期間の設定
-        entity.setInterestStartDate(schedule.getScheduledDate());
+        // 期間の設定（前回の利払日から今回の利払日まで。初回はローンの開始日から）
+        LocalDate interestStartDate = previousInterestDate != null ? previousInterestDate : loan.getStartDate();
+        entity.setInterestStartDate(interestStartDate != null ? interestStartDate : schedule.getScheduledDate());
         entity.setInterestEndDate(schedule.getScheduledDate());
 
         // ローンの金利を設定
@@ -144,7 +154,7 @@ public class InterestPaymentService
         AmountPieDto savedAmountPie = amountPieService.create(amountPieDto);
 
         // AmountPieを設定
-        entity.setAmountPie(amountPieService.toEntity(savedAmountPie));
+        entity.setAmountPie(amountPieService.getReference(savedAmountPie.getId()));
 
         entity.setVersion(dto.getVersion());
         return entity;
@@ -172,53 +182,75 @@ public class InterestPaymentService
         dto.setLoan(loanService.toDto(entity.getLoan()));
 
         // 利息計算期間の日数
-        dto.setDaysInPeriod((int) ChronoUnit.DAYS.between(entity.getInterestStartDate(), entity.getInterestEndDate()));
+        DayCountConvention convention = DayCountConvention.orDefault(entity.getLoan().getDayCountConvention());
+        dto.setDaysInPeriod(convention.dayCount(entity.getInterestStartDate(), entity.getInterestEndDate()));
 
         // 利息計算の基準となる金額（ローン残高）
         dto.setBaseAmount(entity.getLoan().getAmount());
 
         // 利息計算方法
-        dto.setCalculationMethod("ACTUAL/360");
+        dto.setCalculationMethod(convention.getLabel());
 
         return dto;
     }
 
     // 追加の検索メソッド
     public List<InterestPaymentDto> findByLoan(Long loanId) {
-        Loan loan = loanService.findById(loanId)
-                .map(loanService::toEntity)
+        Loan loan = loanService.findEntityById(loanId)
                 .orElseThrow(() -> new BusinessException("Loan not found", "LOAN_NOT_FOUND"));
-        return repository.findByLoan(loan).stream()
-                .map(this::toDto)
-                .toList();
+        return toDtoList(repository.findByLoan(loan));
     }
 
     public List<InterestPaymentDto> findByInterestRateGreaterThan(BigDecimal rate) {
-        return repository.findByInterestRateGreaterThan(rate).stream()
-                .map(this::toDto)
-                .toList();
+        return toDtoList(repository.findByInterestRateGreaterThan(rate));
     }
 
     public List<InterestPaymentDto> findByPaymentAmountGreaterThan(BigDecimal amount) {
-        return repository.findByPaymentAmountGreaterThan(amount).stream()
-                .map(this::toDto)
-                .toList();
+        return toDtoList(repository.findByPaymentAmountGreaterThan(amount));
     }
 
     public List<InterestPaymentDto> findByInterestStartDateBetween(LocalDate startDate, LocalDate endDate) {
-        return repository.findByInterestStartDateBetween(startDate, endDate).stream()
-                .map(this::toDto)
-                .toList();
+        return toDtoList(repository.findByInterestStartDateBetween(startDate, endDate));
     }
 
     public List<InterestPaymentDto> findByLoanAndInterestStartDateBetween(Long loanId, LocalDate startDate,
             LocalDate endDate) {
-        Loan loan = loanService.findById(loanId)
-                .map(loanService::toEntity)
+        Loan loan = loanService.findEntityById(loanId)
                 .orElseThrow(() -> new BusinessException("Loan not found", "LOAN_NOT_FOUND"));
-        return repository.findByLoanAndInterestStartDateBetween(loan, startDate, endDate).stream()
-                .map(this::toDto)
+        return toDtoList(repository.findByLoanAndInterestStartDateBetween(loan, startDate, endDate));
+    }
+
+    // 指定日の利息支払いを複数ローン分まとめて作成（返済スケジュールは1回のクエリで取得）
+    // 重複したローンIDは1件とし、指定日の利息支払いが作成済みのローンは対象外とする（再送しても二重に作成しない）
+    @Transactional
+    public List<InterestPaymentDto> createForLoans(List<Long> loanIds, LocalDate paymentDate) {
+        if (loanIds == null || loanIds.isEmpty()) {
+            throw new BusinessException("Loan ids cannot be empty", "EMPTY_LOAN_IDS");
+        }
+        Set<Long> paidLoanIds = repository.findLoanIdsWithInterestPayment(loanIds, paymentDate);
+        List<Long> targetIds = loanIds.stream()
+                .distinct()
+                .filter(loanId -> !paidLoanIds.contains(loanId))
                 .toList();
+        if (targetIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, RepaymentSchedule> schedules = findInterestSchedules(targetIds, paymentDate);
+        Map<Long, LocalDate> previousInterestDates = findPreviousInterestDates(targetIds, paymentDate);
+
+        List<InterestPaymentDto> created = new ArrayList<>();
+        for (Long loanId : targetIds) {
+            RepaymentSchedule schedule = schedules.get(loanId);
+            if (schedule == null) {
+                throw new BusinessException("Interest schedule not found for loan: " + loanId,
+                        "INTEREST_SCHEDULE_NOT_FOUND");
+            }
+            InterestPaymentDto dto = new InterestPaymentDto();
+            dto.setLoanId(loanId);
+            dto.setDate(paymentDate.atStartOfDay());
+            created.add(toDto(repository.save(toEntity(dto, schedule, previousInterestDates.get(loanId)))));
+        }
+        return created;
     }
 
     // 配分結果の取得
@@ -239,7 +271,8 @@ public class InterestPaymentService
         return result;
     }
 
-    // 利息支払いの実行
+    // 利息支払いの実行（競合時は読み直して再実行する）
+    @RetryOnConflict
     @Transactional
     public InterestPaymentDto executeInterestPayment(Long interestPaymentId) {
         InterestPayment interestPayment = repository.findById(interestPaymentId)
@@ -267,15 +300,15 @@ public class InterestPaymentService
             throw new BusinessException("Cannot update executed interest payment", "INTEREST_PAYMENT_ALREADY_EXECUTED");
         }
 
-        // 利息期間の日数
-        long daysInPeriod = ChronoUnit.DAYS.between(interestPayment.getInterestStartDate(),
+        // 利息期間の日数（ローンの日数計算方式による）
+        DayCountConvention convention = DayCountConvention.orDefault(
+                interestPayment.getLoan().getDayCountConvention());
+        int daysInPeriod = convention.dayCount(interestPayment.getInterestStartDate(),
                 interestPayment.getInterestEndDate());
 
-        // 利息計算（ACTUAL/360方式）
-        BigDecimal newAmount = interestPayment.getLoan().getAmount()
-                .multiply(interestPayment.getInterestRate())
-                .multiply(BigDecimal.valueOf(daysInPeriod))
-                .divide(BigDecimal.valueOf(360), 4, RoundingMode.HALF_UP);
+        // 利息計算（年利は%のため、返済スケジュールの生成と同じく100で割る）
+        BigDecimal newAmount = convention.accruedInterest(
+                interestPayment.getLoan().getAmount(), interestPayment.getInterestRate(), daysInPeriod);
 
         interestPayment.setPaymentAmount(newAmount);
         interestPayment.setAmount(newAmount); // 取引金額も更新
@@ -0,0 +1,278 @@
+package com.syndicated_loan.syndicated_loan.common.service;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.syndicated_loan.syndicated_loan.common.entity.Investor;
+import com.syndicated_loan.syndicated_loan.common.exception.BusinessException;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 投資家の現在の投資額（エクスポージャー）の増減をまとめて反映する台帳。
+ *
+ * <p>
+ * ドローダウンや元本返済の実行で発生する投資額の増減は、トランザクションごとに
+ * 投資家単位で合算しておき、コミット直前に投資家1件につき1行の
+ * {@code UPDATE ... SET current_investments = current_investments + ?} を
+ * 1回のJDBCバッチとして発行して反映します。
+ * エンティティを読み込んで保存する方式と異なり、同じ投資家を含む取引が並行しても
+ * 楽観ロックの競合が発生せず、行ロックによって加算が直列化されます。
+ * デッドロックを避けるため、更新は常に投資家IDの昇順で行います。
+ * </p>
+ *
+ * <p>
+ * コミット済みの投資額はCaffeineのキャッシュに保持し、投資家数の上限と最後の参照からの有効期限
+ * （{@link ExposureLedgerProperties}）を超えたものは破棄します。
+ * 投資額を変更したトランザクションの完了時に、投資家の二次キャッシュ、コミット済みの投資額の順に破棄し、
+ * 次回の読み取りでデータベースから再読み込みします。
+ * </p>
+ *
+ * <p>
+ * 投資額の読み込みは二次キャッシュを介さずJDBCで行い、キャッシュのロックの外で実行します。
+ * 読み込み中に破棄が行われた場合は、古い可能性のある投資額をキャッシュに残しません
+ * （{@link PositionBalanceHistory}と同じ方式）。
+ * </p>
+ */
+@Component
+@EnableConfigurationProperties(ExposureLedgerProperties.class)
+public class InvestorExposureLedger {
+
+    /**
+     * 投資額を加算するSQL（バージョンも進め、古い投資家情報による上書きを防ぐ）
+     */
+    private static final String ADD_CURRENT_INVESTMENTS_SQL = "UPDATE investor"
+            + " SET current_investments = COALESCE(current_investments, 0) + ?, version = version + 1"
+            + " WHERE id = ?";
+
+    /**
+     * コミット済みの投資額を読み込むSQL
+     */
+    private static final String CURRENT_INVESTMENTS_SQL = "SELECT COALESCE(current_investments, 0)"
+            + " FROM investor WHERE id = ?";
+
+    /**
+     * JDBCテンプレート（JPAと同一のトランザクションで実行される）
+     */
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * エンティティマネージャー（バッチ更新前のフラッシュに使用）
+     */
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * コミット済みの投資額（投資家ID → 現在の投資額）
+     */
+    private final Cache<Long, BigDecimal> committedExposures;
+
+    /**
+     * コミット済みの投資額の破棄の回数（読み込み中の破棄の検出に使用する）
+     */
+    private final AtomicLong invalidations = new AtomicLong();
+
+    /**
+     * コンストラクタ
+     *
+     * @param jdbcTemplate JDBCテンプレート
+     * @param properties   キャッシュの設定
+     */
+    public InvestorExposureLedger(JdbcTemplate jdbcTemplate, ExposureLedgerProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.committedExposures = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxInvestors())
+                .expireAfterAccess(properties.getExpireAfterAccess())
+                .build();
+    }
+
+    /**
+     * 投資家ごとの投資額の増減を記録します。
+     * トランザクション内ではコミット直前にまとめて反映し、トランザクション外では即座に反映します。
+     *
+     * @param amounts    投資家IDをキー、金額を値とするマップ
+     * @param multiplier 乗数（増加の場合は正、減少の場合は負）
+     * @throws BusinessException トランザクション外で投資家が見つからない場合
+     */
+    public void record(Map<Long, BigDecimal> amounts, BigDecimal multiplier) {
+        PendingChanges pending = currentPendingChanges();
+        if (pending == null) {
+            Map<Long, BigDecimal> deltas = new TreeMap<>();
+            amounts.forEach((investorId, amount) -> deltas.merge(investorId, amount.multiply(multiplier), BigDecimal::add));
+            applyDeltas(deltas);
+            evict(deltas.keySet(), deltas.keySet());
+            return;
+        }
+
+        amounts.forEach((investorId, amount) ->
+                pending.deltas.merge(investorId, amount.multiply(multiplier), BigDecimal::add));
+    }
+
+    /**
+     * 投資家の現在の投資額を取得します
+     *
+     * @param investorId 投資家ID
+     * @return 現在の投資額（投資家が存在しない場合はEmpty）
+     */
+    public Optional<BigDecimal> getExposure(Long investorId) {
+        BigDecimal cached = committedExposures.getIfPresent(investorId);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        long generation = invalidations.get();
+        List<BigDecimal> rows = jdbcTemplate.queryForList(CURRENT_INVESTMENTS_SQL, BigDecimal.class, investorId);
+        if (rows.isEmpty()) {
+            return Optional.empty();
+        }
+        BigDecimal loaded = rows.get(0);
+        if (invalidations.get() == generation) {
+            BigDecimal existing = committedExposures.asMap().putIfAbsent(investorId, loaded);
+            if (existing != null) {
+                return Optional.of(existing);
+            }
+            // 格納の直前に破棄された場合は、格納した投資額が古い可能性があるため取り除く
+            if (invalidations.get() != generation) {
+                committedExposures.asMap().remove(investorId, loaded);
+            }
+        }
+        return Optional.of(loaded);
+    }
+
+    /**
+     * 投資家のコミット済み投資額を破棄します。
+     * 投資家情報を直接更新・削除した場合に呼び出します。
+     *
+     * @param investorId 投資家ID
+     */
+    public void invalidate(Long investorId) {
+        PendingChanges pending = currentPendingChanges();
+        if (pending == null) {
+            evict(Set.of(), Set.of(investorId));
+            return;
+        }
+        pending.invalidated.add(investorId);
+    }
+
+    /**
+     * 合算済みの増減を投資家IDの昇順で1回のJDBCバッチとして反映します
+     *
+     * @param deltas 投資家IDをキー、増減額を値とするマップ（IDの昇順）
+     * @throws BusinessException 投資家が見つからない場合
+     */
+    private void applyDeltas(Map<Long, BigDecimal> deltas) {
+        List<Object[]> batchArgs = new ArrayList<>();
+        deltas.forEach((investorId, delta) -> {
+            if (delta.signum() != 0) {
+                batchArgs.add(new Object[] { delta, investorId });
+            }
+        });
+        if (batchArgs.isEmpty()) {
+            return;
+        }
+
+        // 永続化コンテキストの未反映の変更を先に書き出し、JDBCの更新と順序を揃える
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            entityManager.flush();
+        }
+        int[] updateCounts = jdbcTemplate.batchUpdate(ADD_CURRENT_INVESTMENTS_SQL, batchArgs);
+        for (int updateCount : updateCounts) {
+            if (updateCount == 0) {
+                throw new BusinessException("Investor not found", "INVESTOR_NOT_FOUND");
+            }
+        }
+        evictCachedInvestors(deltas.keySet());
+    }
+
+    /**
+     * 投資家の二次キャッシュを破棄してから、コミット済みの投資額を破棄します。
+     * 破棄の回数を先に増やし、読み込み中の投資額が破棄の後に格納されることを防ぎます
+     *
+     * @param updatedInvestorIds JDBCで投資額を更新した投資家ID（二次キャッシュから破棄する）
+     * @param investorIds        コミット済みの投資額を破棄する投資家ID
+     */
+    private void evict(Collection<Long> updatedInvestorIds, Collection<Long> investorIds) {
+        invalidations.incrementAndGet();
+        evictCachedInvestors(updatedInvestorIds);
+        committedExposures.invalidateAll(investorIds);
+    }
+
+    /**
+     * 保持しているコミット済みの投資額の投資家数
+     */
+    long cachedInvestors() {
+        committedExposures.cleanUp();
+        return committedExposures.estimatedSize();
+    }
+
+    /**
+     * JDBCで直接更新した投資家を二次キャッシュから破棄します
+     * （キャッシュに残った古いバージョンの投資家で更新すると楽観ロックエラーとなるため）
+     *
+     * @param investorIds 投資家ID
+     */
+    private void evictCachedInvestors(Collection<Long> investorIds) {
+        investorIds.forEach(investorId ->
+                entityManager.getEntityManagerFactory().getCache().evict(Investor.class, investorId));
+    }
+
+    /**
+     * 現在のトランザクションに紐づく未反映の変更を取得します
+     *
+     * @return 未反映の変更（トランザクション外の場合はnull）
+     */
+    private PendingChanges currentPendingChanges() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return null;
+        }
+
+        PendingChanges pending = (PendingChanges) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            PendingChanges newPending = new PendingChanges();
+            TransactionSynchronizationManager.bindResource(this, newPending);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    applyDeltas(newPending.deltas);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(InvestorExposureLedger.this);
+                    // 反映前の投資家がコミットまでの間に二次キャッシュへ読み込まれた場合に備え、完了後にも破棄する
+                    Set<Long> investorIds = new HashSet<>(newPending.deltas.keySet());
+                    investorIds.addAll(newPending.invalidated);
+                    evict(newPending.deltas.keySet(), investorIds);
+                }
+            });
+            pending = newPending;
+        }
+        return pending;
+    }
+
+    /**
+     * トランザクション内で未反映の変更
+     */
+    private static final class PendingChanges {
+        // 投資家IDの昇順で保持し、反映時のロック順序を固定する
+        private final Map<Long, BigDecimal> deltas = new TreeMap<>();
+        private final Set<Long> invalidated = new HashSet<>();
+    }
+}
@@ -0,0 +1,125 @@
+package com.syndicated_loan.syndicated_loan.common.service;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.syndicated_loan.syndicated_loan.common.entity.Investor;
+import com.syndicated_loan.syndicated_loan.common.repository.InvestorRepository;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 投資家IDから投資家名を一括で解決するコンポーネント。
+ *
+ * <p>
+ * AmountPie/SharePieのDTO変換では投資家ごとに名前が必要になりますが、
+ * 1件ずつ検索すると配分の件数分だけSELECTが発行されます。このクラスは
+ * 未解決の投資家IDをまとめて1回の{@code findAllById}で読み込み、結果を
+ * 現在のトランザクション（=1リクエスト）の間だけ保持して再利用します。
+ * </p>
+ *
+ * <p>
+ * トランザクション外で呼び出された場合はキャッシュを保持せず、
+ * 呼び出しごとに一括検索のみを行います。
+ * </p>
+ */
+@Component
+public class InvestorNameResolver {
+
+    /**
+     * 投資家リポジトリ
+     */
+    private final InvestorRepository investorRepository;
+
+    /**
+     * コンストラクタ
+     *
+     * @param investorRepository 投資家リポジトリ
+     */
+    public InvestorNameResolver(InvestorRepository investorRepository) {
+        this.investorRepository = investorRepository;
+    }
+
+    /**
+     * 指定された投資家IDを先読みし、現在のトランザクションのキャッシュに格納します
+     *
+     * @param investorIds 先読みする投資家IDのコレクション
+     */
+    public void prefetch(Collection<Long> investorIds) {
+        loadMissing(currentCache(), investorIds);
+    }
+
+    /**
+     * 投資家IDに対応する投資家名を解決します
+     *
+     * @param investorIds 解決する投資家IDのコレクション
+     * @return 投資家IDをキー、投資家名を値とするマップ（存在しない投資家は含まれない）
+     */
+    public Map<Long, String> resolve(Collection<Long> investorIds) {
+        Map<Long, String> cache = currentCache();
+        loadMissing(cache, investorIds);
+
+        Map<Long, String> names = new LinkedHashMap<>();
+        investorIds.forEach(id -> {
+            String name = cache.get(id);
+            if (name != null) {
+                names.put(id, name);
+            }
+        });
+        return names;
+    }
+
+    /**
+     * キャッシュに存在しない投資家IDのみを1回のクエリで読み込みます
+     *
+     * @param cache       投資家名のキャッシュ
+     * @param investorIds 対象の投資家IDのコレクション
+     */
+    private void loadMissing(Map<Long, String> cache, Collection<Long> investorIds) {
+        List<Long> missingIds = investorIds.stream()
+                .filter(Objects::nonNull)
+                .filter(id -> !cache.containsKey(id))
+                .distinct()
+                .toList();
+        if (missingIds.isEmpty()) {
+            return;
+        }
+
+        for (Investor investor : investorRepository.findAllById(missingIds)) {
+            cache.put(investor.getId(), investor.getName());
+        }
+        // 存在しない投資家も記録して、同一トランザクション内での再検索を防ぐ
+        missingIds.forEach(id -> cache.putIfAbsent(id, null));
+    }
+
+    /**
+     * 現在のトランザクションに紐づくキャッシュを取得します
+     *
+     * @return 投資家名のキャッシュ（トランザクション外の場合は使い捨てのマップ）
+     */
+    @SuppressWarnings("unchecked")
+    private Map<Long, String> currentCache() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return new HashMap<>();
+        }
+
+        Map<Long, String> cache = (Map<Long, String>) TransactionSynchronizationManager.getResource(this);
+        if (cache == null) {
+            cache = new HashMap<>();
+            TransactionSynchronizationManager.bindResource(this, cache);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(InvestorNameResolver.this);
+                }
+            });
+        }
+        return cache;
+    }
+}
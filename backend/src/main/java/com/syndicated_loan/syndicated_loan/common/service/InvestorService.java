@@ -1,16 +1,26 @@
 package com.syndicated_loan.syndicated_loan.common.service;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.syndicated_loan.syndicated_loan.common.dto.BalanceAsOfDto;
 import com.syndicated_loan.syndicated_loan.common.dto.InvestorDto;
 import com.syndicated_loan.syndicated_loan.common.entity.Investor;
+import com.syndicated_loan.syndicated_loan.common.entity.JournalEntry.AccountType;
+import com.syndicated_loan.syndicated_loan.common.exception.BusinessException;
 import com.syndicated_loan.syndicated_loan.common.repository.InvestorRepository;
+import com.syndicated_loan.syndicated_loan.common.repository.SpecificationBuilder;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 /**
  * 投資家に関する操作を提供するサービスクラス。
@@ -20,13 +30,116 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class InvestorService extends AbstractBaseService<Investor, Long, InvestorDto, InvestorRepository> {
 
+    /**
+     * 投資額の増減を反映する台帳
+     */
+    private final InvestorExposureLedger exposureLedger;
+
+    /**
+     * 残高の増減の仕訳
+     */
+    private final TransactionJournal transactionJournal;
+
+    /**
+     * 口座ごとの残高の推移
+     */
+    private final PositionBalanceHistory balanceHistory;
+
     /**
      * コンストラクタ
      *
-     * @param repository 投資家リポジトリ
+     * @param repository         投資家リポジトリ
+     * @param exposureLedger     投資額の台帳
+     * @param transactionJournal 残高の増減の仕訳
+     * @param balanceHistory     口座ごとの残高の推移
      */
-    public InvestorService(InvestorRepository repository) {
+    public InvestorService(InvestorRepository repository, InvestorExposureLedger exposureLedger,
+            TransactionJournal transactionJournal, PositionBalanceHistory balanceHistory) {
         super(repository);
+        this.exposureLedger = exposureLedger;
+        this.transactionJournal = transactionJournal;
+        this.balanceHistory = balanceHistory;
+    }
+
+    /**
+     * 投資家を作成し、作成時の投資額を仕訳に記録します
+     *
+     * @param dto 作成する投資家の情報を含むDTO
+     * @return 作成された投資家DTO
+     */
+    @Override
+    @Transactional
+    public InvestorDto create(InvestorDto dto) {
+        InvestorDto created = super.create(dto);
+        transactionJournal.recordOpening(AccountType.INVESTOR, created.getId(), created.getCurrentInvestments(), null);
+        return created;
+    }
+
+    /**
+     * 投資家を更新します。投資額が変わった場合は差額を仕訳に記録します
+     *
+     * @param id  投資家ID
+     * @param dto 更新内容を含むDTO
+     * @return 更新された投資家DTO
+     */
+    @Override
+    @Transactional
+    public InvestorDto update(Long id, InvestorDto dto) {
+        BigDecimal before = repository.findById(id).map(Investor::getCurrentInvestments).orElse(null);
+        InvestorDto updated = super.update(id, dto);
+        transactionJournal.recordAdjustment(AccountType.INVESTOR, id, before, updated.getCurrentInvestments());
+        exposureLedger.invalidate(id);
+        return updated;
+    }
+
+    /**
+     * 投資家を削除します
+     *
+     * @param id 投資家ID
+     */
+    @Override
+    @Transactional
+    public void delete(Long id) {
+        super.delete(id);
+        exposureLedger.invalidate(id);
+    }
+
+    /**
+     * 投資家ごとの現在の投資額を増減します。
+     * 変更はトランザクション内で投資家単位に合算され、コミット時にまとめて反映されます。
+     *
+     * @param amounts    投資家IDをキー、金額を値とするマップ
+     * @param multiplier 乗数（増加の場合は正、減少の場合は負）
+     * @throws BusinessException 投資家が見つからない場合
+     */
+    @Transactional
+    public void adjustCurrentInvestments(Map<Long, BigDecimal> amounts, BigDecimal multiplier) {
+        exposureLedger.record(amounts, multiplier);
+    }
+
+    /**
+     * 投資家の現在の投資額を取得します
+     *
+     * @param investorId 投資家ID
+     * @return 現在の投資額（投資家が存在しない場合はEmpty）
+     */
+    public Optional<BigDecimal> getCurrentExposure(Long investorId) {
+        return exposureLedger.getExposure(investorId);
+    }
+
+    /**
+     * 指定日時点の投資家の投資額を、指定日の終わりまでの取引日の仕訳から取得します
+     *
+     * @param investorId 投資家ID
+     * @param date       基準日
+     * @return 基準日時点の投資額
+     * @throws BusinessException 投資家が見つからない場合
+     */
+    public BalanceAsOfDto findExposureAsOf(Long investorId, LocalDate date) {
+        if (!repository.existsById(investorId)) {
+            throw new BusinessException("Investor not found", "INVESTOR_NOT_FOUND");
+        }
+        return balanceHistory.balanceAsOf(AccountType.INVESTOR, investorId, date.atTime(LocalTime.MAX));
     }
 
     /**
@@ -77,7 +190,8 @@ public class InvestorService extends AbstractBaseService<Investor, Long, Investo
     }
 
     /**
-     * 条件に基づいて投資家を検索します
+     * 条件に基づいて投資家を検索します。
+     * 指定された条件（nullまたは空文字の条件は無視）をすべて満たす投資家を、SQLで絞り込んで取得します。
      *
      * @param name        名前（部分一致）
      * @param type        投資家タイプ
@@ -85,13 +199,29 @@ public class InvestorService extends AbstractBaseService<Investor, Long, Investo
      * @return 検索結果の投資家DTOリスト
      */
     public List<InvestorDto> search(String name, String type, BigDecimal minCapacity) {
-        return repository.findAll().stream()
-                .filter(investor -> name == null || investor.getName().contains(name))
-                .filter(investor -> type == null || investor.getType().equals(type))
-                .filter(investor -> minCapacity == null ||
-                        investor.getInvestmentCapacity().compareTo(minCapacity) >= 0)
-                .map(this::toDto)
-                .collect(Collectors.toList());
+        return toDtoList(repository.findAll(searchSpecification(name, type, minCapacity)));
+    }
+
+    /**
+     * 条件に基づいて投資家をページ単位で検索します
+     *
+     * @param name        名前（部分一致）
+     * @param type        投資家タイプ
+     * @param minCapacity 最小投資能力
+     * @param pageable    ページ番号・件数・ソート条件
+     * @return 検索結果の投資家DTOのページ
+     */
+    public Page<InvestorDto> search(String name, String type, BigDecimal minCapacity, Pageable pageable) {
+        Page<Investor> page = repository.findAll(searchSpecification(name, type, minCapacity), pageable);
+        return new PageImpl<>(toDtoList(page.getContent()), pageable, page.getTotalElements());
+    }
+
+    private Specification<Investor> searchSpecification(String name, String type, BigDecimal minCapacity) {
+        return SpecificationBuilder.<Investor>create()
+                .contains("name", name)
+                .equalTo("type", type)
+                .greaterThanOrEqualTo("investmentCapacity", minCapacity)
+                .build();
     }
 
     /**
@@ -111,9 +241,7 @@ public class InvestorService extends AbstractBaseService<Investor, Long, Investo
      * @return 投資家DTOのリスト
      */
     public List<InvestorDto> findByNameContaining(String namePattern) {
-        return repository.findByNameContaining(namePattern).stream()
-                .map(this::toDto)
-                .collect(Collectors.toList());
+        return toDtoList(repository.findByNameContaining(namePattern));
     }
 
     /**
@@ -123,9 +251,7 @@ public class InvestorService extends AbstractBaseService<Investor, Long, Investo
      * @return 投資家DTOのリスト
      */
     public List<InvestorDto> findByType(String type) {
-        return repository.findByType(type).stream()
-                .map(this::toDto)
-                .collect(Collectors.toList());
+        return toDtoList(repository.findByType(type));
     }
 
     /**
@@ -135,9 +261,7 @@ public class InvestorService extends AbstractBaseService<Investor, Long, Investo
      * @return 投資家DTOのリスト
      */
     public List<InvestorDto> findByInvestmentCapacityGreaterThan(BigDecimal amount) {
-        return repository.findByInvestmentCapacityGreaterThan(amount).stream()
-                .map(this::toDto)
-                .collect(Collectors.toList());
+        return toDtoList(repository.findByInvestmentCapacityGreaterThan(amount));
     }
 
     /**
@@ -147,9 +271,7 @@ public class InvestorService extends AbstractBaseService<Investor, Long, Investo
      * @return 投資家DTOのリスト
      */
     public List<InvestorDto> findByCurrentInvestmentsLessThan(BigDecimal amount) {
-        return repository.findByCurrentInvestmentsLessThan(amount).stream()
-                .map(this::toDto)
-                .collect(Collectors.toList());
+        return toDtoList(repository.findByCurrentInvestmentsLessThan(amount));
     }
 
     /**
@@ -160,8 +282,6 @@ public class InvestorService extends AbstractBaseService<Investor, Long, Investo
      * @return 投資家DTOのリスト
      */
     public List<InvestorDto> findByTypeAndInvestmentCapacityGreaterThan(String type, BigDecimal amount) {
-        return repository.findByTypeAndInvestmentCapacityGreaterThan(type, amount).stream()
-                .map(this::toDto)
-                .collect(Collectors.toList());
+        return toDtoList(repository.findByTypeAndInvestmentCapacityGreaterThan(type, amount));
     }
 }
@@ -3,11 +3,13 @@ package com.syndicated_loan.syndicated_loan.common.service;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.syndicated_loan.syndicated_loan.common.calculation.RepaymentScheduleGenerator;
 import com.syndicated_loan.syndicated_loan.common.dto.LoanDto;
 import com.syndicated_loan.syndicated_loan.common.dto.SharePieDto;
 import com.syndicated_loan.syndicated_loan.common.entity.Loan;
 import com.syndicated_loan.syndicated_loan.common.entity.Borrower;
 import com.syndicated_loan.syndicated_loan.common.entity.Facility;
+import com.syndicated_loan.syndicated_loan.common.entity.JournalEntry.AccountType;
 import com.syndicated_loan.syndicated_loan.common.entity.SharePie;
 import com.syndicated_loan.syndicated_loan.common.entity.RepaymentSchedule;
 import com.syndicated_loan.syndicated_loan.common.repository.LoanRepository;
@@ -19,8 +21,7 @@ import lombok.extern.slf4j.Slf4j;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
-import java.time.temporal.ChronoUnit;
-import java.math.RoundingMode;
+import java.util.Set;
 
 /**
  * ローン（融資）に関する操作を提供するサービスクラス。
@@ -31,6 +32,11 @@ import java.math.RoundingMode;
 @Transactional
 public class LoanService extends AbstractBaseService<Loan, Long, LoanDto, LoanRepository> {
 
+    /**
+     * 返済スケジュールの一括生成で1回に読み込むローン件数
+     */
+    private static final int BULK_SCHEDULE_CHUNK_SIZE = 1000;
+
     /**
      * 借入人サービス
      */
@@ -51,6 +57,11 @@ public class LoanService extends AbstractBaseService<Loan, Long, LoanDto, LoanRe
      */
     private final RepaymentScheduleRepository repaymentScheduleRepository;
 
+    /**
+     * 残高の増減の仕訳
+     */
+    private final TransactionJournal transactionJournal;
+
     /**
      * コンストラクタ
      *
@@ -59,18 +70,50 @@ public class LoanService extends AbstractBaseService<Loan, Long, LoanDto, LoanRe
      * @param facilityService             ファシリティサービス
      * @param sharePieService             シェア配分サービス
      * @param repaymentScheduleRepository 返済スケジュールリポジトリ
+     * @param transactionJournal          残高の増減の仕訳
      */
     public LoanService(
             LoanRepository repository,
             BorrowerService borrowerService,
             FacilityService facilityService,
             SharePieService sharePieService,
-            RepaymentScheduleRepository repaymentScheduleRepository) {
+            RepaymentScheduleRepository repaymentScheduleRepository,
+            TransactionJournal transactionJournal) {
         super(repository);
         this.borrowerService = borrowerService;
         this.facilityService = facilityService;
         this.sharePieService = sharePieService;
         this.repaymentScheduleRepository = repaymentScheduleRepository;
+        this.transactionJournal = transactionJournal;
+    }
+
+    /**
+     * ローンを作成し、作成時の元本残高を仕訳に記録します
+     *
+     * @param dto 作成するローンの情報を含むDTO
+     * @return 作成されたローンDTO
+     */
+    @Override
+    public LoanDto create(LoanDto dto) {
+        LoanDto created = super.create(dto);
+        transactionJournal.recordOpening(AccountType.LOAN, created.getId(), created.getAmount(),
+                created.getStartDate() != null ? created.getStartDate().atStartOfDay() : null);
+        return created;
+    }
+
+    /**
+     * ローンを更新し、元本残高が変わった場合は差額を仕訳に記録します
+     *
+     * @param id  ローンID
+     * @param dto 更新内容を含むDTO
+     * @return 更新されたローンDTO
+     */
+    @Override
+    public LoanDto update(Long id, LoanDto dto) {
+        BigDecimal before = repository.findById(id).map(Loan::getAmount).orElse(null);
+        LoanDto updated = super.update(id, dto);
+        transactionJournal.recordAdjustment(AccountType.LOAN, id, before, updated.getAmount());
+        return updated;
     }
 
     /**
@@ -102,25 +145,24 @@ public class LoanService extends AbstractBaseService<Loan, Long, LoanDto, LoanRe
         entity.setEndDate(dto.getEndDate());
         entity.setTerm(dto.getTerm());
         entity.setInterestRate(dto.getInterestRate());
+        entity.setDayCountConvention(dto.getDayCountConvention());
+        entity.setAmortizationProfile(dto.getAmortizationProfile());
 
         // 借り手の設定
-        Borrower borrower = borrowerService.findById(dto.getBorrowerId())
-                .map(borrowerService::toEntity)
+        Borrower borrower = borrowerService.findEntityById(dto.getBorrowerId())
                 .orElseThrow(() -> new BusinessException("Borrower not found", "BORROWER_NOT_FOUND"));
         entity.setBorrower(borrower);
 
         // ファシリティの設定
         if (dto.getFacilityId() != null) {
-            Facility facility = facilityService.findById(dto.getFacilityId())
-                    .map(facilityService::toEntity)
+            Facility facility = facilityService.findEntityById(dto.getFacilityId())
                     .orElseThrow(() -> new BusinessException("Facility not found", "FACILITY_NOT_FOUND"));
             entity.setFacility(facility);
         }
 
         // シェアパイの設定
         if (dto.getSharePieId() != null) {
-            SharePie sharePie = sharePieService.findById(dto.getSharePieId())
-                    .map(sharePieService::toEntity)
+            SharePie sharePie = sharePieService.findEntityById(dto.getSharePieId())
                     .orElseThrow(() -> new BusinessException("SharePie not found", "SHARE_PIE_NOT_FOUND"));
             entity.setSharePie(sharePie);
         }
@@ -150,6 +192,8 @@ public class LoanService extends AbstractBaseService<Loan, Long, LoanDto, LoanRe
                 .endDate(entity.getEndDate())
                 .term(entity.getTerm())
                 .interestRate(entity.getInterestRate())
+                .dayCountConvention(entity.getDayCountConvention())
+                .amortizationProfile(entity.getAmortizationProfile())
                 .facilityId(entity.getFacility() != null ? entity.getFacility().getId() : null)
                 .sharePieId(entity.getSharePie() != null ? entity.getSharePie().getId() : null)
                 .version(entity.getVersion())
@@ -175,12 +219,9 @@ public class LoanService extends AbstractBaseService<Loan, Long, LoanDto, LoanRe
      * @throws BusinessException 借入人が見つからない場合
      */
     public List<LoanDto> findByBorrower(Long borrowerId) {
-        Borrower borrower = borrowerService.findById(borrowerId)
-                .map(borrowerService::toEntity)
+        Borrower borrower = borrowerService.findEntityById(borrowerId)
                 .orElseThrow(() -> new BusinessException("Borrower not found", "BORROWER_NOT_FOUND"));
-        return repository.findByBorrower(borrower).stream()
-                .map(this::toDto)
-                .toList();
+        return toDtoList(repository.findByBorrower(borrower));
     }
 
     /**
@@ -191,12 +232,9 @@ public class LoanService extends AbstractBaseService<Loan, Long, LoanDto, LoanRe
      * @throws BusinessException ファシリティが見つからない場合
      */
     public List<LoanDto> findByFacility(Long facilityId) {
-        Facility facility = facilityService.findById(facilityId)
-                .map(facilityService::toEntity)
+        Facility facility = facilityService.findEntityById(facilityId)
                 .orElseThrow(() -> new BusinessException("Facility not found", "FACILITY_NOT_FOUND"));
-        return repository.findByFacility(facility).stream()
-                .map(this::toDto)
-                .toList();
+        return toDtoList(repository.findByFacility(facility));
     }
 
     /**
@@ -206,9 +244,7 @@ public class LoanService extends AbstractBaseService<Loan, Long, LoanDto, LoanRe
      * @return ローンDTOのリスト
      */
     public List<LoanDto> findByTotalAmountGreaterThan(BigDecimal amount) {
-        return repository.findByTotalAmountGreaterThan(amount).stream()
-                .map(this::toDto)
-                .toList();
+        return toDtoList(repository.findByTotalAmountGreaterThan(amount));
     }
 
     /**
@@ -219,9 +255,7 @@ public class LoanService extends AbstractBaseService<Loan, Long, LoanDto, LoanRe
      * @return ローンDTOのリスト
      */
     public List<LoanDto> findByStartDateBetween(LocalDate startDate, LocalDate endDate) {
-        return repository.findByStartDateBetween(startDate, endDate).stream()
-                .map(this::toDto)
-                .toList();
+        return toDtoList(repository.findByStartDateBetween(startDate, endDate));
     }
 
     /**
@@ -231,9 +265,7 @@ public class LoanService extends AbstractBaseService<Loan, Long, LoanDto, LoanRe
      * @return ローンDTOのリスト
      */
     public List<LoanDto> findByEndDateAfter(LocalDate date) {
-        return repository.findByEndDateAfter(date).stream()
-                .map(this::toDto)
-                .toList();
+        return toDtoList(repository.findByEndDateAfter(date));
     }
 
     /**
@@ -261,41 +293,49 @@ public class LoanService extends AbstractBaseService<Loan, Long, LoanDto, LoanRe
      * @param loan 対象のローン
      */
     public void generateRepaymentSchedules(Loan loan) {
-        // 元本一括返済の場合
-        RepaymentSchedule principalSchedule = new RepaymentSchedule();
-        principalSchedule.setLoan(loan);
-        principalSchedule.setScheduledDate(loan.getEndDate());
-        principalSchedule.setPrincipalAmount(loan.getTotalAmount());
-        principalSchedule.setPaymentType(RepaymentSchedule.PaymentType.PRINCIPAL);
-        loan.addRepaymentSchedule(principalSchedule);
-
-        // 利息は3ヶ月ごとに支払い
-        LocalDate currentDate = loan.getStartDate();
-        while (currentDate.isBefore(loan.getEndDate())) {
-            LocalDate nextPaymentDate = currentDate.plusMonths(3);
-            if (nextPaymentDate.isAfter(loan.getEndDate())) {
-                nextPaymentDate = loan.getEndDate();
-            }
-
-            RepaymentSchedule interestSchedule = new RepaymentSchedule();
-            interestSchedule.setLoan(loan);
-            interestSchedule.setScheduledDate(nextPaymentDate);
-            // 年利を日割り計算して3ヶ月分の利息を計算
-            BigDecimal daysInPeriod = BigDecimal.valueOf(ChronoUnit.DAYS.between(currentDate, nextPaymentDate));
-            BigDecimal yearlyInterest = loan.getTotalAmount()
-                    .multiply(loan.getInterestRate())
-                    .divide(BigDecimal.valueOf(100), 10, RoundingMode.HALF_UP);
-            BigDecimal periodInterest = yearlyInterest
-                    .multiply(daysInPeriod)
-                    .divide(BigDecimal.valueOf(365), 4, RoundingMode.HALF_UP);
-
-            interestSchedule.setInterestAmount(periodInterest);
-            interestSchedule.setPaymentType(RepaymentSchedule.PaymentType.INTEREST);
-            loan.addRepaymentSchedule(interestSchedule);
-
-            currentDate = nextPaymentDate;
+        RepaymentScheduleGenerator.generate(loan).forEach(loan::addRepaymentSchedule);
+        repository.save(loan);
+    }
+
+    /**
+     * 複数ローンの返済スケジュールを一括生成します（一括取り込み用）。
+     *
+     * <p>
+     * スケジュール生成済みのローンは対象外です。ローンを一定件数ずつ読み込み、
+     * スケジュールの計算は並列に行い、保存はJDBCバッチでまとめてINSERTします。
+     * 大量のエンティティを保持し続けないよう、チャンクごとに永続化コンテキストをクリアするため、
+     * 呼び出し元が同じトランザクションで保持しているエンティティは管理対象外となります。
+     * </p>
+     *
+     * @param loanIds 対象のローンID
+     * @return 生成した返済スケジュールの件数
+     * @throws BusinessException ローンIDが空の場合
+     */
+    @Transactional
+    public int generateRepaymentSchedules(List<Long> loanIds) {
+        if (loanIds == null || loanIds.isEmpty()) {
+            throw new BusinessException("Loan ids cannot be empty", "EMPTY_LOAN_IDS");
         }
 
-        repository.save(loan);
+        Set<Long> scheduledLoanIds = repaymentScheduleRepository.findLoanIdsWithSchedules(loanIds);
+        List<Long> targetIds = loanIds.stream()
+                .distinct()
+                .filter(loanId -> !scheduledLoanIds.contains(loanId))
+                .toList();
+
+        int generated = 0;
+        for (int from = 0; from < targetIds.size(); from += BULK_SCHEDULE_CHUNK_SIZE) {
+            List<Loan> loans = repository.findAllById(
+                    targetIds.subList(from, Math.min(from + BULK_SCHEDULE_CHUNK_SIZE, targetIds.size())));
+            List<RepaymentSchedule> schedules = loans.parallelStream()
+                    .flatMap(loan -> RepaymentScheduleGenerator.generate(loan).stream())
+                    .toList();
+            repaymentScheduleRepository.saveAll(schedules);
+            entityManager.flush();
+            entityManager.clear();
+            generated += schedules.size();
+        }
+        log.info("Generated {} repayment schedules for {} loans", generated, targetIds.size());
+        return generated;
     }
 }
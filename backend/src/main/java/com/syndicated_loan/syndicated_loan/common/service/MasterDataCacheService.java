@@ -0,0 +1,90 @@
+package com.syndicated_loan.syndicated_loan.common.service;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Service;
+
+import com.syndicated_loan.syndicated_loan.common.dto.CacheRegionStatisticsDto;
+import com.syndicated_loan.syndicated_loan.common.entity.Borrower;
+import com.syndicated_loan.syndicated_loan.common.entity.Investor;
+import com.syndicated_loan.syndicated_loan.common.entity.Syndicate;
+import com.syndicated_loan.syndicated_loan.common.exception.BusinessException;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+
+/**
+ * マスタデータ（投資家・借入人・シンジケート）の二次キャッシュを管理するサービスクラス。
+ *
+ * <p>
+ * キャッシュへの格納・更新はHibernateが行います（更新・削除はコミット時に反映され、
+ * {@code @Version}により古い状態の書き戻しは無視されます）。このクラスはリージョンごとの
+ * ヒット・ミス件数の参照と、DBを直接更新した場合などの全件破棄を提供します。
+ * </p>
+ */
+@Slf4j
+@Service
+public class MasterDataCacheService {
+
+    /**
+     * マスタデータのキャッシュリージョン（エンティティの{@code @Cache}と合わせる）
+     */
+    public static final List<String> REGIONS = List.of(
+            "master-investor", "master-borrower", "master-syndicate", "master-syndicate-members");
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    /**
+     * コンストラクタ
+     *
+     * @param entityManagerFactory エンティティマネージャーファクトリ
+     */
+    public MasterDataCacheService(EntityManagerFactory entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    /**
+     * リージョンごとのヒット・ミス件数を取得します
+     *
+     * @return リージョンごとの集計
+     * @throws BusinessException 統計の集計（hibernate.generate_statistics）が無効の場合
+     */
+    public List<CacheRegionStatisticsDto> getStatistics() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        if (!statistics.isStatisticsEnabled()) {
+            throw new BusinessException("Cache statistics are disabled", "CACHE_STATISTICS_DISABLED");
+        }
+        return REGIONS.stream()
+                .map(region -> toDto(region, statistics.getDomainDataRegionStatistics(region)))
+                .toList();
+    }
+
+    /**
+     * マスタデータのキャッシュをすべて破棄します
+     */
+    public void evictAll() {
+        var cache = entityManagerFactory.getCache();
+        cache.evict(Investor.class);
+        cache.evict(Borrower.class);
+        cache.evict(Syndicate.class);
+        entityManagerFactory.unwrap(SessionFactory.class).getCache()
+                .evictCollectionData(Syndicate.class.getName() + ".members");
+        log.info("Master data cache evicted");
+    }
+
+    private CacheRegionStatisticsDto toDto(String region, CacheRegionStatistics regionStatistics) {
+        long hits = regionStatistics.getHitCount();
+        long misses = regionStatistics.getMissCount();
+        return CacheRegionStatisticsDto.builder()
+                .region(region)
+                .hitCount(hits)
+                .missCount(misses)
+                .putCount(regionStatistics.getPutCount())
+                .hitRatio(hits + misses == 0 ? 0 : (double) hits / (hits + misses))
+                .elementCountInMemory(regionStatistics.getElementCountInMemory())
+                .build();
+    }
+}
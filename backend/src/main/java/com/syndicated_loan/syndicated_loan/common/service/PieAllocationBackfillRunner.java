@@ -0,0 +1,103 @@
+package com.syndicated_loan.syndicated_loan.common.service;
+
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.syndicated_loan.syndicated_loan.common.entity.PieAllocation;
+import com.syndicated_loan.syndicated_loan.common.repository.AmountPieRepository;
+import com.syndicated_loan.syndicated_loan.common.repository.SharePieRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 明細テーブル（{@code amount_pie_entries}/{@code share_pie_entries}）のみを持つ既存のピースに
+ * {@link PieAllocation}カラムを設定する移行処理。
+ *
+ * <p>
+ * {@code syndicated-loan.pie-allocation.backfill.enabled=true}の場合に起動時に実行します。
+ * 未移行のピースを一定件数ずつ読み込み（明細はバッチフェッチでまとめて取得）、
+ * チャンクごとに1トランザクションで更新します。移行済みのピースは対象外となるため、
+ * 途中で停止しても再実行で続きから移行できます。
+ * </p>
+ */
+@Component
+@ConditionalOnProperty(name = "syndicated-loan.pie-allocation.backfill.enabled", havingValue = "true")
+@Slf4j
+public class PieAllocationBackfillRunner implements ApplicationRunner {
+
+    /**
+     * 1トランザクションで移行する件数
+     */
+    private static final int CHUNK_SIZE = 500;
+
+    private final AmountPieRepository amountPieRepository;
+    private final SharePieRepository sharePieRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * コンストラクタ
+     *
+     * @param amountPieRepository AmountPieリポジトリ
+     * @param sharePieRepository  SharePieリポジトリ
+     * @param transactionManager  トランザクションマネージャー
+     */
+    public PieAllocationBackfillRunner(AmountPieRepository amountPieRepository,
+            SharePieRepository sharePieRepository,
+            PlatformTransactionManager transactionManager) {
+        this.amountPieRepository = amountPieRepository;
+        this.sharePieRepository = sharePieRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        int amountPies = backfillAmountPies();
+        int sharePies = backfillSharePies();
+        log.info("Pie allocation backfill completed: {} amount pies, {} share pies", amountPies, sharePies);
+    }
+
+    /**
+     * 未移行のAmountPieを移行します
+     *
+     * @return 移行した件数
+     */
+    public int backfillAmountPies() {
+        int migrated = 0;
+        int chunk;
+        do {
+            chunk = transactionTemplate.execute(status -> {
+                var amountPies = amountPieRepository.findWithoutAllocation(PageRequest.of(0, CHUNK_SIZE));
+                amountPies.forEach(amountPie -> amountPieRepository.updateAllocation(
+                        amountPie.getId(), PieAllocation.of(amountPie.getAmounts())));
+                return amountPies.size();
+            });
+            migrated += chunk;
+        } while (chunk == CHUNK_SIZE);
+        return migrated;
+    }
+
+    /**
+     * 未移行のSharePieを移行します
+     *
+     * @return 移行した件数
+     */
+    public int backfillSharePies() {
+        int migrated = 0;
+        int chunk;
+        do {
+            chunk = transactionTemplate.execute(status -> {
+                var sharePies = sharePieRepository.findWithoutAllocation(PageRequest.of(0, CHUNK_SIZE));
+                sharePies.forEach(sharePie -> sharePieRepository.updateAllocation(
+                        sharePie.getId(), PieAllocation.of(sharePie.getShares())));
+                return sharePies.size();
+            });
+            migrated += chunk;
+        } while (chunk == CHUNK_SIZE);
+        return migrated;
+    }
+}
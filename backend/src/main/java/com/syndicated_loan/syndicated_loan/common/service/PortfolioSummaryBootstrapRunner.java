@@ -0,0 +1,38 @@
+package com.syndicated_loan.syndicated_loan.common.service;
+
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 集計テーブル（{@code facility_summary}/{@code investor_exposure_summary}）の導入前から存在するファシリティに、
+ * 集計行を作成する移行処理。
+ *
+ * <p>
+ * 集計行は取引の実行時に差分で更新されるため、導入前に実行済みの取引は集計行に含まれません。
+ * 起動時に{@link PortfolioSummaryService#seedMissingFacilities()}を実行し、集計行の無いファシリティの集計行を
+ * 実行済みの取引から作成します。作成済みのファシリティは対象外となるため、毎回の起動で実行しても既存の集計行は変わりません
+ * （{@code syndicated-loan.portfolio-summary.bootstrap.enabled=false}で無効化できます）。
+ * </p>
+ */
+@Component
+@ConditionalOnProperty(name = "syndicated-loan.portfolio-summary.bootstrap.enabled", havingValue = "true", matchIfMissing = true)
+public class PortfolioSummaryBootstrapRunner implements ApplicationRunner {
+
+    private final PortfolioSummaryService portfolioSummaryService;
+
+    /**
+     * コンストラクタ
+     *
+     * @param portfolioSummaryService 集計テーブルのサービス
+     */
+    public PortfolioSummaryBootstrapRunner(PortfolioSummaryService portfolioSummaryService) {
+        this.portfolioSummaryService = portfolioSummaryService;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        portfolioSummaryService.seedMissingFacilities();
+    }
+}
@@ -0,0 +1,502 @@
+package com.syndicated_loan.syndicated_loan.common.service;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.syndicated_loan.syndicated_loan.common.dto.FacilitySummaryDto;
+import com.syndicated_loan.syndicated_loan.common.dto.InvestorExposureSummaryDto;
+import com.syndicated_loan.syndicated_loan.common.dto.PortfolioSummaryDto;
+import com.syndicated_loan.syndicated_loan.common.dto.PortfolioTotals;
+import com.syndicated_loan.syndicated_loan.common.entity.AmountPie;
+import com.syndicated_loan.syndicated_loan.common.entity.Drawdown;
+import com.syndicated_loan.syndicated_loan.common.entity.Facility;
+import com.syndicated_loan.syndicated_loan.common.entity.FacilitySummary;
+import com.syndicated_loan.syndicated_loan.common.entity.FacilityTrade;
+import com.syndicated_loan.syndicated_loan.common.entity.InvestorExposureSummary;
+import com.syndicated_loan.syndicated_loan.common.entity.Loan;
+import com.syndicated_loan.syndicated_loan.common.entity.Position;
+import com.syndicated_loan.syndicated_loan.common.entity.PrincipalPayment;
+import com.syndicated_loan.syndicated_loan.common.exception.BusinessException;
+import com.syndicated_loan.syndicated_loan.common.repository.DrawdownRepository;
+import com.syndicated_loan.syndicated_loan.common.repository.FacilityRepository;
+import com.syndicated_loan.syndicated_loan.common.repository.FacilitySummaryRepository;
+import com.syndicated_loan.syndicated_loan.common.repository.FacilityTradeRepository;
+import com.syndicated_loan.syndicated_loan.common.repository.InvestorExposureSummaryRepository;
+import com.syndicated_loan.syndicated_loan.common.repository.LoanRepository;
+import com.syndicated_loan.syndicated_loan.common.repository.PrincipalPaymentRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Savepoint;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * ダッシュボード向けの集計テーブル（ファシリティの利用状況・投資家のエクスポージャー）を管理するサービス。
+ *
+ * <p>
+ * 集計テーブルは、ファシリティの作成・更新と、ドローダウン・元本返済・ファシリティ売買の実行時に、
+ * 同じトランザクションの中で差分として更新します。
+ * 累計額は{@code 列 = 列 + 差分}で加算するため、同じファシリティの取引が並行して実行されても加算が失われません。
+ * 利用率は更新時に計算して保存するため、参照のたびに除算することはありません。
+ * 集計行の作成・更新は{@code UPDATE}の後、対象行が無い場合のみ{@code INSERT}する標準SQLで行い、
+ * 特定のデータベースの{@code MERGE}構文には依存しません。
+ * {@code INSERT}はJDBCのセーブポイントの後で実行するため、
+ * 並行した作成と競合して失敗しても、失敗した文でトランザクション全体が中断されるデータベース（PostgreSQLなど）で
+ * 取引の実行が巻き戻ることはありません。
+ * </p>
+ *
+ * <p>
+ * 集計行を更新するメソッドは、取引を実行するトランザクションの中から呼び出す必要があります
+ * （{@link Propagation#MANDATORY}。トランザクション外から呼び出した場合は例外となります）。
+ * </p>
+ *
+ * <p>
+ * 集計行の無いファシリティ（集計テーブルの導入前から存在するファシリティ）の集計行は、
+ * 起動時（{@link PortfolioSummaryBootstrapRunner}）に実行済みの取引から作成します。
+ * 集計行が取引と食い違った場合は{@link #rebuildFacility(Long)}で作り直せます。
+ * </p>
+ *
+ * <p>
+ * 参照系のメソッドは集計テーブルのみを読み込み、取引テーブルを走査することはありません。
+ * </p>
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class PortfolioSummaryService {
+
+    /**
+     * 実行済みの取引のステータス
+     */
+    private static final String EXECUTED = "EXECUTED";
+
+    /**
+     * 利用率の小数点以下の桁数
+     */
+    private static final int RATE_SCALE = 4;
+
+    /**
+     * ファシリティの集計行の総額・利用可能額・利用率を置き換え、累計額に差分を加算するSQL
+     */
+    private static final String UPDATE_FACILITY_SQL = "UPDATE facility_summary SET"
+            + " total_amount = ?, available_amount = ?, utilization_rate = ?,"
+            + " drawn_amount = drawn_amount + ?, repaid_amount = repaid_amount + ?,"
+            + " outstanding_amount = outstanding_amount + ? - ?, executed_drawdowns = executed_drawdowns + ?,"
+            + " updated_at = ? WHERE facility_id = ?";
+
+    /**
+     * ファシリティの集計行の累計額にのみ差分を加算するSQL（総額・利用可能額・利用率は維持する）
+     */
+    private static final String ADD_FACILITY_TOTALS_SQL = "UPDATE facility_summary SET"
+            + " drawn_amount = drawn_amount + ?, repaid_amount = repaid_amount + ?,"
+            + " outstanding_amount = outstanding_amount + ? - ?, executed_drawdowns = executed_drawdowns + ?,"
+            + " updated_at = ? WHERE facility_id = ?";
+
+    /**
+     * ファシリティの集計行を作成するSQL
+     */
+    private static final String INSERT_FACILITY_SQL = "INSERT INTO facility_summary"
+            + " (facility_id, total_amount, available_amount, drawn_amount, repaid_amount, outstanding_amount,"
+            + " executed_drawdowns, utilization_rate, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    /**
+     * 投資家のエクスポージャーの集計行に差分を加算するSQL
+     */
+    private static final String ADD_EXPOSURE_SQL = "UPDATE investor_exposure_summary"
+            + " SET exposure = exposure + ?, updated_at = ? WHERE investor_id = ? AND facility_id = ?";
+
+    /**
+     * 投資家のエクスポージャーの集計行を作成するSQL
+     */
+    private static final String INSERT_EXPOSURE_SQL = "INSERT INTO investor_exposure_summary"
+            + " (investor_id, facility_id, exposure, updated_at) VALUES (?, ?, ?, ?)";
+
+    /**
+     * JDBCテンプレート（JPAと同一のトランザクションで実行される）
+     */
+    private final JdbcTemplate jdbcTemplate;
+
+    private final FacilitySummaryRepository facilitySummaryRepository;
+    private final InvestorExposureSummaryRepository exposureSummaryRepository;
+
+    // 集計行の作成・作り直しで実行済みの取引を読み込むリポジトリ
+    private final FacilityRepository facilityRepository;
+    private final LoanRepository loanRepository;
+    private final DrawdownRepository drawdownRepository;
+    private final PrincipalPaymentRepository principalPaymentRepository;
+    private final FacilityTradeRepository facilityTradeRepository;
+
+    /**
+     * コンストラクタ
+     *
+     * @param jdbcTemplate               JDBCテンプレート
+     * @param facilitySummaryRepository  ファシリティの集計リポジトリ
+     * @param exposureSummaryRepository  投資家のエクスポージャーの集計リポジトリ
+     * @param facilityRepository         ファシリティリポジトリ
+     * @param loanRepository             ローンリポジトリ
+     * @param drawdownRepository         ドローダウンリポジトリ
+     * @param principalPaymentRepository 元本返済リポジトリ
+     * @param facilityTradeRepository    ファシリティ売買リポジトリ
+     */
+    public PortfolioSummaryService(JdbcTemplate jdbcTemplate,
+            FacilitySummaryRepository facilitySummaryRepository,
+            InvestorExposureSummaryRepository exposureSummaryRepository,
+            FacilityRepository facilityRepository,
+            LoanRepository loanRepository,
+            DrawdownRepository drawdownRepository,
+            PrincipalPaymentRepository principalPaymentRepository,
+            FacilityTradeRepository facilityTradeRepository) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.facilitySummaryRepository = facilitySummaryRepository;
+        this.exposureSummaryRepository = exposureSummaryRepository;
+        this.facilityRepository = facilityRepository;
+        this.loanRepository = loanRepository;
+        this.drawdownRepository = drawdownRepository;
+        this.principalPaymentRepository = principalPaymentRepository;
+        this.facilityTradeRepository = facilityTradeRepository;
+    }
+
+    /**
+     * ファシリティの総額・利用可能額・利用率を集計行に反映します（ファシリティの作成・更新時）
+     *
+     * @param facility ファシリティ（更新後の値）
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void refreshFacility(Facility facility) {
+        mergeFacility(facility, true, BigDecimal.ZERO, BigDecimal.ZERO, 0);
+    }
+
+    /**
+     * ドローダウンの実行を集計行に反映します
+     *
+     * @param facility       ファシリティ（実行後の利用可能額）
+     * @param drawnAmount    ドローダウン額の合計
+     * @param drawdowns      実行したドローダウンの件数
+     * @param investorAmounts 投資家IDをキー、投資額の増加を値とするマップ（nullの場合は増減なし）
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordDrawdown(Facility facility, BigDecimal drawnAmount, int drawdowns,
+            Map<Long, BigDecimal> investorAmounts) {
+        mergeFacility(facility, true, drawnAmount, BigDecimal.ZERO, drawdowns);
+        mergeExposures(facility.getId(), investorAmounts, BigDecimal.ONE);
+    }
+
+    /**
+     * 元本返済の実行を集計行に反映します（ファシリティの利用可能額は変わらない）
+     *
+     * @param facility        ローンのファシリティ
+     * @param repaidAmount    返済額
+     * @param investorAmounts 投資家IDをキー、投資額の減少を値とするマップ（nullの場合は増減なし）
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordRepayment(Facility facility, BigDecimal repaidAmount, Map<Long, BigDecimal> investorAmounts) {
+        mergeFacility(facility, false, BigDecimal.ZERO, repaidAmount, 0);
+        mergeExposures(facility.getId(), investorAmounts, BigDecimal.valueOf(-1));
+    }
+
+    /**
+     * ファシリティ売買の実行を集計行に反映します（売り手から買い手へエクスポージャーを移す）
+     *
+     * @param facilityId  ファシリティID
+     * @param sellerId    売り手の投資家ID
+     * @param buyerId     買い手の投資家ID
+     * @param tradeAmount 売買金額
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordTrade(Long facilityId, Long sellerId, Long buyerId, BigDecimal tradeAmount) {
+        Map<Long, BigDecimal> amounts = new TreeMap<>();
+        amounts.merge(sellerId, tradeAmount.negate(), BigDecimal::add);
+        amounts.merge(buyerId, tradeAmount, BigDecimal::add);
+        mergeExposures(facilityId, amounts, BigDecimal.ONE);
+    }
+
+    /**
+     * ファシリティの集計行と、そのファシリティの投資家のエクスポージャーを削除します（ファシリティの削除時）
+     *
+     * @param facilityId ファシリティID
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void removeFacility(Long facilityId) {
+        jdbcTemplate.update("DELETE FROM investor_exposure_summary WHERE facility_id = ?", facilityId);
+        jdbcTemplate.update("DELETE FROM facility_summary WHERE facility_id = ?", facilityId);
+    }
+
+    /**
+     * 集計行の無いファシリティ（集計テーブルの導入前から存在するファシリティ）の集計行を、
+     * 実行済みのドローダウン・元本返済・ファシリティ売買から作成します。
+     * 作成済みのファシリティは対象外となるため、繰り返し実行できます
+     *
+     * @return 集計行を作成したファシリティの件数
+     */
+    @Transactional
+    public int seedMissingFacilities() {
+        int seeded = 0;
+        for (Facility facility : facilityRepository.findAll()) {
+            if (!facilitySummaryRepository.existsById(facility.getId())) {
+                rebuild(facility);
+                seeded++;
+            }
+        }
+        if (seeded > 0) {
+            log.info("Portfolio summary seeded for {} facilities from executed transactions", seeded);
+        }
+        return seeded;
+    }
+
+    /**
+     * ファシリティの集計行と投資家のエクスポージャーを、実行済みの取引から作り直します。
+     * 作り直しの間に実行された取引の差分は失われるため、取引の実行を停止した状態で行います
+     *
+     * @param facilityId ファシリティID
+     * @return 作り直した集計行
+     * @throws BusinessException ファシリティが存在しない場合
+     */
+    @Transactional
+    public FacilitySummaryDto rebuildFacility(Long facilityId) {
+        Facility facility = facilityRepository.findById(facilityId)
+                .orElseThrow(() -> new BusinessException("Facility not found", "FACILITY_NOT_FOUND"));
+        rebuild(facility);
+        return findFacility(facilityId);
+    }
+
+    /**
+     * ポートフォリオ全体の利用状況を取得します
+     *
+     * @return ファシリティの集計行の合計
+     */
+    public PortfolioSummaryDto getPortfolio() {
+        PortfolioTotals totals = facilitySummaryRepository.sumPortfolio();
+        BigDecimal totalAmount = orZero(totals.getTotalAmount());
+        BigDecimal availableAmount = orZero(totals.getAvailableAmount());
+        return PortfolioSummaryDto.builder()
+                .facilities(totals.getFacilities())
+                .totalAmount(totalAmount)
+                .availableAmount(availableAmount)
+                .outstandingAmount(orZero(totals.getOutstandingAmount()))
+                .executedDrawdowns(totals.getExecutedDrawdowns() != null ? totals.getExecutedDrawdowns() : 0)
+                .utilizationRate(utilizationRate(totalAmount, availableAmount))
+                .build();
+    }
+
+    /**
+     * ファシリティの利用状況の一覧を取得します
+     *
+     * @param pageable ページ情報
+     * @return ファシリティの利用状況（投資家ごとのエクスポージャーは含めない）
+     */
+    public Page<FacilitySummaryDto> findFacilities(Pageable pageable) {
+        return facilitySummaryRepository.findAll(pageable).map(summary -> toDto(summary, null));
+    }
+
+    /**
+     * ファシリティの利用状況と、投資家ごとのエクスポージャー（エクスポージャーの降順）を取得します
+     *
+     * @param facilityId ファシリティID
+     * @return ファシリティの利用状況
+     * @throws BusinessException ファシリティの集計行が存在しない場合
+     */
+    public FacilitySummaryDto findFacility(Long facilityId) {
+        FacilitySummary summary = facilitySummaryRepository.findById(facilityId)
+                .orElseThrow(() -> new BusinessException("Facility summary not found", "FACILITY_SUMMARY_NOT_FOUND"));
+        return toDto(summary, exposureSummaryRepository.findByFacilityIdOrderByExposureDesc(facilityId).stream()
+                .map(this::toDto)
+                .toList());
+    }
+
+    /**
+     * 投資家のファシリティごとのエクスポージャー（ファシリティIDの昇順）を取得します
+     *
+     * @param investorId 投資家ID
+     * @return ファシリティごとのエクスポージャー
+     */
+    public List<InvestorExposureSummaryDto> findInvestorExposures(Long investorId) {
+        return exposureSummaryRepository.findByInvestorIdOrderByFacilityId(investorId).stream()
+                .map(this::toDto)
+                .toList();
+    }
+
+    /**
+     * ファシリティの集計行を差分で更新し、集計行が無い場合は作成します
+     */
+    private void mergeFacility(Facility facility, boolean refresh, BigDecimal drawn, BigDecimal repaid,
+            int drawdowns) {
+        BigDecimal utilizationRate = utilizationRate(facility.getTotalAmount(), facility.getAvailableAmount());
+        Timestamp updatedAt = Timestamp.valueOf(LocalDateTime.now());
+        Object[] updateArgs = refresh
+                ? new Object[] { facility.getTotalAmount(), facility.getAvailableAmount(), utilizationRate,
+                        drawn, repaid, drawn, repaid, drawdowns, updatedAt, facility.getId() }
+                : new Object[] { drawn, repaid, drawn, repaid, drawdowns, updatedAt, facility.getId() };
+        upsert(refresh ? UPDATE_FACILITY_SQL : ADD_FACILITY_TOTALS_SQL, updateArgs, INSERT_FACILITY_SQL,
+                new Object[] { facility.getId(), facility.getTotalAmount(), facility.getAvailableAmount(),
+                        drawn, repaid, drawn.subtract(repaid), drawdowns, utilizationRate, updatedAt });
+    }
+
+    /**
+     * 投資家のエクスポージャーの集計行を1回のJDBCバッチで差分で更新し、集計行の無い投資家の分のみ作成します（投資家IDの昇順）
+     */
+    private void mergeExposures(Long facilityId, Map<Long, BigDecimal> amounts, BigDecimal multiplier) {
+        if (amounts == null || amounts.isEmpty()) {
+            return;
+        }
+        Timestamp updatedAt = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> batchArgs = new ArrayList<>(amounts.size());
+        new TreeMap<>(amounts).forEach((investorId, amount) -> {
+            if (amount.signum() != 0) {
+                batchArgs.add(new Object[] { amount.multiply(multiplier), updatedAt, investorId, facilityId });
+            }
+        });
+        if (batchArgs.isEmpty()) {
+            return;
+        }
+        int[] updateCounts = jdbcTemplate.batchUpdate(ADD_EXPOSURE_SQL, batchArgs);
+        for (int i = 0; i < updateCounts.length; i++) {
+            // 更新件数を返さないドライバ（SUCCESS_NO_INFO）の場合は更新済みとみなす
+            if (updateCounts[i] == 0) {
+                Object[] args = batchArgs.get(i);
+                upsert(ADD_EXPOSURE_SQL, args, INSERT_EXPOSURE_SQL,
+                        new Object[] { args[2], facilityId, args[0], updatedAt });
+            }
+        }
+    }
+
+    /**
+     * 集計行を更新し、対象行が無い場合は作成します。
+     * 並行して同じ行が作成された場合は一意制約の違反となるため、セーブポイントまで巻き戻して更新をやり直します
+     * （ファシリティの集計行は、同じファシリティの取引ではエクスポージャーより先に更新されて行ロックを取るため、
+     * エクスポージャーの作成が競合するのはファシリティ売買の場合に限られます）
+     */
+    private void upsert(String updateSql, Object[] updateArgs, String insertSql, Object[] insertArgs) {
+        if (jdbcTemplate.update(updateSql, updateArgs) > 0) {
+            return;
+        }
+        // トランザクションの接続でセーブポイントを作成し、失敗した場合はそこまで巻き戻して更新をやり直す
+        // （JPAのトランザクションマネージャーはネストしたトランザクションに対応しないため、JDBCで直接扱う）
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            Savepoint savepoint = connection.setSavepoint();
+            try {
+                jdbcTemplate.update(insertSql, insertArgs);
+            } catch (DuplicateKeyException e) {
+                connection.rollback(savepoint);
+                jdbcTemplate.update(updateSql, updateArgs);
+                return null;
+            }
+            connection.releaseSavepoint(savepoint);
+            return null;
+        });
+    }
+
+    /**
+     * ファシリティの集計行と投資家のエクスポージャーを、実行済みの取引から作り直します
+     */
+    private void rebuild(Facility facility) {
+        BigDecimal drawn = BigDecimal.ZERO;
+        BigDecimal repaid = BigDecimal.ZERO;
+        int drawdowns = 0;
+        Map<Long, BigDecimal> exposures = new TreeMap<>();
+
+        for (Drawdown drawdown : drawdownRepository.findByRelatedFacility(facility)) {
+            if (EXECUTED.equals(drawdown.getStatus())) {
+                drawn = drawn.add(drawdown.getDrawdownAmount());
+                drawdowns++;
+                addExposures(exposures, drawdown.getAmountPie(), BigDecimal.ONE);
+            }
+        }
+
+        // ファシリティ売買はファシリティまたはそのローンを対象とする
+        List<Position> tradedPositions = new ArrayList<>();
+        tradedPositions.add(facility);
+        for (Loan loan : loanRepository.findByFacility(facility)) {
+            tradedPositions.add(loan);
+            for (PrincipalPayment payment : principalPaymentRepository.findByLoan(loan)) {
+                if (EXECUTED.equals(payment.getStatus())) {
+                    repaid = repaid.add(payment.getPaymentAmount());
+                    addExposures(exposures, payment.getAmountPie(), BigDecimal.valueOf(-1));
+                }
+            }
+        }
+        for (Position position : tradedPositions) {
+            for (FacilityTrade trade : facilityTradeRepository.findByRelatedPosition(position)) {
+                if (EXECUTED.equals(trade.getStatus())) {
+                    exposures.merge(trade.getSeller().getId(), trade.getTradeAmount().negate(), BigDecimal::add);
+                    exposures.merge(trade.getBuyer().getId(), trade.getTradeAmount(), BigDecimal::add);
+                }
+            }
+        }
+
+        removeFacility(facility.getId());
+        Timestamp updatedAt = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.update(INSERT_FACILITY_SQL, facility.getId(), facility.getTotalAmount(),
+                facility.getAvailableAmount(), drawn, repaid, drawn.subtract(repaid), drawdowns,
+                utilizationRate(facility.getTotalAmount(), facility.getAvailableAmount()), updatedAt);
+        List<Object[]> batchArgs = new ArrayList<>(exposures.size());
+        exposures.forEach((investorId, exposure) ->
+                batchArgs.add(new Object[] { investorId, facility.getId(), exposure, updatedAt }));
+        if (!batchArgs.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_EXPOSURE_SQL, batchArgs);
+        }
+    }
+
+    private static void addExposures(Map<Long, BigDecimal> exposures, AmountPie amountPie, BigDecimal multiplier) {
+        if (amountPie != null) {
+            amountPie.getAmounts().forEach((investorId, amount) ->
+                    exposures.merge(investorId, amount.multiply(multiplier), BigDecimal::add));
+        }
+    }
+
+    /**
+     * 利用率（%）を計算します
+     *
+     * @param totalAmount     総額
+     * @param availableAmount 利用可能額
+     * @return (総額 - 利用可能額) / 総額 × 100（総額が0の場合は0）
+     */
+    private static BigDecimal utilizationRate(BigDecimal totalAmount, BigDecimal availableAmount) {
+        if (totalAmount == null || availableAmount == null || totalAmount.signum() == 0) {
+            return BigDecimal.ZERO.setScale(RATE_SCALE);
+        }
+        return totalAmount.subtract(availableAmount)
+                .multiply(BigDecimal.valueOf(100))
+                .divide(totalAmount, RATE_SCALE, RoundingMode.HALF_UP);
+    }
+
+    private static BigDecimal orZero(BigDecimal value) {
+        return value != null ? value : BigDecimal.ZERO;
+    }
+
+    private FacilitySummaryDto toDto(FacilitySummary summary, List<InvestorExposureSummaryDto> exposures) {
+        return FacilitySummaryDto.builder()
+                .facilityId(summary.getFacilityId())
+                .totalAmount(summary.getTotalAmount())
+                .availableAmount(summary.getAvailableAmount())
+                .drawnAmount(summary.getDrawnAmount())
+                .repaidAmount(summary.getRepaidAmount())
+                .outstandingAmount(summary.getOutstandingAmount())
+                .executedDrawdowns(summary.getExecutedDrawdowns())
+                .utilizationRate(summary.getUtilizationRate())
+                .updatedAt(summary.getUpdatedAt())
+                .exposures(exposures)
+                .build();
+    }
+
+    private InvestorExposureSummaryDto toDto(InvestorExposureSummary summary) {
+        return InvestorExposureSummaryDto.builder()
+                .investorId(summary.getInvestorId())
+                .facilityId(summary.getFacilityId())
+                .exposure(summary.getExposure())
+                .updatedAt(summary.getUpdatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,231 @@
+package com.syndicated_loan.syndicated_loan.common.service;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.syndicated_loan.syndicated_loan.common.dto.BalanceAsOfDto;
+import com.syndicated_loan.syndicated_loan.common.entity.JournalEntry.AccountType;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 口座（ファシリティ・ローン・投資家）ごとの残高の推移を保持し、過去の時点の残高を返すコンポーネント。
+ *
+ * <p>
+ * 口座の仕訳（{@code journal_entry}）を取引日ごとに合算し、取引日の昇順に並べた累計残高の配列
+ * （圧縮した変更履歴）を作成します。指定日時の残高は、この配列を二分探索して
+ * 指定日時以前で最後の取引日の累計残高を返すため、仕訳の件数nに対してO(log n)で求まります。
+ * 取引テーブルを読み込むことはありません。
+ * </p>
+ *
+ * <p>
+ * 作成した変更履歴はCaffeineのキャッシュに保持し、口座数の上限と最後の参照からの有効期限
+ * （{@link BalanceHistoryProperties}）を超えたものは破棄します。口座に仕訳を記録したトランザクションの完了時に
+ * その口座の変更履歴を破棄し、次回の参照時に仕訳から作り直します。
+ * 取引日が過去の取引（遡及した記帳）も、作り直しによって正しい位置に反映されます。
+ * </p>
+ *
+ * <p>
+ * 仕訳の読み込みはキャッシュのロックの外で行い、読み込み中に破棄が行われた場合は、
+ * 古い可能性のある変更履歴をキャッシュに残しません。
+ * </p>
+ */
+@Component
+@EnableConfigurationProperties(BalanceHistoryProperties.class)
+public class PositionBalanceHistory {
+
+    /**
+     * 口座の仕訳を取引日ごとに合算するSQL（口座・取引日の索引を使用する）
+     */
+    private static final String CHANGELOG_SQL = "SELECT event_date, SUM(delta) AS delta FROM journal_entry"
+            + " WHERE account_type = ? AND account_id = ? GROUP BY event_date ORDER BY event_date";
+
+    /**
+     * JDBCテンプレート
+     */
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 口座ごとの変更履歴
+     */
+    private final Cache<Account, Changelog> changelogs;
+
+    /**
+     * 変更履歴の破棄の回数（読み込み中の破棄の検出に使用する）
+     */
+    private final AtomicLong invalidations = new AtomicLong();
+
+    /**
+     * コンストラクタ
+     *
+     * @param jdbcTemplate JDBCテンプレート
+     * @param properties   キャッシュの設定
+     */
+    public PositionBalanceHistory(JdbcTemplate jdbcTemplate, BalanceHistoryProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.changelogs = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxAccounts())
+                .expireAfterAccess(properties.getExpireAfterAccess())
+                .build();
+    }
+
+    /**
+     * 指定日時時点の口座の残高を取得します
+     *
+     * @param accountType 口座の種類
+     * @param accountId   口座ID
+     * @param asOf        基準日時（この日時までの取引日の仕訳を反映する）
+     * @return 基準日時の残高（基準日時以前に仕訳が無い場合は0）
+     */
+    public BalanceAsOfDto balanceAsOf(AccountType accountType, Long accountId, LocalDateTime asOf) {
+        Changelog changelog = changelog(new Account(accountType, accountId));
+        int index = changelog.indexAtOrBefore(asOf);
+        return BalanceAsOfDto.builder()
+                .accountType(accountType.name())
+                .accountId(accountId)
+                .asOf(asOf)
+                .balance(index < 0 ? BigDecimal.ZERO : changelog.balances[index])
+                .lastChangedAt(index < 0 ? null : changelog.eventDates[index])
+                .changes(changelog.eventDates.length)
+                .build();
+    }
+
+    /**
+     * 口座の変更履歴を取得します（キャッシュに無い場合は仕訳から作成します）
+     *
+     * @param account 口座
+     * @return 変更履歴
+     */
+    private Changelog changelog(Account account) {
+        Changelog cached = changelogs.getIfPresent(account);
+        if (cached != null) {
+            return cached;
+        }
+
+        long generation = invalidations.get();
+        Changelog loaded = load(account);
+        if (invalidations.get() == generation) {
+            Changelog existing = changelogs.asMap().putIfAbsent(account, loaded);
+            if (existing != null) {
+                return existing;
+            }
+            // 格納の直前に破棄された場合は、格納した変更履歴が古い可能性があるため取り除く
+            if (invalidations.get() != generation) {
+                changelogs.asMap().remove(account, loaded);
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * 口座の変更履歴を、現在のトランザクションの完了時に破棄します（トランザクション外では即座に破棄します）
+     *
+     * @param accounts 仕訳を記録した口座
+     */
+    public void invalidate(Collection<Account> accounts) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(accounts);
+            return;
+        }
+
+        @SuppressWarnings("unchecked")
+        Set<Account> pending = (Set<Account>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            Set<Account> newPending = new HashSet<>();
+            TransactionSynchronizationManager.bindResource(this, newPending);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(PositionBalanceHistory.this);
+                    evict(newPending);
+                }
+            });
+            pending = newPending;
+        }
+        pending.addAll(accounts);
+    }
+
+    /**
+     * すべての口座の変更履歴を破棄します（複数の口座の仕訳をまとめて記録した場合に使用します）
+     */
+    public void invalidateAll() {
+        invalidations.incrementAndGet();
+        changelogs.invalidateAll();
+    }
+
+    /**
+     * 保持している変更履歴の口座数
+     */
+    long cachedAccounts() {
+        changelogs.cleanUp();
+        return changelogs.estimatedSize();
+    }
+
+    // 破棄の回数を先に増やし、読み込み中の変更履歴が破棄の後に格納されることを防ぐ
+    private void evict(Collection<Account> accounts) {
+        invalidations.incrementAndGet();
+        changelogs.invalidateAll(accounts);
+    }
+
+    /**
+     * 口座の仕訳から変更履歴を作成します
+     *
+     * @param account 口座
+     * @return 取引日の昇順の累計残高
+     */
+    private Changelog load(Account account) {
+        List<Object[]> rows = jdbcTemplate.query(CHANGELOG_SQL,
+                (rs, rowNum) -> new Object[] { rs.getTimestamp("event_date").toLocalDateTime(),
+                        rs.getBigDecimal("delta") },
+                account.accountType().name(), account.accountId());
+        LocalDateTime[] eventDates = new LocalDateTime[rows.size()];
+        BigDecimal[] balances = new BigDecimal[rows.size()];
+        BigDecimal balance = BigDecimal.ZERO;
+        for (int i = 0; i < rows.size(); i++) {
+            eventDates[i] = (LocalDateTime) rows.get(i)[0];
+            balance = balance.add((BigDecimal) rows.get(i)[1]);
+            balances[i] = balance;
+        }
+        return new Changelog(eventDates, balances);
+    }
+
+    /**
+     * 口座
+     *
+     * @param accountType 口座の種類
+     * @param accountId   口座ID
+     */
+    public record Account(AccountType accountType, Long accountId) {
+    }
+
+    /**
+     * 圧縮した変更履歴（取引日の昇順、取引日ごとに1件の累計残高）
+     */
+    private static final class Changelog {
+        private final LocalDateTime[] eventDates;
+        private final BigDecimal[] balances;
+
+        private Changelog(LocalDateTime[] eventDates, BigDecimal[] balances) {
+            this.eventDates = eventDates;
+            this.balances = balances;
+        }
+
+        // 基準日時以前で最後の取引日の位置（無い場合は-1）
+        private int indexAtOrBefore(LocalDateTime asOf) {
+            int index = Arrays.binarySearch(eventDates, asOf);
+            return index >= 0 ? index : -index - 2;
+        }
+    }
+}
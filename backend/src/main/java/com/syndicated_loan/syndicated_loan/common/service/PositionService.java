@@ -3,16 +3,20 @@ package com.syndicated_loan.syndicated_loan.common.service;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.syndicated_loan.syndicated_loan.common.dto.BalanceAsOfDto;
 import com.syndicated_loan.syndicated_loan.common.dto.FacilityDto;
 import com.syndicated_loan.syndicated_loan.common.dto.LoanDto;
 import com.syndicated_loan.syndicated_loan.common.entity.Position;
 import com.syndicated_loan.syndicated_loan.common.entity.Facility;
 import com.syndicated_loan.syndicated_loan.common.entity.Loan;
+import com.syndicated_loan.syndicated_loan.common.entity.JournalEntry.AccountType;
 import com.syndicated_loan.syndicated_loan.common.repository.PositionRepository;
 import com.syndicated_loan.syndicated_loan.common.exception.BusinessException;
 
 import lombok.extern.slf4j.Slf4j;
 
+import java.time.LocalDate;
+import java.time.LocalTime;
 import java.util.Optional;
 
 /**
@@ -34,20 +38,28 @@ public class PositionService extends AbstractBaseService<Position, Long, Object,
      */
     private final LoanService loanService;
 
+    /**
+     * 口座ごとの残高の推移
+     */
+    private final PositionBalanceHistory balanceHistory;
+
     /**
      * コンストラクタ
      *
      * @param repository      ポジションリポジトリ
      * @param facilityService ファシリティサービス
      * @param loanService     ローンサービス
+     * @param balanceHistory  口座ごとの残高の推移
      */
     public PositionService(
             PositionRepository repository,
             FacilityService facilityService,
-            LoanService loanService) {
+            LoanService loanService,
+            PositionBalanceHistory balanceHistory) {
         super(repository);
         this.facilityService = facilityService;
         this.loanService = loanService;
+        this.balanceHistory = balanceHistory;
     }
 
     /**
@@ -120,4 +132,20 @@ public class PositionService extends AbstractBaseService<Position, Long, Object,
                 .filter(position -> position instanceof Loan)
                 .map(position -> loanService.toDto((Loan) position));
     }
+
+    /**
+     * 指定日時点のポジションの残高を取得します。
+     * ファシリティは利用可能額、ローンは元本残高を、指定日の終わりまでの取引日の仕訳から求めます。
+     *
+     * @param id   ポジションID
+     * @param date 基準日
+     * @return 基準日時点の残高
+     * @throws BusinessException ポジションが見つからない場合
+     */
+    public BalanceAsOfDto findBalanceAsOf(Long id, LocalDate date) {
+        Position position = repository.findById(id)
+                .orElseThrow(() -> new BusinessException("Position not found", "POSITION_NOT_FOUND"));
+        AccountType accountType = position instanceof Facility ? AccountType.FACILITY : AccountType.LOAN;
+        return balanceHistory.balanceAsOf(accountType, id, date.atTime(LocalTime.MAX));
+    }
 }
@@ -7,15 +7,21 @@ import com.syndicated_loan.syndicated_loan.common.dto.PrincipalPaymentDto;
 import com.syndicated_loan.syndicated_loan.common.dto.AmountPieDto;
 import com.syndicated_loan.syndicated_loan.common.entity.PrincipalPayment;
 import com.syndicated_loan.syndicated_loan.common.entity.Loan;
+import com.syndicated_loan.syndicated_loan.common.entity.JournalEntry.AccountType;
 import com.syndicated_loan.syndicated_loan.common.repository.PrincipalPaymentRepository;
 import com.syndicated_loan.syndicated_loan.common.repository.LoanRepository;
 import com.syndicated_loan.syndicated_loan.common.exception.BusinessException;
+import com.syndicated_loan.syndicated_loan.common.service.TransactionJournal.Posting;
 
 import lombok.extern.slf4j.Slf4j;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 @Slf4j
 @Service
@@ -25,6 +31,8 @@ public class PrincipalPaymentService
 
     private final LoanService loanService;
     private final LoanRepository loanRepository;
+    private final TransactionJournal transactionJournal;
+    private final PortfolioSummaryService portfolioSummaryService;
 
     public PrincipalPaymentService(
             PrincipalPaymentRepository repository,
@@ -32,10 +40,14 @@ public class PrincipalPaymentService
             PositionService positionService,
             LoanService loanService,
             LoanRepository loanRepository,
-            InvestorService investorService) {
+            InvestorService investorService,
+            TransactionJournal transactionJournal,
+            PortfolioSummaryService portfolioSummaryService) {
         super(repository, amountPieService, positionService, investorService);
         this.loanService = loanService;
         this.loanRepository = loanRepository;
+        this.transactionJournal = transactionJournal;
+        this.portfolioSummaryService = portfolioSummaryService;
     }
 
     @Override
@@ -47,8 +59,7 @@ public class PrincipalPaymentService
         entity.setAmount(dto.getAmount());
 
         // 関連するローンの設定
-        Loan loan = loanService.findById(dto.getLoanId())
-                .map(loanService::toEntity)
+        Loan loan = loanService.findEntityById(dto.getLoanId())
                 .orElseThrow(() -> new BusinessException("Loan not found", "LOAN_NOT_FOUND"));
         entity.setLoan(loan);
 
@@ -62,6 +73,11 @@ public class PrincipalPaymentService
 
     @Override
     public PrincipalPaymentDto toDto(PrincipalPayment entity) {
+        return toDto(entity, repository.sumPaymentAmountByLoanUpTo(entity.getLoan(), entity.getDate()));
+    }
+
+    // 累計返済額（この返済以前、同日時を含む）を指定してDTOへ変換
+    private PrincipalPaymentDto toDto(PrincipalPayment entity, BigDecimal cumulativePaymentAmount) {
         PrincipalPaymentDto dto = PrincipalPaymentDto.builder()
                 .id(entity.getId())
                 .type(entity.getType())
@@ -87,47 +103,53 @@ public class PrincipalPaymentService
         }
 
         // 残高の計算
-        List<PrincipalPayment> previousPayments = repository.findByLoanOrderByDateAsc(entity.getLoan());
-        BigDecimal totalPaid = previousPayments.stream()
-                .filter(payment -> payment.getDate().isBefore(entity.getDate()) ||
-                        payment.getDate().equals(entity.getDate()))
-                .map(PrincipalPayment::getPaymentAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-        dto.setRemainingBalance(entity.getLoan().getTotalAmount().subtract(totalPaid));
+        dto.setRemainingBalance(entity.getLoan().getTotalAmount().subtract(cumulativePaymentAmount));
 
         return dto;
     }
 
+    // 一覧の変換（累計返済額は対象ローンの返済全体に対して1回のクエリで計算）
+    @Override
+    protected List<PrincipalPaymentDto> toDtoList(List<PrincipalPayment> entities) {
+        if (entities.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, BigDecimal> cumulativePaymentAmounts = new HashMap<>();
+        repository.findCumulativePaymentAmounts(entities.stream()
+                .map(payment -> payment.getLoan().getId())
+                .distinct()
+                .toList())
+                .forEach(row -> cumulativePaymentAmounts.put((Long) row[0], (BigDecimal) row[1]));
+
+        amountPieService.prefetchInvestorNames(entities.stream()
+                .map(PrincipalPayment::getAmountPie)
+                .filter(Objects::nonNull)
+                .toList());
+        return entities.stream()
+                .map(entity -> toDto(entity, cumulativePaymentAmounts.get(entity.getId())))
+                .toList();
+    }
+
     // 追加の検索メソッド
     public List<PrincipalPaymentDto> findByLoan(Long loanId) {
-        Loan loan = loanService.findById(loanId)
-                .map(loanService::toEntity)
+        Loan loan = loanService.findEntityById(loanId)
                 .orElseThrow(() -> new BusinessException("Loan not found", "LOAN_NOT_FOUND"));
-        return repository.findByLoan(loan).stream()
-                .map(this::toDto)
-                .toList();
+        return toDtoList(repository.findByLoan(loan));
     }
 
     public List<PrincipalPaymentDto> findByPaymentAmountGreaterThan(BigDecimal amount) {
-        return repository.findByPaymentAmountGreaterThan(amount).stream()
-                .map(this::toDto)
-                .toList();
+        return toDtoList(repository.findByPaymentAmountGreaterThan(amount));
     }
 
     public List<PrincipalPaymentDto> findByDateBetween(LocalDateTime startDate, LocalDateTime endDate) {
-        return repository.findByDateBetween(startDate, endDate).stream()
-                .map(this::toDto)
-                .toList();
+        return toDtoList(repository.findByDateBetween(startDate, endDate));
     }
 
     public List<PrincipalPaymentDto> findByLoanAndDateBetween(Long loanId, LocalDateTime startDate,
             LocalDateTime endDate) {
-        Loan loan = loanService.findById(loanId)
-                .map(loanService::toEntity)
+        Loan loan = loanService.findEntityById(loanId)
                 .orElseThrow(() -> new BusinessException("Loan not found", "LOAN_NOT_FOUND"));
-        return repository.findByLoanAndDateBetween(loan, startDate, endDate).stream()
-                .map(this::toDto)
-                .toList();
+        return toDtoList(repository.findByLoanAndDateBetween(loan, startDate, endDate));
     }
 
     // 元本返済の実行（ローン残高も更新）
@@ -141,31 +163,37 @@ public class PrincipalPaymentService
             throw new BusinessException("Principal payment already executed", "PRINCIPAL_PAYMENT_ALREADY_EXECUTED");
         }
 
-        // 返済額がローン残高を超えていないかチェック
+        // ローン残高を減算（返済額が残高を超える場合は更新されない）
         Loan loan = principalPayment.getLoan();
-        List<PrincipalPayment> previousPayments = repository.findByLoanOrderByDateAsc(loan);
-        BigDecimal totalPaid = previousPayments.stream()
-                .filter(payment -> "EXECUTED".equals(payment.getStatus()))
-                .map(PrincipalPayment::getPaymentAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-        BigDecimal remainingBalance = loan.getTotalAmount().subtract(totalPaid);
-
-        if (principalPayment.getPaymentAmount().compareTo(remainingBalance) > 0) {
+        if (loanRepository.decreaseOutstandingAmount(loan.getId(), principalPayment.getPaymentAmount()) == 0) {
             throw new BusinessException("Payment amount exceeds remaining balance", "PAYMENT_EXCEEDS_BALANCE");
         }
+        entityManager.refresh(loan);
 
         // ステータスを更新
         principalPayment.setStatus("EXECUTED");
         principalPayment.setProcessedDate(java.time.LocalDateTime.now());
 
-        // ローン残高を更新
-        loan.setAmount(remainingBalance.subtract(principalPayment.getPaymentAmount()));
-        loanRepository.save(loan);
-
         // 投資家の現在の投資額を更新（減額）
-        AmountPieDto amountPieDto = amountPieService.toDto(principalPayment.getAmountPie());
+        AmountPieDto amountPieDto = principalPayment.getAmountPie() != null
+                ? amountPieService.toDto(principalPayment.getAmountPie())
+                : null;
         updateInvestorCurrentInvestments(amountPieDto, BigDecimal.valueOf(-1));
 
+        // ローン残高と投資家の投資額の減少を仕訳に記録
+        List<Posting> postings = new ArrayList<>();
+        postings.add(new Posting(AccountType.LOAN, loan.getId(), principalPayment.getPaymentAmount().negate()));
+        if (amountPieDto != null) {
+            postings.addAll(Posting.investors(amountPieDto.getAmounts(), BigDecimal.valueOf(-1)));
+        }
+        transactionJournal.recordTransaction(principalPayment, postings);
+
+        // ローンのファシリティの返済額・元本残高と投資家のエクスポージャーを集計行に反映
+        if (loan.getFacility() != null) {
+            portfolioSummaryService.recordRepayment(loan.getFacility(), principalPayment.getPaymentAmount(),
+                    amountPieDto != null ? amountPieDto.getAmounts() : null);
+        }
+
         return toDto(repository.save(principalPayment));
     }
 
@@ -184,16 +212,8 @@ public class PrincipalPaymentService
             throw new BusinessException("Payment amount must be positive", "INVALID_PAYMENT_AMOUNT");
         }
 
-        // 返済額がローン残高を超えていないかチェック
-        Loan loan = principalPayment.getLoan();
-        List<PrincipalPayment> previousPayments = repository.findByLoanOrderByDateAsc(loan);
-        BigDecimal totalPaid = previousPayments.stream()
-                .filter(payment -> "EXECUTED".equals(payment.getStatus()))
-                .map(PrincipalPayment::getPaymentAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-        BigDecimal remainingBalance = loan.getTotalAmount().subtract(totalPaid);
-
-        if (newAmount.compareTo(remainingBalance) > 0) {
+        // 返済額がローン残高を超えていないかチェック（実行時にも残高を条件に減算する）
+        if (newAmount.compareTo(principalPayment.getLoan().getAmount()) > 0) {
             throw new BusinessException("Payment amount exceeds remaining balance", "PAYMENT_EXCEEDS_BALANCE");
         }
 
@@ -12,9 +12,12 @@ import lombok.extern.slf4j.Slf4j;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
 
 /**
  * SharePie（シェア配分）に関する操作を提供するサービスクラス。
@@ -37,9 +40,9 @@ import java.util.Map;
 public class SharePieService extends AbstractBaseService<SharePie, Long, SharePieDto, SharePieRepository> {
 
     /**
-     * 投資家サービス
+     * 投資家名の一括解決
      */
-    private final InvestorService investorService;
+    private final InvestorNameResolver investorNameResolver;
 
     /**
      * 100パーセントを表す定数
@@ -49,12 +52,12 @@ public class SharePieService extends AbstractBaseService<SharePie, Long, SharePi
     /**
      * コンストラクタ
      *
-     * @param repository      SharePieリポジトリ
-     * @param investorService 投資家サービス
+     * @param repository           SharePieリポジトリ
+     * @param investorNameResolver 投資家名の一括解決
      */
-    public SharePieService(SharePieRepository repository, InvestorService investorService) {
+    public SharePieService(SharePieRepository repository, InvestorNameResolver investorNameResolver) {
         super(repository);
-        this.investorService = investorService;
+        this.investorNameResolver = investorNameResolver;
     }
 
     /**
@@ -100,15 +103,44 @@ public class SharePieService extends AbstractBaseService<SharePie, Long, SharePi
                 .build();
 
         // レスポンス用の追加情報
+        Map<Long, String> investorNames = investorNameResolver.resolve(entity.getShares().keySet());
         Map<String, BigDecimal> investorShares = new HashMap<>();
         entity.getShares().forEach((investorId, share) -> {
-            investorService.findById(investorId).ifPresent(investor -> investorShares.put(investor.getName(), share));
+            String investorName = investorNames.get(investorId);
+            if (investorName != null) {
+                investorShares.put(investorName, share);
+            }
         });
         dto.setInvestorShares(investorShares);
 
         return dto;
     }
 
+    /**
+     * エンティティのリストをDTOのリストへ変換します。
+     * 変換前に全SharePieの投資家名をまとめて解決します。
+     *
+     * @param entities 変換するエンティティのリスト
+     * @return 変換されたDTOのリスト
+     */
+    @Override
+    protected List<SharePieDto> toDtoList(List<SharePie> entities) {
+        prefetchInvestorNames(entities);
+        return super.toDtoList(entities);
+    }
+
+    /**
+     * 複数のSharePieに含まれる投資家名を一括で先読みします
+     *
+     * @param sharePies 対象のSharePieのコレクション
+     */
+    public void prefetchInvestorNames(Collection<SharePie> sharePies) {
+        investorNameResolver.prefetch(sharePies.stream()
+                .filter(Objects::nonNull)
+                .flatMap(sharePie -> sharePie.getShares().keySet().stream())
+                .collect(Collectors.toSet()));
+    }
+
     /**
      * シェア配分をバリデーションします
      *
@@ -179,9 +211,7 @@ public class SharePieService extends AbstractBaseService<SharePie, Long, SharePi
      * @return SharePieDTOのリスト
      */
     public List<SharePieDto> findByMinimumShare(BigDecimal minShare) {
-        return repository.findByMinimumShare(minShare).stream()
-                .map(this::toDto)
-                .toList();
+        return toDtoList(repository.findByMinimumShare(minShare));
     }
 
     /**
@@ -191,8 +221,6 @@ public class SharePieService extends AbstractBaseService<SharePie, Long, SharePi
      * @return SharePieDTOのリスト
      */
     public List<SharePieDto> findByInvestorId(Long investorId) {
-        return repository.findByInvestorId(investorId).stream()
-                .map(this::toDto)
-                .toList();
+        return toDtoList(repository.findByInvestorId(investorId));
     }
 }
@@ -65,15 +65,13 @@ public class SyndicateService extends AbstractBaseService<Syndicate, Long, Syndi
                 entity.setId(dto.getId());
 
                 // リード銀行の設定
-                Investor leadBank = investorService.findById(dto.getLeadBankId())
-                                .map(investorService::toEntity)
+                Investor leadBank = investorService.findEntityById(dto.getLeadBankId())
                                 .orElseThrow(() -> new BusinessException("Lead bank not found", "LEAD_BANK_NOT_FOUND"));
                 entity.setLeadBank(leadBank);
 
                 // メンバーの設定
                 Set<Investor> members = dto.getMemberIds().stream()
-                                .map(id -> investorService.findById(id)
-                                                .map(investorService::toEntity)
+                                .map(id -> investorService.findEntityById(id)
                                                 .orElseThrow(() -> new BusinessException("Member not found: " + id,
                                                                 "MEMBER_NOT_FOUND")))
                                 .collect(Collectors.toSet());
@@ -119,12 +117,9 @@ public class SyndicateService extends AbstractBaseService<Syndicate, Long, Syndi
          * @throws BusinessException リード銀行が見つからない場合
          */
         public List<SyndicateDto> findByLeadBank(Long leadBankId) {
-                Investor leadBank = investorService.findById(leadBankId)
-                                .map(investorService::toEntity)
+                Investor leadBank = investorService.findEntityById(leadBankId)
                                 .orElseThrow(() -> new BusinessException("Lead bank not found", "LEAD_BANK_NOT_FOUND"));
-                return repository.findByLeadBank(leadBank).stream()
-                                .map(this::toDto)
-                                .toList();
+                return toDtoList(repository.findByLeadBank(leadBank));
         }
 
         /**
@@ -135,12 +130,9 @@ public class SyndicateService extends AbstractBaseService<Syndicate, Long, Syndi
          * @throws BusinessException メンバーが見つからない場合
          */
         public List<SyndicateDto> findByMember(Long memberId) {
-                Investor member = investorService.findById(memberId)
-                                .map(investorService::toEntity)
+                Investor member = investorService.findEntityById(memberId)
                                 .orElseThrow(() -> new BusinessException("Member not found", "MEMBER_NOT_FOUND"));
-                return repository.findByMember(member).stream()
-                                .map(this::toDto)
-                                .toList();
+                return toDtoList(repository.findByMember(member));
         }
 
         /**
@@ -150,9 +142,7 @@ public class SyndicateService extends AbstractBaseService<Syndicate, Long, Syndi
          * @return シンジケート団DTOのリスト
          */
         public List<SyndicateDto> findByTotalCommitmentGreaterThan(BigDecimal amount) {
-                return repository.findByTotalCommitmentGreaterThan(amount).stream()
-                                .map(this::toDto)
-                                .toList();
+                return toDtoList(repository.findByTotalCommitmentGreaterThan(amount));
         }
 
         /**
@@ -168,8 +158,7 @@ public class SyndicateService extends AbstractBaseService<Syndicate, Long, Syndi
                 Syndicate syndicate = repository.findById(syndicateId)
                                 .orElseThrow(() -> new BusinessException("Syndicate not found", "SYNDICATE_NOT_FOUND"));
 
-                Investor investor = investorService.findById(investorId)
-                                .map(investorService::toEntity)
+                Investor investor = investorService.findEntityById(investorId)
                                 .orElseThrow(() -> new BusinessException("Investor not found", "INVESTOR_NOT_FOUND"));
 
                 syndicate.getMembers().add(investor);
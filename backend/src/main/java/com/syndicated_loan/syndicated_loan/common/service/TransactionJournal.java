@@ -0,0 +1,163 @@
+package com.syndicated_loan.syndicated_loan.common.service;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.syndicated_loan.syndicated_loan.common.entity.JournalEntry.AccountType;
+import com.syndicated_loan.syndicated_loan.common.entity.Transaction;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 残高の増減を追記のみの仕訳（{@code journal_entry}）として記録するコンポーネント。
+ *
+ * <p>
+ * 取引の実行で変化するファシリティの利用可能額・ローンの元本残高・投資家の現在の投資額を、
+ * 口座ごとの増減額（仕訳）として1回のJDBCバッチで記録します。口座の開設時の残高（OPENING）と、
+ * 取引以外の直接の変更（ADJUSTMENT）も同じ形式で記録するため、仕訳を通番順に合計すれば
+ * 任意の時点の残高を再構築できます（{@link TransactionJournalProjector}）。
+ * </p>
+ *
+ * <p>
+ * 仕訳は残高の更新と同じトランザクションで記録するため、ロールバックされた取引の仕訳は残りません。
+ * 記録済みの仕訳は更新・削除しません。
+ * </p>
+ */
+@Component
+public class TransactionJournal {
+
+    /**
+     * 口座開設時の仕訳の種類
+     */
+    public static final String OPENING = "OPENING";
+
+    /**
+     * 取引以外による残高の直接変更の仕訳の種類
+     */
+    public static final String ADJUSTMENT = "ADJUSTMENT";
+
+    /**
+     * 仕訳を追記するSQL
+     */
+    private static final String INSERT_ENTRY_SQL = "INSERT INTO journal_entry"
+            + " (account_type, account_id, delta, entry_type, transaction_id, event_date, recorded_at)"
+            + " VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    /**
+     * JDBCテンプレート（JPAと同一のトランザクションで実行される）
+     */
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 口座ごとの残高の推移（仕訳を記録した口座の推移を破棄する）
+     */
+    private final PositionBalanceHistory balanceHistory;
+
+    /**
+     * コンストラクタ
+     *
+     * @param jdbcTemplate   JDBCテンプレート
+     * @param balanceHistory 口座ごとの残高の推移
+     */
+    public TransactionJournal(JdbcTemplate jdbcTemplate, PositionBalanceHistory balanceHistory) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.balanceHistory = balanceHistory;
+    }
+
+    /**
+     * 取引の実行による残高の増減を記録します
+     *
+     * @param transaction 実行した取引
+     * @param postings    口座ごとの増減
+     */
+    public void recordTransaction(Transaction transaction, List<Posting> postings) {
+        append(transaction.getType(), transaction.getId(), transaction.getDate(), postings);
+    }
+
+    /**
+     * 口座の開設時の残高を記録します
+     *
+     * @param accountType 口座の種類
+     * @param accountId   口座ID（ファシリティ・ローン・投資家のID）
+     * @param balance     開設時の残高（nullの場合は0）
+     * @param openedAt    開設日時（ファシリティ・ローンは開始日。nullの場合は記録日時）
+     */
+    public void recordOpening(AccountType accountType, Long accountId, BigDecimal balance, LocalDateTime openedAt) {
+        BigDecimal opening = balance != null ? balance : BigDecimal.ZERO;
+        append(OPENING, null, openedAt, List.of(new Posting(accountType, accountId, opening)));
+    }
+
+    /**
+     * 取引以外による残高の直接変更を、変更前後の差額として記録します
+     *
+     * @param accountType 口座の種類
+     * @param accountId   口座ID
+     * @param before      変更前の残高（nullの場合は0）
+     * @param after       変更後の残高（nullの場合は0）
+     */
+    public void recordAdjustment(AccountType accountType, Long accountId, BigDecimal before, BigDecimal after) {
+        BigDecimal delta = (after != null ? after : BigDecimal.ZERO)
+                .subtract(before != null ? before : BigDecimal.ZERO);
+        append(ADJUSTMENT, null, LocalDateTime.now(), List.of(new Posting(accountType, accountId, delta)));
+    }
+
+    /**
+     * 仕訳を1回のJDBCバッチで追記します（増減が0の仕訳は記録しません。ただし開設時の仕訳は常に記録します）
+     *
+     * @param entryType     仕訳の種類
+     * @param transactionId 取引ID（取引以外の場合はnull）
+     * @param eventDate     取引日（nullの場合は記録日時）
+     * @param postings      口座ごとの増減
+     */
+    private void append(String entryType, Long transactionId, LocalDateTime eventDate, List<Posting> postings) {
+        Timestamp recordedAt = Timestamp.valueOf(LocalDateTime.now());
+        Timestamp eventTimestamp = Timestamp.valueOf(eventDate != null ? eventDate : LocalDateTime.now());
+        List<Object[]> batchArgs = new ArrayList<>(postings.size());
+        List<PositionBalanceHistory.Account> accounts = new ArrayList<>(postings.size());
+        for (Posting posting : postings) {
+            if (posting.delta().signum() == 0 && !OPENING.equals(entryType)) {
+                continue;
+            }
+            batchArgs.add(new Object[] { posting.accountType().name(), posting.accountId(), posting.delta(),
+                    entryType, transactionId, eventTimestamp, recordedAt });
+            accounts.add(new PositionBalanceHistory.Account(posting.accountType(), posting.accountId()));
+        }
+        if (!batchArgs.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_ENTRY_SQL, batchArgs);
+            balanceHistory.invalidate(accounts);
+        }
+    }
+
+    /**
+     * 口座1件の残高の増減
+     *
+     * @param accountType 口座の種類
+     * @param accountId   口座ID
+     * @param delta       増減額（減少の場合は負）
+     */
+    public record Posting(AccountType accountType, Long accountId, BigDecimal delta) {
+
+        /**
+         * 投資家ごとの金額から投資家口座の増減を作成します（投資家IDの昇順）
+         *
+         * @param amounts    投資家IDをキー、金額を値とするマップ（nullの場合は増減なし）
+         * @param multiplier 乗数（増加の場合は正、減少の場合は負）
+         * @return 投資家口座の増減
+         */
+        public static List<Posting> investors(Map<Long, BigDecimal> amounts, BigDecimal multiplier) {
+            if (amounts == null) {
+                return List.of();
+            }
+            List<Posting> postings = new ArrayList<>(amounts.size());
+            new TreeMap<>(amounts).forEach((investorId, amount) ->
+                    postings.add(new Posting(AccountType.INVESTOR, investorId, amount.multiply(multiplier))));
+            return postings;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.syndicated_loan.syndicated_loan.common.service;
+
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 仕訳（{@code journal_entry}）の導入前から存在する口座に、開設時の仕訳を記録する移行処理。
+ *
+ * <p>
+ * 開設時の仕訳は口座の作成時にのみ記録されるため、永続化したデータベースで仕訳を導入した場合、
+ * 既存の口座は仕訳の合計が残高と一致しません。起動時に{@link TransactionJournalProjector#openUnjournaledAccounts()}を
+ * 実行して開設時の仕訳を補い、以降の再構築・復元で既存の口座の残高が失われないようにします。
+ * 記録済みの口座は対象外となるため、毎回の起動で実行しても既存の仕訳は変わりません
+ * （{@code syndicated-loan.journal.bootstrap.enabled=false}で無効化できます）。
+ * </p>
+ */
+@Component
+@ConditionalOnProperty(name = "syndicated-loan.journal.bootstrap.enabled", havingValue = "true", matchIfMissing = true)
+public class TransactionJournalBootstrapRunner implements ApplicationRunner {
+
+    private final TransactionJournalProjector projector;
+
+    /**
+     * コンストラクタ
+     *
+     * @param projector 仕訳から残高を再構築するサービス
+     */
+    public TransactionJournalBootstrapRunner(TransactionJournalProjector projector) {
+        this.projector = projector;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        projector.openUnjournaledAccounts();
+    }
+}
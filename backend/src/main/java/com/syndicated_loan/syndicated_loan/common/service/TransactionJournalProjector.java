@@ -0,0 +1,354 @@
+package com.syndicated_loan.syndicated_loan.common.service;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.syndicated_loan.syndicated_loan.common.dto.JournalBalanceDto;
+import com.syndicated_loan.syndicated_loan.common.dto.JournalProjectionDto;
+import com.syndicated_loan.syndicated_loan.common.dto.JournalRestoreResultDto;
+import com.syndicated_loan.syndicated_loan.common.dto.JournalSnapshotResultDto;
+import com.syndicated_loan.syndicated_loan.common.entity.Investor;
+import com.syndicated_loan.syndicated_loan.common.entity.JournalEntry.AccountType;
+import com.syndicated_loan.syndicated_loan.common.exception.BusinessException;
+import com.syndicated_loan.syndicated_loan.common.repository.JournalEntryRepository;
+import com.syndicated_loan.syndicated_loan.common.repository.JournalSnapshotRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 仕訳（{@link TransactionJournal}）から口座の残高を再構築するサービス。
+ *
+ * <p>
+ * 残高は「指定した通番以前で最新のスナップショット + それ以降の仕訳の合計」として求めます。
+ * スナップショットと仕訳の合計は口座ごとの{@code GROUP BY}を1文のSQLで行うため、
+ * 再生する仕訳の件数が多くてもエンティティを読み込むことはありません。
+ * スナップショットも前回のスナップショットと差分の仕訳から同じSQLで作成するため、
+ * 作成のたびに全仕訳を読み直すことはなく、再構築で再生する仕訳はスナップショット以降の分に限られます。
+ * </p>
+ *
+ * <p>
+ * 通番はIDENTITYで採番されるため、コミットが採番順と前後する場合があります。
+ * 通番を指定しないスナップショットは、記録から{@value #SNAPSHOT_SETTLE_SECONDS}秒以上経過した仕訳までを対象とし、
+ * 実行中のトランザクションの仕訳が後からスナップショットより前の通番で現れることを避けます。
+ * </p>
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class TransactionJournalProjector {
+
+    /**
+     * 通番を指定しないスナップショットの対象とする、記録からの経過秒数
+     */
+    static final long SNAPSHOT_SETTLE_SECONDS = 60;
+
+    /**
+     * スナップショットの残高と、それ以降の仕訳（通番の範囲）を口座ごとに合計するSQL
+     */
+    private static final String REPLAY_SQL = "SELECT account_type, account_id, SUM(amount) AS balance FROM ("
+            + " SELECT account_type, account_id, balance AS amount FROM journal_snapshot WHERE last_sequence = ?"
+            + " UNION ALL"
+            + " SELECT account_type, account_id, delta AS amount FROM journal_entry WHERE id > ? AND id <= ?"
+            + ") t GROUP BY account_type, account_id";
+
+    /**
+     * 再構築した残高をスナップショットとして保存するSQL
+     */
+    private static final String INSERT_SNAPSHOT_SQL = "INSERT INTO journal_snapshot"
+            + " (last_sequence, account_type, account_id, balance, taken_at)"
+            + " SELECT ?, account_type, account_id, balance, ? FROM (" + REPLAY_SQL + ") r";
+
+    /**
+     * 再生する仕訳の件数を数えるSQL（主キーの範囲で数える）
+     */
+    private static final String COUNT_ENTRIES_SQL = "SELECT COUNT(*) FROM journal_entry WHERE id > ? AND id <= ?";
+
+    /**
+     * 口座の種類ごとに残高を書き戻すSQL（開設時の仕訳が無い口座は、仕訳の合計が残高とならないため書き戻さない）
+     */
+    private static final Map<AccountType, String> RESTORE_SQL = new EnumMap<>(Map.of(
+            AccountType.FACILITY, "UPDATE position SET available_amount = ?, version = version + 1 WHERE id = ?"
+                    + " AND " + openedCondition(AccountType.FACILITY, "position"),
+            AccountType.LOAN, "UPDATE position SET amount = ?, version = version + 1 WHERE id = ?"
+                    + " AND " + openedCondition(AccountType.LOAN, "position"),
+            AccountType.INVESTOR, "UPDATE investor SET current_investments = ?, version = version + 1 WHERE id = ?"
+                    + " AND " + openedCondition(AccountType.INVESTOR, "investor")));
+
+    /**
+     * 開設時の仕訳が無い口座（仕訳の導入前から存在する口座）に、現在の残高と記録済みの仕訳の合計との差額を
+     * 開設時の残高として記録するSQL（取引日はファシリティ・ローンは開始日、投資家は記録日時）
+     */
+    private static final Map<AccountType, String> OPEN_ACCOUNTS_SQL = new EnumMap<>(Map.of(
+            AccountType.FACILITY, openAccountsSql(AccountType.FACILITY,
+                    "position a", "a.available_amount", "CAST(a.start_date AS TIMESTAMP)", "a.type = 'FACILITY'"),
+            AccountType.LOAN, openAccountsSql(AccountType.LOAN,
+                    "position a", "a.amount", "CAST(a.start_date AS TIMESTAMP)", "a.type = 'Loan'"),
+            AccountType.INVESTOR, openAccountsSql(AccountType.INVESTOR,
+                    "investor a", "a.current_investments", "CAST(NULL AS TIMESTAMP)", null)));
+
+    private final JournalEntryRepository journalEntryRepository;
+    private final JournalSnapshotRepository journalSnapshotRepository;
+    private final InvestorExposureLedger exposureLedger;
+    private final JdbcTemplate jdbcTemplate;
+    private final PositionBalanceHistory balanceHistory;
+
+    /**
+     * エンティティマネージャー（復元した投資家の二次キャッシュの破棄に使用）
+     */
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * コンストラクタ
+     *
+     * @param journalEntryRepository    仕訳リポジトリ
+     * @param journalSnapshotRepository スナップショットリポジトリ
+     * @param exposureLedger            投資家の投資額の台帳
+     * @param jdbcTemplate              JDBCテンプレート
+     * @param balanceHistory            口座ごとの残高の推移
+     */
+    public TransactionJournalProjector(JournalEntryRepository journalEntryRepository,
+            JournalSnapshotRepository journalSnapshotRepository,
+            InvestorExposureLedger exposureLedger,
+            JdbcTemplate jdbcTemplate,
+            PositionBalanceHistory balanceHistory) {
+        this.journalEntryRepository = journalEntryRepository;
+        this.journalSnapshotRepository = journalSnapshotRepository;
+        this.exposureLedger = exposureLedger;
+        this.jdbcTemplate = jdbcTemplate;
+        this.balanceHistory = balanceHistory;
+    }
+
+    /**
+     * 開設時の仕訳が無い口座（仕訳の導入前から存在するファシリティ・ローン・投資家）に開設時の仕訳を記録し、
+     * 再構築・復元の対象とします。開設時の残高は、現在の残高から記録済みの仕訳の合計を差し引いた額とするため、
+     * 記録後の仕訳の合計は現在の残高と一致します。記録済みの口座は対象外となるため、繰り返し実行できます。
+     *
+     * @return 開設時の仕訳を記録した口座の件数
+     */
+    @Transactional
+    public int openUnjournaledAccounts() {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int opened = 0;
+        for (String sql : OPEN_ACCOUNTS_SQL.values()) {
+            opened += jdbcTemplate.update(sql, now, now);
+        }
+        if (opened > 0) {
+            balanceHistory.invalidateAll();
+            log.info("Journal opening entries recorded for {} accounts without journal history", opened);
+        }
+        return opened;
+    }
+
+    /**
+     * 記録から一定時間が経過した仕訳までのスナップショットを作成します
+     *
+     * @return 作成結果
+     */
+    @Transactional
+    public JournalSnapshotResultDto takeSnapshot() {
+        Long settled = journalEntryRepository.findLastSequenceRecordedAtOrBefore(
+                LocalDateTime.now().minusSeconds(SNAPSHOT_SETTLE_SECONDS));
+        return takeSnapshot(settled != null ? settled : 0L);
+    }
+
+    /**
+     * 指定した通番までの仕訳を反映したスナップショットを作成します。
+     * 前回のスナップショットと、それ以降の仕訳から作成します。
+     *
+     * @param upToSequence スナップショットに含める最後の仕訳の通番
+     * @return 作成結果（同じ通番のスナップショットが作成済みの場合は作成しない）
+     * @throws BusinessException 通番が最後の仕訳の通番を超える場合
+     */
+    @Transactional
+    public JournalSnapshotResultDto takeSnapshot(long upToSequence) {
+        long startTime = System.nanoTime();
+        validateSequence(upToSequence);
+        long previousSequence = latestSnapshotSequence(upToSequence);
+        if (previousSequence == upToSequence) {
+            return JournalSnapshotResultDto.builder()
+                    .lastSequence(upToSequence)
+                    .previousSequence(previousSequence)
+                    .created(false)
+                    .build();
+        }
+
+        int accounts = jdbcTemplate.update(INSERT_SNAPSHOT_SQL, upToSequence, Timestamp.valueOf(LocalDateTime.now()),
+                previousSequence, previousSequence, upToSequence);
+        long elapsedMillis = (System.nanoTime() - startTime) / 1_000_000;
+        log.info("Journal snapshot taken at sequence {} (from {}): {} accounts in {} ms",
+                upToSequence, previousSequence, accounts, elapsedMillis);
+        return JournalSnapshotResultDto.builder()
+                .lastSequence(upToSequence)
+                .previousSequence(previousSequence)
+                .accounts(accounts)
+                .created(true)
+                .elapsedMillis(elapsedMillis)
+                .build();
+    }
+
+    /**
+     * 最後の仕訳までを反映した全口座の残高を再構築します
+     *
+     * @return 再構築結果
+     */
+    public JournalProjectionDto rebuild() {
+        return rebuild(lastSequence());
+    }
+
+    /**
+     * 指定した通番までの仕訳を反映した全口座の残高を再構築します
+     *
+     * @param upToSequence 反映する最後の仕訳の通番
+     * @return 再構築結果
+     * @throws BusinessException 通番が最後の仕訳の通番を超える場合
+     */
+    public JournalProjectionDto rebuild(long upToSequence) {
+        validateSequence(upToSequence);
+        long snapshotSequence = latestSnapshotSequence(upToSequence);
+        List<JournalBalanceDto> balances = jdbcTemplate.query(REPLAY_SQL,
+                (rs, rowNum) -> JournalBalanceDto.builder()
+                        .accountType(rs.getString("account_type"))
+                        .accountId(rs.getLong("account_id"))
+                        .balance(rs.getBigDecimal("balance"))
+                        .build(),
+                snapshotSequence, snapshotSequence, upToSequence);
+        Long replayed = jdbcTemplate.queryForObject(COUNT_ENTRIES_SQL, Long.class, snapshotSequence, upToSequence);
+        return JournalProjectionDto.builder()
+                .snapshotSequence(snapshotSequence)
+                .upToSequence(upToSequence)
+                .replayedEntries(replayed != null ? replayed : 0L)
+                .balances(balances)
+                .build();
+    }
+
+    /**
+     * 指定日時までに記録された仕訳を反映した全口座の残高を再構築します
+     *
+     * @param asOf 基準日時
+     * @return 再構築結果（基準日時以前に仕訳が無い場合は残高なし）
+     */
+    public JournalProjectionDto rebuildAsOf(LocalDateTime asOf) {
+        Long sequence = journalEntryRepository.findLastSequenceRecordedAtOrBefore(asOf);
+        return rebuild(sequence != null ? sequence : 0L);
+    }
+
+    /**
+     * 最後の仕訳までを反映して再構築した残高を、ファシリティ・ローン・投資家に書き戻します。
+     * 障害などで残高が失われた場合の復元に使用し、取引の実行を停止した状態で行います。
+     *
+     * @return 復元結果
+     */
+    @Transactional
+    public JournalRestoreResultDto restore() {
+        long startTime = System.nanoTime();
+        JournalProjectionDto projection = rebuild();
+
+        Map<AccountType, List<Object[]>> batchArgs = new EnumMap<>(AccountType.class);
+        for (AccountType accountType : AccountType.values()) {
+            batchArgs.put(accountType, new ArrayList<>());
+        }
+        projection.getBalances().forEach(balance -> batchArgs.get(AccountType.valueOf(balance.getAccountType()))
+                .add(new Object[] { balance.getBalance(), balance.getAccountId() }));
+
+        Map<AccountType, Integer> restored = new EnumMap<>(AccountType.class);
+        batchArgs.forEach((accountType, args) -> restored.put(accountType,
+                args.isEmpty() ? 0 : countUpdated(jdbcTemplate.batchUpdate(RESTORE_SQL.get(accountType), args))));
+        int skipped = projection.getBalances().size()
+                - restored.values().stream().mapToInt(Integer::intValue).sum();
+        if (skipped > 0) {
+            log.warn("Journal restore skipped {} accounts that are deleted or have no opening entry", skipped);
+        }
+
+        // JDBCで書き戻した投資家を、二次キャッシュとコミット済み投資額から破棄する
+        batchArgs.get(AccountType.INVESTOR).forEach(args -> {
+            Long investorId = (Long) args[1];
+            entityManager.getEntityManagerFactory().getCache().evict(Investor.class, investorId);
+            exposureLedger.invalidate(investorId);
+        });
+
+        long elapsedMillis = (System.nanoTime() - startTime) / 1_000_000;
+        log.info("Journal restored up to sequence {} (snapshot {}, {} entries replayed) in {} ms",
+                projection.getUpToSequence(), projection.getSnapshotSequence(), projection.getReplayedEntries(),
+                elapsedMillis);
+        return JournalRestoreResultDto.builder()
+                .snapshotSequence(projection.getSnapshotSequence())
+                .upToSequence(projection.getUpToSequence())
+                .replayedEntries(projection.getReplayedEntries())
+                .facilities(restored.get(AccountType.FACILITY))
+                .loans(restored.get(AccountType.LOAN))
+                .investors(restored.get(AccountType.INVESTOR))
+                .skipped(skipped)
+                .elapsedMillis(elapsedMillis)
+                .build();
+    }
+
+    /**
+     * 最後の仕訳の通番を取得します
+     *
+     * @return 最後の仕訳の通番（仕訳が無い場合は0）
+     */
+    public long lastSequence() {
+        Long sequence = journalEntryRepository.findLastSequence();
+        return sequence != null ? sequence : 0L;
+    }
+
+    /**
+     * 指定した通番以前で最新のスナップショットの通番を取得します
+     *
+     * @param sequence 通番
+     * @return スナップショットの通番（無い場合は0）
+     */
+    private long latestSnapshotSequence(long sequence) {
+        Long snapshotSequence = journalSnapshotRepository.findLatestSequenceAtOrBefore(sequence);
+        return snapshotSequence != null ? snapshotSequence : 0L;
+    }
+
+    private void validateSequence(long sequence) {
+        if (sequence < 0 || sequence > lastSequence()) {
+            throw new BusinessException("Journal sequence out of range: " + sequence, "INVALID_JOURNAL_SEQUENCE");
+        }
+    }
+
+    /**
+     * 口座に開設時の仕訳が記録されていることの条件（口座・取引日の索引を使用する）
+     */
+    private static String openedCondition(AccountType accountType, String accountTable) {
+        return "EXISTS (SELECT 1 FROM journal_entry o WHERE o.account_type = '" + accountType.name() + "'"
+                + " AND o.account_id = " + accountTable + ".id AND o.entry_type = '" + TransactionJournal.OPENING + "')";
+    }
+
+    /**
+     * 開設時の仕訳が無い口座に開設時の仕訳を記録するSQL（パラメータ: 開始日が無い場合の取引日, 記録日時）
+     */
+    private static String openAccountsSql(AccountType accountType, String accountTable, String balanceColumn,
+            String openedAtColumn, String condition) {
+        String type = "'" + accountType.name() + "'";
+        return "INSERT INTO journal_entry"
+                + " (account_type, account_id, delta, entry_type, transaction_id, event_date, recorded_at)"
+                + " SELECT " + type + ", a.id, COALESCE(" + balanceColumn + ", 0) - COALESCE((SELECT SUM(e.delta)"
+                + " FROM journal_entry e WHERE e.account_type = " + type + " AND e.account_id = a.id), 0),"
+                + " '" + TransactionJournal.OPENING + "', NULL, COALESCE(" + openedAtColumn + ", ?), ?"
+                + " FROM " + accountTable + " WHERE " + (condition != null ? condition + " AND " : "")
+                + "NOT " + openedCondition(accountType, "a");
+    }
+
+    private static int countUpdated(int[] updateCounts) {
+        int updated = 0;
+        for (int updateCount : updateCounts) {
+            updated += updateCount;
+        }
+        return updated;
+    }
+}
@@ -5,7 +5,6 @@ import org.springframework.transaction.annotation.Transactional;
 
 import com.syndicated_loan.syndicated_loan.common.dto.TransactionDto;
 import com.syndicated_loan.syndicated_loan.common.dto.AmountPieDto;
-import com.syndicated_loan.syndicated_loan.common.dto.InvestorDto;
 import com.syndicated_loan.syndicated_loan.common.entity.Transaction;
 import com.syndicated_loan.syndicated_loan.common.entity.AmountPie;
 import com.syndicated_loan.syndicated_loan.common.entity.Position;
@@ -16,6 +15,7 @@ import lombok.extern.slf4j.Slf4j;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Objects;
 import java.math.BigDecimal;
 
 /**
@@ -86,15 +86,13 @@ public abstract class TransactionService<T extends Transaction, D extends Transa
      */
     protected void setBaseProperties(T entity, D dto) {
         // 関連するPositionの設定
-        Position relatedPosition = positionService.findById(dto.getRelatedPositionId())
-                .map(positionService::toEntity)
+        Position relatedPosition = positionService.findEntityById(dto.getRelatedPositionId())
                 .orElseThrow(() -> new BusinessException("Position not found", "POSITION_NOT_FOUND"));
         entity.setRelatedPosition(relatedPosition);
 
         // AmountPieの設定
         if (dto.getAmountPieId() != null) {
-            AmountPie amountPie = amountPieService.findById(dto.getAmountPieId())
-                    .map(amountPieService::toEntity)
+            AmountPie amountPie = amountPieService.findEntityById(dto.getAmountPieId())
                     .orElseThrow(() -> new BusinessException("AmountPie not found", "AMOUNT_PIE_NOT_FOUND"));
             entity.setAmountPie(amountPie);
         }
@@ -114,6 +112,22 @@ public abstract class TransactionService<T extends Transaction, D extends Transa
         }
     }
 
+    /**
+     * エンティティのリストをDTOのリストへ変換します。
+     * 変換前に全トランザクションのAmountPieに含まれる投資家名をまとめて解決します。
+     *
+     * @param entities 変換するエンティティのリスト
+     * @return 変換されたDTOのリスト
+     */
+    @Override
+    protected List<D> toDtoList(List<T> entities) {
+        amountPieService.prefetchInvestorNames(entities.stream()
+                .map(Transaction::getAmountPie)
+                .filter(Objects::nonNull)
+                .toList());
+        return super.toDtoList(entities);
+    }
+
     /**
      * ポジションの参照情報を生成します
      *
@@ -132,12 +146,9 @@ public abstract class TransactionService<T extends Transaction, D extends Transa
      * @throws BusinessException ポジションが見つからない場合
      */
     public List<D> findByRelatedPosition(Long positionId) {
-        Position position = positionService.findById(positionId)
-                .map(positionService::toEntity)
+        Position position = positionService.findEntityById(positionId)
                 .orElseThrow(() -> new BusinessException("Position not found", "POSITION_NOT_FOUND"));
-        return repository.findByRelatedPosition(position).stream()
-                .map(this::toDto)
-                .toList();
+        return toDtoList(repository.findByRelatedPosition(position));
     }
 
     /**
@@ -151,12 +162,9 @@ public abstract class TransactionService<T extends Transaction, D extends Transa
      */
     public List<D> findByRelatedPositionAndDateBetween(
             Long positionId, LocalDateTime startDate, LocalDateTime endDate) {
-        Position position = positionService.findById(positionId)
-                .map(positionService::toEntity)
+        Position position = positionService.findEntityById(positionId)
                 .orElseThrow(() -> new BusinessException("Position not found", "POSITION_NOT_FOUND"));
-        return repository.findByRelatedPositionAndDateBetween(position, startDate, endDate).stream()
-                .map(this::toDto)
-                .toList();
+        return toDtoList(repository.findByRelatedPositionAndDateBetween(position, startDate, endDate));
     }
 
     /**
@@ -166,9 +174,7 @@ public abstract class TransactionService<T extends Transaction, D extends Transa
      * @return トランザクションDTOのリスト
      */
     public List<D> findByType(String type) {
-        return repository.findByType(type).stream()
-                .map(this::toDto)
-                .toList();
+        return toDtoList(repository.findByType(type));
     }
 
     /**
@@ -180,12 +186,9 @@ public abstract class TransactionService<T extends Transaction, D extends Transa
      * @throws BusinessException ポジションが見つからない場合
      */
     public List<D> findByRelatedPositionAndType(Long positionId, String type) {
-        Position position = positionService.findById(positionId)
-                .map(positionService::toEntity)
+        Position position = positionService.findEntityById(positionId)
                 .orElseThrow(() -> new BusinessException("Position not found", "POSITION_NOT_FOUND"));
-        return repository.findByRelatedPositionAndType(position, type).stream()
-                .map(this::toDto)
-                .toList();
+        return toDtoList(repository.findByRelatedPositionAndType(position, type));
     }
 
     /**
@@ -208,7 +211,8 @@ public abstract class TransactionService<T extends Transaction, D extends Transa
     }
 
     /**
-     * 投資家の現在の投資額を更新するメソッド
+     * 投資家の現在の投資額を更新するメソッド。
+     * 増減は投資家単位で合算され、トランザクションのコミット時に一括で反映されます。
      * 
      * @param amountPie  金額ピース
      * @param multiplier 乗数（増加の場合は正、減少の場合は負）
@@ -220,15 +224,6 @@ public abstract class TransactionService<T extends Transaction, D extends Transa
             return;
         }
 
-        amountPie.getAmounts().forEach((investorId, amount) -> {
-            InvestorDto investor = investorService.findById(investorId)
-                    .orElseThrow(() -> new BusinessException("Investor not found", "INVESTOR_NOT_FOUND"));
-
-            BigDecimal currentAmount = investor.getCurrentInvestments();
-            BigDecimal updateAmount = amount.multiply(multiplier);
-            investor.setCurrentInvestments(currentAmount.add(updateAmount));
-
-            investorService.update(investorId, investor);
-        });
+        investorService.adjustCurrentInvestments(amountPie.getAmounts(), multiplier);
     }
 }
@@ -0,0 +1,262 @@
+package com.syndicated_loan.syndicated_loan.common.web;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerExecutionChain;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.syndicated_loan.syndicated_loan.common.dto.ErrorResponse;
+import com.syndicated_loan.syndicated_loan.common.web.IdempotencyStore.IdempotencyRecord;
+import com.syndicated_loan.syndicated_loan.common.web.IdempotencyStore.StoreFullException;
+import com.syndicated_loan.syndicated_loan.common.web.IdempotencyStore.StoredResponse;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.HexFormat;
+
+/**
+ * {@link Idempotent}を付けたエンドポイントへの、{@value #HEADER}ヘッダー付きのリクエストを冪等に処理するフィルター。
+ *
+ * <p>
+ * 初回のリクエストはキーを{@link IdempotencyStore}に受け付けてから処理し、成功（2xx）した場合のみレスポンスを保存します。
+ * 同じキー・同じ内容（メソッド・パス・本文の指紋）で再送されたリクエストには保存したレスポンスを返し、
+ * コントローラ・サービスの処理は再実行しません（{@value #REPLAYED_HEADER}: true を付けて返します）。
+ * </p>
+ *
+ * <ul>
+ * <li>同じキーで内容の異なるリクエスト: 422（IDEMPOTENCY_KEY_REUSED）</li>
+ * <li>同じキーのリクエストが処理中: 409（IDEMPOTENCY_KEY_IN_PROGRESS）</li>
+ * <li>ストアが処理中のキーで満杯: 503（IDEMPOTENCY_STORE_FULL）</li>
+ * <li>処理が失敗した場合: キーを取り消し、同じキーで再実行できるようにする</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+@EnableConfigurationProperties(IdempotencyProperties.class)
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    /**
+     * 冪等キーのヘッダー名
+     */
+    public static final String HEADER = "Idempotency-Key";
+
+    /**
+     * 保存したレスポンスを返したことを示すヘッダー名
+     */
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    /**
+     * 冪等キーの最大長
+     */
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ISO_DATE_TIME;
+
+    private final IdempotencyStore store;
+    private final IdempotencyProperties properties;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * リクエストを処理するコントローラのメソッドの解決に使用する（フィルターの初期化時にはMVCの設定が未完了のため遅延して取得する）
+     */
+    private final ObjectProvider<HandlerMapping> handlerMapping;
+
+    /**
+     * コンストラクタ
+     *
+     * @param store          冪等キーのストア
+     * @param properties     Idempotency-Keyの設定
+     * @param objectMapper   JSONシリアライザ（エラーレスポンス用）
+     * @param handlerMapping アノテーションによるハンドラーマッピング
+     */
+    public IdempotencyFilter(IdempotencyStore store, IdempotencyProperties properties, ObjectMapper objectMapper,
+            @Qualifier("requestMappingHandlerMapping") ObjectProvider<HandlerMapping> handlerMapping) {
+        this.store = store;
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.handlerMapping = handlerMapping;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String key = request.getHeader(HEADER);
+        if (key == null || key.isBlank() || !isIdempotent(request)) {
+            chain.doFilter(request, response);
+            return;
+        }
+        if (key.length() > MAX_KEY_LENGTH) {
+            writeError(response, HttpStatus.BAD_REQUEST, "INVALID_IDEMPOTENCY_KEY",
+                    "Idempotency-Key must be at most " + MAX_KEY_LENGTH + " characters");
+            return;
+        }
+
+        byte[] body = request.getInputStream().readAllBytes();
+        String fingerprint = fingerprint(request, body);
+        IdempotencyRecord existing;
+        try {
+            existing = store.reserve(key, fingerprint, Instant.now().plus(properties.getTtl()));
+        } catch (StoreFullException e) {
+            log.warn("Idempotency-Key rejected: {}", e.getMessage());
+            writeError(response, HttpStatus.SERVICE_UNAVAILABLE, "IDEMPOTENCY_STORE_FULL",
+                    "Too many requests with Idempotency-Key are in progress");
+            return;
+        }
+        if (existing != null) {
+            if (!existing.fingerprint().equals(fingerprint)) {
+                writeError(response, HttpStatus.UNPROCESSABLE_ENTITY, "IDEMPOTENCY_KEY_REUSED",
+                        "Idempotency-Key was already used for a different request");
+            } else if (!existing.isCompleted()) {
+                writeError(response, HttpStatus.CONFLICT, "IDEMPOTENCY_KEY_IN_PROGRESS",
+                        "A request with the same Idempotency-Key is in progress");
+            } else {
+                replay(response, existing.response());
+            }
+            return;
+        }
+
+        ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(response);
+        boolean completed = false;
+        try {
+            chain.doFilter(new CachedBodyRequest(request, body), responseWrapper);
+            int status = responseWrapper.getStatus();
+            if (status >= 200 && status < 300) {
+                store.complete(key, new StoredResponse(status, responseWrapper.getContentType(),
+                        responseWrapper.getContentAsByteArray()));
+                completed = true;
+            }
+        } finally {
+            if (!completed) {
+                store.release(key);
+            }
+            responseWrapper.copyBodyToResponse();
+        }
+    }
+
+    /**
+     * リクエストを処理するメソッドに{@link Idempotent}が付いているかどうか
+     */
+    private boolean isIdempotent(HttpServletRequest request) {
+        try {
+            HandlerExecutionChain handler = handlerMapping.getObject().getHandler(request);
+            return handler != null && handler.getHandler() instanceof HandlerMethod handlerMethod
+                    && handlerMethod.hasMethodAnnotation(Idempotent.class);
+        } catch (Exception e) {
+            log.debug("Could not resolve handler for {}: {}", request.getRequestURI(), e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * リクエストの指紋（メソッド・パス・クエリ・本文のSHA-256）
+     */
+    private static String fingerprint(HttpServletRequest request, byte[] body) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(request.getMethod().getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) ' ');
+            digest.update(request.getRequestURI().getBytes(StandardCharsets.UTF_8));
+            if (request.getQueryString() != null) {
+                digest.update((byte) '?');
+                digest.update(request.getQueryString().getBytes(StandardCharsets.UTF_8));
+            }
+            digest.update((byte) '\n');
+            digest.update(body);
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void replay(HttpServletResponse response, StoredResponse stored) throws IOException {
+        response.setStatus(stored.status());
+        if (stored.contentType() != null) {
+            response.setContentType(stored.contentType());
+        }
+        response.setHeader(REPLAYED_HEADER, "true");
+        response.setContentLength(stored.body().length);
+        response.getOutputStream().write(stored.body());
+    }
+
+    private void writeError(HttpServletResponse response, HttpStatus status, String code, String message)
+            throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(),
+                new ErrorResponse(code, message, LocalDateTime.now().format(FORMATTER)));
+    }
+
+    /**
+     * 指紋の計算で読み込んだ本文を、コントローラで再度読み込めるようにするリクエスト
+     */
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream input = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public int read() {
+                    return input.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return input.read(b, off, len);
+                }
+
+                @Override
+                public boolean isFinished() {
+                    return input.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener listener) {
+                    // 本文はすべてメモリにあるため、直ちに読み込み可能・読み込み完了を通知する
+                    try {
+                        listener.onDataAvailable();
+                        listener.onAllDataRead();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
+            };
+        }
+    }
+}
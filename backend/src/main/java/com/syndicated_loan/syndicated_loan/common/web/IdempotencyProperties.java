@@ -0,0 +1,36 @@
+package com.syndicated_loan.syndicated_loan.common.web;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+import java.time.Duration;
+
+/**
+ * Idempotency-Keyによる再送の判定（{@link IdempotencyFilter}）の設定。
+ * プレフィックスは{@code syndicated-loan.idempotency}です。
+ */
+@Data
+@ConfigurationProperties(prefix = "syndicated-loan.idempotency")
+public class IdempotencyProperties {
+
+    /**
+     * 保存先（memory: アプリケーションのメモリ、jdbc: データベースの{@code idempotent_request}テーブル）
+     */
+    private String store = "memory";
+
+    /**
+     * キーを保持する期間（受付からの経過時間）
+     */
+    private Duration ttl = Duration.ofHours(24);
+
+    /**
+     * メモリに保持するキーの最大件数（超えた場合は古いキーから破棄する）
+     */
+    private int maxEntries = 10_000;
+
+    /**
+     * データベースの期限切れの行を削除する間隔（キーの受付件数）
+     */
+    private int purgeInterval = 100;
+}
@@ -0,0 +1,81 @@
+package com.syndicated_loan.syndicated_loan.common.web;
+
+import java.time.Instant;
+
+/**
+ * Idempotency-Keyごとに、リクエストの指紋と完了したリクエストのレスポンスを保持するストア。
+ *
+ * <p>
+ * キーは受付（{@link #reserve}）から一定期間で期限切れとなり、期限切れのキーは新しいリクエストとして受け付けます。
+ * </p>
+ */
+public interface IdempotencyStore {
+
+    /**
+     * キーを受け付けます
+     *
+     * @param key         Idempotency-Key
+     * @param fingerprint リクエストの指紋
+     * @param expiresAt   キーの有効期限
+     * @return 受け付けた場合はnull。同じキーが有効期限内に受付済みの場合はその記録
+     * @throws StoreFullException 保持できるキーがすべて処理中のため、新しいキーを受け付けられない場合
+     */
+    IdempotencyRecord reserve(String key, String fingerprint, Instant expiresAt);
+
+    /**
+     * 受け付けたキーのレスポンスを保存します
+     *
+     * @param key      Idempotency-Key
+     * @param response レスポンス
+     */
+    void complete(String key, StoredResponse response);
+
+    /**
+     * 受け付けたキーを取り消します（リクエストが成功しなかった場合。同じキーで再実行できるようになる）
+     *
+     * @param key Idempotency-Key
+     */
+    void release(String key);
+
+    /**
+     * 受付済みのキーの記録
+     *
+     * @param fingerprint リクエストの指紋
+     * @param response    レスポンス（処理中の場合はnull）
+     * @param expiresAt   有効期限
+     */
+    record IdempotencyRecord(String fingerprint, StoredResponse response, Instant expiresAt) {
+
+        /**
+         * @return レスポンスが保存済みかどうか
+         */
+        public boolean isCompleted() {
+            return response != null;
+        }
+    }
+
+    /**
+     * 保存したレスポンス
+     *
+     * @param status      HTTPステータス
+     * @param contentType Content-Type（無い場合はnull）
+     * @param body        本文
+     */
+    record StoredResponse(int status, String contentType, byte[] body) {
+    }
+
+    /**
+     * 保持できるキーがすべて処理中のため、新しいキーを受け付けられないことを示す例外
+     */
+    class StoreFullException extends RuntimeException {
+
+        /**
+         * コンストラクタ
+         *
+         * @param message メッセージ
+         */
+        public StoreFullException(String message) {
+            super(message);
+        }
+    }
+}
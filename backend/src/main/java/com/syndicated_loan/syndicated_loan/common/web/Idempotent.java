@@ -0,0 +1,21 @@
+package com.syndicated_loan.syndicated_loan.common.web;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * {@value IdempotencyFilter#HEADER}ヘッダーによる冪等な再送に対応するコントローラのメソッドを示すアノテーション。
+ *
+ * <p>
+ * 同じキー・同じ内容のリクエストが再送された場合、{@link IdempotencyFilter}が
+ * 初回の成功レスポンスを返し、メソッドは再実行されません。
+ * </p>
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface Idempotent {
+}
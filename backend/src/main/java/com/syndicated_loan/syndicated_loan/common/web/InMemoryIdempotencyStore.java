@@ -0,0 +1,115 @@
+package com.syndicated_loan.syndicated_loan.common.web;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * アプリケーションのメモリにキーを保持する{@link IdempotencyStore}（既定の保存先）。
+ *
+ * <p>
+ * キーは受付順の{@link LinkedHashMap}に保持します。有効期限は受付からの一定期間のため、
+ * 期限切れのキーは常に先頭側に並び、受付のたびに先頭から期限切れのキーを取り除きます。
+ * 件数が{@code syndicated-loan.idempotency.max-entries}に達した場合は、レスポンスを保存済みのキーのうち最も古いものを破棄します。
+ * 処理中のキーは破棄しないため（破棄すると同じキーの再送を二重に実行してしまう）、
+ * すべてのキーが処理中の場合は新しいキーを受け付けません（{@link StoreFullException}）。
+ * 複数のインスタンスで構成する場合は、インスタンス間で共有するデータベースの保存先（jdbc）を使用してください。
+ * </p>
+ */
+@Component
+@ConditionalOnProperty(name = "syndicated-loan.idempotency.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryIdempotencyStore implements IdempotencyStore {
+
+    private final int maxEntries;
+    private final Clock clock;
+
+    /**
+     * 受付順のキー（アクセスはすべてこのマップで同期する）
+     */
+    private final Map<String, IdempotencyRecord> records = new LinkedHashMap<>();
+
+    /**
+     * コンストラクタ
+     *
+     * @param properties Idempotency-Keyの設定
+     */
+    @Autowired
+    public InMemoryIdempotencyStore(IdempotencyProperties properties) {
+        this(properties.getMaxEntries(), Clock.systemUTC());
+    }
+
+    InMemoryIdempotencyStore(int maxEntries, Clock clock) {
+        this.maxEntries = maxEntries;
+        this.clock = clock;
+    }
+
+    @Override
+    public IdempotencyRecord reserve(String key, String fingerprint, Instant expiresAt) {
+        synchronized (records) {
+            evictExpired(clock.instant());
+            IdempotencyRecord existing = records.get(key);
+            if (existing != null) {
+                return existing;
+            }
+            if (records.size() >= maxEntries && !evictEldestCompleted()) {
+                throw new StoreFullException("All " + maxEntries + " idempotency keys are in progress");
+            }
+            records.put(key, new IdempotencyRecord(fingerprint, null, expiresAt));
+            return null;
+        }
+    }
+
+    @Override
+    public void complete(String key, StoredResponse response) {
+        synchronized (records) {
+            // 受付順を保ったまま置き換える（破棄済みの場合は保存しない）
+            records.computeIfPresent(key,
+                    (k, record) -> new IdempotencyRecord(record.fingerprint(), response, record.expiresAt()));
+        }
+    }
+
+    @Override
+    public void release(String key) {
+        synchronized (records) {
+            records.remove(key);
+        }
+    }
+
+    /**
+     * @return 保持しているキーの件数
+     */
+    int size() {
+        synchronized (records) {
+            return records.size();
+        }
+    }
+
+    // レスポンスを保存済みのキーのうち最も古いものを取り除く（取り除いた場合はtrue）
+    private boolean evictEldestCompleted() {
+        Iterator<IdempotencyRecord> iterator = records.values().iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().isCompleted()) {
+                iterator.remove();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 先頭から期限切れのキーを取り除く
+    private void evictExpired(Instant now) {
+        Iterator<IdempotencyRecord> iterator = records.values().iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().expiresAt().isAfter(now)) {
+                return;
+            }
+            iterator.remove();
+        }
+    }
+}
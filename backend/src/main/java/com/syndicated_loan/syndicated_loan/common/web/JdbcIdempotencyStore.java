@@ -0,0 +1,114 @@
+package com.syndicated_loan.syndicated_loan.common.web;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * データベースの{@code idempotent_request}テーブルにキーを保持する{@link IdempotencyStore}。
+ *
+ * <p>
+ * キーを主キーとしてINSERTするため、複数のインスタンスに同じキーのリクエストが同時に届いても、
+ * 受け付けられるのは1件のみです。各操作はコントローラの処理のトランザクションとは別に
+ * 即座にコミットされ、処理中のキーも他のインスタンスから参照できます。
+ * 期限切れの行は、一定件数（{@code syndicated-loan.idempotency.purge-interval}）の受付ごとに
+ * 有効期限の索引を使ってまとめて削除します。
+ * </p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "syndicated-loan.idempotency.store", havingValue = "jdbc")
+public class JdbcIdempotencyStore implements IdempotencyStore {
+
+    private static final String INSERT_SQL = "INSERT INTO idempotent_request"
+            + " (idempotency_key, fingerprint, expires_at) VALUES (?, ?, ?)";
+
+    private static final String SELECT_SQL = "SELECT fingerprint, status_code, content_type, response_body,"
+            + " expires_at FROM idempotent_request WHERE idempotency_key = ?";
+
+    private static final String COMPLETE_SQL = "UPDATE idempotent_request"
+            + " SET status_code = ?, content_type = ?, response_body = ? WHERE idempotency_key = ?";
+
+    private static final String DELETE_SQL = "DELETE FROM idempotent_request WHERE idempotency_key = ?";
+
+    private static final String DELETE_EXPIRED_KEY_SQL = DELETE_SQL + " AND expires_at <= ?";
+
+    private static final String PURGE_SQL = "DELETE FROM idempotent_request WHERE expires_at <= ?";
+
+    /**
+     * 同じキーの受付を試みる最大回数（期限切れ・取消済みの行と競合した場合に再試行する）
+     */
+    private static final int MAX_RESERVE_ATTEMPTS = 3;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int purgeInterval;
+
+    /**
+     * 受付件数（期限切れの行の削除の間隔に使用する）
+     */
+    private final AtomicLong reservations = new AtomicLong();
+
+    /**
+     * コンストラクタ
+     *
+     * @param jdbcTemplate JDBCテンプレート
+     * @param properties   Idempotency-Keyの設定
+     */
+    public JdbcIdempotencyStore(JdbcTemplate jdbcTemplate, IdempotencyProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.purgeInterval = Math.max(1, properties.getPurgeInterval());
+    }
+
+    @Override
+    public IdempotencyRecord reserve(String key, String fingerprint, Instant expiresAt) {
+        Instant now = Instant.now();
+        if (reservations.incrementAndGet() % purgeInterval == 0) {
+            int purged = jdbcTemplate.update(PURGE_SQL, Timestamp.from(now));
+            log.debug("Purged {} expired idempotency keys", purged);
+        }
+
+        for (int attempt = 0; attempt < MAX_RESERVE_ATTEMPTS; attempt++) {
+            try {
+                jdbcTemplate.update(INSERT_SQL, key, fingerprint, Timestamp.from(expiresAt));
+                return null;
+            } catch (DuplicateKeyException e) {
+                IdempotencyRecord existing = find(key);
+                if (existing != null && existing.expiresAt().isAfter(now)) {
+                    return existing;
+                }
+                // 期限切れの行は削除して受け付け直す（取消済みで行が無い場合もそのまま再試行する）
+                jdbcTemplate.update(DELETE_EXPIRED_KEY_SQL, key, Timestamp.from(now));
+            }
+        }
+        throw new IllegalStateException("Could not reserve idempotency key: " + key);
+    }
+
+    @Override
+    public void complete(String key, StoredResponse response) {
+        jdbcTemplate.update(COMPLETE_SQL, response.status(), response.contentType(), response.body(), key);
+    }
+
+    @Override
+    public void release(String key) {
+        jdbcTemplate.update(DELETE_SQL, key);
+    }
+
+    private IdempotencyRecord find(String key) {
+        List<IdempotencyRecord> records = jdbcTemplate.query(SELECT_SQL, (rs, rowNum) -> {
+            int status = rs.getInt("status_code");
+            StoredResponse response = rs.wasNull() ? null
+                    : new StoredResponse(status, rs.getString("content_type"), rs.getBytes("response_body"));
+            return new IdempotencyRecord(rs.getString("fingerprint"), response,
+                    rs.getTimestamp("expires_at").toInstant());
+        }, key);
+        return records.isEmpty() ? null : records.get(0);
+    }
+}
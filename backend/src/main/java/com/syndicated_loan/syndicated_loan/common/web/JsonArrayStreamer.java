@@ -0,0 +1,74 @@
+package com.syndicated_loan.syndicated_loan.common.web;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.syndicated_loan.syndicated_loan.common.service.AbstractBaseService;
+import com.syndicated_loan.syndicated_loan.common.service.BaseService;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * サービスの全件をJSON配列としてストリーミング出力するコンポーネント。
+ *
+ * <p>
+ * {@link BaseService#streamAll}から渡されるチャンクを順次書き出してフラッシュするため、
+ * 全件をメモリ上のリストに展開することなくレスポンスを返せます。
+ * </p>
+ */
+@Component
+public class JsonArrayStreamer {
+
+    /**
+     * JSONシリアライザ（アプリケーション共通の設定を使用）
+     */
+    private final ObjectMapper objectMapper;
+
+    /**
+     * コンストラクタ
+     *
+     * @param objectMapper JSONシリアライザ
+     */
+    public JsonArrayStreamer(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * サービスの全件をJSON配列として出力するレスポンスを作成します
+     *
+     * @param <D>       DTOの型
+     * @param service   出力対象のサービス
+     * @param chunkSize 1回に読み込む件数
+     * @return ストリーミングレスポンス
+     * @throws com.syndicated_loan.syndicated_loan.common.exception.BusinessException チャンクサイズが範囲外の場合
+     */
+    public <D> ResponseEntity<StreamingResponseBody> stream(BaseService<?, ?, D> service, int chunkSize) {
+        // レスポンス送信開始後はエラーを返せないため、事前に検証する
+        AbstractBaseService.validateChunkSize(chunkSize);
+
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                generator.writeStartArray();
+                service.streamAll(chunkSize, chunk -> {
+                    try {
+                        for (D dto : chunk) {
+                            generator.writeObject(dto);
+                        }
+                        generator.flush();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                generator.writeEndArray();
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+}
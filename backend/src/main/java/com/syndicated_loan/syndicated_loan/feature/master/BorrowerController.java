@@ -1,11 +1,16 @@
 package com.syndicated_loan.syndicated_loan.feature.master;
 
 import jakarta.validation.Valid;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.syndicated_loan.syndicated_loan.common.dto.CursorPageDto;
 import com.syndicated_loan.syndicated_loan.common.dto.BorrowerDto;
 import com.syndicated_loan.syndicated_loan.common.service.BorrowerService;
+import com.syndicated_loan.syndicated_loan.common.web.JsonArrayStreamer;
 
 import java.util.List;
 
@@ -14,9 +19,11 @@ import java.util.List;
 public class BorrowerController {
 
     private final BorrowerService borrowerService;
+    private final JsonArrayStreamer jsonArrayStreamer;
 
-    public BorrowerController(BorrowerService borrowerService) {
+    public BorrowerController(BorrowerService borrowerService, JsonArrayStreamer jsonArrayStreamer) {
         this.borrowerService = borrowerService;
+        this.jsonArrayStreamer = jsonArrayStreamer;
     }
 
     @GetMapping
@@ -24,6 +31,24 @@ public class BorrowerController {
         return ResponseEntity.ok(borrowerService.findAll());
     }
 
+    @GetMapping(params = "page")
+    public ResponseEntity<Page<BorrowerDto>> findAll(Pageable pageable) {
+        return ResponseEntity.ok(borrowerService.findAll(pageable));
+    }
+
+    @GetMapping("/keyset")
+    public ResponseEntity<CursorPageDto<BorrowerDto, Long>> findAllAfter(
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "100") int size) {
+        return ResponseEntity.ok(borrowerService.findAllAfter(cursor, size));
+    }
+
+    @GetMapping("/stream")
+    public ResponseEntity<StreamingResponseBody> streamAll(
+            @RequestParam(defaultValue = "500") int chunkSize) {
+        return jsonArrayStreamer.stream(borrowerService, chunkSize);
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<BorrowerDto> findById(@PathVariable Long id) {
         return borrowerService.findById(id)
@@ -61,7 +86,18 @@ public class BorrowerController {
     public ResponseEntity<List<BorrowerDto>> search(
             @RequestParam(required = false) String name,
             @RequestParam(required = false) String creditRating,
-            @RequestParam(required = false) String industry) {
-        return ResponseEntity.ok(borrowerService.search(name, creditRating, industry));
+            @RequestParam(required = false) String industry,
+            @RequestParam(required = false) String companyType) {
+        return ResponseEntity.ok(borrowerService.search(name, creditRating, industry, companyType));
+    }
+
+    @GetMapping(value = "/search", params = "page")
+    public ResponseEntity<Page<BorrowerDto>> search(
+            @RequestParam(required = false) String name,
+            @RequestParam(required = false) String creditRating,
+            @RequestParam(required = false) String industry,
+            @RequestParam(required = false) String companyType,
+            Pageable pageable) {
+        return ResponseEntity.ok(borrowerService.search(name, creditRating, industry, companyType, pageable));
     }
 }
@@ -1,12 +1,19 @@
 package com.syndicated_loan.syndicated_loan.feature.master;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.syndicated_loan.syndicated_loan.common.dto.BalanceAsOfDto;
+import com.syndicated_loan.syndicated_loan.common.dto.CursorPageDto;
 import com.syndicated_loan.syndicated_loan.common.dto.InvestorDto;
 import com.syndicated_loan.syndicated_loan.common.service.InvestorService;
+import com.syndicated_loan.syndicated_loan.common.web.JsonArrayStreamer;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -14,9 +21,11 @@ import java.util.List;
 public class InvestorController {
 
     private final InvestorService investorService;
+    private final JsonArrayStreamer jsonArrayStreamer;
 
-    public InvestorController(InvestorService investorService) {
+    public InvestorController(InvestorService investorService, JsonArrayStreamer jsonArrayStreamer) {
         this.investorService = investorService;
+        this.jsonArrayStreamer = jsonArrayStreamer;
     }
 
     @GetMapping
@@ -24,6 +33,24 @@ public class InvestorController {
         return ResponseEntity.ok(investorService.findAll());
     }
 
+    @GetMapping(params = "page")
+    public ResponseEntity<Page<InvestorDto>> findAll(Pageable pageable) {
+        return ResponseEntity.ok(investorService.findAll(pageable));
+    }
+
+    @GetMapping("/keyset")
+    public ResponseEntity<CursorPageDto<InvestorDto, Long>> findAllAfter(
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "100") int size) {
+        return ResponseEntity.ok(investorService.findAllAfter(cursor, size));
+    }
+
+    @GetMapping("/stream")
+    public ResponseEntity<StreamingResponseBody> streamAll(
+            @RequestParam(defaultValue = "500") int chunkSize) {
+        return jsonArrayStreamer.stream(investorService, chunkSize);
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<InvestorDto> findById(@PathVariable Long id) {
         return investorService.findById(id)
@@ -31,6 +58,18 @@ public class InvestorController {
                 .orElse(ResponseEntity.notFound().build());
     }
 
+    @GetMapping("/{id}/current-investments")
+    public ResponseEntity<BigDecimal> getCurrentExposure(@PathVariable Long id) {
+        return investorService.getCurrentExposure(id)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @GetMapping("/{id}/as-of")
+    public ResponseEntity<BalanceAsOfDto> getExposureAsOf(@PathVariable Long id, @RequestParam LocalDate date) {
+        return ResponseEntity.ok(investorService.findExposureAsOf(id, date));
+    }
+
     @PostMapping
     public ResponseEntity<InvestorDto> create(@RequestBody InvestorDto dto) {
         return ResponseEntity.ok(investorService.create(dto));
@@ -56,4 +95,13 @@ public class InvestorController {
             @RequestParam(required = false) BigDecimal minCapacity) {
         return ResponseEntity.ok(investorService.search(name, type, minCapacity));
     }
+
+    @GetMapping(value = "/search", params = "page")
+    public ResponseEntity<Page<InvestorDto>> search(
+            @RequestParam(required = false) String name,
+            @RequestParam(required = false) String type,
+            @RequestParam(required = false) BigDecimal minCapacity,
+            Pageable pageable) {
+        return ResponseEntity.ok(investorService.search(name, type, minCapacity, pageable));
+    }
 }
@@ -0,0 +1,52 @@
+package com.syndicated_loan.syndicated_loan.feature.master;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import com.syndicated_loan.syndicated_loan.common.dto.CacheRegionStatisticsDto;
+import com.syndicated_loan.syndicated_loan.common.service.MasterDataCacheService;
+
+import java.util.List;
+
+/**
+ * マスタデータの二次キャッシュに関するREST APIを提供するコントローラクラス。
+ */
+@RestController
+@RequestMapping("/api/master-cache")
+public class MasterDataCacheController {
+
+    /**
+     * マスタデータキャッシュサービス
+     */
+    private final MasterDataCacheService masterDataCacheService;
+
+    /**
+     * コンストラクタ
+     *
+     * @param masterDataCacheService マスタデータキャッシュサービス
+     */
+    public MasterDataCacheController(MasterDataCacheService masterDataCacheService) {
+        this.masterDataCacheService = masterDataCacheService;
+    }
+
+    /**
+     * リージョンごとのヒット・ミス件数を取得します
+     *
+     * @return リージョンごとの集計
+     */
+    @GetMapping("/statistics")
+    public ResponseEntity<List<CacheRegionStatisticsDto>> getStatistics() {
+        return ResponseEntity.ok(masterDataCacheService.getStatistics());
+    }
+
+    /**
+     * マスタデータのキャッシュをすべて破棄します（DBを直接更新した場合など）
+     *
+     * @return 空のレスポンス
+     */
+    @DeleteMapping
+    public ResponseEntity<Void> evictAll() {
+        masterDataCacheService.evictAll();
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -1,10 +1,15 @@
 package com.syndicated_loan.syndicated_loan.feature.master;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.syndicated_loan.syndicated_loan.common.dto.CursorPageDto;
 import com.syndicated_loan.syndicated_loan.common.dto.SyndicateDto;
 import com.syndicated_loan.syndicated_loan.common.service.SyndicateService;
+import com.syndicated_loan.syndicated_loan.common.web.JsonArrayStreamer;
 
 import java.math.BigDecimal;
 import java.util.List;
@@ -14,9 +19,11 @@ import java.util.List;
 public class SyndicateController {
 
     private final SyndicateService syndicateService;
+    private final JsonArrayStreamer jsonArrayStreamer;
 
-    public SyndicateController(SyndicateService syndicateService) {
+    public SyndicateController(SyndicateService syndicateService, JsonArrayStreamer jsonArrayStreamer) {
         this.syndicateService = syndicateService;
+        this.jsonArrayStreamer = jsonArrayStreamer;
     }
 
     @GetMapping
@@ -24,6 +31,24 @@ public class SyndicateController {
         return ResponseEntity.ok(syndicateService.findAll());
     }
 
+    @GetMapping(params = "page")
+    public ResponseEntity<Page<SyndicateDto>> findAll(Pageable pageable) {
+        return ResponseEntity.ok(syndicateService.findAll(pageable));
+    }
+
+    @GetMapping("/keyset")
+    public ResponseEntity<CursorPageDto<SyndicateDto, Long>> findAllAfter(
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "100") int size) {
+        return ResponseEntity.ok(syndicateService.findAllAfter(cursor, size));
+    }
+
+    @GetMapping("/stream")
+    public ResponseEntity<StreamingResponseBody> streamAll(
+            @RequestParam(defaultValue = "500") int chunkSize) {
+        return jsonArrayStreamer.stream(syndicateService, chunkSize);
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<SyndicateDto> findById(@PathVariable Long id) {
         return syndicateService.findById(id)
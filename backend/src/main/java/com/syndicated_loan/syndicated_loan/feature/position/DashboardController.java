@@ -0,0 +1,90 @@
+package com.syndicated_loan.syndicated_loan.feature.position;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import com.syndicated_loan.syndicated_loan.common.dto.FacilitySummaryDto;
+import com.syndicated_loan.syndicated_loan.common.dto.InvestorExposureSummaryDto;
+import com.syndicated_loan.syndicated_loan.common.dto.PortfolioSummaryDto;
+import com.syndicated_loan.syndicated_loan.common.service.PortfolioSummaryService;
+
+import java.util.List;
+
+/**
+ * ダッシュボード向けに、ファシリティの利用状況と投資家のエクスポージャーを参照するREST APIを提供するコントローラクラス。
+ * 参照のAPIは集計テーブルのみを読み込みます。
+ */
+@RestController
+@RequestMapping("/api/dashboard")
+public class DashboardController {
+
+    /**
+     * 集計テーブルのサービス
+     */
+    private final PortfolioSummaryService portfolioSummaryService;
+
+    /**
+     * コンストラクタ
+     *
+     * @param portfolioSummaryService 集計テーブルのサービス
+     */
+    public DashboardController(PortfolioSummaryService portfolioSummaryService) {
+        this.portfolioSummaryService = portfolioSummaryService;
+    }
+
+    /**
+     * ポートフォリオ全体の利用状況を取得します
+     *
+     * @return 全ファシリティの合計と利用率
+     */
+    @GetMapping("/portfolio")
+    public ResponseEntity<PortfolioSummaryDto> getPortfolio() {
+        return ResponseEntity.ok(portfolioSummaryService.getPortfolio());
+    }
+
+    /**
+     * ファシリティの利用状況の一覧を取得します
+     *
+     * @param pageable ページ情報（例: {@code ?page=0&size=20&sort=utilizationRate,desc}）
+     * @return ファシリティの利用状況
+     */
+    @GetMapping("/facilities")
+    public ResponseEntity<Page<FacilitySummaryDto>> findFacilities(Pageable pageable) {
+        return ResponseEntity.ok(portfolioSummaryService.findFacilities(pageable));
+    }
+
+    /**
+     * ファシリティの利用状況と投資家ごとのエクスポージャーを取得します
+     *
+     * @param facilityId ファシリティID
+     * @return ファシリティの利用状況
+     */
+    @GetMapping("/facilities/{facilityId}")
+    public ResponseEntity<FacilitySummaryDto> findFacility(@PathVariable Long facilityId) {
+        return ResponseEntity.ok(portfolioSummaryService.findFacility(facilityId));
+    }
+
+    /**
+     * ファシリティの集計行と投資家ごとのエクスポージャーを、実行済みの取引から作り直します
+     *
+     * @param facilityId ファシリティID
+     * @return 作り直したファシリティの利用状況
+     */
+    @PostMapping("/facilities/{facilityId}/rebuild")
+    public ResponseEntity<FacilitySummaryDto> rebuildFacility(@PathVariable Long facilityId) {
+        return ResponseEntity.ok(portfolioSummaryService.rebuildFacility(facilityId));
+    }
+
+    /**
+     * 投資家のファシリティごとのエクスポージャーを取得します
+     *
+     * @param investorId 投資家ID
+     * @return ファシリティごとのエクスポージャー
+     */
+    @GetMapping("/investors/{investorId}/exposures")
+    public ResponseEntity<List<InvestorExposureSummaryDto>> findInvestorExposures(@PathVariable Long investorId) {
+        return ResponseEntity.ok(portfolioSummaryService.findInvestorExposures(investorId));
+    }
+}
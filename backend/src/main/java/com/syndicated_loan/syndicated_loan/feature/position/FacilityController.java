@@ -1,11 +1,16 @@
 package com.syndicated_loan.syndicated_loan.feature.position;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.syndicated_loan.syndicated_loan.common.dto.CursorPageDto;
 import com.syndicated_loan.syndicated_loan.common.dto.FacilityDto;
 import com.syndicated_loan.syndicated_loan.common.dto.SharePieDto;
 import com.syndicated_loan.syndicated_loan.common.service.FacilityService;
+import com.syndicated_loan.syndicated_loan.common.web.JsonArrayStreamer;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -16,9 +21,11 @@ import java.util.List;
 public class FacilityController {
 
     private final FacilityService facilityService;
+    private final JsonArrayStreamer jsonArrayStreamer;
 
-    public FacilityController(FacilityService facilityService) {
+    public FacilityController(FacilityService facilityService, JsonArrayStreamer jsonArrayStreamer) {
         this.facilityService = facilityService;
+        this.jsonArrayStreamer = jsonArrayStreamer;
     }
 
     @GetMapping
@@ -26,6 +33,24 @@ public class FacilityController {
         return ResponseEntity.ok(facilityService.findAll());
     }
 
+    @GetMapping(params = "page")
+    public ResponseEntity<Page<FacilityDto>> findAll(Pageable pageable) {
+        return ResponseEntity.ok(facilityService.findAll(pageable));
+    }
+
+    @GetMapping("/keyset")
+    public ResponseEntity<CursorPageDto<FacilityDto, Long>> findAllAfter(
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "100") int size) {
+        return ResponseEntity.ok(facilityService.findAllAfter(cursor, size));
+    }
+
+    @GetMapping("/stream")
+    public ResponseEntity<StreamingResponseBody> streamAll(
+            @RequestParam(defaultValue = "500") int chunkSize) {
+        return jsonArrayStreamer.stream(facilityService, chunkSize);
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<FacilityDto> findById(@PathVariable Long id) {
         return facilityService.findById(id)
@@ -0,0 +1,43 @@
+package com.syndicated_loan.syndicated_loan.feature.position;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import com.syndicated_loan.syndicated_loan.common.dto.BalanceAsOfDto;
+import com.syndicated_loan.syndicated_loan.common.service.PositionService;
+
+import java.time.LocalDate;
+
+/**
+ * ファシリティ・ローンを共通のポジションとして扱うREST APIを提供するコントローラクラス。
+ */
+@RestController
+@RequestMapping("/api/positions")
+public class PositionController {
+
+    /**
+     * ポジションサービス
+     */
+    private final PositionService positionService;
+
+    /**
+     * コンストラクタ
+     *
+     * @param positionService ポジションサービス
+     */
+    public PositionController(PositionService positionService) {
+        this.positionService = positionService;
+    }
+
+    /**
+     * 指定日時点のポジションの残高（ファシリティは利用可能額、ローンは元本残高）を取得します
+     *
+     * @param id   ポジションID
+     * @param date 基準日
+     * @return 基準日時点の残高
+     */
+    @GetMapping("/{id}/as-of")
+    public ResponseEntity<BalanceAsOfDto> getBalanceAsOf(@PathVariable Long id, @RequestParam LocalDate date) {
+        return ResponseEntity.ok(positionService.findBalanceAsOf(id, date));
+    }
+}
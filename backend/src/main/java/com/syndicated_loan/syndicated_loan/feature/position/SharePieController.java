@@ -1,10 +1,15 @@
 package com.syndicated_loan.syndicated_loan.feature.position;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.syndicated_loan.syndicated_loan.common.dto.CursorPageDto;
 import com.syndicated_loan.syndicated_loan.common.dto.SharePieDto;
 import com.syndicated_loan.syndicated_loan.common.service.SharePieService;
+import com.syndicated_loan.syndicated_loan.common.web.JsonArrayStreamer;
 
 import java.math.BigDecimal;
 import java.util.List;
@@ -15,9 +20,11 @@ import java.util.Map;
 public class SharePieController {
 
     private final SharePieService sharePieService;
+    private final JsonArrayStreamer jsonArrayStreamer;
 
-    public SharePieController(SharePieService sharePieService) {
+    public SharePieController(SharePieService sharePieService, JsonArrayStreamer jsonArrayStreamer) {
         this.sharePieService = sharePieService;
+        this.jsonArrayStreamer = jsonArrayStreamer;
     }
 
     @GetMapping
@@ -25,6 +32,24 @@ public class SharePieController {
         return ResponseEntity.ok(sharePieService.findAll());
     }
 
+    @GetMapping(params = "page")
+    public ResponseEntity<Page<SharePieDto>> findAll(Pageable pageable) {
+        return ResponseEntity.ok(sharePieService.findAll(pageable));
+    }
+
+    @GetMapping("/keyset")
+    public ResponseEntity<CursorPageDto<SharePieDto, Long>> findAllAfter(
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "100") int size) {
+        return ResponseEntity.ok(sharePieService.findAllAfter(cursor, size));
+    }
+
+    @GetMapping("/stream")
+    public ResponseEntity<StreamingResponseBody> streamAll(
+            @RequestParam(defaultValue = "500") int chunkSize) {
+        return jsonArrayStreamer.stream(sharePieService, chunkSize);
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<SharePieDto> findById(@PathVariable Long id) {
         return sharePieService.findById(id)
@@ -1,10 +1,17 @@
 package com.syndicated_loan.syndicated_loan.feature.transaction;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.syndicated_loan.syndicated_loan.common.dto.CursorPageDto;
 import com.syndicated_loan.syndicated_loan.common.dto.DrawdownDto;
+import com.syndicated_loan.syndicated_loan.common.dto.DrawdownExecutionResultDto;
 import com.syndicated_loan.syndicated_loan.common.service.DrawdownService;
+import com.syndicated_loan.syndicated_loan.common.web.Idempotent;
+import com.syndicated_loan.syndicated_loan.common.web.JsonArrayStreamer;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -15,9 +22,11 @@ import java.util.List;
 public class DrawdownController {
 
     private final DrawdownService drawdownService;
+    private final JsonArrayStreamer jsonArrayStreamer;
 
-    public DrawdownController(DrawdownService drawdownService) {
+    public DrawdownController(DrawdownService drawdownService, JsonArrayStreamer jsonArrayStreamer) {
         this.drawdownService = drawdownService;
+        this.jsonArrayStreamer = jsonArrayStreamer;
     }
 
     @GetMapping
@@ -25,6 +34,24 @@ public class DrawdownController {
         return ResponseEntity.ok(drawdownService.findAll());
     }
 
+    @GetMapping(params = "page")
+    public ResponseEntity<Page<DrawdownDto>> findAll(Pageable pageable) {
+        return ResponseEntity.ok(drawdownService.findAll(pageable));
+    }
+
+    @GetMapping("/keyset")
+    public ResponseEntity<CursorPageDto<DrawdownDto, Long>> findAllAfter(
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "100") int size) {
+        return ResponseEntity.ok(drawdownService.findAllAfter(cursor, size));
+    }
+
+    @GetMapping("/stream")
+    public ResponseEntity<StreamingResponseBody> streamAll(
+            @RequestParam(defaultValue = "500") int chunkSize) {
+        return jsonArrayStreamer.stream(drawdownService, chunkSize);
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<DrawdownDto> findById(@PathVariable Long id) {
         return drawdownService.findById(id)
@@ -52,6 +79,7 @@ public class DrawdownController {
     }
 
     @PostMapping
+    @Idempotent
     public ResponseEntity<DrawdownDto> create(@RequestBody DrawdownDto dto) {
         return ResponseEntity.ok(drawdownService.create(dto));
     }
@@ -64,10 +92,17 @@ public class DrawdownController {
     }
 
     @PutMapping("/{id}/execute")
+    @Idempotent
     public ResponseEntity<DrawdownDto> executeDrawdown(@PathVariable Long id) {
         return ResponseEntity.ok(drawdownService.executeDrawdown(id));
     }
 
+    @PostMapping("/execute-batch")
+    @Idempotent
+    public ResponseEntity<List<DrawdownExecutionResultDto>> executeDrawdowns(@RequestBody List<Long> drawdownIds) {
+        return ResponseEntity.ok(drawdownService.executeDrawdowns(drawdownIds));
+    }
+
     @PutMapping("/{id}/drawdown-amount")
     public ResponseEntity<DrawdownDto> updateDrawdownAmount(
             @PathVariable Long id,
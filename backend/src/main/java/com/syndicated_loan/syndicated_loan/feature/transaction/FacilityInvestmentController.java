@@ -1,10 +1,15 @@
 package com.syndicated_loan.syndicated_loan.feature.transaction;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.syndicated_loan.syndicated_loan.common.dto.CursorPageDto;
 import com.syndicated_loan.syndicated_loan.common.dto.FacilityInvestmentDto;
 import com.syndicated_loan.syndicated_loan.common.service.FacilityInvestmentService;
+import com.syndicated_loan.syndicated_loan.common.web.JsonArrayStreamer;
 
 import java.math.BigDecimal;
 import java.util.List;
@@ -14,9 +19,11 @@ import java.util.List;
 public class FacilityInvestmentController {
 
     private final FacilityInvestmentService facilityInvestmentService;
+    private final JsonArrayStreamer jsonArrayStreamer;
 
-    public FacilityInvestmentController(FacilityInvestmentService facilityInvestmentService) {
+    public FacilityInvestmentController(FacilityInvestmentService facilityInvestmentService, JsonArrayStreamer jsonArrayStreamer) {
         this.facilityInvestmentService = facilityInvestmentService;
+        this.jsonArrayStreamer = jsonArrayStreamer;
     }
 
     @GetMapping
@@ -24,6 +31,24 @@ public class FacilityInvestmentController {
         return ResponseEntity.ok(facilityInvestmentService.findAll());
     }
 
+    @GetMapping(params = "page")
+    public ResponseEntity<Page<FacilityInvestmentDto>> findAll(Pageable pageable) {
+        return ResponseEntity.ok(facilityInvestmentService.findAll(pageable));
+    }
+
+    @GetMapping("/keyset")
+    public ResponseEntity<CursorPageDto<FacilityInvestmentDto, Long>> findAllAfter(
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "100") int size) {
+        return ResponseEntity.ok(facilityInvestmentService.findAllAfter(cursor, size));
+    }
+
+    @GetMapping("/stream")
+    public ResponseEntity<StreamingResponseBody> streamAll(
+            @RequestParam(defaultValue = "500") int chunkSize) {
+        return jsonArrayStreamer.stream(facilityInvestmentService, chunkSize);
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<FacilityInvestmentDto> findById(@PathVariable Long id) {
         return facilityInvestmentService.findById(id)
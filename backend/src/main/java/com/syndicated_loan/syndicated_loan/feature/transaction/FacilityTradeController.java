@@ -1,10 +1,15 @@
 package com.syndicated_loan.syndicated_loan.feature.transaction;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.syndicated_loan.syndicated_loan.common.dto.CursorPageDto;
 import com.syndicated_loan.syndicated_loan.common.dto.FacilityTradeDto;
 import com.syndicated_loan.syndicated_loan.common.service.FacilityTradeService;
+import com.syndicated_loan.syndicated_loan.common.web.JsonArrayStreamer;
 
 import java.math.BigDecimal;
 import java.util.List;
@@ -14,9 +19,11 @@ import java.util.List;
 public class FacilityTradeController {
 
     private final FacilityTradeService facilityTradeService;
+    private final JsonArrayStreamer jsonArrayStreamer;
 
-    public FacilityTradeController(FacilityTradeService facilityTradeService) {
+    public FacilityTradeController(FacilityTradeService facilityTradeService, JsonArrayStreamer jsonArrayStreamer) {
         this.facilityTradeService = facilityTradeService;
+        this.jsonArrayStreamer = jsonArrayStreamer;
     }
 
     @GetMapping
@@ -24,6 +31,24 @@ public class FacilityTradeController {
         return ResponseEntity.ok(facilityTradeService.findAll());
     }
 
+    @GetMapping(params = "page")
+    public ResponseEntity<Page<FacilityTradeDto>> findAll(Pageable pageable) {
+        return ResponseEntity.ok(facilityTradeService.findAll(pageable));
+    }
+
+    @GetMapping("/keyset")
+    public ResponseEntity<CursorPageDto<FacilityTradeDto, Long>> findAllAfter(
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "100") int size) {
+        return ResponseEntity.ok(facilityTradeService.findAllAfter(cursor, size));
+    }
+
+    @GetMapping("/stream")
+    public ResponseEntity<StreamingResponseBody> streamAll(
+            @RequestParam(defaultValue = "500") int chunkSize) {
+        return jsonArrayStreamer.stream(facilityTradeService, chunkSize);
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<FacilityTradeDto> findById(@PathVariable Long id) {
         return facilityTradeService.findById(id)
@@ -71,6 +96,11 @@ public class FacilityTradeController {
         return ResponseEntity.ok(facilityTradeService.updateTradeAmount(id, newAmount));
     }
 
+    @PutMapping("/{id}/execute")
+    public ResponseEntity<FacilityTradeDto> executeFacilityTrade(@PathVariable Long id) {
+        return ResponseEntity.ok(facilityTradeService.executeFacilityTrade(id));
+    }
+
     @PutMapping("/{id}/amount-pie")
     public ResponseEntity<FacilityTradeDto> updateAmountPie(
             @PathVariable Long id,
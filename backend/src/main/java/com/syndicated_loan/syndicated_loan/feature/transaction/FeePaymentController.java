@@ -1,10 +1,16 @@
 package com.syndicated_loan.syndicated_loan.feature.transaction;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.syndicated_loan.syndicated_loan.common.dto.CursorPageDto;
 import com.syndicated_loan.syndicated_loan.common.dto.FeePaymentDto;
 import com.syndicated_loan.syndicated_loan.common.service.FeePaymentService;
+import com.syndicated_loan.syndicated_loan.common.web.Idempotent;
+import com.syndicated_loan.syndicated_loan.common.web.JsonArrayStreamer;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -23,13 +29,20 @@ public class FeePaymentController {
      */
     private final FeePaymentService feePaymentService;
 
+    /**
+     * JSON配列のストリーミング出力
+     */
+    private final JsonArrayStreamer jsonArrayStreamer;
+
     /**
      * コンストラクタ
      *
      * @param feePaymentService 手数料支払いサービス
+     * @param jsonArrayStreamer JSON配列のストリーミング出力
      */
-    public FeePaymentController(FeePaymentService feePaymentService) {
+    public FeePaymentController(FeePaymentService feePaymentService, JsonArrayStreamer jsonArrayStreamer) {
         this.feePaymentService = feePaymentService;
+        this.jsonArrayStreamer = jsonArrayStreamer;
     }
 
     /**
@@ -42,6 +55,43 @@ public class FeePaymentController {
         return ResponseEntity.ok(feePaymentService.findAll());
     }
 
+    /**
+     * 手数料支払いをページ単位で取得します
+     *
+     * @param pageable ページ番号・件数・ソート条件（page, size, sort）
+     * @return 手数料支払いDTOのページ
+     */
+    @GetMapping(params = "page")
+    public ResponseEntity<Page<FeePaymentDto>> findAll(Pageable pageable) {
+        return ResponseEntity.ok(feePaymentService.findAll(pageable));
+    }
+
+    /**
+     * カーソル（前ページの最後のID）より後ろの手数料支払いをID順に取得します
+     *
+     * @param cursor 前ページの最後のID（未指定の場合は先頭から）
+     * @param size   取得件数
+     * @return 手数料支払いDTOと次ページのカーソル
+     */
+    @GetMapping("/keyset")
+    public ResponseEntity<CursorPageDto<FeePaymentDto, Long>> findAllAfter(
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "100") int size) {
+        return ResponseEntity.ok(feePaymentService.findAllAfter(cursor, size));
+    }
+
+    /**
+     * すべての手数料支払いをJSON配列としてストリーミングで取得します
+     *
+     * @param chunkSize 1回に読み込む件数
+     * @return ストリーミングレスポンス
+     */
+    @GetMapping("/stream")
+    public ResponseEntity<StreamingResponseBody> streamAll(
+            @RequestParam(defaultValue = "500") int chunkSize) {
+        return jsonArrayStreamer.stream(feePaymentService, chunkSize);
+    }
+
     /**
      * IDを指定して手数料支払いを取得します
      *
@@ -110,6 +160,7 @@ public class FeePaymentController {
      * @return 作成された手数料支払いDTO
      */
     @PostMapping
+    @Idempotent
     public ResponseEntity<FeePaymentDto> create(@RequestBody FeePaymentDto dto) {
         return ResponseEntity.ok(feePaymentService.create(dto));
     }
@@ -135,6 +186,7 @@ public class FeePaymentController {
      * @return 実行後の手数料支払いDTO
      */
     @PutMapping("/{id}/execute")
+    @Idempotent
     public ResponseEntity<FeePaymentDto> executeFeePayment(@PathVariable Long id) {
         return ResponseEntity.ok(feePaymentService.executeFeePayment(id));
     }
@@ -0,0 +1,42 @@
+package com.syndicated_loan.syndicated_loan.feature.transaction;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import com.syndicated_loan.syndicated_loan.common.dto.AccrualRunResultDto;
+import com.syndicated_loan.syndicated_loan.common.service.InterestAccrualBatchService;
+
+import java.time.LocalDate;
+
+/**
+ * 経過利息の計上バッチに関するREST APIを提供するコントローラクラス。
+ */
+@RestController
+@RequestMapping("/api/interest-accruals")
+public class InterestAccrualController {
+
+    /**
+     * 利息発生バッチサービス
+     */
+    private final InterestAccrualBatchService interestAccrualBatchService;
+
+    /**
+     * コンストラクタ
+     *
+     * @param interestAccrualBatchService 利息発生バッチサービス
+     */
+    public InterestAccrualController(InterestAccrualBatchService interestAccrualBatchService) {
+        this.interestAccrualBatchService = interestAccrualBatchService;
+    }
+
+    /**
+     * 指定日の経過利息を全ローン分計上します（中断していた場合は続きから計上します）
+     *
+     * @param accrualDate 計上日
+     * @return 実行結果（書き込み件数、毎秒の書き込み件数など）
+     */
+    @PostMapping("/run")
+    public ResponseEntity<AccrualRunResultDto> run(@RequestParam LocalDate accrualDate) {
+        return ResponseEntity.ok(interestAccrualBatchService.run(accrualDate));
+    }
+}
@@ -1,10 +1,16 @@
 package com.syndicated_loan.syndicated_loan.feature.transaction;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.syndicated_loan.syndicated_loan.common.dto.CursorPageDto;
 import com.syndicated_loan.syndicated_loan.common.dto.InterestPaymentDto;
 import com.syndicated_loan.syndicated_loan.common.service.InterestPaymentService;
+import com.syndicated_loan.syndicated_loan.common.web.Idempotent;
+import com.syndicated_loan.syndicated_loan.common.web.JsonArrayStreamer;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -24,13 +30,20 @@ public class InterestPaymentController {
      */
     private final InterestPaymentService interestPaymentService;
 
+    /**
+     * JSON配列のストリーミング出力
+     */
+    private final JsonArrayStreamer jsonArrayStreamer;
+
     /**
      * コンストラクタ
      *
      * @param interestPaymentService 利息支払いサービス
+     * @param jsonArrayStreamer JSON配列のストリーミング出力
      */
-    public InterestPaymentController(InterestPaymentService interestPaymentService) {
+    public InterestPaymentController(InterestPaymentService interestPaymentService, JsonArrayStreamer jsonArrayStreamer) {
         this.interestPaymentService = interestPaymentService;
+        this.jsonArrayStreamer = jsonArrayStreamer;
     }
 
     /**
@@ -43,6 +56,43 @@ public class InterestPaymentController {
         return ResponseEntity.ok(interestPaymentService.findAll());
     }
 
+    /**
+     * 利息支払いをページ単位で取得します
+     *
+     * @param pageable ページ番号・件数・ソート条件（page, size, sort）
+     * @return 利息支払いDTOのページ
+     */
+    @GetMapping(params = "page")
+    public ResponseEntity<Page<InterestPaymentDto>> findAll(Pageable pageable) {
+        return ResponseEntity.ok(interestPaymentService.findAll(pageable));
+    }
+
+    /**
+     * カーソル（前ページの最後のID）より後ろの利息支払いをID順に取得します
+     *
+     * @param cursor 前ページの最後のID（未指定の場合は先頭から）
+     * @param size   取得件数
+     * @return 利息支払いDTOと次ページのカーソル
+     */
+    @GetMapping("/keyset")
+    public ResponseEntity<CursorPageDto<InterestPaymentDto, Long>> findAllAfter(
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "100") int size) {
+        return ResponseEntity.ok(interestPaymentService.findAllAfter(cursor, size));
+    }
+
+    /**
+     * すべての利息支払いをJSON配列としてストリーミングで取得します
+     *
+     * @param chunkSize 1回に読み込む件数
+     * @return ストリーミングレスポンス
+     */
+    @GetMapping("/stream")
+    public ResponseEntity<StreamingResponseBody> streamAll(
+            @RequestParam(defaultValue = "500") int chunkSize) {
+        return jsonArrayStreamer.stream(interestPaymentService, chunkSize);
+    }
+
     /**
      * IDを指定して利息支払いを取得します
      *
@@ -129,10 +179,26 @@ public class InterestPaymentController {
      * @return 作成された利息支払いDTO
      */
     @PostMapping
+    @Idempotent
     public ResponseEntity<InterestPaymentDto> create(@RequestBody InterestPaymentDto dto) {
         return ResponseEntity.ok(interestPaymentService.create(dto));
     }
 
+    /**
+     * 指定日の利息支払いを複数ローン分まとめて作成します
+     *
+     * @param paymentDate 利払日
+     * @param loanIds     対象のローンIDのリスト
+     * @return 作成された利息支払いDTOのリスト（ローンIDの指定順。重複したローンIDと、利払日の利息支払いが作成済みのローンは含まない）
+     */
+    @PostMapping("/batch")
+    @Idempotent
+    public ResponseEntity<List<InterestPaymentDto>> createForLoans(
+            @RequestParam LocalDate paymentDate,
+            @RequestBody List<Long> loanIds) {
+        return ResponseEntity.ok(interestPaymentService.createForLoans(loanIds, paymentDate));
+    }
+
     /**
      * 利息支払いを更新します
      *
@@ -154,6 +220,7 @@ public class InterestPaymentController {
      * @return 実行後の利息支払いDTO
      */
     @PutMapping("/{id}/execute")
+    @Idempotent
     public ResponseEntity<InterestPaymentDto> executeInterestPayment(@PathVariable Long id) {
         return ResponseEntity.ok(interestPaymentService.executeInterestPayment(id));
     }
@@ -1,10 +1,16 @@
 package com.syndicated_loan.syndicated_loan.feature.transaction;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.syndicated_loan.syndicated_loan.common.dto.CursorPageDto;
 import com.syndicated_loan.syndicated_loan.common.dto.PrincipalPaymentDto;
 import com.syndicated_loan.syndicated_loan.common.service.PrincipalPaymentService;
+import com.syndicated_loan.syndicated_loan.common.web.Idempotent;
+import com.syndicated_loan.syndicated_loan.common.web.JsonArrayStreamer;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -15,9 +21,11 @@ import java.util.List;
 public class PrincipalPaymentController {
 
     private final PrincipalPaymentService principalPaymentService;
+    private final JsonArrayStreamer jsonArrayStreamer;
 
-    public PrincipalPaymentController(PrincipalPaymentService principalPaymentService) {
+    public PrincipalPaymentController(PrincipalPaymentService principalPaymentService, JsonArrayStreamer jsonArrayStreamer) {
         this.principalPaymentService = principalPaymentService;
+        this.jsonArrayStreamer = jsonArrayStreamer;
     }
 
     @GetMapping
@@ -25,6 +33,24 @@ public class PrincipalPaymentController {
         return ResponseEntity.ok(principalPaymentService.findAll());
     }
 
+    @GetMapping(params = "page")
+    public ResponseEntity<Page<PrincipalPaymentDto>> findAll(Pageable pageable) {
+        return ResponseEntity.ok(principalPaymentService.findAll(pageable));
+    }
+
+    @GetMapping("/keyset")
+    public ResponseEntity<CursorPageDto<PrincipalPaymentDto, Long>> findAllAfter(
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "100") int size) {
+        return ResponseEntity.ok(principalPaymentService.findAllAfter(cursor, size));
+    }
+
+    @GetMapping("/stream")
+    public ResponseEntity<StreamingResponseBody> streamAll(
+            @RequestParam(defaultValue = "500") int chunkSize) {
+        return jsonArrayStreamer.stream(principalPaymentService, chunkSize);
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<PrincipalPaymentDto> findById(@PathVariable Long id) {
         return principalPaymentService.findById(id)
@@ -60,6 +86,7 @@ public class PrincipalPaymentController {
     }
 
     @PostMapping
+    @Idempotent
     public ResponseEntity<PrincipalPaymentDto> create(@RequestBody PrincipalPaymentDto dto) {
         return ResponseEntity.ok(principalPaymentService.create(dto));
     }
@@ -72,6 +99,7 @@ public class PrincipalPaymentController {
     }
 
     @PutMapping("/{id}/execute")
+    @Idempotent
     public ResponseEntity<PrincipalPaymentDto> executePrincipalPayment(@PathVariable Long id) {
         return ResponseEntity.ok(principalPaymentService.executePrincipalPayment(id));
     }
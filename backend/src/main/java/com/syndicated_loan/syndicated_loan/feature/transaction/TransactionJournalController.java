@@ -0,0 +1,78 @@
+package com.syndicated_loan.syndicated_loan.feature.transaction;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import com.syndicated_loan.syndicated_loan.common.dto.JournalProjectionDto;
+import com.syndicated_loan.syndicated_loan.common.dto.JournalRestoreResultDto;
+import com.syndicated_loan.syndicated_loan.common.dto.JournalSnapshotResultDto;
+import com.syndicated_loan.syndicated_loan.common.service.TransactionJournalProjector;
+
+import java.time.LocalDateTime;
+
+/**
+ * 取引の仕訳からの残高の再構築・スナップショット・復元に関するREST APIを提供するコントローラクラス。
+ */
+@RestController
+@RequestMapping("/api/journal")
+public class TransactionJournalController {
+
+    /**
+     * 仕訳の再構築サービス
+     */
+    private final TransactionJournalProjector transactionJournalProjector;
+
+    /**
+     * コンストラクタ
+     *
+     * @param transactionJournalProjector 仕訳の再構築サービス
+     */
+    public TransactionJournalController(TransactionJournalProjector transactionJournalProjector) {
+        this.transactionJournalProjector = transactionJournalProjector;
+    }
+
+    /**
+     * 仕訳から全口座の残高を再構築します。
+     * 通番・日時のいずれも指定しない場合は最後の仕訳までを反映します。
+     *
+     * @param upToSequence 反映する最後の仕訳の通番
+     * @param asOf         基準日時（この日時までに記録された仕訳を反映する）
+     * @return 再構築結果
+     */
+    @GetMapping("/balances")
+    public ResponseEntity<JournalProjectionDto> getBalances(
+            @RequestParam(required = false) Long upToSequence,
+            @RequestParam(required = false) LocalDateTime asOf) {
+        if (upToSequence != null) {
+            return ResponseEntity.ok(transactionJournalProjector.rebuild(upToSequence));
+        }
+        if (asOf != null) {
+            return ResponseEntity.ok(transactionJournalProjector.rebuildAsOf(asOf));
+        }
+        return ResponseEntity.ok(transactionJournalProjector.rebuild());
+    }
+
+    /**
+     * スナップショットを作成します
+     *
+     * @param upToSequence スナップショットに含める最後の仕訳の通番（省略時は記録から一定時間が経過した仕訳まで）
+     * @return 作成結果
+     */
+    @PostMapping("/snapshots")
+    public ResponseEntity<JournalSnapshotResultDto> takeSnapshot(@RequestParam(required = false) Long upToSequence) {
+        if (upToSequence != null) {
+            return ResponseEntity.ok(transactionJournalProjector.takeSnapshot(upToSequence));
+        }
+        return ResponseEntity.ok(transactionJournalProjector.takeSnapshot());
+    }
+
+    /**
+     * 仕訳から再構築した残高を、ファシリティ・ローン・投資家に書き戻します
+     *
+     * @return 復元結果
+     */
+    @PostMapping("/restore")
+    public ResponseEntity<JournalRestoreResultDto> restore() {
+        return ResponseEntity.ok(transactionJournalProjector.restore());
+    }
+}
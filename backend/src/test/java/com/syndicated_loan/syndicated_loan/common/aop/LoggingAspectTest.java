@@ -0,0 +1,46 @@
+package com.syndicated_loan.syndicated_loan.common.aop;
+
+import com.syndicated_loan.syndicated_loan.common.dto.InvestorDto;
+import com.syndicated_loan.syndicated_loan.common.exception.BusinessException;
+import com.syndicated_loan.syndicated_loan.common.service.InvestorService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+public class LoggingAspectTest {
+
+    @Autowired
+    private InvestorService investorService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void testServiceCallsAreTimedPerMethodAndOutcome() {
+        long successBefore = count("findAll", "success");
+        long errorBefore = count("update", "error");
+
+        investorService.findAll();
+        investorService.findAll();
+        assertThatThrownBy(() -> investorService.update(-1L, new InvestorDto()))
+                .isInstanceOf(BusinessException.class);
+
+        assertThat(count("findAll", "success")).isEqualTo(successBefore + 2);
+        assertThat(count("update", "error")).isEqualTo(errorBefore + 1);
+    }
+
+    private long count(String method, String outcome) {
+        Timer timer = meterRegistry.find(LoggingAspect.TIMER_NAME)
+                .tags("layer", "Service", "class", "InvestorService", "method", method, "outcome", outcome)
+                .timer();
+        return timer == null ? 0 : timer.count();
+    }
+}
@@ -0,0 +1,150 @@
+package com.syndicated_loan.syndicated_loan.common.aop;
+
+import com.syndicated_loan.syndicated_loan.common.dto.FacilityDto;
+import com.syndicated_loan.syndicated_loan.common.dto.InvestorDto;
+import com.syndicated_loan.syndicated_loan.common.exception.BusinessException;
+import com.syndicated_loan.syndicated_loan.common.service.DrawdownService;
+import com.syndicated_loan.syndicated_loan.common.service.FacilityService;
+import com.syndicated_loan.syndicated_loan.common.testutil.TestDataBuilder;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 1つのファシリティへのドローダウンを多数のスレッドから同時に実行し、
+ * 楽観ロックの競合が再実行で解消され、利用可能額が負にならないことを検証するテスト
+ */
+@SpringBootTest(properties = "syndicated-loan.retry.max-attempts=50")
+public class OptimisticLockRetryAspectTest {
+
+    private static final int THREADS = 16;
+    private static final BigDecimal AVAILABLE_AMOUNT = new BigDecimal("10000000");
+    private static final BigDecimal DRAWDOWN_AMOUNT = new BigDecimal("1000000");
+
+    @Autowired
+    private DrawdownService drawdownService;
+
+    @Autowired
+    private FacilityService facilityService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private TestDataBuilder testDataBuilder;
+
+    private FacilityDto facility;
+    private List<InvestorDto> investors;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        Map<String, Object> testData = testDataBuilder.getTestDataForScaledDrawdown(3, 12);
+        facility = (FacilityDto) testData.get("facility");
+        investors = (List<InvestorDto>) testData.get("investors");
+        facilityService.updateAvailableAmount(facility.getId(), AVAILABLE_AMOUNT);
+    }
+
+    @AfterEach
+    void tearDown() {
+        testDataBuilder.cleanupAll();
+    }
+
+    @Test
+    void testConcurrentDrawdownsNeverOverdrawFacility() throws Exception {
+        // 利用可能額の2.4倍のドローダウンを同時に実行する
+        List<Long> drawdownIds = new ArrayList<>();
+        for (int i = 0; i < 24; i++) {
+            drawdownIds.add(drawdownService.create(
+                    testDataBuilder.buildDrawdown(facility, investors, DRAWDOWN_AMOUNT)).getId());
+        }
+        double retriedBefore = conflicts("retried");
+
+        Map<String, Integer> outcomes = executeConcurrently(drawdownIds);
+
+        // 利用可能額の範囲でのみ実行され、残りは利用可能額の不足で失敗する（競合で失敗したものは無い）
+        assertThat(outcomes).containsOnlyKeys("EXECUTED", "INSUFFICIENT_AVAILABLE_AMOUNT");
+        assertThat(outcomes.get("EXECUTED")).isEqualTo(10);
+        BigDecimal availableAmount = facilityService.findById(facility.getId()).orElseThrow().getAvailableAmount();
+        assertThat(availableAmount).isEqualByComparingTo("0");
+        assertThat(conflicts("retried")).isGreaterThan(retriedBefore);
+        assertThat(conflicts("exhausted")).isZero();
+    }
+
+    @Test
+    void testRetryRereadsAndDoesNotExecuteTwice() throws Exception {
+        // 同じドローダウンを同時に実行しても、読み直しで実行済みを検出し1回だけ反映する
+        Long drawdownId = drawdownService.create(
+                testDataBuilder.buildDrawdown(facility, investors, DRAWDOWN_AMOUNT)).getId();
+        List<Long> drawdownIds = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            drawdownIds.add(drawdownId);
+        }
+
+        Map<String, Integer> outcomes = executeConcurrently(drawdownIds);
+
+        assertThat(outcomes).containsEntry("EXECUTED", 1)
+                .containsEntry("DRAWDOWN_ALREADY_EXECUTED", THREADS - 1);
+        assertThat(facilityService.findById(facility.getId()).orElseThrow().getAvailableAmount())
+                .isEqualByComparingTo(AVAILABLE_AMOUNT.subtract(DRAWDOWN_AMOUNT));
+    }
+
+    // 一斉に実行し、結果（EXECUTEDまたはエラーコード）ごとの件数を返す
+    private Map<String, Integer> executeConcurrently(List<Long> drawdownIds) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        Map<String, Integer> outcomes = new ConcurrentHashMap<>();
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (Long drawdownId : drawdownIds) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    String outcome;
+                    try {
+                        drawdownService.executeDrawdown(drawdownId);
+                        outcome = "EXECUTED";
+                    } catch (BusinessException e) {
+                        outcome = e.getCode();
+                    } catch (OptimisticLockingFailureException e) {
+                        outcome = "CONFLICT";
+                    }
+                    outcomes.merge(outcome, 1, Integer::sum);
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        return outcomes;
+    }
+
+    private double conflicts(String outcome) {
+        Counter counter = meterRegistry.find(OptimisticLockRetryAspect.CONFLICT_COUNTER_NAME)
+                .tags("class", "DrawdownService", "method", "executeDrawdown", "outcome", outcome)
+                .counter();
+        return counter == null ? 0 : counter.count();
+    }
+}
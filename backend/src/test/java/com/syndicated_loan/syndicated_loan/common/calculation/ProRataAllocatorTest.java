@@ -0,0 +1,112 @@
+package com.syndicated_loan.syndicated_loan.common.calculation;
+
+import com.syndicated_loan.syndicated_loan.common.exception.BusinessException;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ProRataAllocatorTest {
+
+    @Test
+    void testAllocateDistributesLeftoverByLargestRemainder() {
+        long[] parts = new long[3];
+        ProRataAllocator.allocate(1_000_000L, new long[] { 1, 1, 1 }, 3, parts, new long[6]);
+
+        // 100.0000を3等分すると端数0.0001が先頭に割り当てられる
+        assertThat(parts).containsExactly(333_334L, 333_333L, 333_333L);
+    }
+
+    @Test
+    void testAllocateNegativeTotal() {
+        long[] parts = new long[2];
+        ProRataAllocator.allocate(-100_001L, new long[] { 3, 7 }, 2, parts, new long[4]);
+
+        assertThat(parts).containsExactly(-30_000L, -70_001L);
+        assertThat(Arrays.stream(parts).sum()).isEqualTo(-100_001L);
+    }
+
+    @Test
+    void testAllocateMatchesBigIntegerForLargeValues() {
+        Random random = new Random(42);
+        for (int run = 0; run < 1_000; run++) {
+            int length = 1 + random.nextInt(20);
+            long total = random.nextLong() >>> 1;
+            long[] weights = new long[length];
+            for (int i = 0; i < length; i++) {
+                // 同率の剰余も発生するよう、一部は小さな値の重みにする
+                weights[i] = run % 2 == 0 ? (random.nextLong() >>> 1) / length : random.nextInt(4);
+            }
+            if (Arrays.stream(weights).sum() == 0) {
+                weights[0] = 1;
+            }
+
+            long[] parts = new long[length];
+            ProRataAllocator.allocate(total, weights, length, parts, new long[length * 2]);
+
+            assertThat(parts).containsExactly(referenceAllocate(total, weights));
+        }
+    }
+
+    @Test
+    void testAllocateMapSumsToTotal() {
+        Map<Long, BigDecimal> distribution = ProRataAllocator.allocate(new BigDecimal("12345.6789"),
+                Map.of(3L, new BigDecimal("33.3333"), 1L, new BigDecimal("33.3333"), 2L, new BigDecimal("33.3334")));
+
+        assertThat(distribution).containsOnlyKeys(1L, 2L, 3L);
+        assertThat(distribution.values()).allSatisfy(amount -> assertThat(amount.scale()).isEqualTo(4));
+        assertThat(distribution.values().stream().reduce(BigDecimal.ZERO, BigDecimal::add))
+                .isEqualByComparingTo(new BigDecimal("12345.6789"));
+    }
+
+    @Test
+    void testAllocateZeroTotalWeight() {
+        assertThatThrownBy(() -> ProRataAllocator.allocate(100L, new long[] { 0, 0 }, 2, new long[2], new long[4]))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("Total distribution weight must be positive");
+    }
+
+    @Test
+    void testAllocateNegativeWeight() {
+        assertThatThrownBy(() -> ProRataAllocator.allocate(100L, new long[] { 5, -1 }, 2, new long[2], new long[4]))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("Distribution weight cannot be negative");
+    }
+
+    // BigIntegerによる最大剰余方式の参照実装
+    private static long[] referenceAllocate(long total, long[] weights) {
+        BigInteger totalWeight = BigInteger.ZERO;
+        for (long weight : weights) {
+            totalWeight = totalWeight.add(BigInteger.valueOf(weight));
+        }
+
+        long[] parts = new long[weights.length];
+        BigInteger[] remainders = new BigInteger[weights.length];
+        long allocated = 0;
+        for (int i = 0; i < weights.length; i++) {
+            BigInteger[] divided = BigInteger.valueOf(total).multiply(BigInteger.valueOf(weights[i]))
+                    .divideAndRemainder(totalWeight);
+            parts[i] = divided[0].longValueExact();
+            remainders[i] = divided[1];
+            allocated += parts[i];
+        }
+        for (long leftover = total - allocated; leftover > 0; leftover--) {
+            int largest = 0;
+            for (int i = 1; i < weights.length; i++) {
+                if (remainders[i].compareTo(remainders[largest]) > 0) {
+                    largest = i;
+                }
+            }
+            parts[largest]++;
+            remainders[largest] = BigInteger.valueOf(-1);
+        }
+        return parts;
+    }
+}
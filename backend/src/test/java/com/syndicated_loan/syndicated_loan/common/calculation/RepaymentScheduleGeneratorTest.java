@@ -0,0 +1,148 @@
+package com.syndicated_loan.syndicated_loan.common.calculation;
+
+import com.syndicated_loan.syndicated_loan.common.entity.Loan;
+import com.syndicated_loan.syndicated_loan.common.entity.RepaymentSchedule;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class RepaymentScheduleGeneratorTest {
+
+    @Test
+    void testGenerateQuarterlyInterestUntilEndDate() {
+        Loan loan = loan("1000000", "2.5", LocalDate.of(2025, 1, 31), LocalDate.of(2025, 12, 15));
+
+        List<RepaymentSchedule> schedules = RepaymentScheduleGenerator.generate(loan);
+
+        assertThat(schedules.get(0).getPaymentType()).isEqualTo(RepaymentSchedule.PaymentType.PRINCIPAL);
+        assertThat(schedules.get(0).getScheduledDate()).isEqualTo(LocalDate.of(2025, 12, 15));
+        assertThat(schedules.get(0).getPrincipalAmount()).isEqualByComparingTo("1000000");
+
+        // 前回の利払日から3ヶ月ごと（月末は前回の日付に合わせる）、最終回は満期日まで
+        List<RepaymentSchedule> interests = schedules.subList(1, schedules.size());
+        assertThat(interests).extracting(RepaymentSchedule::getScheduledDate).containsExactly(
+                LocalDate.of(2025, 4, 30), LocalDate.of(2025, 7, 30),
+                LocalDate.of(2025, 10, 30), LocalDate.of(2025, 12, 15));
+        // 年利息25000.0000を89日・91日・92日・46日で日割り
+        assertThat(interests).extracting(RepaymentSchedule::getInterestAmount).containsExactly(
+                new BigDecimal("6095.8904"), new BigDecimal("6232.8767"),
+                new BigDecimal("6301.3699"), new BigDecimal("3150.6849"));
+        assertThat(schedules).allSatisfy(schedule -> assertThat(schedule.getLoan()).isSameAs(loan));
+        assertThat(loan.getRepaymentSchedules()).isEmpty();
+    }
+
+    @Test
+    void testGenerateMatchesPerPeriodCalculation() {
+        Loan loan = loan("123456789.1234", "3.1415", LocalDate.of(2024, 2, 29), LocalDate.of(2054, 2, 28));
+
+        List<RepaymentSchedule> schedules = RepaymentScheduleGenerator.generate(loan);
+
+        LocalDate currentDate = loan.getStartDate();
+        for (RepaymentSchedule schedule : schedules.subList(1, schedules.size())) {
+            BigDecimal expected = loan.getTotalAmount()
+                    .multiply(loan.getInterestRate())
+                    .divide(BigDecimal.valueOf(100), 10, RoundingMode.HALF_UP)
+                    .multiply(BigDecimal.valueOf(ChronoUnit.DAYS.between(currentDate, schedule.getScheduledDate())))
+                    .divide(BigDecimal.valueOf(365), 4, RoundingMode.HALF_UP);
+            assertThat(schedule.getInterestAmount()).isEqualTo(expected);
+            currentDate = schedule.getScheduledDate();
+        }
+        assertThat(currentDate).isEqualTo(loan.getEndDate());
+        assertThat(schedules).hasSize(1 + 120);
+    }
+
+    @Test
+    void testGenerateThirty360() {
+        Loan loan = loan("1000000", "3.6", LocalDate.of(2025, 1, 31), LocalDate.of(2025, 7, 30));
+        loan.setDayCountConvention(DayCountConvention.THIRTY_360);
+
+        List<RepaymentSchedule> schedules = RepaymentScheduleGenerator.generate(loan);
+
+        // 1/31→4/30、4/30→7/30はいずれも30/360で90日
+        assertThat(schedules.subList(1, schedules.size()))
+                .extracting(RepaymentSchedule::getInterestAmount)
+                .containsExactly(new BigDecimal("9000.0000"), new BigDecimal("9000.0000"));
+    }
+
+    @Test
+    void testGenerateLinearAndAnnuity() {
+        Loan linear = loan("1000000", "4", LocalDate.of(2025, 1, 1), LocalDate.of(2027, 1, 1));
+        linear.setAmortizationProfile(AmortizationProfile.LINEAR);
+
+        List<RepaymentSchedule> linearSchedules = RepaymentScheduleGenerator.generate(linear);
+
+        assertThat(principals(linearSchedules)).hasSize(8)
+                .allSatisfy(principal -> assertThat(principal).isEqualByComparingTo("125000"));
+        // 利息は期首残高に対して計算する（1/1→4/1は90日、4/1→7/1は91日）
+        assertThat(interests(linearSchedules).subList(0, 2))
+                .containsExactly(new BigDecimal("9863.0137"), new BigDecimal("8726.0274"));
+
+        Loan annuity = loan("1000000", "4", LocalDate.of(2025, 1, 1), LocalDate.of(2027, 1, 1));
+        annuity.setAmortizationProfile(AmortizationProfile.ANNUITY);
+
+        List<RepaymentSchedule> annuitySchedules = RepaymentScheduleGenerator.generate(annuity);
+        List<BigDecimal> principals = principals(annuitySchedules);
+        List<BigDecimal> interests = interests(annuitySchedules);
+
+        assertThat(principals.stream().reduce(BigDecimal.ZERO, BigDecimal::add)).isEqualByComparingTo("1000000");
+        // 最終回以外は元本と利息の合計が一定
+        for (int i = 1; i < 7; i++) {
+            assertThat(principals.get(i).add(interests.get(i)))
+                    .isEqualByComparingTo(principals.get(0).add(interests.get(0)));
+            assertThat(principals.get(i)).isGreaterThan(principals.get(i - 1));
+        }
+    }
+
+    @Test
+    void testGenerateSharesPeriodTables() {
+        PeriodTableCache tables = new PeriodTableCache(16);
+        Loan shortLoan = loan("1000000", "2.5", LocalDate.of(2025, 1, 1), LocalDate.of(2026, 1, 1));
+        Loan longLoan = loan("5000000", "1.5", LocalDate.of(2025, 1, 1), LocalDate.of(2035, 1, 1));
+
+        List<RepaymentSchedule> shortSchedules = RepaymentScheduleGenerator.generate(shortLoan, tables);
+        List<RepaymentSchedule> longSchedules = RepaymentScheduleGenerator.generate(longLoan, tables);
+
+        // 開始日・間隔・方式が同じローンは満期日が異なっても同じ表を使う
+        assertThat(tables.size()).isEqualTo(1);
+        assertThat(shortSchedules).hasSize(1 + 4);
+        assertThat(longSchedules).hasSize(1 + 40);
+        // キャッシュしない場合と同じ結果となる
+        assertThat(RepaymentScheduleGenerator.generate(longLoan, new PeriodTableCache(0)))
+                .extracting(RepaymentSchedule::getScheduledDate, RepaymentSchedule::getInterestAmount)
+                .containsExactlyElementsOf(longSchedules.stream()
+                        .map(schedule -> tuple(
+                                schedule.getScheduledDate(), schedule.getInterestAmount()))
+                        .toList());
+    }
+
+    private List<BigDecimal> principals(List<RepaymentSchedule> schedules) {
+        return schedules.stream()
+                .filter(schedule -> schedule.getPaymentType() == RepaymentSchedule.PaymentType.PRINCIPAL)
+                .map(RepaymentSchedule::getPrincipalAmount)
+                .toList();
+    }
+
+    private List<BigDecimal> interests(List<RepaymentSchedule> schedules) {
+        return schedules.stream()
+                .filter(schedule -> schedule.getPaymentType() == RepaymentSchedule.PaymentType.INTEREST)
+                .map(RepaymentSchedule::getInterestAmount)
+                .toList();
+    }
+
+    private Loan loan(String totalAmount, String interestRate, LocalDate startDate, LocalDate endDate) {
+        Loan loan = new Loan();
+        loan.setTotalAmount(new BigDecimal(totalAmount));
+        loan.setInterestRate(new BigDecimal(interestRate));
+        loan.setStartDate(startDate);
+        loan.setEndDate(endDate);
+        return loan;
+    }
+}
@@ -0,0 +1,71 @@
+package com.syndicated_loan.syndicated_loan.common.entity;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PieAllocationTest {
+
+    @Test
+    void testOfSortsByInvestorIdAndRoundsToScale() {
+        PieAllocation allocation = PieAllocation.of(Map.of(
+                30L, new BigDecimal("10.12345"),
+                10L, new BigDecimal("20"),
+                20L, new BigDecimal("-5.5")));
+
+        assertThat(allocation.size()).isEqualTo(3);
+        assertThat(allocation.toMap()).containsExactly(
+                Map.entry(10L, new BigDecimal("20.0000")),
+                Map.entry(20L, new BigDecimal("-5.5000")),
+                Map.entry(30L, new BigDecimal("10.1235")));
+        assertThat(allocation.get(20L)).isEqualTo(new BigDecimal("-5.5000"));
+        assertThat(allocation.get(99L)).isNull();
+    }
+
+    @Test
+    void testEncodeDecodeRoundTrip() {
+        Map<Long, BigDecimal> amounts = new HashMap<>();
+        for (long investorId = 1; investorId <= 50; investorId++) {
+            amounts.put(investorId * 7, new BigDecimal("1234567.8912").multiply(BigDecimal.valueOf(investorId)));
+        }
+        amounts.put(Long.MAX_VALUE, new BigDecimal("0.0001"));
+
+        PieAllocation allocation = PieAllocation.of(amounts);
+        byte[] encoded = allocation.encode();
+
+        assertThat(PieAllocation.decode(encoded)).isEqualTo(allocation);
+        // 50投資家のピースが1行・数百バイトに収まる
+        assertThat(encoded.length).isLessThan(400);
+        assertThat(PieAllocation.decode(PieAllocation.EMPTY.encode())).isEqualTo(PieAllocation.EMPTY);
+    }
+
+    @Test
+    void testDecodeRejectsMalformedBytes() {
+        byte[] encoded = PieAllocation.of(Map.of(1L, BigDecimal.TEN)).encode();
+
+        assertThatThrownBy(() -> PieAllocation.decode(new byte[] { 9 }))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> PieAllocation.decode(java.util.Arrays.copyOf(encoded, encoded.length - 1)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void testSyncToUpdatesOnlyChangedEntries() {
+        BigDecimal unchanged = new BigDecimal("30.0000");
+        Map<Long, BigDecimal> entries = new HashMap<>(Map.of(
+                1L, unchanged,
+                2L, new BigDecimal("70.0000")));
+
+        PieAllocation.of(Map.of(1L, new BigDecimal("30"), 3L, new BigDecimal("70"))).syncTo(entries);
+
+        assertThat(entries).containsOnlyKeys(1L, 3L);
+        // 値が等しいエントリは置き換えない
+        assertThat(entries.get(1L)).isSameAs(unchanged);
+        assertThat(entries.get(3L)).isEqualByComparingTo("70");
+    }
+}
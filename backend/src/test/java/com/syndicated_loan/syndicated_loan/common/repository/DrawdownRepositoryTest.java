@@ -0,0 +1,142 @@
+package com.syndicated_loan.syndicated_loan.common.repository;
+
+import com.syndicated_loan.syndicated_loan.common.entity.AmountPie;
+import com.syndicated_loan.syndicated_loan.common.entity.Borrower;
+import com.syndicated_loan.syndicated_loan.common.entity.Drawdown;
+import com.syndicated_loan.syndicated_loan.common.entity.Facility;
+import com.syndicated_loan.syndicated_loan.common.entity.Investor;
+import com.syndicated_loan.syndicated_loan.common.entity.Loan;
+import com.syndicated_loan.syndicated_loan.common.entity.Syndicate;
+import com.syndicated_loan.syndicated_loan.common.testutil.QueryCountInspector;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ドローダウンの一覧取得で、DTO変換に必要な関連を読み込むSQL文の数が件数に依存しないことを検証するテスト。
+ */
+@DataJpaTest
+public class DrawdownRepositoryTest {
+
+    private static final int DRAWDOWNS_PER_FACILITY = 5;
+
+    @Autowired
+    private DrawdownRepository drawdownRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Facility facility1;
+
+    @BeforeEach
+    void setUp() {
+        Borrower borrower = new Borrower();
+        borrower.setName("Borrower");
+        borrower.setCompanyType("CORPORATION");
+        borrower.setIndustry("MANUFACTURING");
+        entityManager.persist(borrower);
+
+        Investor leadBank = new Investor();
+        leadBank.setName("Lead Bank");
+        leadBank.setType("BANK");
+        entityManager.persist(leadBank);
+
+        facility1 = persistFacility(borrower, leadBank);
+        Facility facility2 = persistFacility(borrower, leadBank);
+        for (int i = 0; i < DRAWDOWNS_PER_FACILITY; i++) {
+            persistDrawdown(facility1, leadBank, i);
+            persistDrawdown(facility2, leadBank, i);
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void testFindAllLoadsAssociationsInBoundedStatements() {
+        List<String> statements = QueryCountInspector.record(
+                () -> assertThat(drawdownRepository.findAll()).hasSize(DRAWDOWNS_PER_FACILITY * 2)
+                        .allSatisfy(this::touchDtoAssociations));
+
+        // 本体（エンティティグラフ）と、シンジケートのリード銀行（バッチフェッチ）の2回のみ
+        assertThat(statements).hasSize(2);
+    }
+
+    @Test
+    void testFindByRelatedFacilityLoadsAssociationsInBoundedStatements() {
+        Facility facility = entityManager.find(Facility.class, facility1.getId());
+
+        List<String> statements = QueryCountInspector.record(
+                () -> assertThat(drawdownRepository.findByRelatedFacility(facility)).hasSize(DRAWDOWNS_PER_FACILITY)
+                        .allSatisfy(this::touchDtoAssociations));
+
+        // ファシリティの関連は読み込み済みのため、本体の1回のみ
+        assertThat(statements).hasSize(1);
+    }
+
+    // DrawdownService#toDtoが参照する関連を読み込む
+    private void touchDtoAssociations(Drawdown drawdown) {
+        assertThat(drawdown.getRelatedPosition().getAmount()).isPositive();
+        assertThat(drawdown.getRelatedFacility().getSyndicate().getLeadBank().getName()).isEqualTo("Lead Bank");
+        assertThat(drawdown.getRelatedFacility().getBorrower().getName()).isEqualTo("Borrower");
+        assertThat(drawdown.getAmountPie().getAmounts()).hasSize(1);
+    }
+
+    private Facility persistFacility(Borrower borrower, Investor leadBank) {
+        Syndicate syndicate = new Syndicate();
+        syndicate.setLeadBank(leadBank);
+        syndicate.setTotalCommitment(new BigDecimal("10000000"));
+        entityManager.persist(syndicate);
+
+        Facility facility = new Facility();
+        facility.setBorrower(borrower);
+        facility.setSyndicate(syndicate);
+        facility.setAmount(new BigDecimal("10000000"));
+        facility.setTotalAmount(new BigDecimal("10000000"));
+        facility.setAvailableAmount(new BigDecimal("10000000"));
+        facility.setStartDate(LocalDate.of(2025, 1, 1));
+        facility.setTerm(12);
+        facility.setEndDate(LocalDate.of(2026, 1, 1));
+        facility.setInterestRate(new BigDecimal("2.5"));
+        return entityManager.persist(facility);
+    }
+
+    private void persistDrawdown(Facility facility, Investor investor, int index) {
+        BigDecimal amount = BigDecimal.valueOf(100000L * (index + 1));
+
+        Loan loan = new Loan();
+        loan.setBorrower(facility.getBorrower());
+        loan.setFacility(facility);
+        loan.setAmount(amount);
+        loan.setTotalAmount(amount);
+        loan.setAvailableAmount(amount);
+        loan.setStartDate(LocalDate.of(2025, 1, 1));
+        loan.setTerm(12);
+        loan.setEndDate(LocalDate.of(2026, 1, 1));
+        loan.setInterestRate(new BigDecimal("2.5"));
+        entityManager.persist(loan);
+
+        AmountPie amountPie = new AmountPie();
+        amountPie.setAmounts(Map.of(investor.getId(), amount));
+        entityManager.persist(amountPie);
+
+        Drawdown drawdown = new Drawdown();
+        drawdown.setRelatedFacility(facility);
+        drawdown.setRelatedPosition(loan);
+        drawdown.setAmountPie(amountPie);
+        drawdown.setDate(LocalDateTime.of(2025, 1, 20, 0, 0).plusDays(index));
+        drawdown.setAmount(amount);
+        drawdown.setDrawdownAmount(amount);
+        entityManager.persist(drawdown);
+    }
+}
@@ -0,0 +1,250 @@
+package com.syndicated_loan.syndicated_loan.common.repository;
+
+import com.syndicated_loan.syndicated_loan.common.dto.BorrowerDto;
+import com.syndicated_loan.syndicated_loan.common.dto.DrawdownDto;
+import com.syndicated_loan.syndicated_loan.common.dto.FacilityDto;
+import com.syndicated_loan.syndicated_loan.common.dto.InvestorDto;
+import com.syndicated_loan.syndicated_loan.common.dto.PrincipalPaymentDto;
+import com.syndicated_loan.syndicated_loan.common.dto.SyndicateDto;
+import com.syndicated_loan.syndicated_loan.common.service.DrawdownService;
+import com.syndicated_loan.syndicated_loan.common.service.PrincipalPaymentService;
+import com.syndicated_loan.syndicated_loan.common.testutil.QueryCountInspector;
+import com.syndicated_loan.syndicated_loan.common.testutil.TestDataBuilder;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.repository.Repository;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * リポジトリの検索メソッドが発行するSQLの実行計画（H2のEXPLAIN）を確認し、
+ * 索引を使わない全件走査が含まれていないことを検証するテスト。
+ * 検索メソッドはリポジトリのインターフェースから列挙するため、新しく宣言した検索メソッドも自動的に検証の対象となります。
+ */
+@SpringBootTest
+public class RepositoryIndexUsageTest {
+
+    private static final int INVESTOR_COUNT = 5;
+    private static final int DRAWDOWN_COUNT = 3;
+    private static final int PRINCIPAL_PAYMENT_COUNT = 12;
+
+    // 全件走査を許容する検索メソッドとその理由（findAllは全件の一覧取得のため対象外とする）
+    private static final Map<String, String> FULL_SCAN_ALLOWED = Map.of(
+            "InvestorRepository.findByNameContaining", "中間一致のLIKEは索引で絞り込めない",
+            "BorrowerRepository.findByNameContaining", "中間一致のLIKEは索引で絞り込めない",
+            "SyndicateRepository.findByMinimumMembers", "メンバー数の集計が条件のため、全シンジケートが対象となる",
+            "AmountPieRepository.findWithoutAllocation", "移行処理で対象が無くなるまで読み込む",
+            "SharePieRepository.findWithoutAllocation", "移行処理で対象が無くなるまで読み込む",
+            "FacilitySummaryRepository.sumPortfolio", "ファシリティごとに1行の集計テーブル全体の合計");
+
+    // H2の実行計画で、テーブルの全件走査（tableScan）または条件の無い索引の走査を表すコメント
+    // （索引の端の1件を読むMIN/MAXの直接参照（direct lookup）は走査ではないため除く）
+    private static final Pattern FULL_SCAN = Pattern.compile(
+            "/\\* PUBLIC\\.[A-Z0-9_]+\\.tableScan\\b[^*]*\\*/|/\\* PUBLIC\\.[A-Z0-9_]+ \\*/(?!\\s*/\\* direct lookup \\*/)");
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Autowired
+    private TestDataBuilder testDataBuilder;
+
+    @Autowired
+    private DrawdownService drawdownService;
+
+    @Autowired
+    private PrincipalPaymentService principalPaymentService;
+
+    @Autowired
+    private DrawdownRepository drawdownRepository;
+
+    @Autowired
+    private LoanRepository loanRepository;
+
+    @Autowired
+    private FacilityRepository facilityRepository;
+
+    @Autowired
+    private SyndicateRepository syndicateRepository;
+
+    @Autowired
+    private InvestorRepository investorRepository;
+
+    @Autowired
+    private BorrowerRepository borrowerRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // 検索メソッドの引数に渡すエンティティ（引数の型に代入可能な最初のものを使う）
+    private final List<Object> entityArguments = new ArrayList<>();
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        Map<String, Object> testData = testDataBuilder.getTestDataForScaledDrawdown(INVESTOR_COUNT, 12);
+        FacilityDto facility = (FacilityDto) testData.get("facility");
+        List<InvestorDto> investors = (List<InvestorDto>) testData.get("investors");
+        SyndicateDto syndicate = (SyndicateDto) testData.get("syndicate");
+        BorrowerDto borrower = (BorrowerDto) testData.get("borrower");
+
+        DrawdownDto drawdown = null;
+        for (int i = 0; i < DRAWDOWN_COUNT; i++) {
+            drawdown = drawdownService.create(
+                    testDataBuilder.buildDrawdown(facility, investors, new BigDecimal("1000000")));
+        }
+        Long loanId = drawdown.getRelatedPositionId();
+        for (int i = 0; i < PRINCIPAL_PAYMENT_COUNT; i++) {
+            PrincipalPaymentDto principalPayment = new PrincipalPaymentDto();
+            principalPayment.setLoanId(loanId);
+            principalPayment.setRelatedPositionId(loanId);
+            principalPayment.setDate(LocalDateTime.now().plusMonths(i + 1));
+            principalPayment.setAmount(new BigDecimal("10000"));
+            principalPayment.setPaymentAmount(new BigDecimal("10000"));
+            principalPaymentService.create(principalPayment);
+        }
+
+        entityArguments.add(drawdownRepository.findById(drawdown.getId()).orElseThrow());
+        entityArguments.add(facilityRepository.findById(facility.getId()).orElseThrow());
+        entityArguments.add(loanRepository.findById(loanId).orElseThrow());
+        entityArguments.add(syndicateRepository.findById(syndicate.getId()).orElseThrow());
+        entityArguments.add(investorRepository.findById(investors.get(0).getId()).orElseThrow());
+        entityArguments.add(borrowerRepository.findById(borrower.getId()).orElseThrow());
+    }
+
+    @AfterEach
+    void tearDown() {
+        testDataBuilder.cleanupAll();
+    }
+
+    @Test
+    void testRepositoryFindersDoNotScanWholeTables() {
+        List<String> fullScans = new ArrayList<>();
+        int finderCount = 0;
+        for (Object repository : applicationContext.getBeansOfType(Repository.class).values()) {
+            for (Class<?> repositoryInterface : AopProxyUtils.proxiedUserInterfaces(repository)) {
+                if (!repositoryInterface.getPackageName().equals(getClass().getPackageName())) {
+                    continue;
+                }
+                for (Method method : repositoryInterface.getMethods()) {
+                    String finderName = repositoryInterface.getSimpleName() + "." + method.getName();
+                    if (!isFinder(method) || FULL_SCAN_ALLOWED.containsKey(finderName)) {
+                        continue;
+                    }
+                    finderCount++;
+                    for (String sql : QueryCountInspector.record(() -> invoke(repository, method))) {
+                        Matcher matcher = FULL_SCAN.matcher(explain(sql));
+                        while (matcher.find()) {
+                            fullScans.add(finderName + " -> " + matcher.group());
+                        }
+                    }
+                }
+            }
+        }
+
+        assertThat(finderCount).isPositive();
+        assertThat(fullScans).isEmpty();
+    }
+
+    // このパッケージで宣言した検索メソッド（更新系のメソッドとfindAllは除く）
+    private boolean isFinder(Method method) {
+        return method.getDeclaringClass().getPackageName().equals(getClass().getPackageName())
+                && method.getName().matches("(find|count|exists|sum).*")
+                && !method.getName().equals("findAll");
+    }
+
+    private void invoke(Object repository, Method method) {
+        Class<?>[] parameterTypes = method.getParameterTypes();
+        Object[] args = new Object[parameterTypes.length];
+        for (int i = 0; i < parameterTypes.length; i++) {
+            args[i] = argument(parameterTypes[i]);
+        }
+        try {
+            method.invoke(repository, args);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalStateException("Failed to invoke " + method, e);
+        }
+    }
+
+    private Object argument(Class<?> type) {
+        if (type == Long.class || type == long.class) {
+            return 1L;
+        }
+        if (type == Integer.class || type == int.class) {
+            return 1;
+        }
+        if (type == BigDecimal.class) {
+            return BigDecimal.ONE;
+        }
+        if (type == LocalDate.class) {
+            return LocalDate.now();
+        }
+        if (type == LocalDateTime.class) {
+            return LocalDateTime.now();
+        }
+        if (type == String.class) {
+            return "X";
+        }
+        if (type == Pageable.class) {
+            return PageRequest.of(0, 10);
+        }
+        if (Collection.class.isAssignableFrom(type)) {
+            return List.of(1L);
+        }
+        if (type.isEnum()) {
+            return type.getEnumConstants()[0];
+        }
+        return entityArguments.stream()
+                .filter(type::isInstance)
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("No test argument for " + type));
+    }
+
+    // パラメータにNULLを渡すと条件が定数に畳み込まれるため、型に応じた値を渡して実行計画を得る
+    private String explain(String sql) {
+        return jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+            try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+                var metaData = statement.getParameterMetaData();
+                for (int i = 1; i <= metaData.getParameterCount(); i++) {
+                    switch (metaData.getParameterType(i)) {
+                        case Types.VARCHAR -> statement.setString(i, "X");
+                        case Types.DATE -> statement.setDate(i, Date.valueOf(LocalDate.now()));
+                        case Types.TIMESTAMP -> statement.setTimestamp(i, Timestamp.valueOf(LocalDateTime.now()));
+                        case Types.NUMERIC, Types.DECIMAL -> statement.setBigDecimal(i, BigDecimal.ONE);
+                        default -> statement.setLong(i, 1L);
+                    }
+                }
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    resultSet.next();
+                    return resultSet.getString(1);
+                }
+            }
+        });
+    }
+}
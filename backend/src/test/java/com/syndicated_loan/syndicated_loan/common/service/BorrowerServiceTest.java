@@ -1,6 +1,8 @@
 package com.syndicated_loan.syndicated_loan.common.service;
 
 import com.syndicated_loan.syndicated_loan.common.dto.BorrowerDto;
+import com.syndicated_loan.syndicated_loan.common.dto.CursorPageDto;
+import com.syndicated_loan.syndicated_loan.common.testutil.ExpectedQueries;
 import com.syndicated_loan.syndicated_loan.common.testutil.TestDataBuilder;
 import com.syndicated_loan.syndicated_loan.common.exception.BusinessException;
 
@@ -9,7 +11,11 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -41,6 +47,7 @@ class BorrowerServiceTest {
     }
     
     @Test
+    @ExpectedQueries(max = 1)
     void testFindAll() {
         List<BorrowerDto> borrowers = borrowerService.findAll();
         
@@ -66,6 +73,72 @@ class BorrowerServiceTest {
         assertThat(secondBorrower.getContactInformation()).contains("testContactInformation2");
     }
 
+    @Test
+    void testFindAllWithPageable() {
+        Page<BorrowerDto> firstPage = borrowerService.findAll(PageRequest.of(0, 1, Sort.by("id")));
+        assertThat(firstPage.getTotalElements()).isEqualTo(2);
+        assertThat(firstPage.getContent()).hasSize(1);
+        assertThat(firstPage.getContent().get(0).getName()).isEqualTo("Intel Corporation");
+
+        Page<BorrowerDto> secondPage = borrowerService.findAll(PageRequest.of(1, 1, Sort.by("id")));
+        assertThat(secondPage.getContent()).hasSize(1);
+        assertThat(secondPage.getContent().get(0).getName()).isEqualTo("TestBorrower2");
+        assertThat(secondPage.hasNext()).isFalse();
+    }
+
+    @Test
+    @ExpectedQueries(max = 2)
+    void testSearch() {
+        List<BorrowerDto> borrowers = borrowerService.search(null, "B+", "Technology", "CORPORATION");
+        assertThat(borrowers).hasSize(1);
+        assertThat(borrowers.get(0).getName()).isEqualTo("TestBorrower2");
+
+        // 空文字の条件は指定なしとして扱う
+        assertThat(borrowerService.search("", "", "Technology", null)).hasSize(2);
+    }
+
+    @Test
+    void testSearchWithPageable() {
+        Page<BorrowerDto> page = borrowerService.search(null, null, "Technology", "CORPORATION",
+                PageRequest.of(0, 1, Sort.by(Sort.Direction.DESC, "name")));
+        assertThat(page.getTotalElements()).isEqualTo(2);
+        assertThat(page.getContent()).hasSize(1);
+        assertThat(page.getContent().get(0).getName()).isEqualTo("TestBorrower2");
+    }
+
+    @Test
+    void testFindAllAfterCursor() {
+        // 先頭ページ
+        CursorPageDto<BorrowerDto, Long> firstPage = borrowerService.findAllAfter(null, 1);
+        assertThat(firstPage.getContent()).hasSize(1);
+        assertThat(firstPage.getContent().get(0).getName()).isEqualTo("Intel Corporation");
+        assertThat(firstPage.isHasNext()).isTrue();
+        assertThat(firstPage.getNextCursor()).isEqualTo(borrower1.getId());
+
+        // 次ページ
+        CursorPageDto<BorrowerDto, Long> secondPage = borrowerService.findAllAfter(firstPage.getNextCursor(), 1);
+        assertThat(secondPage.getContent()).hasSize(1);
+        assertThat(secondPage.getContent().get(0).getName()).isEqualTo("TestBorrower2");
+        assertThat(secondPage.isHasNext()).isFalse();
+    }
+
+    @Test
+    void testFindAllAfterInvalidSize() {
+        assertThatThrownBy(() -> borrowerService.findAllAfter(null, 0))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("Size must be between 1 and 1000");
+    }
+
+    @Test
+    @ExpectedQueries(max = 1)
+    void testStreamAll() {
+        List<List<String>> chunks = new ArrayList<>();
+        borrowerService.streamAll(1, chunk -> chunks.add(chunk.stream().map(BorrowerDto::getName).toList()));
+
+        // チャンクサイズごとにID順で渡されることを検証
+        assertThat(chunks).containsExactly(List.of("Intel Corporation"), List.of("TestBorrower2"));
+    }
+
     @Test
     void testFindById() {
         Optional<BorrowerDto> borrowerOpt = borrowerService.findById(borrower1.getId());  // 保存したIDを使用
@@ -2,10 +2,12 @@ package com.syndicated_loan.syndicated_loan.common.service;
 
 import com.syndicated_loan.syndicated_loan.common.dto.AmountPieDto;
 import com.syndicated_loan.syndicated_loan.common.dto.DrawdownDto;
+import com.syndicated_loan.syndicated_loan.common.dto.DrawdownExecutionResultDto;
 import com.syndicated_loan.syndicated_loan.common.dto.FacilityDto;
 import com.syndicated_loan.syndicated_loan.common.dto.FacilityInvestmentDto;
 import com.syndicated_loan.syndicated_loan.common.dto.InvestorDto;
 import com.syndicated_loan.syndicated_loan.common.exception.BusinessException;
+import com.syndicated_loan.syndicated_loan.common.testutil.ExpectedQueries;
 import com.syndicated_loan.syndicated_loan.common.testutil.TestDataBuilder;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -16,10 +18,15 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -67,6 +74,7 @@ public class DrawdownServiceTest {
     }
 
     @Test
+    @ExpectedQueries(max = 21)
     void testFindAll() {
 
         // 1件目のDrawdownテストデータ
@@ -103,6 +111,28 @@ public class DrawdownServiceTest {
         assertThat(secondDrawdown.getDate()).isEqualTo(LocalDateTime.of(2025, 2, 20, 0, 0, 0));
     }
 
+    @Test
+    @ExpectedQueries(max = 44)
+    void testStreamAll() {
+        // ファシリティを交互に指定して5件のDrawdownを作成
+        for (int i = 0; i < 5; i++) {
+            DrawdownDto drawdown = new DrawdownDto();
+            drawdown.setRelatedFacilityId(i % 2 == 0 ? savedFacility1.getId() : savedFacility2.getId());
+            drawdown.setDrawdownAmount(new BigDecimal("1000000"));
+            drawdown.setDate(LocalDateTime.of(2025, 1, 20, 0, 0, 0).plusDays(i));
+            drawdown.setRelatedPositionId(savedFacilityInvestment1.getRelatedPositionId());
+            drawdownService.create(drawdown);
+        }
+
+        List<List<DrawdownDto>> chunks = new ArrayList<>();
+        drawdownService.streamAll(2, chunks::add);
+
+        // チャンク間で永続化コンテキストがクリアされても全件が変換されることを検証
+        assertThat(chunks).extracting(List::size).containsExactly(2, 2, 1);
+        assertThat(chunks.get(2).get(0).getRelatedFacilityId()).isEqualTo(savedFacility1.getId());
+        assertThat(chunks.get(1).get(1).getRelatedFacilityId()).isEqualTo(savedFacility2.getId());
+    }
+
     @Test
     void testFindById() {
 
@@ -228,6 +258,7 @@ public class DrawdownServiceTest {
     }
 
     @Test
+    @ExpectedQueries(max = 25)
     void testFindByFacility() {
         // 1件目のDrawdown作成
         DrawdownDto drawdown1 = new DrawdownDto();
@@ -277,6 +308,7 @@ public class DrawdownServiceTest {
     }
 
     @Test
+    @ExpectedQueries(max = 21)
     void testExecuteDrawdown_UpdatesInvestorCurrentInvestments() {
         // Drawdownを作成
         DrawdownDto drawdown = new DrawdownDto();
@@ -313,6 +345,115 @@ public class DrawdownServiceTest {
                 .isEqualByComparingTo(member1InitialInvestment.add(BigDecimal.valueOf(1400000)));
     }
 
+    @Test
+    @ExpectedQueries(max = 65)
+    void testExecuteDrawdowns_GroupsByFacility() {
+        // ファシリティ1: 合計350万（利用可能額500万以内）
+        DrawdownDto facility1Drawdown1 = createDrawdownWithAmountPie(savedFacility1, "2000000", 600000, 1400000);
+        DrawdownDto facility1Drawdown2 = createDrawdownWithAmountPie(savedFacility1, "1500000", 450000, 1050000);
+        // ファシリティ2: 合計400万（利用可能額300万を超過）
+        DrawdownDto facility2Drawdown1 = createDrawdownWithAmountPie(savedFacility2, "2000000", 1000000, 1000000);
+        DrawdownDto facility2Drawdown2 = createDrawdownWithAmountPie(savedFacility2, "2000000", 1000000, 1000000);
+
+        List<DrawdownExecutionResultDto> results = drawdownService.executeDrawdowns(List.of(
+                facility1Drawdown1.getId(), facility2Drawdown1.getId(), 999L,
+                facility1Drawdown2.getId(), facility2Drawdown2.getId()));
+
+        // 要求された順に1件ずつ結果が返ることを検証
+        assertThat(results).extracting(DrawdownExecutionResultDto::getDrawdownId).containsExactly(
+                facility1Drawdown1.getId(), facility2Drawdown1.getId(), 999L,
+                facility1Drawdown2.getId(), facility2Drawdown2.getId());
+        assertThat(results).extracting(DrawdownExecutionResultDto::isExecuted)
+                .containsExactly(true, false, false, true, false);
+        assertThat(results.get(1).getErrorCode()).isEqualTo("INSUFFICIENT_AVAILABLE_AMOUNT");
+        assertThat(results.get(2).getErrorCode()).isEqualTo("DRAWDOWN_NOT_FOUND");
+        assertThat(results.get(4).getErrorCode()).isEqualTo("INSUFFICIENT_AVAILABLE_AMOUNT");
+
+        // ファシリティ1の利用可能額は合計額分だけ減少し、ファシリティ2は変化しない
+        assertThat(results.get(3).getDrawdown().getRemainingFacilityAmount())
+                .isEqualByComparingTo(new BigDecimal("1500000"));
+        assertThat(drawdownService.findById(facility2Drawdown1.getId()).orElseThrow().getRemainingFacilityAmount())
+                .isEqualByComparingTo(new BigDecimal("3000000"));
+
+        // 成功したドローダウンの配分のみ投資家の投資額に反映される
+        assertThat(investorService.findById(leadBank1.getId()).orElseThrow().getCurrentInvestments())
+                .isEqualByComparingTo(leadBank1.getCurrentInvestments().add(BigDecimal.valueOf(1050000)));
+        assertThat(investorService.findById(member1.getId()).orElseThrow().getCurrentInvestments())
+                .isEqualByComparingTo(member1.getCurrentInvestments().add(BigDecimal.valueOf(2450000)));
+
+        // 実行済みのドローダウンは再実行できない
+        List<DrawdownExecutionResultDto> retried = drawdownService.executeDrawdowns(List.of(facility1Drawdown1.getId()));
+        assertThat(retried.get(0).isExecuted()).isFalse();
+        assertThat(retried.get(0).getErrorCode()).isEqualTo("DRAWDOWN_ALREADY_EXECUTED");
+    }
+
+    @Test
+    void testExecuteDrawdowns_EmptyIds() {
+        assertThatThrownBy(() -> drawdownService.executeDrawdowns(List.of()))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("Drawdown ids cannot be empty");
+    }
+
+    @Test
+    void testExecuteDrawdowns_ConcurrentBatchesSharingDrawdown() throws Exception {
+        // 同じドローダウンを含む一括実行を同時に行う
+        int batches = 4;
+        DrawdownDto shared = createDrawdownWithAmountPie(savedFacility1, "1000000", 300000, 700000);
+        List<Long> ownIds = new ArrayList<>();
+        for (int i = 0; i < batches; i++) {
+            ownIds.add(createDrawdownWithAmountPie(savedFacility1, "500000", 150000, 350000).getId());
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(batches);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<List<DrawdownExecutionResultDto>>> futures = new ArrayList<>();
+        try {
+            for (Long ownId : ownIds) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return drawdownService.executeDrawdowns(List.of(shared.getId(), ownId));
+                }));
+            }
+            start.countDown();
+            List<DrawdownExecutionResultDto> sharedResults = new ArrayList<>();
+            for (Future<List<DrawdownExecutionResultDto>> future : futures) {
+                // 一括実行全体が競合で失敗せず、自身のドローダウンは実行される
+                List<DrawdownExecutionResultDto> results = future.get();
+                sharedResults.add(results.get(0));
+                assertThat(results.get(1).isExecuted()).isTrue();
+            }
+
+            // 共有したドローダウンは1度だけ実行され、他の一括実行では実行済みとして差し戻される
+            assertThat(sharedResults).filteredOn(DrawdownExecutionResultDto::isExecuted).hasSize(1);
+            assertThat(sharedResults).filteredOn(result -> !result.isExecuted())
+                    .extracting(DrawdownExecutionResultDto::getErrorCode)
+                    .containsOnly("DRAWDOWN_ALREADY_EXECUTED")
+                    .hasSize(batches - 1);
+        } finally {
+            executor.shutdown();
+        }
+        assertThat(investorService.findById(leadBank1.getId()).orElseThrow().getCurrentInvestments())
+                .isEqualByComparingTo(leadBank1.getCurrentInvestments().add(BigDecimal.valueOf(900000)));
+    }
+
+    // leadBank1/member1への配分を持つドローダウンを作成
+    private DrawdownDto createDrawdownWithAmountPie(FacilityDto facility, String drawdownAmount,
+            long leadBankAmount, long memberAmount) {
+        AmountPieDto amountPie = new AmountPieDto();
+        Map<Long, BigDecimal> amounts = new HashMap<>();
+        amounts.put(leadBank1.getId(), BigDecimal.valueOf(leadBankAmount));
+        amounts.put(member1.getId(), BigDecimal.valueOf(memberAmount));
+        amountPie.setAmounts(amounts);
+
+        DrawdownDto drawdown = new DrawdownDto();
+        drawdown.setRelatedFacilityId(facility.getId());
+        drawdown.setDrawdownAmount(new BigDecimal(drawdownAmount));
+        drawdown.setDate(LocalDateTime.of(2025, 1, 31, 14, 0, 0));
+        drawdown.setRelatedPositionId(savedFacilityInvestment1.getRelatedPositionId());
+        drawdown.setAmountPie(amountPie);
+        return drawdownService.create(drawdown);
+    }
+
     @Test
     void testUpdateDrawdownAmount_Success() {
         // Drawdownを作成
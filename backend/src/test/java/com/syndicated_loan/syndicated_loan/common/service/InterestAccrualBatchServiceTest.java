@@ -0,0 +1,111 @@
+package com.syndicated_loan.syndicated_loan.common.service;
+
+import com.syndicated_loan.syndicated_loan.common.dto.AccrualRunResultDto;
+import com.syndicated_loan.syndicated_loan.common.dto.FacilityDto;
+import com.syndicated_loan.syndicated_loan.common.dto.InvestorDto;
+import com.syndicated_loan.syndicated_loan.common.entity.AccrualCheckpoint;
+import com.syndicated_loan.syndicated_loan.common.entity.InterestAccrual;
+import com.syndicated_loan.syndicated_loan.common.repository.AccrualCheckpointRepository;
+import com.syndicated_loan.syndicated_loan.common.repository.InterestAccrualRepository;
+import com.syndicated_loan.syndicated_loan.common.testutil.TestDataBuilder;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+public class InterestAccrualBatchServiceTest {
+
+    @Autowired
+    private InterestAccrualBatchService interestAccrualBatchService;
+
+    @Autowired
+    private InterestAccrualRepository interestAccrualRepository;
+
+    @Autowired
+    private AccrualCheckpointRepository accrualCheckpointRepository;
+
+    @Autowired
+    private DrawdownService drawdownService;
+
+    @Autowired
+    private TestDataBuilder testDataBuilder;
+
+    private Long loanId1;
+    private Long loanId2;
+    private BigDecimal interestRate;
+
+    // ローンは本日開始のため、本日から計上対象となる
+    private final LocalDate accrualDate = LocalDate.now();
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        Map<String, Object> testData = testDataBuilder.getTestDataForScaledDrawdown(2, 60);
+        FacilityDto facility = (FacilityDto) testData.get("facility");
+        List<InvestorDto> investors = (List<InvestorDto>) testData.get("investors");
+        interestRate = facility.getInterestRate();
+
+        loanId1 = drawdownService.create(testDataBuilder.buildDrawdown(facility, investors, new BigDecimal("1000000")))
+                .getRelatedPositionId();
+        loanId2 = drawdownService.create(testDataBuilder.buildDrawdown(facility, investors, new BigDecimal("3000000")))
+                .getRelatedPositionId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        testDataBuilder.cleanupAll();
+    }
+
+    @Test
+    void testRun_AccruesDailyInterestOnce() {
+        AccrualRunResultDto result = interestAccrualBatchService.run(accrualDate);
+
+        assertThat(result.getStatus()).isEqualTo("COMPLETED");
+        assertThat(result.getRowsWritten()).isEqualTo(2);
+        assertThat(result.getRowsPerSecond()).isPositive();
+        // ACTUAL/365で1日分
+        List<InterestAccrual> accruals = interestAccrualRepository.findByLoan_IdOrderByAccrualDate(loanId2);
+        assertThat(accruals).singleElement().satisfies(accrual -> assertThat(accrual.getAccruedAmount())
+                .isEqualByComparingTo(new BigDecimal("3000000").multiply(interestRate)
+                        .divide(BigDecimal.valueOf(36500), 4, RoundingMode.HALF_UP)));
+
+        // 完了済みの計上日は再実行しても計上しない
+        AccrualRunResultDto rerun = interestAccrualBatchService.run(accrualDate);
+        assertThat(rerun.getRowsWritten()).isZero();
+        assertThat(rerun.getTotalRowsWritten()).isEqualTo(2);
+        assertThat(interestAccrualRepository.countByAccrualDate(accrualDate)).isEqualTo(2);
+    }
+
+    @Test
+    void testRun_ResumesFromCheckpoint() {
+        // 1件目のローンまで処理済みで中断した状態
+        AccrualCheckpoint checkpoint = new AccrualCheckpoint();
+        checkpoint.setAccrualDate(accrualDate);
+        checkpoint.setLastLoanId(Math.min(loanId1, loanId2));
+        checkpoint.setRowsWritten(1L);
+        checkpoint.setUpdatedAt(LocalDateTime.now());
+        accrualCheckpointRepository.save(checkpoint);
+
+        AccrualRunResultDto result = interestAccrualBatchService.run(accrualDate);
+
+        assertThat(result.getResumedAfterLoanId()).isEqualTo(Math.min(loanId1, loanId2));
+        assertThat(result.getRowsWritten()).isEqualTo(1);
+        assertThat(result.getTotalRowsWritten()).isEqualTo(2);
+        assertThat(interestAccrualRepository.findByLoan_IdOrderByAccrualDate(Math.max(loanId1, loanId2)))
+                .hasSize(1);
+        assertThat(interestAccrualRepository.findByLoan_IdOrderByAccrualDate(Math.min(loanId1, loanId2)))
+                .isEmpty();
+    }
+}
@@ -0,0 +1,131 @@
+package com.syndicated_loan.syndicated_loan.common.service;
+
+import com.syndicated_loan.syndicated_loan.common.dto.FacilityDto;
+import com.syndicated_loan.syndicated_loan.common.dto.InterestPaymentDto;
+import com.syndicated_loan.syndicated_loan.common.dto.InvestorDto;
+import com.syndicated_loan.syndicated_loan.common.exception.BusinessException;
+import com.syndicated_loan.syndicated_loan.common.testutil.ExpectedQueries;
+import com.syndicated_loan.syndicated_loan.common.testutil.TestDataBuilder;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+@SpringBootTest
+public class InterestPaymentServiceTest {
+
+    @Autowired
+    private InterestPaymentService interestPaymentService;
+
+    @Autowired
+    private DrawdownService drawdownService;
+
+    @Autowired
+    private TestDataBuilder testDataBuilder;
+
+    private Long loanId1;
+    private Long loanId2;
+
+    // ローンは本日開始のため、最初の利払日は3ヶ月後
+    private final LocalDate firstInterestDate = LocalDate.now().plusMonths(3);
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        Map<String, Object> testData = testDataBuilder.getTestDataForScaledDrawdown(3, 60);
+        FacilityDto facility = (FacilityDto) testData.get("facility");
+        List<InvestorDto> investors = (List<InvestorDto>) testData.get("investors");
+
+        loanId1 = drawdownService.create(testDataBuilder.buildDrawdown(facility, investors, new BigDecimal("1000000")))
+                .getRelatedPositionId();
+        loanId2 = drawdownService.create(testDataBuilder.buildDrawdown(facility, investors, new BigDecimal("3000000")))
+                .getRelatedPositionId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        testDataBuilder.cleanupAll();
+    }
+
+    @Test
+    void testCreate() {
+        InterestPaymentDto interestPayment = new InterestPaymentDto();
+        interestPayment.setLoanId(loanId2);
+        interestPayment.setDate(firstInterestDate.atStartOfDay());
+
+        InterestPaymentDto created = interestPaymentService.create(interestPayment);
+
+        assertThat(created.getLoanId()).isEqualTo(loanId2);
+        // 初回の利息期間はローンの開始日から利払日まで
+        assertThat(created.getInterestStartDate()).isEqualTo(created.getLoan().getStartDate());
+        assertThat(created.getInterestEndDate()).isEqualTo(firstInterestDate);
+        assertThat(created.getDaysInPeriod()).isPositive();
+        assertThat(created.getAmountPie().getTotalAmount()).isEqualByComparingTo(created.getAmount());
+    }
+
+    @Test
+    void testCalculateAndUpdatePaymentAmount() {
+        InterestPaymentDto interestPayment = new InterestPaymentDto();
+        interestPayment.setLoanId(loanId2);
+        interestPayment.setDate(firstInterestDate.atStartOfDay());
+        InterestPaymentDto created = interestPaymentService.create(interestPayment);
+
+        // 再計算した利息は返済スケジュールから作成した利息と一致する（年利は%として扱う）
+        InterestPaymentDto recalculated = interestPaymentService.calculateAndUpdatePaymentAmount(created.getId());
+        assertThat(recalculated.getPaymentAmount()).isPositive()
+                .isEqualByComparingTo(created.getPaymentAmount());
+        assertThat(recalculated.getPaymentAmount()).isLessThan(recalculated.getBaseAmount()
+                .multiply(recalculated.getInterestRate()).divide(BigDecimal.valueOf(100)));
+    }
+
+    @Test
+    // 作成済みの利息支払いの確認はローン数によらず1回のクエリ
+    @ExpectedQueries(max = 18)
+    void testCreateForLoans() {
+        List<InterestPaymentDto> created = interestPaymentService.createForLoans(
+                List.of(loanId2, loanId1), firstInterestDate);
+
+        // 指定順に作成され、利息はローン金額に比例する
+        assertThat(created).extracting(InterestPaymentDto::getLoanId).containsExactly(loanId2, loanId1);
+        assertThat(created.get(0).getAmount())
+                .isCloseTo(created.get(1).getAmount().multiply(BigDecimal.valueOf(3)), within(new BigDecimal("0.001")));
+        created.forEach(payment -> assertThat(payment.getAmountPie().getTotalAmount())
+                .isEqualByComparingTo(payment.getAmount()));
+    }
+
+    @Test
+    void testCreateForLoans_SkipsDuplicatesAndExistingPayments() {
+        // 重複したローンIDは1件のみ作成する
+        assertThat(interestPaymentService.createForLoans(List.of(loanId1, loanId1), firstInterestDate))
+                .extracting(InterestPaymentDto::getLoanId).containsExactly(loanId1);
+
+        // 再送しても作成済みのローンの利息支払いは二重に作成しない
+        assertThat(interestPaymentService.createForLoans(List.of(loanId1, loanId2), firstInterestDate))
+                .extracting(InterestPaymentDto::getLoanId).containsExactly(loanId2);
+        assertThat(interestPaymentService.createForLoans(List.of(loanId2, loanId1), firstInterestDate)).isEmpty();
+        assertThat(interestPaymentService.findByLoan(loanId1)).hasSize(1);
+        assertThat(interestPaymentService.findByLoan(loanId2)).hasSize(1);
+    }
+
+    @Test
+    void testCreateForLoans_ScheduleNotFound() {
+        assertThatThrownBy(() -> interestPaymentService.createForLoans(
+                List.of(loanId1), firstInterestDate.plusDays(1)))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("Interest schedule not found for loan: " + loanId1);
+        assertThatThrownBy(() -> interestPaymentService.createForLoans(List.of(), firstInterestDate))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("Loan ids cannot be empty");
+    }
+}
@@ -8,9 +8,15 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 
 import com.syndicated_loan.syndicated_loan.common.dto.InvestorDto;
+import com.syndicated_loan.syndicated_loan.common.exception.BusinessException;
+import com.syndicated_loan.syndicated_loan.common.testutil.ExpectedQueries;
 import com.syndicated_loan.syndicated_loan.common.testutil.TestDataBuilder;
 
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
 
 import java.util.List;
 import java.util.Map;
@@ -29,6 +35,12 @@ public class InvestorServiceTest {
     @Autowired
     private InvestorService investorService;
 
+    @Autowired
+    private InvestorExposureLedger exposureLedger;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     private InvestorDto savedInvestor;
 
     @BeforeEach
@@ -43,6 +55,7 @@ public class InvestorServiceTest {
     }
 
     @Test
+    @ExpectedQueries(max = 1)
     void testFindAll() {
         List<InvestorDto> investors = investorService.findAll();
 
@@ -144,6 +157,71 @@ public class InvestorServiceTest {
         assertThat(savedInvestor.getVersion()).isEqualTo(2L);
     }
 
+    @Test
+    void testAdjustCurrentInvestments() {
+        investorService.adjustCurrentInvestments(Map.of(savedInvestor.getId(), BigDecimal.valueOf(1500)), BigDecimal.ONE);
+        investorService.adjustCurrentInvestments(Map.of(savedInvestor.getId(), BigDecimal.valueOf(500)), BigDecimal.valueOf(-1));
+
+        // 加算がDBに反映され、バージョンも更新されていることを検証
+        InvestorDto investor = investorService.findById(savedInvestor.getId()).orElseThrow();
+        assertThat(investor.getCurrentInvestments()).isEqualByComparingTo(BigDecimal.valueOf(1000));
+        assertThat(investor.getVersion()).isEqualTo(savedInvestor.getVersion() + 2);
+        assertThat(investorService.getCurrentExposure(savedInvestor.getId()))
+                .hasValueSatisfying(exposure -> assertThat(exposure).isEqualByComparingTo(BigDecimal.valueOf(1000)));
+    }
+
+    @Test
+    void testGetCurrentExposureAfterUpdate() {
+        assertThat(investorService.getCurrentExposure(savedInvestor.getId()))
+                .hasValueSatisfying(exposure -> assertThat(exposure).isEqualByComparingTo(BigDecimal.ZERO));
+
+        // 投資家を直接更新した場合も最新の投資額が返ることを検証
+        savedInvestor.setCurrentInvestments(BigDecimal.valueOf(2000));
+        investorService.update(savedInvestor.getId(), savedInvestor);
+
+        assertThat(investorService.getCurrentExposure(savedInvestor.getId()))
+                .hasValueSatisfying(exposure -> assertThat(exposure).isEqualByComparingTo(BigDecimal.valueOf(2000)));
+        assertThat(investorService.getCurrentExposure(999L)).isEmpty();
+    }
+
+    @Test
+    void testGetCurrentExposureReadsDatabaseNotSecondLevelCache() {
+        // 二次キャッシュに投資家を読み込んでおく
+        investorService.findById(savedInvestor.getId());
+        assertThat(investorService.getCurrentExposure(savedInvestor.getId()))
+                .hasValueSatisfying(exposure -> assertThat(exposure).isEqualByComparingTo(BigDecimal.ZERO));
+
+        // 二次キャッシュを破棄せずに更新しても、破棄後の読み込みはデータベースの値を返す
+        jdbcTemplate.update("UPDATE investor SET current_investments = ? WHERE id = ?",
+                BigDecimal.valueOf(3000), savedInvestor.getId());
+        exposureLedger.invalidate(savedInvestor.getId());
+
+        assertThat(investorService.getCurrentExposure(savedInvestor.getId()))
+                .hasValueSatisfying(exposure -> assertThat(exposure).isEqualByComparingTo(BigDecimal.valueOf(3000)));
+    }
+
+    @Test
+    void testCommittedExposuresAreBoundedByMaxInvestors() {
+        ExposureLedgerProperties properties = new ExposureLedgerProperties();
+        properties.setMaxInvestors(2);
+        InvestorExposureLedger ledger = new InvestorExposureLedger(jdbcTemplate, properties);
+
+        // 上限を超えた投資家の投資額は破棄され、参照した投資家すべてを保持し続けない
+        List<InvestorDto> investors = investorService.findAll();
+        for (InvestorDto investor : investors) {
+            assertThat(ledger.getExposure(investor.getId())).isPresent();
+        }
+        assertThat(ledger.cachedInvestors()).isLessThanOrEqualTo(2);
+        assertThat(ledger.getExposure(999L)).isEmpty();
+    }
+
+    @Test
+    void testAdjustCurrentInvestmentsInvestorNotFound() {
+        assertThatThrownBy(() -> investorService.adjustCurrentInvestments(Map.of(999L, BigDecimal.TEN), BigDecimal.ONE))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("Investor not found");
+    }
+
     @Test
     void testDelete() {
         assertThatCode(() -> investorService.delete(savedInvestor.getId())).doesNotThrowAnyException();
@@ -159,6 +237,7 @@ public class InvestorServiceTest {
     }
 
     @Test
+    @ExpectedQueries(max = 1)
     void testSearch() {
         List<InvestorDto> investors = investorService.search("リード銀行1", "銀行", BigDecimal.valueOf(10000000));
         assertThat(investors).hasSize(1);
@@ -171,6 +250,20 @@ public class InvestorServiceTest {
         assertThat(investor.getVersion()).isEqualTo(1L);
     }
 
+    @Test
+    void testSearchWithPageable() {
+        Page<InvestorDto> firstPage = investorService.search("銀行", "銀行", BigDecimal.valueOf(20000000),
+                PageRequest.of(0, 1, Sort.by(Sort.Direction.DESC, "investmentCapacity")));
+        assertThat(firstPage.getTotalElements()).isEqualTo(2);
+        assertThat(firstPage.getContent()).hasSize(1);
+        assertThat(firstPage.getContent().get(0).getInvestmentCapacity())
+                .isGreaterThanOrEqualTo(BigDecimal.valueOf(20000000));
+        assertThat(firstPage.hasNext()).isTrue();
+
+        // LIKEのワイルドカードは文字として扱う
+        assertThat(investorService.search("%", null, null, PageRequest.of(0, 10)).getTotalElements()).isZero();
+    }
+
     @Test
     void testFindByName() {
         Optional<InvestorDto> investor = investorService.findByName("リード銀行1");
@@ -8,6 +8,7 @@ import com.syndicated_loan.syndicated_loan.common.dto.FacilityInvestmentDto;
 import com.syndicated_loan.syndicated_loan.common.dto.InvestorDto;
 import com.syndicated_loan.syndicated_loan.common.dto.LoanDto;
 import com.syndicated_loan.syndicated_loan.common.dto.SharePieDto;
+import com.syndicated_loan.syndicated_loan.common.testutil.ExpectedQueries;
 import com.syndicated_loan.syndicated_loan.common.testutil.TestDataBuilder;
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -86,6 +87,7 @@ public class LoanServiceTest {
     }
 
     @Test
+    @ExpectedQueries(max = 11)
     void testCreate() {
         System.out.println("testCreate");
 
@@ -0,0 +1,82 @@
+package com.syndicated_loan.syndicated_loan.common.service;
+
+import com.syndicated_loan.syndicated_loan.common.dto.CacheRegionStatisticsDto;
+import com.syndicated_loan.syndicated_loan.common.dto.InvestorDto;
+import com.syndicated_loan.syndicated_loan.common.testutil.TestDataBuilder;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+public class MasterDataCacheServiceTest {
+
+    @Autowired
+    private MasterDataCacheService masterDataCacheService;
+
+    @Autowired
+    private InvestorService investorService;
+
+    @Autowired
+    private TestDataBuilder testDataBuilder;
+
+    private InvestorDto investor;
+
+    @BeforeEach
+    void setUp() {
+        Map<String, Object> testData = testDataBuilder.getTestDataForInvestor();
+        investor = (InvestorDto) testData.get("leadBank1");
+        masterDataCacheService.evictAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        testDataBuilder.cleanupAll();
+    }
+
+    @Test
+    void testFindById_HitsSecondLevelCache() {
+        CacheRegionStatisticsDto before = investorStatistics();
+
+        investorService.findById(investor.getId());
+        investorService.findById(investor.getId());
+
+        CacheRegionStatisticsDto after = investorStatistics();
+        // 1回目はDBから読み込んでキャッシュに格納し、2回目はキャッシュから取得する
+        assertThat(after.getMissCount() - before.getMissCount()).isEqualTo(1);
+        assertThat(after.getPutCount() - before.getPutCount()).isEqualTo(1);
+        assertThat(after.getHitCount() - before.getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void testAdjustCurrentInvestments_EvictsCachedInvestor() {
+        InvestorDto cached = investorService.findById(investor.getId()).orElseThrow();
+
+        // JDBCで直接更新した投資家はキャッシュから破棄され、最新のバージョンが読み込まれる
+        investorService.adjustCurrentInvestments(Map.of(investor.getId(), new BigDecimal("1000")), BigDecimal.ONE);
+        InvestorDto reloaded = investorService.findById(investor.getId()).orElseThrow();
+
+        assertThat(reloaded.getVersion()).isGreaterThan(cached.getVersion());
+        assertThat(reloaded.getCurrentInvestments())
+                .isEqualByComparingTo(cached.getCurrentInvestments().add(new BigDecimal("1000")));
+
+        // 最新のバージョンで更新できる
+        reloaded.setName("Updated Bank");
+        assertThat(investorService.update(investor.getId(), reloaded).getName()).isEqualTo("Updated Bank");
+        assertThat(investorService.findById(investor.getId()).orElseThrow().getName()).isEqualTo("Updated Bank");
+    }
+
+    private CacheRegionStatisticsDto investorStatistics() {
+        return masterDataCacheService.getStatistics().stream()
+                .filter(statistics -> statistics.getRegion().equals("master-investor"))
+                .findFirst()
+                .orElseThrow();
+    }
+}
@@ -0,0 +1,124 @@
+package com.syndicated_loan.syndicated_loan.common.service;
+
+import com.syndicated_loan.syndicated_loan.common.dto.AmountPieDto;
+import com.syndicated_loan.syndicated_loan.common.dto.InvestorDto;
+import com.syndicated_loan.syndicated_loan.common.dto.SharePieDto;
+import com.syndicated_loan.syndicated_loan.common.repository.AmountPieRepository;
+import com.syndicated_loan.syndicated_loan.common.repository.SharePieRepository;
+import com.syndicated_loan.syndicated_loan.common.testutil.TestDataBuilder;
+
+import jakarta.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ピースの圧縮カラム（allocation）の読み込みと、明細テーブルからの移行を検証するテスト
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+public class PieAllocationBackfillRunnerTest {
+
+    @Autowired
+    private AmountPieService amountPieService;
+
+    @Autowired
+    private SharePieService sharePieService;
+
+    @Autowired
+    private AmountPieRepository amountPieRepository;
+
+    @Autowired
+    private SharePieRepository sharePieRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TestDataBuilder testDataBuilder;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private List<InvestorDto> investors;
+
+    @BeforeEach
+    void setUp() {
+        testDataBuilder.cleanupAll();
+        investors = testDataBuilder.createInvestors(50);
+    }
+
+    @AfterEach
+    void tearDown() {
+        testDataBuilder.cleanupAll();
+    }
+
+    @Test
+    void testFindByIdReadsAllocationWithoutEntryRows() {
+        AmountPieDto amountPie = new AmountPieDto();
+        amountPie.setAmounts(testDataBuilder.allocateEvenly(new BigDecimal("1000000"), investors));
+        Long amountPieId = amountPieService.create(amountPie).getId();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        AmountPieDto found = amountPieService.findById(amountPieId).orElseThrow();
+
+        assertThat(found.getAmounts()).hasSize(50);
+        assertThat(found.getTotalAmount()).isEqualByComparingTo("1000000");
+        // 明細テーブルは読み込まない
+        assertThat(statistics.getCollectionFetchCount()).isZero();
+        // 明細テーブルは検索用に同期されている
+        assertThat(amountPieService.findByInvestorId(investors.get(0).getId())).hasSize(1);
+    }
+
+    @Test
+    void testBackfillMigratesLegacyPies() {
+        Long amountPieId = amountPieService.create(amountPieOf(investors.subList(0, 2))).getId();
+        Long sharePieId = sharePieService.create(SharePieDto.builder()
+                .shares(testDataBuilder.allocateEvenly(new BigDecimal("100"), investors.subList(0, 3)))
+                .version(1L)
+                .build()).getId();
+        // allocation導入前のデータ（明細テーブルのみ）を再現する
+        jdbcTemplate.update("UPDATE amount_pie SET allocation = NULL WHERE id = ?", amountPieId);
+        jdbcTemplate.update("UPDATE share_pie SET allocation = NULL WHERE id = ?", sharePieId);
+        Long sharePieVersion = sharePieRepository.findById(sharePieId).orElseThrow().getVersion();
+
+        // 移行前も明細テーブルから読み込める
+        assertThat(amountPieService.findById(amountPieId).orElseThrow().getAmounts()).hasSize(2);
+
+        PieAllocationBackfillRunner runner = new PieAllocationBackfillRunner(
+                amountPieRepository, sharePieRepository, transactionManager);
+        assertThat(runner.backfillAmountPies()).isEqualTo(1);
+        assertThat(runner.backfillSharePies()).isEqualTo(1);
+        // 再実行しても移行済みのピースは対象外
+        assertThat(runner.backfillAmountPies()).isZero();
+
+        assertThat(amountPieRepository.findById(amountPieId).orElseThrow().getAllocation()).isNotNull();
+        SharePieDto sharePie = sharePieService.findById(sharePieId).orElseThrow();
+        assertThat(sharePie.getShares()).hasSize(3);
+        assertThat(sharePie.getShares().values().stream().reduce(BigDecimal.ZERO, BigDecimal::add))
+                .isEqualByComparingTo("100");
+        // 移行では内容が変わらないため、バージョンは進めない
+        assertThat(sharePie.getVersion()).isEqualTo(sharePieVersion);
+    }
+
+    private AmountPieDto amountPieOf(List<InvestorDto> amountInvestors) {
+        AmountPieDto amountPie = new AmountPieDto();
+        amountPie.setAmounts(testDataBuilder.allocateEvenly(new BigDecimal("1000"), amountInvestors));
+        return amountPie;
+    }
+}
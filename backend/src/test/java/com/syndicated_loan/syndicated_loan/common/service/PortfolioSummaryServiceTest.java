@@ -0,0 +1,273 @@
+package com.syndicated_loan.syndicated_loan.common.service;
+
+import com.syndicated_loan.syndicated_loan.common.dto.AmountPieDto;
+import com.syndicated_loan.syndicated_loan.common.dto.DrawdownDto;
+import com.syndicated_loan.syndicated_loan.common.dto.FacilityDto;
+import com.syndicated_loan.syndicated_loan.common.dto.FacilitySummaryDto;
+import com.syndicated_loan.syndicated_loan.common.dto.FacilityTradeDto;
+import com.syndicated_loan.syndicated_loan.common.dto.InvestorDto;
+import com.syndicated_loan.syndicated_loan.common.dto.InvestorExposureSummaryDto;
+import com.syndicated_loan.syndicated_loan.common.dto.PortfolioSummaryDto;
+import com.syndicated_loan.syndicated_loan.common.dto.PrincipalPaymentDto;
+import com.syndicated_loan.syndicated_loan.common.exception.BusinessException;
+import com.syndicated_loan.syndicated_loan.common.testutil.QueryCountInspector;
+import com.syndicated_loan.syndicated_loan.common.testutil.TestDataBuilder;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.IllegalTransactionStateException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 取引の実行による集計テーブル（ファシリティの利用状況・投資家のエクスポージャー）の差分更新と、
+ * 集計テーブルのみを読み込むダッシュボードの参照を検証するテスト
+ */
+@SpringBootTest
+public class PortfolioSummaryServiceTest {
+
+    private static final BigDecimal TOTAL_AMOUNT = BigDecimal.valueOf(1_000_000_000L);
+
+    @Autowired
+    private PortfolioSummaryService portfolioSummaryService;
+
+    @Autowired
+    private DrawdownService drawdownService;
+
+    @Autowired
+    private PrincipalPaymentService principalPaymentService;
+
+    @Autowired
+    private FacilityTradeService facilityTradeService;
+
+    @Autowired
+    private AmountPieService amountPieService;
+
+    @Autowired
+    private InvestorService investorService;
+
+    @Autowired
+    private TestDataBuilder testDataBuilder;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private FacilityDto facility;
+    private List<InvestorDto> investors;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        Map<String, Object> testData = testDataBuilder.getTestDataForScaledDrawdown(3, 12);
+        facility = (FacilityDto) testData.get("facility");
+        investors = (List<InvestorDto>) testData.get("investors");
+    }
+
+    @AfterEach
+    void tearDown() {
+        testDataBuilder.cleanupAll();
+    }
+
+    @Test
+    void testExecutionsUpdateSummariesIncrementally() {
+        // 作成時に集計行が作られる
+        assertThat(portfolioSummaryService.findFacility(facility.getId()).getUtilizationRate())
+                .isEqualByComparingTo("0");
+
+        DrawdownDto first = createDrawdown("3000000");
+        DrawdownDto second = createDrawdown("600000");
+        drawdownService.executeDrawdown(first.getId());
+        drawdownService.executeDrawdowns(List.of(second.getId()));
+        principalPaymentService.executePrincipalPayment(createPrincipalPayment(first, "900000").getId());
+        facilityTradeService.executeFacilityTrade(
+                createTrade(investors.get(0), investors.get(1), "100000").getId());
+
+        FacilitySummaryDto summary = portfolioSummaryService.findFacility(facility.getId());
+        assertThat(summary.getAvailableAmount()).isEqualByComparingTo(TOTAL_AMOUNT.subtract(new BigDecimal("3600000")));
+        assertThat(summary.getDrawnAmount()).isEqualByComparingTo("3600000");
+        assertThat(summary.getRepaidAmount()).isEqualByComparingTo("900000");
+        assertThat(summary.getOutstandingAmount()).isEqualByComparingTo("2700000");
+        assertThat(summary.getExecutedDrawdowns()).isEqualTo(2);
+        assertThat(summary.getUtilizationRate()).isEqualByComparingTo("0.36");
+
+        // エクスポージャーの降順。投資家の現在の投資額と一致する
+        List<InvestorExposureSummaryDto> exposures = summary.getExposures();
+        assertThat(exposures).extracting(InvestorExposureSummaryDto::getInvestorId)
+                .containsExactly(investors.get(1).getId(), investors.get(2).getId(), investors.get(0).getId());
+        assertThat(exposures.get(0).getExposure()).isEqualByComparingTo("1000000");
+        assertThat(exposures.get(2).getExposure()).isEqualByComparingTo("800000");
+        for (InvestorExposureSummaryDto exposure : exposures) {
+            assertThat(exposure.getExposure()).isEqualByComparingTo(
+                    investorService.getCurrentExposure(exposure.getInvestorId()).orElseThrow());
+        }
+
+        assertThatThrownBy(() -> facilityTradeService.executeFacilityTrade(
+                facilityTradeService.findBySeller(investors.get(0).getId()).get(0).getId()))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("Facility trade already executed");
+    }
+
+    @Test
+    void testSeedMissingFacilitiesFromExecutedTransactions() {
+        DrawdownDto first = createDrawdown("3000000");
+        drawdownService.executeDrawdown(first.getId());
+        drawdownService.executeDrawdown(createDrawdown("600000").getId());
+        principalPaymentService.executePrincipalPayment(createPrincipalPayment(first, "900000").getId());
+        facilityTradeService.executeFacilityTrade(
+                createTrade(investors.get(0), investors.get(1), "100000").getId());
+        // 未実行のドローダウンは集計に含めない
+        createDrawdown("300000");
+
+        // 集計テーブルの導入前から存在するファシリティ（集計行が無い）
+        jdbcTemplate.update("DELETE FROM investor_exposure_summary WHERE facility_id = ?", facility.getId());
+        jdbcTemplate.update("DELETE FROM facility_summary WHERE facility_id = ?", facility.getId());
+
+        assertThat(portfolioSummaryService.seedMissingFacilities()).isEqualTo(1);
+        assertThat(portfolioSummaryService.seedMissingFacilities()).isZero();
+
+        FacilitySummaryDto summary = portfolioSummaryService.findFacility(facility.getId());
+        assertThat(summary.getDrawnAmount()).isEqualByComparingTo("3600000");
+        assertThat(summary.getRepaidAmount()).isEqualByComparingTo("900000");
+        assertThat(summary.getOutstandingAmount()).isEqualByComparingTo("2700000");
+        assertThat(summary.getExecutedDrawdowns()).isEqualTo(2);
+        assertThat(summary.getUtilizationRate()).isEqualByComparingTo("0.36");
+        assertThat(summary.getExposures()).hasSize(3);
+        for (InvestorExposureSummaryDto exposure : summary.getExposures()) {
+            assertThat(exposure.getExposure()).isEqualByComparingTo(
+                    investorService.getCurrentExposure(exposure.getInvestorId()).orElseThrow());
+        }
+
+        // 作成した集計行に以降の取引の差分が加算される
+        drawdownService.executeDrawdown(createDrawdown("300000").getId());
+        summary = portfolioSummaryService.findFacility(facility.getId());
+        assertThat(summary.getDrawnAmount()).isEqualByComparingTo("3900000");
+        assertThat(summary.getOutstandingAmount()).isEqualByComparingTo("3000000");
+        assertThat(summary.getExecutedDrawdowns()).isEqualTo(3);
+        for (InvestorExposureSummaryDto exposure : summary.getExposures()) {
+            assertThat(exposure.getExposure()).isEqualByComparingTo(
+                    investorService.getCurrentExposure(exposure.getInvestorId()).orElseThrow());
+        }
+
+        // 食い違った集計行は作り直せる
+        jdbcTemplate.update("UPDATE facility_summary SET drawn_amount = 0 WHERE facility_id = ?", facility.getId());
+        assertThat(portfolioSummaryService.rebuildFacility(facility.getId()).getDrawnAmount())
+                .isEqualByComparingTo("3900000");
+        assertThatThrownBy(() -> portfolioSummaryService.rebuildFacility(-1L))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("Facility not found");
+    }
+
+    @Test
+    void testConcurrentlyCreatedExposureRowIsUpdatedInSameTransaction() throws Exception {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        Long sellerId = investors.get(0).getId();
+        Long buyerId = investors.get(1).getId();
+        CountDownLatch inserted = new CountDownLatch(1);
+
+        // 別のトランザクションが集計行を作成し、コミット前に同じ集計行を作成する
+        CompletableFuture<Void> first = CompletableFuture.runAsync(() -> transactionTemplate.executeWithoutResult(status -> {
+            portfolioSummaryService.recordTrade(facility.getId(), sellerId, buyerId, new BigDecimal("100"));
+            inserted.countDown();
+            sleep(300);
+        }));
+        assertThat(inserted.await(10, TimeUnit.SECONDS)).isTrue();
+        transactionTemplate.executeWithoutResult(status ->
+                portfolioSummaryService.recordTrade(facility.getId(), sellerId, buyerId, new BigDecimal("100")));
+        first.get(10, TimeUnit.SECONDS);
+
+        // 一意制約の違反をセーブポイントまで巻き戻し、同じトランザクションで加算する
+        assertThat(portfolioSummaryService.findInvestorExposures(buyerId)).singleElement()
+                .satisfies(exposure -> assertThat(exposure.getExposure()).isEqualByComparingTo("200"));
+        assertThat(portfolioSummaryService.findInvestorExposures(sellerId)).singleElement()
+                .satisfies(exposure -> assertThat(exposure.getExposure()).isEqualByComparingTo("-200"));
+    }
+
+    @Test
+    void testRecordingRequiresTransaction() {
+        assertThatThrownBy(() -> portfolioSummaryService.recordTrade(facility.getId(),
+                investors.get(0).getId(), investors.get(1).getId(), BigDecimal.TEN))
+                .isInstanceOf(IllegalTransactionStateException.class);
+    }
+
+    @Test
+    void testDashboardReadsOnlySummaryTables() {
+        drawdownService.executeDrawdown(createDrawdown("3000000").getId());
+
+        List<String> statements = new ArrayList<>();
+        statements.addAll(QueryCountInspector.record(() -> {
+            PortfolioSummaryDto portfolio = portfolioSummaryService.getPortfolio();
+            assertThat(portfolio.getFacilities()).isEqualTo(1);
+            assertThat(portfolio.getOutstandingAmount()).isEqualByComparingTo("3000000");
+            assertThat(portfolio.getUtilizationRate()).isEqualByComparingTo("0.3");
+        }));
+        statements.addAll(QueryCountInspector.record(() -> assertThat(
+                portfolioSummaryService.findFacilities(PageRequest.of(0, 10)).getContent()).hasSize(1)));
+        statements.addAll(QueryCountInspector.record(() -> assertThat(
+                portfolioSummaryService.findInvestorExposures(investors.get(0).getId()))
+                .singleElement()
+                .satisfies(exposure -> assertThat(exposure.getExposure()).isEqualByComparingTo("1000000"))));
+
+        // 集計テーブルを単独で読み込み、取引テーブルを結合しない
+        assertThat(statements).isNotEmpty().allSatisfy(sql -> assertThat(sql.toLowerCase())
+                .containsAnyOf("from facility_summary ", "from investor_exposure_summary ")
+                .doesNotContain(" join "));
+    }
+
+    private DrawdownDto createDrawdown(String amount) {
+        return drawdownService.create(testDataBuilder.buildDrawdown(facility, investors, new BigDecimal(amount)));
+    }
+
+    private PrincipalPaymentDto createPrincipalPayment(DrawdownDto drawdown, String paymentAmount) {
+        AmountPieDto amountPie = new AmountPieDto();
+        amountPie.setAmounts(testDataBuilder.allocateEvenly(new BigDecimal(paymentAmount), investors));
+
+        PrincipalPaymentDto principalPayment = new PrincipalPaymentDto();
+        principalPayment.setLoanId(drawdown.getRelatedPositionId());
+        principalPayment.setRelatedPositionId(drawdown.getRelatedPositionId());
+        principalPayment.setAmountPieId(amountPieService.create(amountPie).getId());
+        principalPayment.setDate(LocalDateTime.now());
+        principalPayment.setAmount(new BigDecimal(paymentAmount));
+        principalPayment.setPaymentAmount(new BigDecimal(paymentAmount));
+        return principalPaymentService.create(principalPayment);
+    }
+
+    private FacilityTradeDto createTrade(InvestorDto seller, InvestorDto buyer, String tradeAmount) {
+        FacilityTradeDto trade = FacilityTradeDto.builder()
+                .relatedPositionId(facility.getId())
+                .sellerId(seller.getId())
+                .buyerId(buyer.getId())
+                .date(LocalDateTime.now())
+                .amount(new BigDecimal(tradeAmount))
+                .tradeAmount(new BigDecimal(tradeAmount))
+                .build();
+        return facilityTradeService.create(trade);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.syndicated_loan.syndicated_loan.common.service;
+
+import com.syndicated_loan.syndicated_loan.common.dto.BalanceAsOfDto;
+import com.syndicated_loan.syndicated_loan.common.dto.DrawdownDto;
+import com.syndicated_loan.syndicated_loan.common.dto.FacilityDto;
+import com.syndicated_loan.syndicated_loan.common.dto.InvestorDto;
+import com.syndicated_loan.syndicated_loan.common.entity.JournalEntry.AccountType;
+import com.syndicated_loan.syndicated_loan.common.exception.BusinessException;
+import com.syndicated_loan.syndicated_loan.common.testutil.QueryCountInspector;
+import com.syndicated_loan.syndicated_loan.common.testutil.TestDataBuilder;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 仕訳の変更履歴による、指定日時点のポジション・投資家の残高の取得を検証するテスト
+ */
+@SpringBootTest
+public class PositionBalanceHistoryTest {
+
+    private static final BigDecimal TOTAL_AMOUNT = BigDecimal.valueOf(1_000_000_000L);
+
+    @Autowired
+    private PositionService positionService;
+
+    @Autowired
+    private InvestorService investorService;
+
+    @Autowired
+    private DrawdownService drawdownService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TestDataBuilder testDataBuilder;
+
+    private FacilityDto facility;
+    private List<InvestorDto> investors;
+    private LocalDate today;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        Map<String, Object> testData = testDataBuilder.getTestDataForScaledDrawdown(3, 12);
+        facility = (FacilityDto) testData.get("facility");
+        investors = (List<InvestorDto>) testData.get("investors");
+        today = LocalDate.now();
+    }
+
+    @AfterEach
+    void tearDown() {
+        testDataBuilder.cleanupAll();
+    }
+
+    @Test
+    void testBalanceAsOfFollowsTransactionDates() {
+        DrawdownDto later = createDrawdown("600000", today.plusDays(3));
+        DrawdownDto earlier = createDrawdown("3000000", today.plusDays(1));
+        // 取引日の遅いドローダウンを先に実行しても、取引日の順に残高が変わる
+        drawdownService.executeDrawdown(later.getId());
+        drawdownService.executeDrawdown(earlier.getId());
+
+        assertThat(positionService.findBalanceAsOf(facility.getId(), today.minusDays(1)).getBalance())
+                .isEqualByComparingTo("0");
+        assertThat(positionService.findBalanceAsOf(facility.getId(), today).getBalance())
+                .isEqualByComparingTo(TOTAL_AMOUNT);
+        assertThat(positionService.findBalanceAsOf(facility.getId(), today.plusDays(2)).getBalance())
+                .isEqualByComparingTo(TOTAL_AMOUNT.subtract(new BigDecimal("3000000")));
+        BalanceAsOfDto latest = positionService.findBalanceAsOf(facility.getId(), today.plusDays(30));
+        assertThat(latest.getBalance()).isEqualByComparingTo(TOTAL_AMOUNT.subtract(new BigDecimal("3600000")));
+        assertThat(latest.getChanges()).isEqualTo(3);
+        assertThat(latest.getLastChangedAt().toLocalDate()).isEqualTo(today.plusDays(3));
+
+        Long investorId = investors.get(0).getId();
+        assertThat(investorService.findExposureAsOf(investorId, today.plusDays(1)).getBalance())
+                .isEqualByComparingTo("1000000");
+        assertThat(investorService.findExposureAsOf(investorId, today.plusDays(3)).getBalance())
+                .isEqualByComparingTo("1200000");
+    }
+
+    @Test
+    void testChangelogIsReusedUntilNewEntriesAreRecorded() {
+        DrawdownDto first = createDrawdown("3000000", today.plusDays(1));
+        DrawdownDto second = createDrawdown("600000", today.plusDays(1));
+        drawdownService.executeDrawdown(first.getId());
+        positionService.findBalanceAsOf(facility.getId(), today.plusDays(1));
+
+        // 作成済みの変更履歴を二分探索するため、ポジションの種類の確認以外にSQLを発行しない
+        List<String> statements = QueryCountInspector.record(() -> assertThat(
+                positionService.findBalanceAsOf(facility.getId(), today.plusDays(1)).getBalance())
+                .isEqualByComparingTo(TOTAL_AMOUNT.subtract(new BigDecimal("3000000"))));
+        assertThat(statements).hasSize(1);
+
+        // 仕訳を記録したトランザクションの完了時に破棄され、次の参照で作り直される
+        drawdownService.executeDrawdown(second.getId());
+        assertThat(positionService.findBalanceAsOf(facility.getId(), today.plusDays(1)).getBalance())
+                .isEqualByComparingTo(TOTAL_AMOUNT.subtract(new BigDecimal("3600000")));
+
+        assertThatThrownBy(() -> positionService.findBalanceAsOf(-1L, today))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("Position not found");
+    }
+
+    @Test
+    void testChangelogsAreBoundedByMaxAccounts() {
+        BalanceHistoryProperties properties = new BalanceHistoryProperties();
+        properties.setMaxAccounts(2);
+        PositionBalanceHistory history = new PositionBalanceHistory(jdbcTemplate, properties);
+
+        // 上限を超えた口座の変更履歴は破棄され、参照した口座すべてを保持し続けない
+        for (InvestorDto investor : investors) {
+            assertThat(history.balanceAsOf(AccountType.INVESTOR, investor.getId(), today.atStartOfDay().plusDays(1))
+                    .getChanges()).isEqualTo(1);
+        }
+        history.balanceAsOf(AccountType.FACILITY, facility.getId(), today.atStartOfDay().plusDays(1));
+        assertThat(history.cachedAccounts()).isLessThanOrEqualTo(2);
+
+        history.invalidateAll();
+        assertThat(history.cachedAccounts()).isZero();
+    }
+
+    private DrawdownDto createDrawdown(String amount, LocalDate date) {
+        DrawdownDto drawdown = testDataBuilder.buildDrawdown(facility, investors, new BigDecimal(amount));
+        drawdown.setDate(date.atTime(10, 0));
+        return drawdownService.create(drawdown);
+    }
+}
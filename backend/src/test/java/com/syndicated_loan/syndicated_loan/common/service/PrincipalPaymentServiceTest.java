@@ -0,0 +1,122 @@
+package com.syndicated_loan.syndicated_loan.common.service;
+
+import com.syndicated_loan.syndicated_loan.common.dto.DrawdownDto;
+import com.syndicated_loan.syndicated_loan.common.dto.FacilityDto;
+import com.syndicated_loan.syndicated_loan.common.dto.InvestorDto;
+import com.syndicated_loan.syndicated_loan.common.dto.PrincipalPaymentDto;
+import com.syndicated_loan.syndicated_loan.common.exception.BusinessException;
+import com.syndicated_loan.syndicated_loan.common.testutil.ExpectedQueries;
+import com.syndicated_loan.syndicated_loan.common.testutil.TestDataBuilder;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+public class PrincipalPaymentServiceTest {
+
+    @Autowired
+    private PrincipalPaymentService principalPaymentService;
+
+    @Autowired
+    private DrawdownService drawdownService;
+
+    @Autowired
+    private LoanService loanService;
+
+    @Autowired
+    private TestDataBuilder testDataBuilder;
+
+    private Long loanId;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        Map<String, Object> testData = testDataBuilder.getTestDataForScaledDrawdown(2, 60);
+        DrawdownDto drawdown = drawdownService.create(testDataBuilder.buildDrawdown(
+                (FacilityDto) testData.get("facility"),
+                (List<InvestorDto>) testData.get("investors"),
+                new BigDecimal("1000000")));
+        loanId = drawdown.getRelatedPositionId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        testDataBuilder.cleanupAll();
+    }
+
+    @Test
+    @ExpectedQueries(max = 35)
+    void testExecutePrincipalPayment_DecreasesOutstandingAmount() {
+        PrincipalPaymentDto first = createPrincipalPayment("300000", LocalDateTime.of(2025, 4, 1, 10, 0));
+        PrincipalPaymentDto second = createPrincipalPayment("200000", LocalDateTime.of(2025, 7, 1, 10, 0));
+
+        principalPaymentService.executePrincipalPayment(first.getId());
+        assertThat(loanService.findById(loanId).orElseThrow().getAmount()).isEqualByComparingTo("700000");
+
+        PrincipalPaymentDto executed = principalPaymentService.executePrincipalPayment(second.getId());
+        assertThat(executed.getLoan().getAmount()).isEqualByComparingTo("500000");
+        assertThat(loanService.findById(loanId).orElseThrow().getAmount()).isEqualByComparingTo("500000");
+    }
+
+    @Test
+    void testExecutePrincipalPayment_ExceedsBalance() {
+        PrincipalPaymentDto first = createPrincipalPayment("600000", LocalDateTime.of(2025, 4, 1, 10, 0));
+        PrincipalPaymentDto second = createPrincipalPayment("500000", LocalDateTime.of(2025, 7, 1, 10, 0));
+        principalPaymentService.executePrincipalPayment(first.getId());
+
+        assertThatThrownBy(() -> principalPaymentService.executePrincipalPayment(second.getId()))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("Payment amount exceeds remaining balance");
+
+        // 残高不足の場合は残高もステータスも変わらない
+        assertThat(loanService.findById(loanId).orElseThrow().getAmount()).isEqualByComparingTo("400000");
+        assertThat(principalPaymentService.findById(second.getId()).orElseThrow().getStatus())
+                .isNotEqualTo("EXECUTED");
+        assertThatThrownBy(() -> principalPaymentService.updatePaymentAmount(second.getId(), new BigDecimal("400001")))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("Payment amount exceeds remaining balance");
+    }
+
+    @Test
+    @ExpectedQueries(max = 30)
+    void testFindByLoan_RemainingBalanceIsRunningTotal() {
+        createPrincipalPayment("100000", LocalDateTime.of(2025, 4, 1, 10, 0));
+        createPrincipalPayment("200000", LocalDateTime.of(2025, 7, 1, 10, 0));
+        // 同日時の返済は互いに残高へ含める
+        createPrincipalPayment("50000", LocalDateTime.of(2025, 7, 1, 10, 0));
+
+        List<PrincipalPaymentDto> payments = principalPaymentService.findByLoan(loanId).stream()
+                .sorted(Comparator.comparing(PrincipalPaymentDto::getDate)
+                        .thenComparing(PrincipalPaymentDto::getId))
+                .toList();
+
+        assertThat(payments).extracting(PrincipalPaymentDto::getRemainingBalance)
+                .usingElementComparator(BigDecimal::compareTo)
+                .containsExactly(new BigDecimal("900000"), new BigDecimal("650000"), new BigDecimal("650000"));
+        // 単体取得でも一覧と同じ残高となる
+        assertThat(principalPaymentService.findById(payments.get(1).getId()).orElseThrow().getRemainingBalance())
+                .isEqualByComparingTo("650000");
+    }
+
+    private PrincipalPaymentDto createPrincipalPayment(String paymentAmount, LocalDateTime date) {
+        PrincipalPaymentDto principalPayment = new PrincipalPaymentDto();
+        principalPayment.setLoanId(loanId);
+        principalPayment.setRelatedPositionId(loanId);
+        principalPayment.setDate(date);
+        principalPayment.setAmount(new BigDecimal(paymentAmount));
+        principalPayment.setPaymentAmount(new BigDecimal(paymentAmount));
+        return principalPaymentService.create(principalPayment);
+    }
+}
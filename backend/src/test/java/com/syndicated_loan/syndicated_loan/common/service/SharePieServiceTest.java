@@ -3,6 +3,7 @@ package com.syndicated_loan.syndicated_loan.common.service;
 import com.syndicated_loan.syndicated_loan.common.dto.InvestorDto;
 import com.syndicated_loan.syndicated_loan.common.dto.SharePieDto;
 import com.syndicated_loan.syndicated_loan.common.exception.BusinessException;
+import com.syndicated_loan.syndicated_loan.common.testutil.ExpectedQueries;
 import com.syndicated_loan.syndicated_loan.common.testutil.TestDataBuilder;
 
 import org.junit.jupiter.api.AfterEach;
@@ -72,6 +73,23 @@ public class SharePieServiceTest {
         assertThat(sharePie2.getShares().get(member2.getId())).isEqualByComparingTo(new BigDecimal("50.0000"));
     }
 
+    @Test
+    @ExpectedQueries(max = 4)
+    void testFindAllResolvesInvestorNames() {
+        List<SharePieDto> sharePies = sharePieService.findAll();
+
+        // 投資家名をキーとした配分が全SharePieで解決されていることを検証
+        SharePieDto sharePie1 = sharePies.get(0);
+        assertThat(sharePie1.getInvestorShares()).hasSize(2);
+        assertThat(sharePie1.getInvestorShares().get(leadBank1.getName())).isEqualByComparingTo(new BigDecimal("30.0000"));
+        assertThat(sharePie1.getInvestorShares().get(member1.getName())).isEqualByComparingTo(new BigDecimal("70.0000"));
+
+        SharePieDto sharePie2 = sharePies.get(1);
+        assertThat(sharePie2.getInvestorShares()).hasSize(2);
+        assertThat(sharePie2.getInvestorShares().get(leadBank2.getName())).isEqualByComparingTo(new BigDecimal("50.0000"));
+        assertThat(sharePie2.getInvestorShares().get(member2.getName())).isEqualByComparingTo(new BigDecimal("50.0000"));
+    }
+
     @Test
     void testFindById() {
         SharePieDto sharePie = sharePieService.findById(savedSharePie.getId()).orElseThrow();
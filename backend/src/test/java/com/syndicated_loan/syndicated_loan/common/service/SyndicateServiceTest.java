@@ -2,6 +2,7 @@ package com.syndicated_loan.syndicated_loan.common.service;
 
 import com.syndicated_loan.syndicated_loan.common.dto.InvestorDto;
 import com.syndicated_loan.syndicated_loan.common.dto.SyndicateDto;
+import com.syndicated_loan.syndicated_loan.common.testutil.ExpectedQueries;
 import com.syndicated_loan.syndicated_loan.common.testutil.TestDataBuilder;
 
 import java.math.BigDecimal;
@@ -59,6 +60,7 @@ public class SyndicateServiceTest {
     }
 
     @Test
+    @ExpectedQueries(max = 2)
     void testFindAll() {
         List<SyndicateDto> syndicates = syndicateService.findAll();
 
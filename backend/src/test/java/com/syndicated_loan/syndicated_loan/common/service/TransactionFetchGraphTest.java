@@ -0,0 +1,127 @@
+package com.syndicated_loan.syndicated_loan.common.service;
+
+import com.syndicated_loan.syndicated_loan.common.dto.AmountPieDto;
+import com.syndicated_loan.syndicated_loan.common.dto.DrawdownDto;
+import com.syndicated_loan.syndicated_loan.common.dto.FacilityDto;
+import com.syndicated_loan.syndicated_loan.common.dto.FacilityInvestmentDto;
+import com.syndicated_loan.syndicated_loan.common.dto.InvestorDto;
+import com.syndicated_loan.syndicated_loan.common.testutil.TestDataBuilder;
+
+import jakarta.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * トランザクション一覧取得時のSQL発行数が件数に依存しないことを検証するテスト。
+ * 各トランザクション型のエンティティグラフとバッチフェッチの回帰テストです。
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+public class TransactionFetchGraphTest {
+
+    @Autowired
+    private DrawdownService drawdownService;
+
+    @Autowired
+    private TestDataBuilder testDataBuilder;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private InvestorDto leadBank1;
+    private InvestorDto member1;
+    private FacilityDto savedFacility1;
+    private FacilityDto savedFacility2;
+    private FacilityInvestmentDto savedFacilityInvestment1;
+
+    @BeforeEach
+    void setUp() {
+        Map<String, Object> testData = testDataBuilder.getTestDataForDrawdown();
+
+        leadBank1 = (InvestorDto) testData.get("leadBank1");
+        member1 = (InvestorDto) testData.get("member1");
+        savedFacility1 = (FacilityDto) testData.get("facility1");
+        savedFacility2 = (FacilityDto) testData.get("facility2");
+        savedFacilityInvestment1 = (FacilityInvestmentDto) testData.get("facilityInvestment1");
+    }
+
+    @AfterEach
+    void tearDown() {
+        testDataBuilder.cleanupAll();
+    }
+
+    @Test
+    void testFindAllStatementCountDoesNotGrowWithDrawdowns() {
+        createDrawdowns(2);
+        long statementsForTwo = countStatements(() -> assertThat(drawdownService.findAll()).hasSize(2));
+
+        createDrawdowns(8);
+        long statementsForTen = countStatements(() -> assertThat(drawdownService.findAll()).hasSize(10));
+
+        assertThat(statementsForTen).isEqualTo(statementsForTwo);
+    }
+
+    @Test
+    void testFindByRelatedFacilityStatementCountDoesNotGrowWithDrawdowns() {
+        createDrawdowns(2);
+        long statementsForTwo = countStatements(
+                () -> drawdownService.findByRelatedFacility(savedFacility1.getId()));
+
+        createDrawdowns(8);
+        long statementsForTen = countStatements(
+                () -> drawdownService.findByRelatedFacility(savedFacility1.getId()));
+
+        assertThat(statementsForTen).isEqualTo(statementsForTwo);
+    }
+
+    @Test
+    void testCreateDrawdownStatementCount() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        long statements = countStatements(() -> createDrawdowns(1));
+
+        // 関連はDTOを経由せずに解決する（ファシリティ・ローン・AmountPie・返済スケジュール等の数行のみ）
+        assertThat(statements).isLessThanOrEqualTo(11);
+        assertThat(statistics.getEntityLoadCount()).isLessThanOrEqualTo(6);
+    }
+
+    // 2つのファシリティに交互にドローダウンを作成
+    private void createDrawdowns(int count) {
+        for (int i = 0; i < count; i++) {
+            FacilityDto facility = i % 2 == 0 ? savedFacility1 : savedFacility2;
+
+            AmountPieDto amountPie = new AmountPieDto();
+            Map<Long, BigDecimal> amounts = new HashMap<>();
+            amounts.put(leadBank1.getId(), BigDecimal.valueOf(3000));
+            amounts.put(member1.getId(), BigDecimal.valueOf(7000));
+            amountPie.setAmounts(amounts);
+
+            DrawdownDto drawdown = new DrawdownDto();
+            drawdown.setRelatedFacilityId(facility.getId());
+            drawdown.setDrawdownAmount(new BigDecimal("10000"));
+            drawdown.setDate(LocalDateTime.of(2025, 1, 20, 0, 0, 0).plusDays(i));
+            drawdown.setRelatedPositionId(savedFacilityInvestment1.getRelatedPositionId());
+            drawdown.setAmountPie(amountPie);
+            drawdownService.create(drawdown);
+        }
+    }
+
+    // 処理中に準備されたSQL文の数を計測
+    private long countStatements(Runnable action) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        action.run();
+        return statistics.getPrepareStatementCount();
+    }
+}
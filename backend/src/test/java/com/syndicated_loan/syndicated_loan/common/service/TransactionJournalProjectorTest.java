@@ -0,0 +1,218 @@
+package com.syndicated_loan.syndicated_loan.common.service;
+
+import com.syndicated_loan.syndicated_loan.common.dto.AmountPieDto;
+import com.syndicated_loan.syndicated_loan.common.dto.DrawdownDto;
+import com.syndicated_loan.syndicated_loan.common.dto.FacilityDto;
+import com.syndicated_loan.syndicated_loan.common.dto.InvestorDto;
+import com.syndicated_loan.syndicated_loan.common.dto.JournalBalanceDto;
+import com.syndicated_loan.syndicated_loan.common.dto.JournalProjectionDto;
+import com.syndicated_loan.syndicated_loan.common.dto.JournalRestoreResultDto;
+import com.syndicated_loan.syndicated_loan.common.dto.JournalSnapshotResultDto;
+import com.syndicated_loan.syndicated_loan.common.dto.PrincipalPaymentDto;
+import com.syndicated_loan.syndicated_loan.common.exception.BusinessException;
+import com.syndicated_loan.syndicated_loan.common.testutil.TestDataBuilder;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 取引の仕訳の記録と、スナップショット・仕訳の再生による残高の再構築・復元を検証するテスト
+ */
+@SpringBootTest
+public class TransactionJournalProjectorTest {
+
+    private static final BigDecimal TOTAL_AMOUNT = BigDecimal.valueOf(1_000_000_000L);
+
+    @Autowired
+    private TransactionJournalProjector projector;
+
+    @Autowired
+    private DrawdownService drawdownService;
+
+    @Autowired
+    private PrincipalPaymentService principalPaymentService;
+
+    @Autowired
+    private AmountPieService amountPieService;
+
+    @Autowired
+    private FacilityService facilityService;
+
+    @Autowired
+    private LoanService loanService;
+
+    @Autowired
+    private InvestorService investorService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TestDataBuilder testDataBuilder;
+
+    private FacilityDto facility;
+    private List<InvestorDto> investors;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        Map<String, Object> testData = testDataBuilder.getTestDataForScaledDrawdown(3, 12);
+        facility = (FacilityDto) testData.get("facility");
+        investors = (List<InvestorDto>) testData.get("investors");
+    }
+
+    @AfterEach
+    void tearDown() {
+        testDataBuilder.cleanupAll();
+    }
+
+    @Test
+    void testRebuildFromSnapshotMatchesCurrentBalances() {
+        DrawdownDto first = createDrawdown("3000000");
+        DrawdownDto second = createDrawdown("600000");
+        drawdownService.executeDrawdown(first.getId());
+
+        JournalSnapshotResultDto snapshot = projector.takeSnapshot(projector.lastSequence());
+        assertThat(snapshot.isCreated()).isTrue();
+
+        drawdownService.executeDrawdowns(List.of(second.getId()));
+        PrincipalPaymentDto payment = createPrincipalPayment(first, "900000");
+        principalPaymentService.executePrincipalPayment(payment.getId());
+
+        JournalProjectionDto projection = projector.rebuild();
+
+        // スナップショット以降の仕訳（ドローダウン1件と元本返済1件の各4口座分）のみを再生する
+        assertThat(projection.getSnapshotSequence()).isEqualTo(snapshot.getLastSequence());
+        assertThat(projection.getReplayedEntries()).isEqualTo(8);
+        Map<String, BigDecimal> balances = toMap(projection);
+        assertThat(balances.get("FACILITY:" + facility.getId()))
+                .isEqualByComparingTo(facilityService.findById(facility.getId()).orElseThrow().getAvailableAmount())
+                .isEqualByComparingTo(TOTAL_AMOUNT.subtract(new BigDecimal("3600000")));
+        assertThat(balances.get("LOAN:" + first.getRelatedPositionId()))
+                .isEqualByComparingTo(loanService.findById(first.getRelatedPositionId()).orElseThrow().getAmount())
+                .isEqualByComparingTo("2100000");
+        for (InvestorDto investor : investors) {
+            assertThat(balances.get("INVESTOR:" + investor.getId())).isEqualByComparingTo(
+                    investorService.findById(investor.getId()).orElseThrow().getCurrentInvestments());
+        }
+        assertThat(balances.get("INVESTOR:" + investors.get(0).getId())).isEqualByComparingTo("900000");
+    }
+
+    @Test
+    void testRebuildAtSequenceReturnsPastBalances() {
+        DrawdownDto first = createDrawdown("3000000");
+        DrawdownDto second = createDrawdown("600000");
+        drawdownService.executeDrawdown(first.getId());
+        long afterFirst = projector.lastSequence();
+        projector.takeSnapshot(afterFirst);
+        drawdownService.executeDrawdown(second.getId());
+        long afterSecond = projector.lastSequence();
+        projector.takeSnapshot(afterSecond);
+
+        // 後のスナップショットがあっても、指定した通番以前のスナップショットから再構築する
+        JournalProjectionDto past = projector.rebuild(afterFirst);
+
+        assertThat(past.getSnapshotSequence()).isEqualTo(afterFirst);
+        assertThat(past.getReplayedEntries()).isZero();
+        assertThat(toMap(past).get("FACILITY:" + facility.getId()))
+                .isEqualByComparingTo(TOTAL_AMOUNT.subtract(new BigDecimal("3000000")));
+        assertThat(toMap(projector.rebuild(afterSecond)).get("FACILITY:" + facility.getId()))
+                .isEqualByComparingTo(TOTAL_AMOUNT.subtract(new BigDecimal("3600000")));
+        // 作成済みの通番では作成しない
+        assertThat(projector.takeSnapshot(afterSecond).isCreated()).isFalse();
+        assertThatThrownBy(() -> projector.rebuild(afterSecond + 1))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("Journal sequence out of range");
+    }
+
+    @Test
+    void testRestoreWritesBackRebuiltBalances() {
+        DrawdownDto drawdown = createDrawdown("3000000");
+        drawdownService.executeDrawdown(drawdown.getId());
+        projector.takeSnapshot(projector.lastSequence());
+        PrincipalPaymentDto payment = createPrincipalPayment(drawdown, "900000");
+        principalPaymentService.executePrincipalPayment(payment.getId());
+
+        // 残高が失われた状態を再現する
+        jdbcTemplate.update("UPDATE position SET available_amount = 0, amount = 0");
+        jdbcTemplate.update("UPDATE investor SET current_investments = 0");
+
+        JournalRestoreResultDto result = projector.restore();
+
+        assertThat(result.getFacilities()).isEqualTo(1);
+        assertThat(result.getLoans()).isEqualTo(1);
+        assertThat(result.getInvestors()).isEqualTo(investors.size());
+        assertThat(facilityService.findById(facility.getId()).orElseThrow().getAvailableAmount())
+                .isEqualByComparingTo(TOTAL_AMOUNT.subtract(new BigDecimal("3000000")));
+        assertThat(loanService.findById(drawdown.getRelatedPositionId()).orElseThrow().getAmount())
+                .isEqualByComparingTo("2100000");
+        assertThat(investorService.getCurrentExposure(investors.get(0).getId()).orElseThrow())
+                .isEqualByComparingTo("700000");
+    }
+
+    @Test
+    void testRestoreKeepsAccountsWithoutOpeningEntry() {
+        // 仕訳の導入前から存在する投資家（開設時の仕訳が無い）に、導入後の取引の仕訳のみがある状態を再現する
+        jdbcTemplate.update("INSERT INTO investor (name, investor_type, investment_capacity, current_investments, version)"
+                + " VALUES ('Legacy Bank', 'BANK', 10000000, 600000, 0)");
+        Long legacyId = jdbcTemplate.queryForObject("SELECT id FROM investor WHERE name = 'Legacy Bank'", Long.class);
+        jdbcTemplate.update("INSERT INTO journal_entry"
+                + " (account_type, account_id, delta, entry_type, transaction_id, event_date, recorded_at)"
+                + " VALUES ('INVESTOR', ?, 100000, 'DRAWDOWN', NULL, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)", legacyId);
+
+        // 仕訳の合計（10万）で上書きせず、残高を保持する
+        JournalRestoreResultDto result = projector.restore();
+        assertThat(result.getInvestors()).isEqualTo(investors.size());
+        assertThat(result.getSkipped()).isEqualTo(1);
+        assertThat(investorService.getCurrentExposure(legacyId).orElseThrow()).isEqualByComparingTo("600000");
+
+        // 開設時の仕訳を補うと仕訳の合計が残高と一致し、復元の対象となる（繰り返し実行しても記録しない）
+        assertThat(projector.openUnjournaledAccounts()).isEqualTo(1);
+        assertThat(projector.openUnjournaledAccounts()).isZero();
+        assertThat(toMap(projector.rebuild())).containsEntry("INVESTOR:" + legacyId, new BigDecimal("600000.0000"));
+
+        jdbcTemplate.update("UPDATE investor SET current_investments = 0 WHERE id = ?", legacyId);
+        assertThat(projector.restore().getSkipped()).isZero();
+        assertThat(investorService.getCurrentExposure(legacyId).orElseThrow()).isEqualByComparingTo("600000");
+    }
+
+    private DrawdownDto createDrawdown(String amount) {
+        return drawdownService.create(testDataBuilder.buildDrawdown(facility, investors, new BigDecimal(amount)));
+    }
+
+    private PrincipalPaymentDto createPrincipalPayment(DrawdownDto drawdown, String paymentAmount) {
+        AmountPieDto amountPie = new AmountPieDto();
+        amountPie.setAmounts(testDataBuilder.allocateEvenly(new BigDecimal(paymentAmount), investors));
+
+        PrincipalPaymentDto principalPayment = new PrincipalPaymentDto();
+        principalPayment.setLoanId(drawdown.getRelatedPositionId());
+        principalPayment.setRelatedPositionId(drawdown.getRelatedPositionId());
+        principalPayment.setAmountPieId(amountPieService.create(amountPie).getId());
+        principalPayment.setDate(LocalDateTime.now());
+        principalPayment.setAmount(new BigDecimal(paymentAmount));
+        principalPayment.setPaymentAmount(new BigDecimal(paymentAmount));
+        return principalPaymentService.create(principalPayment);
+    }
+
+    // 口座（種類:ID）ごとの残高
+    private Map<String, BigDecimal> toMap(JournalProjectionDto projection) {
+        Map<String, BigDecimal> balances = new HashMap<>();
+        for (JournalBalanceDto balance : projection.getBalances()) {
+            balances.put(balance.getAccountType() + ":" + balance.getAccountId(), balance.getBalance());
+        }
+        return balances;
+    }
+}
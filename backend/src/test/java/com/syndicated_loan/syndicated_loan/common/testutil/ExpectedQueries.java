@@ -0,0 +1,24 @@
+package com.syndicated_loan.syndicated_loan.common.testutil;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * テストメソッドの本体で発行されるSQL文の上限を指定します。
+ * {@code @BeforeEach}・{@code @AfterEach}の処理は数えません。
+ * 上限を超えた場合は発行したSQL文の一覧とともにテストを失敗させます。
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@ExtendWith(QueryCountExtension.class)
+public @interface ExpectedQueries {
+
+    /**
+     * SQL文の上限
+     */
+    int max();
+}
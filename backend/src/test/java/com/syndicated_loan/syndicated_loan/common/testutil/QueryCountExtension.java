@@ -0,0 +1,43 @@
+package com.syndicated_loan.syndicated_loan.common.testutil;
+
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.InvocationInterceptor;
+import org.junit.jupiter.api.extension.ReflectiveInvocationContext;
+import org.junit.platform.commons.support.AnnotationSupport;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * {@link ExpectedQueries}が付いたテストメソッドの本体で発行されたSQL文を数え、上限を検証するJUnit拡張。
+ * N+1の回帰を、件数に比例して増えるSQL文の数として検出します。
+ */
+public class QueryCountExtension implements InvocationInterceptor {
+
+    @Override
+    public void interceptTestMethod(Invocation<Void> invocation,
+            ReflectiveInvocationContext<Method> invocationContext,
+            ExtensionContext extensionContext) throws Throwable {
+        Optional<ExpectedQueries> expected = AnnotationSupport.findAnnotation(
+                invocationContext.getExecutable(), ExpectedQueries.class);
+        if (expected.isEmpty()) {
+            invocation.proceed();
+            return;
+        }
+
+        List<String> statements;
+        QueryCountInspector.start();
+        try {
+            invocation.proceed();
+        } finally {
+            statements = QueryCountInspector.stop();
+        }
+
+        int max = expected.get().max();
+        if (statements.size() > max) {
+            throw new AssertionError(String.format("Expected at most %d SQL statements but %d were executed:%n%s",
+                    max, statements.size(), String.join(System.lineSeparator(), statements)));
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.syndicated_loan.syndicated_loan.common.testutil;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hibernateが発行するSQL文を記録するStatementInspector。
+ * テストのクラスパスのhibernate.propertiesで登録します。
+ *
+ * <p>
+ * {@link #start()}から{@link #stop()}までの間に、同じスレッドで準備されたSQL文のみを記録します。
+ * JDBCバッチは1文として数え、JdbcTemplateなどHibernateを経由しないSQLは対象外です。
+ * </p>
+ */
+public class QueryCountInspector implements StatementInspector {
+
+    private static final ThreadLocal<List<String>> RECORDED = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        List<String> statements = RECORDED.get();
+        if (statements != null) {
+            statements.add(sql);
+        }
+        return sql;
+    }
+
+    /**
+     * 現在のスレッドでSQL文の記録を開始します
+     */
+    public static void start() {
+        RECORDED.set(new ArrayList<>());
+    }
+
+    /**
+     * 現在のスレッドでのSQL文の記録を終了します
+     *
+     * @return 記録したSQL文（発行順）
+     */
+    public static List<String> stop() {
+        List<String> statements = RECORDED.get();
+        RECORDED.remove();
+        return statements != null ? statements : List.of();
+    }
+
+    /**
+     * 処理中に発行されたSQL文を記録します
+     *
+     * @param action 計測する処理
+     * @return 記録したSQL文（発行順）
+     */
+    public static List<String> record(Runnable action) {
+        List<String> statements;
+        start();
+        try {
+            action.run();
+        } finally {
+            statements = stop();
+        }
+        return statements;
+    }
+}
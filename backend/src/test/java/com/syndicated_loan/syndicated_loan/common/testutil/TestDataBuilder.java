@@ -1,5 +1,6 @@
 package com.syndicated_loan.syndicated_loan.common.testutil;
 
+import com.syndicated_loan.syndicated_loan.common.calculation.ProRataAllocator;
 import com.syndicated_loan.syndicated_loan.common.dto.*;
 import com.syndicated_loan.syndicated_loan.common.service.*;
 import com.syndicated_loan.syndicated_loan.common.repository.*;
@@ -8,9 +9,12 @@ import lombok.RequiredArgsConstructor;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.HashMap;
+import java.util.stream.Collectors;
 import java.time.LocalDateTime;
 
 @Component
@@ -23,6 +27,15 @@ public class TestDataBuilder {
     private final FacilityService facilityService;
     private final FacilityInvestmentService facilityInvestmentService;
     private final DrawdownRepository drawdownRepository;
+    private final PrincipalPaymentRepository principalPaymentRepository;
+    private final InterestPaymentRepository interestPaymentRepository;
+    private final InterestAccrualRepository interestAccrualRepository;
+    private final AccrualCheckpointRepository accrualCheckpointRepository;
+    private final JournalEntryRepository journalEntryRepository;
+    private final JournalSnapshotRepository journalSnapshotRepository;
+    private final FacilitySummaryRepository facilitySummaryRepository;
+    private final InvestorExposureSummaryRepository investorExposureSummaryRepository;
+    private final FacilityTradeRepository facilityTradeRepository;
     private final FacilityInvestmentRepository facilityInvestmentRepository;
     private final FacilityRepository facilityRepository;
     private final LoanRepository loanRepository;
@@ -50,6 +63,15 @@ public class TestDataBuilder {
 
     public void cleanupAll() {
         // 外部キー制約を考慮した削除順序
+        interestAccrualRepository.deleteAllInBatch();
+        accrualCheckpointRepository.deleteAllInBatch();
+        journalSnapshotRepository.deleteAllInBatch();
+        journalEntryRepository.deleteAllInBatch();
+        investorExposureSummaryRepository.deleteAllInBatch();
+        facilitySummaryRepository.deleteAllInBatch();
+        facilityTradeRepository.deleteAll();
+        interestPaymentRepository.deleteAll();
+        principalPaymentRepository.deleteAll();
         drawdownRepository.deleteAll();
         loanRepository.deleteAll();
         facilityInvestmentRepository.deleteAll();
@@ -184,6 +206,86 @@ public class TestDataBuilder {
         return getTestDataForFacilityInvestment();
     }
 
+    // 性能計測用: 投資家数とファシリティ期間（月数）を指定してドローダウンの前提データを作成
+    public Map<String, Object> getTestDataForScaledDrawdown(int investorCount, int termMonths) {
+        if (investorCount < 2) {
+            throw new IllegalArgumentException("investorCount must be at least 2");
+        }
+        cleanupAll();
+        List<InvestorDto> investors = createInvestors(investorCount);
+        BorrowerDto borrower = createBorrower1();
+
+        SyndicateDto syndicate = syndicateService.create(SyndicateDto.builder()
+                .leadBankId(investors.get(0).getId())
+                .memberIds(investors.subList(1, investors.size()).stream()
+                        .map(InvestorDto::getId)
+                        .collect(Collectors.toSet()))
+                .totalCommitment(BigDecimal.valueOf(1_000_000_000L))
+                .version(1L)
+                .build());
+
+        SharePieDto sharePie = sharePieService.create(SharePieDto.builder()
+                .shares(allocateEvenly(new BigDecimal("100"), investors))
+                .version(1L)
+                .build());
+
+        // ローンの開始日は実行日となるため、ファシリティも本日開始とする
+        FacilityDto facility = facilityService.create(FacilityDto.builder()
+                .totalAmount(BigDecimal.valueOf(1_000_000_000L))
+                .availableAmount(BigDecimal.valueOf(1_000_000_000L))
+                .startDate(LocalDate.now())
+                .term(termMonths)
+                .interestRate(BigDecimal.valueOf(2.5))
+                .syndicateId(syndicate.getId())
+                .sharePieId(sharePie.getId())
+                .borrowerId(borrower.getId())
+                .build());
+
+        Map<String, Object> testData = new HashMap<>();
+        testData.put("investors", investors);
+        testData.put("borrower", borrower);
+        testData.put("syndicate", syndicate);
+        testData.put("sharePie", sharePie);
+        testData.put("facility", facility);
+        return testData;
+    }
+
+    // 指定件数の投資家を作成
+    public List<InvestorDto> createInvestors(int count) {
+        List<InvestorDto> investors = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            investors.add(investorService.create(InvestorDto.builder()
+                    .name("投資家" + i)
+                    .type("銀行")
+                    .investmentCapacity(BigDecimal.valueOf(1_000_000_000L))
+                    .currentInvestments(BigDecimal.valueOf(0))
+                    .version(1L)
+                    .build()));
+        }
+        return investors;
+    }
+
+    // 金額を投資家に均等配分（端数は先頭の投資家から配分し、合計は金額と一致する）
+    public Map<Long, BigDecimal> allocateEvenly(BigDecimal total, List<InvestorDto> investors) {
+        Map<Long, BigDecimal> weights = new HashMap<>();
+        investors.forEach(investor -> weights.put(investor.getId(), BigDecimal.ONE));
+        return new HashMap<>(ProRataAllocator.allocate(total, weights));
+    }
+
+    // 投資家に均等配分したAmountPieを持つドローダウンDTOを作成（未保存）
+    public DrawdownDto buildDrawdown(FacilityDto facility, List<InvestorDto> investors, BigDecimal drawdownAmount) {
+        AmountPieDto amountPie = new AmountPieDto();
+        amountPie.setAmounts(allocateEvenly(drawdownAmount, investors));
+
+        DrawdownDto drawdown = new DrawdownDto();
+        drawdown.setRelatedFacilityId(facility.getId());
+        drawdown.setRelatedPositionId(facility.getId());
+        drawdown.setDrawdownAmount(drawdownAmount);
+        drawdown.setDate(LocalDateTime.now());
+        drawdown.setAmountPie(amountPie);
+        return drawdown;
+    }
+
     // 以下、各エンティティの作成メソッド...
     private BorrowerDto createBorrower1() {
         return borrowerService.create(BorrowerDto.builder()
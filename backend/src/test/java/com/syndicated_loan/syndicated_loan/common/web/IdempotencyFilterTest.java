@@ -0,0 +1,135 @@
+package com.syndicated_loan.syndicated_loan.common.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.syndicated_loan.syndicated_loan.common.dto.DrawdownDto;
+import com.syndicated_loan.syndicated_loan.common.dto.FacilityDto;
+import com.syndicated_loan.syndicated_loan.common.dto.InvestorDto;
+import com.syndicated_loan.syndicated_loan.common.repository.DrawdownRepository;
+import com.syndicated_loan.syndicated_loan.common.repository.LoanRepository;
+import com.syndicated_loan.syndicated_loan.common.testutil.TestDataBuilder;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Idempotency-Keyヘッダーによる作成・実行のAPIの再送の扱いを検証するテスト
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+public class IdempotencyFilterTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private DrawdownRepository drawdownRepository;
+
+    @Autowired
+    private LoanRepository loanRepository;
+
+    @Autowired
+    private TestDataBuilder testDataBuilder;
+
+    private FacilityDto facility;
+    private List<InvestorDto> investors;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        Map<String, Object> testData = testDataBuilder.getTestDataForScaledDrawdown(3, 12);
+        facility = (FacilityDto) testData.get("facility");
+        investors = (List<InvestorDto>) testData.get("investors");
+    }
+
+    @AfterEach
+    void tearDown() {
+        testDataBuilder.cleanupAll();
+    }
+
+    @Test
+    void testRetriedCreateReturnsFirstResponseWithoutCreatingAgain() throws Exception {
+        String key = UUID.randomUUID().toString();
+        String body = drawdownJson("3000000");
+
+        MvcResult first = mockMvc.perform(post("/api/drawdowns").header(IdempotencyFilter.HEADER, key)
+                .contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isOk())
+                .andReturn();
+        MvcResult retried = mockMvc.perform(post("/api/drawdowns").header(IdempotencyFilter.HEADER, key)
+                .contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isOk())
+                .andExpect(header().string(IdempotencyFilter.REPLAYED_HEADER, "true"))
+                .andReturn();
+
+        // ドローダウンとローンは1件のみ作成される
+        assertThat(retried.getResponse().getContentAsString()).isEqualTo(first.getResponse().getContentAsString());
+        assertThat(drawdownRepository.count()).isEqualTo(1);
+        assertThat(loanRepository.count()).isEqualTo(1);
+
+        // 同じキーで内容の異なるリクエストは受け付けない
+        mockMvc.perform(post("/api/drawdowns").header(IdempotencyFilter.HEADER, key)
+                .contentType(MediaType.APPLICATION_JSON).content(drawdownJson("600000")))
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.code").value("IDEMPOTENCY_KEY_REUSED"));
+
+        // キーが無い場合は従来どおり毎回作成する
+        mockMvc.perform(post("/api/drawdowns").contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(IdempotencyFilter.REPLAYED_HEADER));
+        assertThat(drawdownRepository.count()).isEqualTo(2);
+    }
+
+    @Test
+    void testRetriedExecuteIsReplayedAndFailedRequestCanBeRetried() throws Exception {
+        MvcResult created = mockMvc.perform(post("/api/drawdowns")
+                .contentType(MediaType.APPLICATION_JSON).content(drawdownJson("3000000")))
+                .andReturn();
+        Long drawdownId = objectMapper.readValue(created.getResponse().getContentAsString(), DrawdownDto.class)
+                .getId();
+        String key = UUID.randomUUID().toString();
+
+        // 存在しないドローダウンの実行は失敗し、キーは保存されない
+        mockMvc.perform(put("/api/drawdowns/{id}/execute", -1L).header(IdempotencyFilter.HEADER, key))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(put("/api/drawdowns/{id}/execute", -1L).header(IdempotencyFilter.HEADER, key))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("DRAWDOWN_NOT_FOUND"));
+
+        String executeKey = UUID.randomUUID().toString();
+        mockMvc.perform(put("/api/drawdowns/{id}/execute", drawdownId).header(IdempotencyFilter.HEADER, executeKey))
+                .andExpect(status().isOk());
+        // 再送は実行済みのエラーではなく、初回の成功レスポンスとなる
+        mockMvc.perform(put("/api/drawdowns/{id}/execute", drawdownId).header(IdempotencyFilter.HEADER, executeKey))
+                .andExpect(status().isOk())
+                .andExpect(header().string(IdempotencyFilter.REPLAYED_HEADER, "true"))
+                .andExpect(jsonPath("$.id").value(drawdownId));
+    }
+
+    private String drawdownJson(String amount) throws Exception {
+        DrawdownDto drawdown = testDataBuilder.buildDrawdown(facility, investors, new BigDecimal(amount));
+        drawdown.setDate(drawdown.getDate().withNano(0));
+        return objectMapper.writeValueAsString(drawdown);
+    }
+}
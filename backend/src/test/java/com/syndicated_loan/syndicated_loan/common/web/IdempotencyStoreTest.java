@@ -0,0 +1,99 @@
+package com.syndicated_loan.syndicated_loan.common.web;
+
+import com.syndicated_loan.syndicated_loan.common.web.IdempotencyStore.IdempotencyRecord;
+import com.syndicated_loan.syndicated_loan.common.web.IdempotencyStore.StoreFullException;
+import com.syndicated_loan.syndicated_loan.common.web.IdempotencyStore.StoredResponse;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 冪等キーのストア（メモリ・データベース）の受付・保存・期限切れを検証するテスト
+ */
+@SpringBootTest
+public class IdempotencyStoreTest {
+
+    private static final StoredResponse RESPONSE =
+            new StoredResponse(200, "application/json", "{\"id\":1}".getBytes(StandardCharsets.UTF_8));
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM idempotent_request");
+    }
+
+    @Test
+    void testInMemoryStoreEvictsExpiredAndOldestCompletedKeys() {
+        Instant now = Instant.parse("2024-01-01T00:00:00Z");
+        InMemoryIdempotencyStore store = new InMemoryIdempotencyStore(3, Clock.fixed(now, ZoneOffset.UTC));
+
+        assertThat(store.reserve("expired", "a", now)).isNull();
+        assertThat(store.reserve("k1", "a", now.plusSeconds(60))).isNull();
+        // 受付時に先頭の期限切れのキーを取り除く
+        assertThat(store.size()).isEqualTo(1);
+
+        store.complete("k1", RESPONSE);
+        IdempotencyRecord replayed = store.reserve("k1", "a", now.plusSeconds(60));
+        assertThat(replayed.isCompleted()).isTrue();
+        assertThat(replayed.response().body()).isEqualTo(RESPONSE.body());
+
+        store.reserve("k2", "b", now.plusSeconds(61));
+        store.reserve("k3", "c", now.plusSeconds(62));
+        store.reserve("k4", "d", now.plusSeconds(63));
+        // 最大件数に達したため、レスポンスを保存済みの最も古いキー（k1）を破棄する
+        assertThat(store.size()).isEqualTo(3);
+
+        // 処理中のキー（k2）より新しくても、レスポンスを保存済みのキー（k3）を破棄する
+        store.complete("k3", RESPONSE);
+        assertThat(store.reserve("k1", "a", now.plusSeconds(64))).isNull();
+        assertThat(store.reserve("k2", "b", now.plusSeconds(64)).isCompleted()).isFalse();
+
+        // 処理中のキーは破棄せず、すべて処理中の場合は受け付けない
+        assertThatThrownBy(() -> store.reserve("k5", "e", now.plusSeconds(65)))
+                .isInstanceOf(StoreFullException.class);
+        assertThat(store.size()).isEqualTo(3);
+
+        store.release("k1");
+        assertThat(store.reserve("k1", "a", now.plusSeconds(65))).isNull();
+    }
+
+    @Test
+    void testJdbcStoreReservesOnceAndReplacesExpiredKeys() {
+        IdempotencyProperties properties = new IdempotencyProperties();
+        JdbcIdempotencyStore store = new JdbcIdempotencyStore(jdbcTemplate, properties);
+        Instant expiresAt = Instant.now().plus(Duration.ofHours(1));
+
+        assertThat(store.reserve("k1", "a", expiresAt)).isNull();
+        IdempotencyRecord inProgress = store.reserve("k1", "a", expiresAt);
+        assertThat(inProgress.fingerprint()).isEqualTo("a");
+        assertThat(inProgress.isCompleted()).isFalse();
+
+        store.complete("k1", RESPONSE);
+        IdempotencyRecord completed = store.reserve("k1", "b", expiresAt);
+        assertThat(completed.fingerprint()).isEqualTo("a");
+        assertThat(completed.response().status()).isEqualTo(200);
+        assertThat(completed.response().body()).isEqualTo(RESPONSE.body());
+
+        store.release("k1");
+        assertThat(store.reserve("k1", "b", expiresAt)).isNull();
+
+        // 期限切れのキーは新しいリクエストとして受け付ける
+        assertThat(store.reserve("k2", "a", Instant.now().minusSeconds(1))).isNull();
+        assertThat(store.reserve("k2", "b", expiresAt)).isNull();
+        assertThat(store.reserve("k2", "c", expiresAt).fingerprint()).isEqualTo("b");
+    }
+}